@@ -55,6 +55,20 @@ public enum Algorithm {
         BreadthFirstSearch.INSTANCE
     ),
 
+    /**
+     * Bitonic sorting network on Integer arrays.
+     */
+    BITONICSORT(
+        "bitonicsort",
+        "Bitonic Sort",
+        new String[] {
+            "Perform the bitonic sorting network on an array of integers (showing the array after each stage of the "
+            + "network).",
+            "The flag -l specifies the length of the array to sort for generated instances."
+        },
+        BitonicSort.INSTANCE
+    ),
+
     BSTREE(
         "bstree",
         "Binary Search Tree",
@@ -92,6 +106,34 @@ public enum Algorithm {
         BubbleSort.INSTANCE
     ),
 
+    /**
+     * Bucketsort on Integer arrays.
+     */
+    BUCKETSORT(
+        "bucketsort",
+        "Bucketsort",
+        new String[] {
+            "Perform Bucketsort on an array of integers (distributing the values to buckets of equal width and sorting "
+            + "each bucket by Insertionsort).",
+            "The flag -d specifies the number of buckets (default: the length of the array).",
+            "The flag -l specifies the length of the array to sort for generated instances."
+        },
+        BucketSort.INSTANCE
+    ),
+
+    /**
+     * Countingsort on Integer arrays.
+     */
+    COUNTINGSORT(
+        "countingsort",
+        "Countingsort",
+        new String[] {
+            "Perform Countingsort on an array of integers. The solution additionally contains the count array.",
+            "The flag -l specifies the length of the array to sort for generated instances."
+        },
+        CountingSort.INSTANCE
+    ),
+
     DFS(
         "dfs",
         "Depth-First-Search",
@@ -114,6 +156,22 @@ public enum Algorithm {
         DijkstraAlgorithm.INSTANCE
     ),
 
+    /**
+     * The DPLL algorithm on clause sets.
+     */
+    DPLL(
+        "dpll",
+        "DPLL-Algorithmus",
+        new String[] {
+            "Decide the satisfiability of a clause set with the DPLL algorithm (unit clauses, pure literals, and "
+            + "splitting on the smallest variable).",
+            "The input is a formula (one per line, the lines are conjoined). Formulas not in CNF are converted by the "
+            + "Tseitin transformation.",
+            "You can specify the number of variables for generated clause sets with the -l flag."
+        },
+        DPLLAlgorithm.INSTANCE
+    ),
+
     /**
      * Floyd's algorithm to find shortest paths from a single source.
      */
@@ -141,6 +199,20 @@ public enum Algorithm {
         FordFulkersonAlgorithm.INSTANCE
     ),
 
+    /**
+     * Friedman test for estimating the key length of a Vigenere cipher.
+     */
+    FRIEDMAN(
+        "friedman",
+        "Friedman test",
+        new String[] {
+            "Estimate the key length of a Vigenere ciphertext with the Friedman test (index of coincidence).",
+            "The input consists of the ciphertext in the first line and optionally the alphabet in the second line.",
+            "The flag -l specifies the number of letters of the generated ciphertext (default 200)."
+        },
+        FriedmanAnalysis.INSTANCE
+    ),
+
     FROM_ASCII(
         "fromascii",
         "ASCII (from)",
@@ -168,7 +240,9 @@ public enum Algorithm {
         "Decode a Hamming code",
         new String[] {
             "Decode a Hamming code possibly fixing 1-bit errors.",
-            "You can specify the length of the generated code with the -l flag."
+            "You can specify the length of the generated code with the -l flag.",
+            "With -v 1, the code is extended by an overall parity bit in front (SECDED) such that 2-bit errors are "
+            + "detected."
         },
         HammingDecoding.INSTANCE
     ),
@@ -199,7 +273,9 @@ public enum Algorithm {
         "Truth table to formula",
         new String[] {
             "Compute a formula matching the specified truth table.",
-            "You can specify the number of variables with the -l flag."
+            "You can specify the number of variables with the -l flag.",
+            "With -v 1 (-v 2) a minimal DNF (CNF) is computed with the Quine-McCluskey method and an exact cover (up to "
+            + "6 variables) or an irredundant one with an Espresso-style heuristic (more variables)."
         },
         ConversionFromTruthTable.INSTANCE
     ),
@@ -328,7 +404,8 @@ public enum Algorithm {
         "Heapsort",
         new String[] {
             "Perform Heapsort on an array of integers.",
-            "The flag -l specifies the length of the array to sort for generated instances."
+            "The flag -l specifies the length of the array to sort for generated instances.",
+            "The flag -d specifies the degree of the heap (default 2)."
         },
         HeapSort.INSTANCE
     ),
@@ -342,7 +419,8 @@ public enum Algorithm {
         new String[] {
             "Perform Heapsort on an array of integers. Additionally output the heap interpretation of each array "
             + "in the solution as trees.",
-            "The flag -l specifies the length of the array to sort for generated instances."
+            "The flag -l specifies the length of the array to sort for generated instances.",
+            "The flag -d specifies the degree of the heap (default 2)."
         },
         HeapSort.INSTANCE
     ),
@@ -373,6 +451,21 @@ public enum Algorithm {
         InsertionSort.INSTANCE
     ),
 
+    /**
+     * Kasiski examination for estimating the key length of a Vigenere cipher.
+     */
+    KASISKI(
+        "kasiski",
+        "Kasiski examination",
+        new String[] {
+            "Estimate the key length of a Vigenere ciphertext by factoring the distances of repeated sequences.",
+            "The input consists of the ciphertext in the first line and optionally the alphabet in the second line.",
+            "The flag -d specifies the length of the repeated sequences (default 3).",
+            "The flag -l specifies the number of letters of the generated ciphertext (default 200)."
+        },
+        KasiskiExamination.INSTANCE
+    ),
+
     /**
      * Dynamic programming based algorithm to find the maximum value of the items fitting into a knapsack with a
      * certain capacity.
@@ -427,6 +520,20 @@ public enum Algorithm {
         MergeSort.INSTANCE
     ),
 
+    /**
+     * Fork-join parallel Mergesort on Integer arrays.
+     */
+    PARALLEL_MERGESORT(
+        "parallelMergesort",
+        "Paralleler Mergesort",
+        new String[] {
+            "Perform fork-join parallel Mergesort on an array of integers (showing the array after each round of "
+            + "merge operations on the same recursion level).",
+            "The flag -l specifies the length of the array to sort for generated instances."
+        },
+        ParallelMergeSort.INSTANCE
+    ),
+
     /**
      * Prim's algorithm to find minimum spanning trees from a single source.
      */
@@ -440,6 +547,23 @@ public enum Algorithm {
         PrimAlgorithm.INSTANCE
     ),
 
+    /**
+     * Operations of a priority queue on a d-ary min-heap.
+     */
+    PRIORITY_QUEUE(
+        "priorityqueue",
+        "Priorit\\\"atswarteschlange",
+        new String[] {
+            "Perform operations on a priority queue implemented as d-ary min-heap of integers.",
+            "You can specify a custom initial heap and operations as input: Operations are comma separated where a "
+            + "number is inserted, - removes the minimum, and a>b decreases the value a to b. The construction of the "
+            + "initial heap is optional and separated from the operations by a semicolon.",
+            "The flag -d specifies the degree of the heap (default 2).",
+            "The flag -l specifies the number of operations for generated instances."
+        },
+        PriorityQueueAlgorithm.INSTANCE
+    ),
+
     /**
      * Quicksort on Integer arrays.
      */
@@ -453,6 +577,20 @@ public enum Algorithm {
         QuickSort.INSTANCE
     ),
 
+    /**
+     * LSD Radixsort on Integer arrays.
+     */
+    RADIXSORT(
+        "radixsort",
+        "Radixsort",
+        new String[] {
+            "Perform LSD Radixsort on an array of integers.",
+            "The flag -d specifies the base of the digits (default 10).",
+            "The flag -l specifies the length of the array to sort for generated instances."
+        },
+        RadixSort.INSTANCE
+    ),
+
     /**
      * Insertion and deletion in Red-Black-trees with int values.
      */
@@ -467,6 +605,21 @@ public enum Algorithm {
         RedBlackTreeAlgorithm.INSTANCE
     ),
 
+    /**
+     * Resolution refutation of clause sets.
+     */
+    RESOLUTION(
+        "resolution",
+        "Resolution",
+        new String[] {
+            "Derive the empty clause from an unsatisfiable clause set with the resolution method.",
+            "The input is a formula (one per line, the lines are conjoined). Formulas not in CNF are converted by the "
+            + "Tseitin transformation.",
+            "You can specify the number of variables for generated (unsatisfiable) clause sets with the -l flag."
+        },
+        ResolutionAlgorithm.INSTANCE
+    ),
+
     /**
      * Detection of strongly connected components.
      */
@@ -541,7 +694,8 @@ public enum Algorithm {
         "Encode Hamming code",
         new String[] {
             "Encode a binary message to the corresponding Hamming code.",
-            "You can specify the length of the generated message with the -l flag."
+            "You can specify the length of the generated message with the -l flag.",
+            "With -v 1, the code is extended by an overall parity bit in front (SECDED)."
         },
         HammingEncoding.INSTANCE
     ),
@@ -553,7 +707,8 @@ public enum Algorithm {
             "Encodes a text using the Huffman code.",
             "You can specify the target alphabet with the -o flag (defaults to 01 if not specified).",
             "You can furthermore specify the number of different letters used for the source text with the -d flag and "
-            + "its length with the -l flag."
+            + "its length with the -l flag.",
+            "With -v 1, the canonical Huffman code is generated (built in linear time, also for large texts)."
         },
         HuffmanEncoding.INSTANCE
     ),
@@ -611,6 +766,19 @@ public enum Algorithm {
         TopologicSort.INSTANCE
     ),
 
+    /**
+     * Tseitin transformation of propositional formulas into clause sets.
+     */
+    TSEITIN(
+        "tseitin",
+        "Tseitin-Transformation",
+        new String[] {
+            "Convert propositional formulas into equisatisfiable clause sets with the Tseitin transformation.",
+            "You can specify the number of variables with the -l flag."
+        },
+        TseitinConversion.INSTANCE
+    ),
+
     /**
      * Warshall's algorithm to find shortest paths from a single source.
      */
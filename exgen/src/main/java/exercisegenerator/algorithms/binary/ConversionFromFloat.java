@@ -1,7 +1,6 @@
 package exercisegenerator.algorithms.binary;
 
 import java.io.*;
-import java.math.*;
 import java.util.*;
 
 import exercisegenerator.algorithms.*;
@@ -30,37 +29,7 @@ public class ConversionFromFloat implements AlgorithmImplementation {
         "Geben Sie zu den folgenden 1.%d.%d Gleitkommazahlen die jeweilige rationale Zahl an";
 
     public static String fromFloat(final BitString bitString, final int exponentLength, final int mantissaLength) {
-        final String sign = bitString.getFirst().isZero() ? "" : "-";
-        final int excess = BinaryNumbers.getExcess(exponentLength);
-        final int exponent = bitString.subString(1, exponentLength + 1).toUnsignedInt() - excess;
-        final BitString afterComma = bitString.subString(exponentLength + 1);
-        if (exponent == excess + 1) {
-            if (afterComma.isZero()) {
-                return sign + "inf";
-            }
-            return "NaN";
-        }
-        final BitString beforeComma = new BitString();
-        if (exponent > -excess) {
-            beforeComma.add(Bit.ONE);
-        }
-        if (exponent < 0) {
-            final boolean denormalized = -exponent == excess;
-            for (int i = denormalized ? 1 : 0; i < -exponent; i++) {
-                ConversionFromFloat.shiftOneBitRight(beforeComma, afterComma);
-            }
-        } else {
-            for (int i = 0; i < exponent; i++) {
-                ConversionFromFloat.shiftOneBitLeft(beforeComma, afterComma);
-            }
-        }
-        final NumberTimesDecimalPower numberAfterComma = ConversionFromFloat.toNumberAfterComma(afterComma);
-        return String.format(
-            "%s%d,%s",
-            sign,
-            beforeComma.toUnsignedInt() + numberAfterComma.getBeforeComma().intValueExact(),
-            numberAfterComma.getAfterComma()
-        );
+        return new FloatConverter(exponentLength, mantissaLength).fromFloat(bitString);
     }
 
     private static List<BitStringFloatTask> generateBitStringFloatTasks(final Parameters options) {
@@ -101,39 +70,6 @@ public class ConversionFromFloat implements AlgorithmImplementation {
         ).getResult(options);
     }
 
-    private static void shiftOneBitLeft(final BitString beforeComma, final BitString afterComma) {
-        final Bit bit = afterComma.pollFirst();
-        if (bit == null) {
-            beforeComma.add(Bit.ZERO);
-        } else {
-            beforeComma.add(bit);
-        }
-    }
-
-    private static void shiftOneBitRight(final BitString beforeComma, final BitString afterComma) {
-        final Bit bit = beforeComma.pollLast();
-        if (bit == null) {
-            afterComma.addFirst(Bit.ZERO);
-        } else {
-            afterComma.addFirst(bit);
-        }
-    }
-
-    private static NumberTimesDecimalPower toNumberAfterComma(final BitString afterComma) {
-        NumberTimesDecimalPower result = new NumberTimesDecimalPower(BigInteger.ZERO, 0);
-        final BigInteger five = BigInteger.valueOf(5);
-        BigInteger factor = five;
-        int exponent = -1;
-        for (final Bit bit : afterComma) {
-            if (!bit.isZero()) {
-                result = result.add(new NumberTimesDecimalPower(factor, exponent));
-            }
-            factor = factor.multiply(five);
-            exponent--;
-        }
-        return result;
-    }
-
     private ConversionFromFloat() {}
 
     @Override
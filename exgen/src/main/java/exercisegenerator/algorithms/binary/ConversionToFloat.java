@@ -1,7 +1,6 @@
 package exercisegenerator.algorithms.binary;
 
 import java.io.*;
-import java.math.*;
 import java.util.*;
 
 import exercisegenerator.algorithms.*;
@@ -30,94 +29,7 @@ public class ConversionToFloat implements AlgorithmImplementation {
         "Geben Sie zu den folgenden rationalen Zahlen die jeweilige 1.%d.%d Gleitkommazahl an";
 
     public static BitString toFloat(final String number, final int exponentLength, final int mantissaLength) {
-        final String[] parts = number.strip().split(",");
-        if (parts.length > 2) {
-            throw new IllegalArgumentException(
-                String.format("%s is not a syntactically correct rational number!", number)
-            );
-        }
-        final BitString result = new BitString();
-        ConversionToFloat.addSign(parts[0], result);
-        if (parts.length == 1 && parts[0].matches("-?inf")) {
-            return ConversionToFloat.toInfitiny(exponentLength, mantissaLength, result);
-        }
-        final int numBeforeComma = Integer.parseInt(parts[0]);
-        final int excess = BinaryNumbers.getExcess(exponentLength);
-        if (Math.abs(numBeforeComma) > 0) {
-            return ConversionToFloat.toFloatForNonNegativeExponent(
-                parts,
-                numBeforeComma,
-                exponentLength,
-                excess,
-                mantissaLength,
-                result
-            );
-        }
-        if (parts.length == 1) {
-            // number is zero
-            return ConversionToFloat.fillUpWithZeros(result, exponentLength + mantissaLength);
-        }
-        final NumberTimesDecimalPower numAfterComma = ConversionToFloat.parseNumberTimesDecimalPower(parts[1]);
-        if (numAfterComma.number.compareTo(BigInteger.ZERO) == 0) {
-            // number is zero
-            return ConversionToFloat.fillUpWithZeros(result, exponentLength + mantissaLength);
-        }
-        return ConversionToFloat.toFloatForNegativeExponent(
-            numAfterComma,
-            exponentLength,
-            excess,
-            mantissaLength,
-            result
-        );
-    }
-
-    private static void addSign(final String numBeforeComma, final BitString result) {
-        final Bit sign = numBeforeComma.charAt(0) == '-' ? Bit.ONE : Bit.ZERO;
-        result.add(sign);
-    }
-
-    private static int appendExponentAndBitsBeforeAndReturnMantissaBitsFromBefore(
-        final int numBefore,
-        final int exponentLength,
-        final int excess,
-        final BitString result
-    ) {
-        final BitString bitsBefore = BinaryNumbers.toUnsignedBinary(numBefore, 0);
-        final int mantissaBitsFromBefore = bitsBefore.size() - 1;
-        final BitString exponent = BinaryNumbers.toUnsignedBinary(mantissaBitsFromBefore + excess, exponentLength);
-        result.append(exponent);
-        final Iterator<Bit> iterator = bitsBefore.iterator();
-        iterator.next();
-        while (iterator.hasNext()) {
-            result.add(iterator.next());
-        }
-        return mantissaBitsFromBefore;
-    }
-
-    private static void appendMantissa(
-        final NumberTimesDecimalPower numAfterComma,
-        final int mantissaBitsLeft,
-        final BitString result
-    ) {
-        Pair<Bit, NumberTimesDecimalPower> nextBitAndNumberWithLeadingZeros =
-            ConversionToFloat.getNextBitAndNumberTimesDecimalPower(numAfterComma);
-        for (int i = 0; i < mantissaBitsLeft; i++) {
-            result.add(nextBitAndNumberWithLeadingZeros.x);
-            nextBitAndNumberWithLeadingZeros =
-                ConversionToFloat.getNextBitAndNumberTimesDecimalPower(nextBitAndNumberWithLeadingZeros.y);
-        }
-    }
-
-    private static BitString fillUpWithOnes(final BitString result, final int bitsToFill) {
-        for (int i = 0; i < bitsToFill; i++) {
-            result.add(Bit.ONE);
-        }
-        return result;
-    }
-
-    private static BitString fillUpWithZeros(final BitString result, final int bitsToFill) {
-        result.append(BinaryNumbers.toUnsignedBinary(0, bitsToFill));
-        return result;
+        return new FloatConverter(exponentLength, mantissaLength).toFloat(number);
     }
 
     private static List<NumberFloatTask> generateNumberFloatTasks(final Parameters options) {
@@ -143,21 +55,6 @@ public class ConversionToFloat implements AlgorithmImplementation {
         return String.format("%d,%d", gen.nextInt(2 * limit - 1) - limit + 1, gen.nextInt(100000));
     }
 
-    private static Pair<Bit, NumberTimesDecimalPower> getNextBitAndNumberTimesDecimalPower(
-        final NumberTimesDecimalPower numberTimesDecimalPower
-    ) {
-        final NumberTimesDecimalPower doubled = numberTimesDecimalPower.times2();
-        if (doubled.lessThanOne()) {
-            return new Pair<Bit, NumberTimesDecimalPower>(Bit.ZERO, doubled);
-        }
-        return new Pair<Bit, NumberTimesDecimalPower>(Bit.ONE, doubled.subtractOne());
-    }
-
-    private static boolean outOfBoundsForFloat(final int numBefore, final int exponentLength) {
-        final int bitLength = ((int)Math.pow(2, exponentLength - 1)) + 1;
-        return BinaryNumbers.outOfBoundsForOnesComplement(numBefore, bitLength);
-    }
-
     private static List<NumberFloatTask> parseNumberFloatTasks(
         final BufferedReader reader,
         final Parameters options
@@ -169,13 +66,6 @@ public class ConversionToFloat implements AlgorithmImplementation {
             .toList();
     }
 
-    private static NumberTimesDecimalPower parseNumberTimesDecimalPower(final String numberAfterComma) {
-        return new NumberTimesDecimalPower(
-            new BigInteger(numberAfterComma),
-            -numberAfterComma.length()
-        );
-    }
-
     private static List<NumberFloatTask> parseOrGenerateNumberFloatTasks(final Parameters options)
     throws IOException {
         return new ParserAndGenerator<List<NumberFloatTask>>(
@@ -184,76 +74,6 @@ public class ConversionToFloat implements AlgorithmImplementation {
         ).getResult(options);
     }
 
-    private static BitString toFloatForNegativeExponent(
-        final NumberTimesDecimalPower numAfterComma,
-        final int exponentLength,
-        final int excess,
-        final int mantissaLength,
-        final BitString result
-    ) {
-        Pair<Bit, NumberTimesDecimalPower> nextBitAndNumberWithLeadingZeros =
-            ConversionToFloat.getNextBitAndNumberTimesDecimalPower(numAfterComma);
-        int exponent = excess - 1;
-        while (nextBitAndNumberWithLeadingZeros.x.isZero()) {
-            exponent--;
-            if (exponent < -mantissaLength + 1) {
-                // round to zero
-                return ConversionToFloat.fillUpWithZeros(result, exponentLength + mantissaLength);
-            }
-            nextBitAndNumberWithLeadingZeros =
-                ConversionToFloat.getNextBitAndNumberTimesDecimalPower(nextBitAndNumberWithLeadingZeros.y);
-        }
-        final boolean denormalized = exponent < 1;
-        if (denormalized) {
-            ConversionToFloat.fillUpWithZeros(result, exponentLength - exponent);
-            result.add(Bit.ONE);
-        } else {
-            result.append(BinaryNumbers.toUnsignedBinary(exponent, exponentLength));
-        }
-        ConversionToFloat.appendMantissa(
-            nextBitAndNumberWithLeadingZeros.y,
-            denormalized ? mantissaLength + exponent - 1 : mantissaLength,
-            result
-        );
-        return result;
-    }
-
-    private static BitString toFloatForNonNegativeExponent(
-        final String[] parts,
-        final int numBefore,
-        final int exponentLength,
-        final int excess,
-        final int mantissaLength,
-        final BitString result
-    ) {
-        if (ConversionToFloat.outOfBoundsForFloat(numBefore, exponentLength)) {
-            return ConversionToFloat.toInfitiny(exponentLength, mantissaLength, result);
-        }
-        final int mantissaBitsLeft =
-            mantissaLength
-            - ConversionToFloat.appendExponentAndBitsBeforeAndReturnMantissaBitsFromBefore(
-                numBefore,
-                exponentLength,
-                excess,
-                result
-            );
-        if (parts.length == 1) {
-            return ConversionToFloat.fillUpWithZeros(result, mantissaBitsLeft);
-        }
-        ConversionToFloat.appendMantissa(
-            ConversionToFloat.parseNumberTimesDecimalPower(parts[1]),
-            mantissaBitsLeft,
-            result
-        );
-        return result;
-    }
-
-    private static BitString toInfitiny(final int exponentLength, final int mantissaLength, final BitString result) {
-        ConversionToFloat.fillUpWithOnes(result, exponentLength);
-        ConversionToFloat.fillUpWithZeros(result, mantissaLength);
-        return result;
-    }
-
     private ConversionToFloat() {}
 
     @Override
@@ -1,7 +1,6 @@
 package exercisegenerator.algorithms.coding;
 
 import java.io.*;
-import java.math.*;
 import java.util.*;
 
 import exercisegenerator.io.*;
@@ -47,10 +46,6 @@ abstract class CodingAlgorithms {
         return gen.nextInt(16) + 5;
     }
 
-    static BitString toIndexBits(final int index, final int numOfParityBits) {
-        return BitString.create(BigInteger.valueOf(index), numOfParityBits).reverse();
-    }
-
     static List<Pair<Character, String>> toSortedList(final Map<Character, String> codeBook) {
         return codeBook.entrySet()
             .stream()
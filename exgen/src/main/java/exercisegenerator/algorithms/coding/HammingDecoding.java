@@ -9,39 +9,42 @@ import exercisegenerator.algorithms.*;
 import exercisegenerator.io.*;
 import exercisegenerator.structures.*;
 import exercisegenerator.structures.binary.*;
+import exercisegenerator.structures.coding.*;
 
 public class HammingDecoding implements AlgorithmImplementation {
 
     public static final HammingDecoding INSTANCE = new HammingDecoding();
 
     public static BitString decodeHamming(final BitString message) {
-        final int codeLength = message.size();
-        if (!CodingAlgorithms.isPositiveIntegerPowerOfTwo(codeLength + 1)) {
+        return HammingDecoding.decodeHamming(message, false).message;
+    }
+
+    /**
+     * @param code The code. Its length (without the overall parity bit of the extended code) must be one less than a
+     *             power of two.
+     * @param extended Whether the code is extended by an overall parity bit in front (SECDED).
+     * @return The decoded message together with the information whether an error has been corrected or detected.
+     */
+    public static HammingDecodingResult decodeHamming(final BitString code, final boolean extended) {
+        if (!CodingAlgorithms.isPositiveIntegerPowerOfTwo(code.size() + (extended ? 0 : 1))) {
             throw new IllegalArgumentException("Code length must be one less than a power of two!");
         }
-        final int numOfParityBits = HammingDecoding.log2(codeLength + 1);
-        final BitString error = new BitString();
-        for (int i = 0; i < numOfParityBits; i++) {
-            error.addFirst(Bit.fromBoolean(HammingDecoding.oddOnes(message, i, numOfParityBits)));
-        }
-        final BitString result = new BitString(message);
-        if (!error.isZero()) {
-            result.invertBit(error.toUnsignedInt() - 1);
-        }
-        for (int i = numOfParityBits - 1; i >= 0; i--) {
-            result.remove(BigInteger.TWO.pow(i).intValue() - 1);
-        }
-        return result;
+        return HammingCode.decode(code, extended);
     }
 
     private static BitString generateHammingCode(final Parameters options) {
-        final int length = Integer.parseInt(options.getOrDefault(Flag.LENGTH, "7"));
-        final int messageLength = HammingDecoding.hammingCodeLengthToMessageLength(length);
+        final boolean extended = HammingDecoding.isExtended(options);
+        final int length = Integer.parseInt(options.getOrDefault(Flag.LENGTH, extended ? "8" : "7"));
+        final int messageLength = HammingDecoding.hammingCodeLengthToMessageLength(length - (extended ? 1 : 0));
         final BitString message = CodingAlgorithms.generateHammingMessage(messageLength);
-        final BitString result = HammingEncoding.encodeHamming(message);
+        final BitString result = HammingEncoding.encodeHamming(message, extended);
         final Random gen = new Random();
         if (gen.nextBoolean()) {
-            result.invertBit(gen.nextInt(result.size()));
+            final int first = gen.nextInt(result.size());
+            result.invertBit(first);
+            if (extended && result.size() > 1 && gen.nextBoolean()) {
+                result.invertBit((first + 1 + gen.nextInt(result.size() - 1)) % result.size());
+            }
         }
         return result;
     }
@@ -54,6 +57,10 @@ public class HammingDecoding implements AlgorithmImplementation {
         return codeLength - HammingDecoding.log2(powerOfTwo);
     }
 
+    private static boolean isExtended(final Parameters options) {
+        return options.containsKey(Flag.VARIANT) && options.get(Flag.VARIANT).equals("1");
+    }
+
     private static int log2(final int number) {
         int current = number;
         int result = 0;
@@ -64,33 +71,31 @@ public class HammingDecoding implements AlgorithmImplementation {
         return result;
     }
 
-    private static boolean oddOnes(final BitString message, final int parityBit, final int numOfParityBits) {
-        boolean result = false;
-        int index = 1;
-        for (final Bit bit : message) {
-            if (!bit.isZero()) {
-                final BitString indexBits = CodingAlgorithms.toIndexBits(index, numOfParityBits);
-                if (!indexBits.get(parityBit).isZero()) {
-                    result = !result;
-                }
-            }
-            index++;
-        }
-        return result;
-    }
-
     private static void printHammingDecodingExerciseAndSolution(
         final BitString code,
-        final BitString message,
+        final HammingDecodingResult result,
+        final boolean extended,
         final BufferedWriter exerciseWriter,
         final BufferedWriter solutionWriter
     ) throws IOException {
-        exerciseWriter.write("Dekodieren Sie den folgenden \\emphasize{Hamming-Code}:\\\\[2ex]");
+        if (extended) {
+            exerciseWriter.write(
+                "Dekodieren Sie den folgenden \\emphasize{erweiterten Hamming-Code} (SECDED), dessen erstes Bit das "
+                + "Parit\\\"atsbit \\\"uber alle Bits des Codes ist. Falls der Code einen nicht korrigierbaren "
+                + "Fehler enth\\\"alt, geben Sie dies an:\\\\[2ex]"
+            );
+        } else {
+            exerciseWriter.write("Dekodieren Sie den folgenden \\emphasize{Hamming-Code}:\\\\[2ex]");
+        }
         Main.newLine(exerciseWriter);
         exerciseWriter.write(LaTeXUtils.codeseq(code.toString()));
         Main.newLine(exerciseWriter);
         Main.newLine(exerciseWriter);
-        solutionWriter.write(LaTeXUtils.codeseq(message.toString()));
+        if (result.status == HammingErrorStatus.DETECTED) {
+            solutionWriter.write("Der Code enth\\\"alt einen nicht korrigierbaren Fehler (Doppelfehler).");
+        } else {
+            solutionWriter.write(LaTeXUtils.codeseq(result.message.toString()));
+        }
         Main.newLine(solutionWriter);
         Main.newLine(solutionWriter);
     }
@@ -104,10 +109,11 @@ public class HammingDecoding implements AlgorithmImplementation {
                 BitString::parse,
                 HammingDecoding::generateHammingCode
             ).getResult(input.options);
-        final BitString message = HammingDecoding.decodeHamming(code);
+        final boolean extended = HammingDecoding.isExtended(input.options);
         HammingDecoding.printHammingDecodingExerciseAndSolution(
             code,
-            message,
+            HammingDecoding.decodeHamming(code, extended),
+            extended,
             input.exerciseWriter,
             input.solutionWriter
         );
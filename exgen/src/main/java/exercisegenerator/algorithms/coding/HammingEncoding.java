@@ -9,35 +9,29 @@ import exercisegenerator.algorithms.*;
 import exercisegenerator.io.*;
 import exercisegenerator.structures.*;
 import exercisegenerator.structures.binary.*;
+import exercisegenerator.structures.coding.*;
 
 public class HammingEncoding implements AlgorithmImplementation {
 
     public static final HammingEncoding INSTANCE = new HammingEncoding();
 
     public static BitString encodeHamming(final BitString message) {
+        return HammingEncoding.encodeHamming(message, false);
+    }
+
+    /**
+     * @param message The message. Its length must be 2^r - r - 1 for some r.
+     * @param extended Whether the code should be extended by an overall parity bit in front (SECDED).
+     * @return The Hamming code for the specified message.
+     */
+    public static BitString encodeHamming(final BitString message, final boolean extended) {
         final int messageLength = message.size();
         final int codeLength = HammingEncoding.findNextPowerOfTwo(messageLength) - 1;
         final int numOfParityBits = codeLength - messageLength;
         if (BigInteger.TWO.pow(numOfParityBits).intValue() - 1 != codeLength) {
             throw new IllegalArgumentException("Message length does not match code length!");
         }
-        final BitString result = new BitString();
-        int index = 1;
-        final Iterator<Bit> data = message.iterator();
-        while (data.hasNext()) {
-            if (CodingAlgorithms.isPositiveIntegerPowerOfTwo(index)) {
-                result.add(Bit.ZERO);
-            } else {
-                result.add(data.next());
-            }
-            index++;
-        }
-        for (int i = 3; i <= codeLength; i++) {
-            if (!result.get(i - 1).isZero()) {
-                HammingEncoding.invertParityBits(i, result, numOfParityBits);
-            }
-        }
-        return result;
+        return HammingCode.encode(message, extended);
     }
 
     private static int findNextPowerOfTwo(final int number) {
@@ -53,26 +47,24 @@ public class HammingEncoding implements AlgorithmImplementation {
         return CodingAlgorithms.generateHammingMessage(length);
     }
 
-    private static void invertParityBits(final int index, final BitString code, final int numOfParityBits) {
-        final BitString indexBits = CodingAlgorithms.toIndexBits(index, numOfParityBits);
-        int bitIndex = 0;
-        for (final Bit bit : indexBits) {
-            if (!bit.isZero()) {
-                code.invertBit(BigInteger.TWO.pow(bitIndex).intValue() - 1);
-            }
-            bitIndex++;
-        }
-    }
-
     private static void printHammingEncodingExerciseAndSolution(
         final BitString message,
         final BitString code,
+        final boolean extended,
         final BufferedWriter exerciseWriter,
         final BufferedWriter solutionWriter
     ) throws IOException {
-        exerciseWriter.write(
-            "Geben Sie den \\emphasize{Hamming-Code} f\\\"ur die folgende bin\\\"are Nachricht an:\\\\[2ex]"
-        );
+        if (extended) {
+            exerciseWriter.write(
+                "Geben Sie den \\emphasize{erweiterten Hamming-Code} (SECDED) f\\\"ur die folgende bin\\\"are "
+                + "Nachricht an. Stellen Sie dabei das Parit\\\"atsbit \\\"uber alle Bits des Codes an den "
+                + "Anfang:\\\\[2ex]"
+            );
+        } else {
+            exerciseWriter.write(
+                "Geben Sie den \\emphasize{Hamming-Code} f\\\"ur die folgende bin\\\"are Nachricht an:\\\\[2ex]"
+            );
+        }
         Main.newLine(exerciseWriter);
         exerciseWriter.write(LaTeXUtils.codeseq(message.toString()));
         Main.newLine(exerciseWriter);
@@ -91,8 +83,16 @@ public class HammingEncoding implements AlgorithmImplementation {
                 BitString::parse,
                 HammingEncoding::generateHammingMessage
             ).getResult(input.options);
-        final BitString code = HammingEncoding.encodeHamming(message);
-        HammingEncoding.printHammingEncodingExerciseAndSolution(message, code, input.exerciseWriter, input.solutionWriter);
+        final boolean extended =
+            input.options.containsKey(Flag.VARIANT) && input.options.get(Flag.VARIANT).equals("1");
+        final BitString code = HammingEncoding.encodeHamming(message, extended);
+        HammingEncoding.printHammingEncodingExerciseAndSolution(
+            message,
+            code,
+            extended,
+            input.exerciseWriter,
+            input.solutionWriter
+        );
     }
 
     @Override
@@ -22,6 +22,24 @@ public class HuffmanEncoding implements AlgorithmImplementation {
         return new Pair<HuffmanTree, String>(tree, tree.toEncoder().encode(sourceText));
     }
 
+    /**
+     * Encodes the specified source text with the canonical Huffman code (see {@link CanonicalHuffmanCode}), which is
+     * built in linear time and also suited for large source texts and alphabets.
+     * @param sourceText The source text.
+     * @param targetAlphabet The target alphabet in ascending order.
+     * @return The Huffman tree for the canonical code book and the encoded text.
+     */
+    public static Pair<HuffmanTree, String> encodeHuffmanCanonically(
+        final String sourceText,
+        final List<Character> targetAlphabet
+    ) {
+        final Map<Character, String> codeBook = CanonicalHuffmanCode.codeBook(sourceText, targetAlphabet);
+        return new Pair<HuffmanTree, String>(
+            new HuffmanTree(codeBook),
+            new HuffmanEncoder(codeBook).encode(sourceText)
+        );
+    }
+
     private static List<Character> generateAlphabet(final int alphabetSize, final Random gen) {
         final List<Character> biggestAlphabet = new ArrayList<Character>();
         for (int i = 32; i < 127; i++) {
@@ -131,11 +149,17 @@ public class HuffmanEncoding implements AlgorithmImplementation {
         final String sourceText,
         final List<Character> targetAlphabet,
         final Pair<HuffmanTree, String> result,
+        final boolean canonical,
         final Parameters options,
         final BufferedWriter exerciseWriter,
         final BufferedWriter solutionWriter
     ) throws IOException {
-        exerciseWriter.write("Erzeugen Sie den \\emphasize{Huffman-Code} f\\\"ur das Zielalphabet $\\{");
+        exerciseWriter.write(
+            String.format(
+                "Erzeugen Sie den \\emphasize{%sHuffman-Code} f\\\"ur das Zielalphabet $\\{",
+                canonical ? "kanonischen " : ""
+            )
+        );
         exerciseWriter.write(
             LaTeXUtils.escapeForLaTeX(targetAlphabet.stream().map(String::valueOf).collect(Collectors.joining(",")))
         );
@@ -146,6 +170,12 @@ public class HuffmanEncoding implements AlgorithmImplementation {
         Main.newLine(exerciseWriter);
         LaTeXUtils.printEnd(LaTeXUtils.CENTER, exerciseWriter);
         LaTeXUtils.printVerticalProtectedSpace(exerciseWriter);
+        if (canonical) {
+            exerciseWriter.write(
+                "Vergeben Sie die Codew\\\"orter dabei aufsteigend in der Reihenfolge ihrer L\\\"angen und bei "
+                + "gleicher L\\\"ange in der Reihenfolge der Quellsymbole. "
+            );
+        }
         exerciseWriter.write("Geben Sie zus\\\"atzlich zu dem erstellten Code das erzeugte Codebuch an.\\\\[2ex]");
         Main.newLine(exerciseWriter);
         LaTeXUtils.printSolutionSpaceBeginning(Optional.of("-3ex"), options, exerciseWriter);
@@ -163,11 +193,17 @@ public class HuffmanEncoding implements AlgorithmImplementation {
     public void executeAlgorithm(final AlgorithmInput input) throws IOException {
         final String sourceText = HuffmanEncoding.parseOrGenerateSourceText(input.options);
         final List<Character> targetAlphabet = HuffmanEncoding.parseOrGenerateTargetAlphabet(input.options);
-        final Pair<HuffmanTree, String> result = HuffmanEncoding.encodeHuffman(sourceText, targetAlphabet);
+        final boolean canonical =
+            input.options.containsKey(Flag.VARIANT) && input.options.get(Flag.VARIANT).equals("1");
+        final Pair<HuffmanTree, String> result =
+            canonical ?
+                HuffmanEncoding.encodeHuffmanCanonically(sourceText, targetAlphabet) :
+                    HuffmanEncoding.encodeHuffman(sourceText, targetAlphabet);
         HuffmanEncoding.printExerciseAndSolutionForHuffmanEncoding(
             sourceText,
             targetAlphabet,
             result,
+            canonical,
             input.options,
             input.exerciseWriter,
             input.solutionWriter
@@ -2,7 +2,6 @@ package exercisegenerator.algorithms.cryptography;
 
 import java.io.*;
 import java.util.*;
-import java.util.function.*;
 import java.util.stream.*;
 
 import exercisegenerator.*;
@@ -14,6 +13,66 @@ public abstract class Cryptography {
     public static final List<Character> ALPHABET26 =
         IntStream.range(65, 91).mapToObj(c -> Character.valueOf((char)c)).toList();
 
+    private static final String[] GERMAN_WORDS = {
+        "ABER", "ALLE", "ALS", "AM", "AN", "AUCH", "AUF", "AUS", "BEI", "BIS", "DAS", "DASS", "DEM", "DEN", "DER",
+        "DES", "DIE", "DOCH", "DURCH", "EIN", "EINE", "EINEM", "EINEN", "EINER", "ER", "ES", "FUER", "GEGEN",
+        "HABEN", "HAT", "HEUTE", "ICH", "IHR", "IM", "IN", "IST", "JAHR", "KANN", "MAN", "MEHR", "MIT", "NACH",
+        "NICHT", "NOCH", "NUR", "ODER", "SCHON", "SEHR", "SICH", "SIE", "SIND", "SO", "UEBER", "UM", "UND", "UNS",
+        "UNTER", "VOM", "VON", "VOR", "WAR", "WAS", "WEIL", "WENN", "WERDEN", "WIE", "WIR", "WIRD", "ZEIT", "ZU",
+        "ZUM", "ZUR", "SCHLUESSEL", "NACHRICHT", "GEHEIM", "TEXT", "BUCHSTABE", "ANGRIFF", "MORGEN", "STADT"
+    };
+
+    static List<Character> parseOrGenerateCipherAlphabet(final Parameters options) throws IOException {
+        return new ParserAndGenerator<List<Character>>(
+            Cryptography::parseCipherAlphabet,
+            Cryptography::generateAlphabet
+        ).getResult(options);
+    }
+
+    static String parseOrGenerateCipherText(final VigenereSquare square, final Parameters options)
+    throws IOException {
+        return new ParserAndGenerator<String>(
+            (reader, flags) -> Cryptography.parseCipherText(reader, square, flags),
+            (flags) -> Cryptography.generateCipherText(square, flags)
+        ).getResult(options);
+    }
+
+    static void printCipherTextAnalysisExercise(
+        final String cipherText,
+        final VigenereSquare square,
+        final String method,
+        final BufferedWriter writer
+    ) throws IOException {
+        writer.write("Bestimmen Sie die vermutliche L\\\"ange des Schl\\\"usselworts, mit dem der folgende ");
+        writer.write("Geheimtext mithilfe der Vigen\\'ere-Verschl\\\"usselung erzeugt wurde, ");
+        writer.write(method);
+        writer.write(". Der Geheimtext ist in Gruppen von f\\\"unf Buchstaben angegeben.");
+        Main.newLine(writer);
+        Main.newLine(writer);
+        final int[] letters = KasiskiExamination.toIndices(cipherText, square);
+        final StringBuilder groups = new StringBuilder();
+        for (int i = 0; i < letters.length; i++) {
+            if (i > 0 && i % 5 == 0) {
+                groups.append(' ');
+            }
+            groups.append(square.getAlphabet().get(letters[i]));
+        }
+        writer.write(LaTeXUtils.code(LaTeXUtils.escapeForLaTeX(groups.toString())));
+        Main.newLine(writer);
+        Main.newLine(writer);
+        final StringBuilder alphabet = new StringBuilder();
+        for (final Character letter : square.getAlphabet()) {
+            alphabet.append(letter);
+        }
+        writer.write("Das verwendete Alphabet ist");
+        Main.newLine(writer);
+        LaTeXUtils.printBeginning(LaTeXUtils.CENTER, writer);
+        writer.write(LaTeXUtils.code(LaTeXUtils.escapeForLaTeX(alphabet.toString())));
+        Main.newLine(writer);
+        LaTeXUtils.printEnd(LaTeXUtils.CENTER, writer);
+        Main.newLine(writer);
+    }
+
     static void vigenere(final AlgorithmInput input, final boolean encode) throws IOException {
         final List<Character> alphabet = Cryptography.parseOrGenerateAlphabet(input.options);
         final String inputText = Cryptography.parseOrGenerateInputText(alphabet, input.options);
@@ -34,26 +93,27 @@ public abstract class Cryptography {
         );
     }
 
-    static String vigenere(
-        final String text,
-        final String keyword,
-        final BiFunction<Character, Character, Character> coder
-    ) {
-        final char[] keyArray = keyword.toCharArray();
-        final char[] textArray = text.toCharArray();
-        final StringBuilder result = new StringBuilder();
-        for (int i = 0; i < textArray.length; i++) {
-            final char letter = textArray[i];
-            final char key = keyArray[i % keyArray.length];
-            result.append(coder.apply(letter, key));
-        }
-        return result.toString();
-    }
-
     private static List<Character> generateAlphabet(final Parameters options) {
         return Cryptography.ALPHABET26;
     }
 
+    /**
+     * Generates a Vigenere ciphertext of a German text (made of random words without spaces) encrypted with a random
+     * keyword of length 3 to 7. The number of letters is specified by the length flag (default 200).
+     */
+    private static String generateCipherText(final VigenereSquare square, final Parameters options) {
+        final Random gen = new Random();
+        final int length =
+            options.containsKey(Flag.LENGTH) ? Integer.parseInt(options.get(Flag.LENGTH)) : 200;
+        final StringBuilder plainText = new StringBuilder();
+        while (plainText.length() < length) {
+            plainText.append(Cryptography.GERMAN_WORDS[gen.nextInt(Cryptography.GERMAN_WORDS.length)]);
+        }
+        plainText.setLength(length);
+        final String keyword = Cryptography.generateText(square.getAlphabet(), gen.nextInt(5) + 3, gen);
+        return square.encode(plainText.toString(), keyword);
+    }
+
     private static String generateInputText(final List<Character> alphabet, final Parameters flags) {
         final Random gen = new Random();
         final int size = gen.nextInt(26) + 5;
@@ -89,6 +149,30 @@ public abstract class Cryptography {
         return alphabet.chars().mapToObj(c -> (char)c).toList();
     }
 
+    private static List<Character> parseCipherAlphabet(final BufferedReader reader, final Parameters options)
+    throws IOException {
+        if (reader.readLine() == null) {
+            return Cryptography.generateAlphabet(options);
+        }
+        final String alphabet = reader.readLine();
+        if (alphabet == null || alphabet.isBlank()) {
+            return Cryptography.generateAlphabet(options);
+        }
+        return alphabet.chars().mapToObj(c -> (char)c).toList();
+    }
+
+    private static String parseCipherText(
+        final BufferedReader reader,
+        final VigenereSquare square,
+        final Parameters options
+    ) throws IOException {
+        final String text = reader.readLine();
+        if (text == null || text.isBlank()) {
+            return Cryptography.generateCipherText(square, options);
+        }
+        return text;
+    }
+
     private static String parseInputText(
         final BufferedReader reader,
         final List<Character> alphabet,
@@ -0,0 +1,277 @@
+package exercisegenerator.algorithms.cryptography;
+
+import java.io.*;
+import java.util.*;
+
+import exercisegenerator.*;
+import exercisegenerator.algorithms.*;
+import exercisegenerator.io.*;
+import exercisegenerator.structures.*;
+
+/**
+ * Friedman test for estimating the key length of Vigenere ciphertexts. The letters of the ciphertext are counted in a
+ * frequency array indexed by their positions in the alphabet of the Vigenere square (other characters are skipped).
+ * The index of coincidence is computed from these counts and compared to the indices of coincidence of German texts
+ * and uniformly distributed texts. Additionally, the average index of coincidence of the columns of the ciphertext is
+ * computed for each candidate key length.
+ */
+public class FriedmanAnalysis implements AlgorithmImplementation {
+
+    public static final int DEFAULT_MAXIMUM_KEY_LENGTH = 12;
+
+    /**
+     * The index of coincidence of German texts.
+     */
+    public static final double GERMAN_INDEX_OF_COINCIDENCE = 0.0762;
+
+    public static final FriedmanAnalysis INSTANCE = new FriedmanAnalysis();
+
+    /**
+     * @param cipherText The ciphertext.
+     * @param square The Vigenere square whose alphabet is used.
+     * @param maxKeyLength The maximal key length to consider.
+     * @return The average index of coincidence of the columns of the ciphertext for each key length from 1 to the
+     *         specified maximum (at the index of the key length).
+     */
+    public static double[] columnIndicesOfCoincidence(
+        final String cipherText,
+        final VigenereSquare square,
+        final int maxKeyLength
+    ) {
+        final int[] letters = KasiskiExamination.toIndices(cipherText, square);
+        final int size = square.getSize();
+        final double[] result = new double[Math.max(0, maxKeyLength + 1)];
+        final int[] counts = new int[maxKeyLength * size];
+        for (int keyLength = 1; keyLength <= maxKeyLength; keyLength++) {
+            Arrays.fill(counts, 0, keyLength * size, 0);
+            for (int i = 0; i < letters.length; i++) {
+                counts[(i % keyLength) * size + letters[i]]++;
+            }
+            double sum = 0.0;
+            for (int column = 0; column < keyLength; column++) {
+                sum += FriedmanAnalysis.indexOfCoincidence(counts, column * size, size);
+            }
+            result[keyLength] = sum / keyLength;
+        }
+        return result;
+    }
+
+    /**
+     * @param indexOfCoincidence The index of coincidence of the ciphertext.
+     * @param numberOfLetters The number of letters of the ciphertext.
+     * @param alphabetSize The size of the alphabet.
+     * @param languageIndexOfCoincidence The index of coincidence of the language of the plaintext.
+     * @return The estimated key length according to Friedman's formula.
+     */
+    public static double estimateKeyLength(
+        final double indexOfCoincidence,
+        final int numberOfLetters,
+        final int alphabetSize,
+        final double languageIndexOfCoincidence
+    ) {
+        final double random = 1.0 / alphabetSize;
+        return numberOfLetters * (languageIndexOfCoincidence - random)
+            / ((numberOfLetters - 1) * indexOfCoincidence - numberOfLetters * random + languageIndexOfCoincidence);
+    }
+
+    /**
+     * @param counts The number of occurrences of each letter.
+     * @return The probability that two letters drawn without replacement are equal.
+     */
+    public static double indexOfCoincidence(final int[] counts) {
+        return FriedmanAnalysis.indexOfCoincidence(counts, 0, counts.length);
+    }
+
+    /**
+     * @param cipherText The ciphertext.
+     * @param square The Vigenere square whose alphabet is used.
+     * @return The number of occurrences of each letter of the alphabet in the ciphertext (indexed by the positions of
+     *         the letters in the alphabet).
+     */
+    public static int[] letterCounts(final String cipherText, final VigenereSquare square) {
+        final int[] result = new int[square.getSize()];
+        for (int i = 0; i < cipherText.length(); i++) {
+            final int index = square.indexOf(cipherText.charAt(i));
+            if (index >= 0) {
+                result[index]++;
+            }
+        }
+        return result;
+    }
+
+    private static double indexOfCoincidence(final int[] counts, final int from, final int length) {
+        long pairs = 0L;
+        long total = 0L;
+        for (int i = from; i < from + length; i++) {
+            pairs += (long)counts[i] * (counts[i] - 1);
+            total += counts[i];
+        }
+        return total < 2 ? 0.0 : (double)pairs / (total * (total - 1));
+    }
+
+    private static void printSolution(
+        final int[] counts,
+        final double[] columnIndices,
+        final VigenereSquare square,
+        final BufferedWriter writer
+    ) throws IOException {
+        final int size = square.getSize();
+        final int numberOfLetters = Arrays.stream(counts).sum();
+        long pairs = 0L;
+        for (final int count : counts) {
+            pairs += (long)count * (count - 1);
+        }
+        final double index = FriedmanAnalysis.indexOfCoincidence(counts);
+        writer.write("H\\\"aufigkeiten $n_x$ der Buchstaben $x$ im Geheimtext:\\\\[2ex]");
+        Main.newLine(writer);
+        final String[][] table = new String[size + 1][2];
+        table[0][0] = "$x$";
+        table[0][1] = "$n_x$";
+        for (int i = 0; i < size; i++) {
+            table[i + 1][0] = LaTeXUtils.code(LaTeXUtils.escapeForLaTeX(square.getAlphabet().get(i)));
+            table[i + 1][1] = String.valueOf(counts[i]);
+        }
+        LaTeXUtils.printBeginning(LaTeXUtils.CENTER, writer);
+        LaTeXUtils.printTable(
+            table,
+            Optional.empty(),
+            LaTeXUtils.defaultColumnDefinition("1.5em"),
+            false,
+            14,
+            true,
+            writer
+        );
+        LaTeXUtils.printEnd(LaTeXUtils.CENTER, writer);
+        if (numberOfLetters < 2) {
+            writer.write("Der Geheimtext ist zu kurz, um die Schl\\\"ussell\\\"ange zu sch\\\"atzen.");
+            Main.newLine(writer);
+            Main.newLine(writer);
+            return;
+        }
+        writer.write("Koinzidenzindex des Geheimtexts mit $N = " + numberOfLetters + "$ Buchstaben:");
+        Main.newLine(writer);
+        writer.write(
+            LaTeXUtils.displayMath(
+                String.format(
+                    "\\kappa = \\frac{\\sum_x n_x(n_x - 1)}{N(N - 1)} = \\frac{%d}{%d} \\approx %s",
+                    pairs,
+                    (long)numberOfLetters * (numberOfLetters - 1),
+                    FriedmanAnalysis.toLaTeXNumber(index)
+                )
+            )
+        );
+        Main.newLine(writer);
+        final double random = 1.0 / size;
+        final double estimate =
+            FriedmanAnalysis.estimateKeyLength(
+                index,
+                numberOfLetters,
+                size,
+                FriedmanAnalysis.GERMAN_INDEX_OF_COINCIDENCE
+            );
+        writer.write(
+            String.format(
+                "Mit $\\kappa_D = %s$ f\\\"ur deutsche Texte und $\\kappa_Z = \\frac{1}{%d} \\approx %s$ f\\\"ur "
+                + "zuf\\\"allige Texte ergibt sich nach Friedman die Schl\\\"ussell\\\"ange",
+                FriedmanAnalysis.toLaTeXNumber(FriedmanAnalysis.GERMAN_INDEX_OF_COINCIDENCE),
+                size,
+                FriedmanAnalysis.toLaTeXNumber(random)
+            )
+        );
+        Main.newLine(writer);
+        writer.write(
+            LaTeXUtils.displayMath(
+                String.format(
+                    "L \\approx \\frac{N(\\kappa_D - \\kappa_Z)}{(N - 1)\\kappa - N\\kappa_Z + \\kappa_D} \\approx %s",
+                    FriedmanAnalysis.toLaTeXNumber(estimate)
+                )
+            )
+        );
+        Main.newLine(writer);
+        writer.write("Durchschnittlicher Koinzidenzindex der Spalten f\\\"ur jede Schl\\\"ussell\\\"ange:\\\\[2ex]");
+        Main.newLine(writer);
+        final String[][] columns = new String[columnIndices.length][2];
+        columns[0][0] = "\\textbf{L\\\"ange}";
+        columns[0][1] = "\\textbf{$\\kappa$}";
+        int best = 0;
+        for (int keyLength = 1; keyLength < columnIndices.length; keyLength++) {
+            columns[keyLength][0] = String.valueOf(keyLength);
+            columns[keyLength][1] = String.format(Locale.GERMANY, "%.4f", columnIndices[keyLength]);
+            if (
+                best == 0
+                && columnIndices[keyLength] >= (FriedmanAnalysis.GERMAN_INDEX_OF_COINCIDENCE + random) / 2
+            ) {
+                best = keyLength;
+            }
+        }
+        LaTeXUtils.printBeginning(LaTeXUtils.CENTER, writer);
+        LaTeXUtils.printTable(
+            columns,
+            Optional.empty(),
+            LaTeXUtils.defaultColumnDefinition("1.2cm"),
+            false,
+            7,
+            true,
+            writer
+        );
+        LaTeXUtils.printEnd(LaTeXUtils.CENTER, writer);
+        if (best == 0) {
+            writer.write(
+                "Keine der betrachteten Schl\\\"ussell\\\"angen liefert Spalten mit einem Koinzidenzindex nahe dem "
+                + "deutscher Texte."
+            );
+        } else {
+            writer.write(
+                String.format(
+                    "Vermutete Schl\\\"ussell\\\"ange: %d (die kleinste L\\\"ange, deren Spalten einen "
+                    + "durchschnittlichen Koinzidenzindex n\\\"aher an $\\kappa_D$ als an $\\kappa_Z$ haben).",
+                    best
+                )
+            );
+        }
+        Main.newLine(writer);
+        Main.newLine(writer);
+    }
+
+    private static String toLaTeXNumber(final double number) {
+        return String.format(Locale.GERMANY, "%.4f", number).replace(",", "{,}");
+    }
+
+    private FriedmanAnalysis() {}
+
+    @Override
+    public void executeAlgorithm(final AlgorithmInput input) throws IOException {
+        final List<Character> alphabet = Cryptography.parseOrGenerateCipherAlphabet(input.options);
+        final VigenereSquare square = new VigenereSquare(alphabet);
+        final String cipherText = Cryptography.parseOrGenerateCipherText(square, input.options);
+        Cryptography.printCipherTextAnalysisExercise(
+            cipherText,
+            square,
+            String.format(
+                "mithilfe des Friedman-Tests (betrachten Sie dabei auch den durchschnittlichen Koinzidenzindex der "
+                + "Spalten f\\\"ur Schl\\\"ussell\\\"angen von 1 bis %d)",
+                FriedmanAnalysis.DEFAULT_MAXIMUM_KEY_LENGTH
+            ),
+            input.exerciseWriter
+        );
+        FriedmanAnalysis.printSolution(
+            FriedmanAnalysis.letterCounts(cipherText, square),
+            FriedmanAnalysis.columnIndicesOfCoincidence(
+                cipherText,
+                square,
+                FriedmanAnalysis.DEFAULT_MAXIMUM_KEY_LENGTH
+            ),
+            square,
+            input.solutionWriter
+        );
+    }
+
+    @Override
+    public String[] generateTestParameters() {
+        final String[] result = new String[2];
+        result[0] = "-l";
+        result[1] = "120";
+        return result;
+    }
+
+}
@@ -0,0 +1,332 @@
+package exercisegenerator.algorithms.cryptography;
+
+import java.io.*;
+import java.util.*;
+
+import exercisegenerator.*;
+import exercisegenerator.algorithms.*;
+import exercisegenerator.io.*;
+import exercisegenerator.structures.*;
+
+/**
+ * Kasiski examination of Vigenere ciphertexts. The letters of the ciphertext are mapped to their indices in the
+ * alphabet of the Vigenere square (other characters are skipped) and each n-gram is packed into a long number with the
+ * alphabet size as base. An open addressing hash table maps each n-gram to its last occurrence such that all
+ * repetitions and their distances are found in time linear in the length of the ciphertext. The distances are then
+ * factored by counting, for each candidate key length, how many distances it divides.
+ */
+public class KasiskiExamination implements AlgorithmImplementation {
+
+    public static class KasiskiResult {
+
+        public final int[] distances;
+
+        public final int[] factorCounts;
+
+        public final Optional<Integer> keyLength;
+
+        public final List<Repetition> repetitions;
+
+        public KasiskiResult(
+            final List<Repetition> repetitions,
+            final int[] distances,
+            final int[] factorCounts,
+            final Optional<Integer> keyLength
+        ) {
+            this.repetitions = repetitions;
+            this.distances = distances;
+            this.factorCounts = factorCounts;
+            this.keyLength = keyLength;
+        }
+
+    }
+
+    public static class Repetition {
+
+        /**
+         * The positions of all occurrences in ascending order (counting only letters of the alphabet and starting
+         * with 0).
+         */
+        public final int[] positions;
+
+        public final String sequence;
+
+        public Repetition(final String sequence, final int[] positions) {
+            this.sequence = sequence;
+            this.positions = positions;
+        }
+
+    }
+
+    public static final int DEFAULT_MAXIMUM_KEY_LENGTH = 12;
+
+    public static final int DEFAULT_SEQUENCE_LENGTH = 3;
+
+    public static final KasiskiExamination INSTANCE = new KasiskiExamination();
+
+    private static final long EMPTY = -1L;
+
+    /**
+     * @param cipherText The ciphertext.
+     * @param square The Vigenere square whose alphabet is used.
+     * @param sequenceLength The length n of the repeated sequences to search for.
+     * @param maxKeyLength The maximal key length to consider.
+     * @return The repeated sequences of length n ordered by their first occurrence, the distances between successive
+     *         occurrences, the number of distances divisible by each key length from 2 to the specified maximum, and
+     *         the largest key length dividing at least two thirds as many distances as the most frequent factor (if
+     *         any sequence is repeated).
+     * @throws IllegalArgumentException If the sequence length is not positive or the n-grams do not fit into a long
+     *                                  number.
+     */
+    public static KasiskiResult examine(
+        final String cipherText,
+        final VigenereSquare square,
+        final int sequenceLength,
+        final int maxKeyLength
+    ) {
+        final int size = Math.max(2, square.getSize());
+        if (sequenceLength < 1 || sequenceLength * Math.log(size) >= Math.log(Long.MAX_VALUE)) {
+            throw new IllegalArgumentException("The sequence length must be positive and fit into a long number!");
+        }
+        final int[] letters = KasiskiExamination.toIndices(cipherText, square);
+        final int numberOfSequences = Math.max(0, letters.length - sequenceLength + 1);
+        final int capacity = Integer.highestOneBit(Math.max(1, 2 * numberOfSequences - 1)) << 1;
+        final long[] keys = new long[capacity];
+        final int[] lastOccurrences = new int[capacity];
+        Arrays.fill(keys, KasiskiExamination.EMPTY);
+        final int[] previousOccurrences = new int[numberOfSequences];
+        long highest = 1L;
+        for (int i = 1; i < sequenceLength; i++) {
+            highest *= size;
+        }
+        long key = 0L;
+        for (int i = 0; i < sequenceLength - 1 && i < letters.length; i++) {
+            key = key * size + letters[i];
+        }
+        int numberOfDistances = 0;
+        for (int i = 0; i < numberOfSequences; i++) {
+            key = key * size + letters[i + sequenceLength - 1];
+            int slot = KasiskiExamination.hash(key) & (capacity - 1);
+            while (keys[slot] != KasiskiExamination.EMPTY && keys[slot] != key) {
+                slot = (slot + 1) & (capacity - 1);
+            }
+            if (keys[slot] == key) {
+                previousOccurrences[i] = lastOccurrences[slot];
+                numberOfDistances++;
+            } else {
+                keys[slot] = key;
+                previousOccurrences[i] = -1;
+            }
+            lastOccurrences[slot] = i;
+            key -= letters[i] * highest;
+        }
+        final int[] distances = new int[numberOfDistances];
+        final int[] factorCounts = new int[Math.max(0, maxKeyLength + 1)];
+        final List<Repetition> repetitions = new ArrayList<Repetition>();
+        final int[] occurrences = new int[numberOfSequences];
+        int distance = 0;
+        for (int slot = 0; slot < capacity; slot++) {
+            if (keys[slot] == KasiskiExamination.EMPTY || previousOccurrences[lastOccurrences[slot]] < 0) {
+                continue;
+            }
+            int count = 0;
+            for (int i = lastOccurrences[slot]; i >= 0; i = previousOccurrences[i]) {
+                occurrences[count++] = i;
+            }
+            final int[] positions = new int[count];
+            for (int i = 0; i < count; i++) {
+                positions[i] = occurrences[count - 1 - i];
+            }
+            for (int i = 1; i < count; i++) {
+                distances[distance++] = positions[i] - positions[i - 1];
+            }
+            final StringBuilder sequence = new StringBuilder(sequenceLength);
+            for (int i = positions[0]; i < positions[0] + sequenceLength; i++) {
+                sequence.append(square.getAlphabet().get(letters[i]));
+            }
+            repetitions.add(new Repetition(sequence.toString(), positions));
+        }
+        repetitions.sort((r1, r2) -> Integer.compare(r1.positions[0], r2.positions[0]));
+        for (final int d : distances) {
+            for (int factor = 2; factor <= maxKeyLength; factor++) {
+                if (d % factor == 0) {
+                    factorCounts[factor]++;
+                }
+            }
+        }
+        return new KasiskiResult(
+            repetitions,
+            distances,
+            factorCounts,
+            KasiskiExamination.estimateKeyLength(factorCounts)
+        );
+    }
+
+    /**
+     * @param factorCounts The number of distances divisible by each key length.
+     * @return The largest key length dividing at least two thirds as many distances as the most frequent factor (if
+     *         any distance is divisible by a key length of at least 2).
+     */
+    public static Optional<Integer> estimateKeyLength(final int[] factorCounts) {
+        int max = 0;
+        for (int factor = 2; factor < factorCounts.length; factor++) {
+            max = Math.max(max, factorCounts[factor]);
+        }
+        if (max == 0) {
+            return Optional.empty();
+        }
+        for (int factor = factorCounts.length - 1; factor >= 2; factor--) {
+            if (3 * factorCounts[factor] >= 2 * max) {
+                return Optional.of(factor);
+            }
+        }
+        return Optional.empty();
+    }
+
+    static int[] toIndices(final String text, final VigenereSquare square) {
+        final int[] result = new int[text.length()];
+        int length = 0;
+        for (int i = 0; i < text.length(); i++) {
+            final int index = square.indexOf(text.charAt(i));
+            if (index >= 0) {
+                result[length++] = index;
+            }
+        }
+        return Arrays.copyOf(result, length);
+    }
+
+    private static int hash(final long key) {
+        final long mixed = key * 0x9E3779B97F4A7C15L;
+        return (int)(mixed ^ (mixed >>> 32));
+    }
+
+    private static void printSolution(
+        final KasiskiResult result,
+        final int sequenceLength,
+        final BufferedWriter writer
+    ) throws IOException {
+        if (result.repetitions.isEmpty()) {
+            writer.write(
+                String.format(
+                    "Der Geheimtext enth\\\"alt keine mehrfach vorkommenden Buchstabenfolgen der L\\\"ange %d. Die "
+                    + "Schl\\\"ussell\\\"ange kann daher nicht bestimmt werden.",
+                    sequenceLength
+                )
+            );
+            Main.newLine(writer);
+            Main.newLine(writer);
+            return;
+        }
+        writer.write(
+            String.format(
+                "Mehrfach vorkommende Buchstabenfolgen der L\\\"ange %d (Positionen ab 1 gez\\\"ahlt, nur Buchstaben "
+                + "des Alphabets) und die Abst\\\"ande aufeinanderfolgender Vorkommen:\\\\[2ex]",
+                sequenceLength
+            )
+        );
+        Main.newLine(writer);
+        final String[][] table = new String[result.repetitions.size() + 1][3];
+        table[0][0] = "\\textbf{Folge}";
+        table[0][1] = "\\textbf{Positionen}";
+        table[0][2] = "\\textbf{Abst\\\"ande}";
+        for (int i = 0; i < result.repetitions.size(); i++) {
+            final Repetition repetition = result.repetitions.get(i);
+            final StringJoiner positions = new StringJoiner(", ");
+            final StringJoiner distances = new StringJoiner(", ");
+            for (int j = 0; j < repetition.positions.length; j++) {
+                positions.add(String.valueOf(repetition.positions[j] + 1));
+                if (j > 0) {
+                    distances.add(String.valueOf(repetition.positions[j] - repetition.positions[j - 1]));
+                }
+            }
+            table[i + 1][0] = LaTeXUtils.code(LaTeXUtils.escapeForLaTeX(repetition.sequence));
+            table[i + 1][1] = positions.toString();
+            table[i + 1][2] = distances.toString();
+        }
+        LaTeXUtils.printBeginning(LaTeXUtils.CENTER, writer);
+        LaTeXUtils.printTable(
+            table,
+            Optional.empty(),
+            LaTeXUtils.defaultColumnDefinition("2.8cm"),
+            true,
+            0,
+            writer
+        );
+        LaTeXUtils.printEnd(LaTeXUtils.CENTER, writer);
+        writer.write("Anzahl der Abst\\\"ande, die durch die jeweilige Schl\\\"ussell\\\"ange teilbar sind:\\\\[2ex]");
+        Main.newLine(writer);
+        final int maxKeyLength = result.factorCounts.length - 1;
+        final String[][] factors = new String[Math.max(1, maxKeyLength)][2];
+        factors[0][0] = "\\textbf{L\\\"ange}";
+        factors[0][1] = "\\textbf{Anzahl}";
+        for (int factor = 2; factor <= maxKeyLength; factor++) {
+            factors[factor - 1][0] = String.valueOf(factor);
+            factors[factor - 1][1] = String.valueOf(result.factorCounts[factor]);
+        }
+        LaTeXUtils.printBeginning(LaTeXUtils.CENTER, writer);
+        LaTeXUtils.printTable(
+            factors,
+            Optional.empty(),
+            LaTeXUtils.defaultColumnDefinition("1.2cm"),
+            false,
+            12,
+            true,
+            writer
+        );
+        LaTeXUtils.printEnd(LaTeXUtils.CENTER, writer);
+        if (result.keyLength.isEmpty()) {
+            writer.write("Keine der betrachteten Schl\\\"ussell\\\"angen teilt einen der Abst\\\"ande.");
+        } else {
+            writer.write(
+                String.format(
+                    "Vermutete Schl\\\"ussell\\\"ange: %d (die gr\\\"o\\ss{}te L\\\"ange, die mindestens zwei Drittel "
+                    + "so viele Abst\\\"ande teilt wie die am h\\\"aufigsten passende L\\\"ange).",
+                    result.keyLength.get()
+                )
+            );
+        }
+        Main.newLine(writer);
+        Main.newLine(writer);
+    }
+
+    private KasiskiExamination() {}
+
+    @Override
+    public void executeAlgorithm(final AlgorithmInput input) throws IOException {
+        final List<Character> alphabet = Cryptography.parseOrGenerateCipherAlphabet(input.options);
+        final VigenereSquare square = new VigenereSquare(alphabet);
+        final String cipherText = Cryptography.parseOrGenerateCipherText(square, input.options);
+        final int sequenceLength =
+            input.options.containsKey(Flag.DEGREE) ?
+                Integer.parseInt(input.options.get(Flag.DEGREE)) :
+                    KasiskiExamination.DEFAULT_SEQUENCE_LENGTH;
+        final KasiskiResult result =
+            KasiskiExamination.examine(
+                cipherText,
+                square,
+                sequenceLength,
+                KasiskiExamination.DEFAULT_MAXIMUM_KEY_LENGTH
+            );
+        Cryptography.printCipherTextAnalysisExercise(
+            cipherText,
+            square,
+            String.format(
+                "durch eine Kasiski-Analyse mit Buchstabenfolgen der L\\\"ange %d (betrachten Sie dabei "
+                + "Schl\\\"ussell\\\"angen von 2 bis %d)",
+                sequenceLength,
+                KasiskiExamination.DEFAULT_MAXIMUM_KEY_LENGTH
+            ),
+            input.exerciseWriter
+        );
+        KasiskiExamination.printSolution(result, sequenceLength, input.solutionWriter);
+    }
+
+    @Override
+    public String[] generateTestParameters() {
+        final String[] result = new String[2];
+        result[0] = "-l";
+        result[1] = "120";
+        return result;
+    }
+
+}
@@ -15,7 +15,7 @@ public class VigenereDecryption implements AlgorithmImplementation {
     }
 
     public static String vigenereDecode(final String cipherText, final String keyword, final VigenereSquare square) {
-        return Cryptography.vigenere(cipherText, keyword, square::decode);
+        return square.decode(cipherText, keyword);
     }
 
     private VigenereDecryption() {}
@@ -15,7 +15,7 @@ public class VigenereEncryption implements AlgorithmImplementation {
     }
 
     public static String vigenereEncode(final String sourceText, final String keyword, final VigenereSquare square) {
-        return Cryptography.vigenere(sourceText, keyword, square::encode);
+        return square.encode(sourceText, keyword);
     }
 
     private VigenereEncryption() {}
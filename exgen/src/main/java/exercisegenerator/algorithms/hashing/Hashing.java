@@ -2,12 +2,12 @@ package exercisegenerator.algorithms.hashing;
 
 import java.io.*;
 import java.util.*;
-import java.util.function.*;
 import java.util.stream.*;
 
 import exercisegenerator.*;
 import exercisegenerator.io.*;
 import exercisegenerator.structures.*;
+import exercisegenerator.structures.hashing.*;
 import exercisegenerator.util.*;
 
 abstract class Hashing {
@@ -33,17 +33,29 @@ abstract class Hashing {
         private final String parameterText;
         private final PreprintMode preprintMode;
         private final boolean probing;
+        private final Optional<HashingStatistics> statistics;
 
         PrintOptions(
             final String optionsText,
             final String parameterText,
             final boolean probing,
             final PreprintMode preprintMode
+        ) {
+            this(optionsText, parameterText, probing, preprintMode, Optional.empty());
+        }
+
+        PrintOptions(
+            final String optionsText,
+            final String parameterText,
+            final boolean probing,
+            final PreprintMode preprintMode,
+            final Optional<HashingStatistics> statistics
         ) {
             this.optionsText = optionsText;
             this.parameterText = parameterText;
             this.probing = probing;
             this.preprintMode = preprintMode;
+            this.statistics = statistics;
         }
     }
 
@@ -60,9 +72,19 @@ abstract class Hashing {
     /**
      * Array containing all prime numbers between 5 and 101.
      */
-    private static final int[] PRIMES_5_101 =
+    static final int[] PRIMES_5_101 =
         new int[]{5, 7, 11, 13, 17, 19, 23, 29, 31, 37, 41, 43, 47, 53, 59, 61, 67, 71, 73, 79, 83, 89, 97, 101};
 
+    /**
+     * @param a Some number.
+     * @param b Another number.
+     * @param c Yet another number.
+     * @return True if the three numbers are coprime to each other. False otherwise.
+     */
+    static boolean areCoprime(final int a, final int b, final int c) {
+        return Hashing.gcd(a,b) == 1 && Hashing.gcd(b,c) == 1 && Hashing.gcd(a,c) == 1;
+    }
+
     static HashList[] createEmptyArray(final int length) {
         final HashList[] result = new HashList[length];
         for (int i = 0; i < length; i++) {
@@ -71,16 +93,97 @@ abstract class Hashing {
         return result;
     }
 
+    /**
+     * @param capacity The capacity of the hash table.
+     * @param options The program options.
+     * @return Statistics for a hash table of the specified capacity if they are requested by variant 1 or by the
+     *         metrics flag. Empty otherwise.
+     */
+    static Optional<HashingStatistics> createStatisticsIfRequested(final int capacity, final Parameters options) {
+        if (
+            (options.containsKey(Flag.VARIANT) && options.get(Flag.VARIANT).equals("1"))
+            || Boolean.parseBoolean(options.get(Flag.METRICS))
+        ) {
+            return Optional.of(new HashingStatistics(capacity));
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Computes the gcd of two numbers by using the Eucilidian algorithm.
+     * @param number1 The first of the two numbers.
+     * @param number2 The second of the two numbers.
+     * @return The greates common divisor of number1 and number2.
+     */
+    static int gcd(final int number1, final int number2) {
+        //base case
+        if (number2 == 0) {
+            return number1;
+        }
+        return Hashing.gcd(number2, number1%number2);
+    }
+
+    /**
+     * @param numberOfValues The number of values to insert.
+     * @param alg The name of the hashing algorithm.
+     * @param gen A random number generator.
+     * @return A random prime capacity suitable for the specified number of values and algorithm.
+     */
+    static int generateCapacity(final int numberOfValues, final String alg, final Random gen) {
+        final int length = (int)(numberOfValues * 1.25);
+        if ("hashDivision".equals(alg) || "hashMultiplication".equals(alg)) {
+            final Integer[] primes = Hashing.getAllUpToNextPrimes(length);
+            final int index = gen.nextInt(primes.length);
+            return primes[index];
+        }
+        // quadratic probing on a prime capacity m reaches (m + 1) / 2 positions, so insertion cannot fail if at
+        // most this many values are stored
+        final int minCapacity =
+            alg != null && alg.endsWith("Quadratic") ? Math.max(length, 2 * numberOfValues - 1) : length;
+        // number of additional primes is geometrically distributed with p = 1/2
+        final int steps = Integer.numberOfTrailingZeros(gen.nextInt() | Integer.MIN_VALUE);
+        int index = 0;
+        while (index < Hashing.PRIMES_5_101.length && Hashing.PRIMES_5_101[index] < minCapacity) {
+            index++;
+        }
+        if (index + steps < Hashing.PRIMES_5_101.length) {
+            return Hashing.PRIMES_5_101[index + steps];
+        }
+        int result = Hashing.getNextPrime(minCapacity);
+        for (int i = 0; i < steps; i++) {
+            result = Hashing.getNextPrime(result + 1);
+        }
+        return result;
+    }
+
+    static double getRandomFactorBetweenZeroAndOne(final Random gen) {
+        final double result = Math.round((gen.nextDouble()) * 100.0) / 100.0;
+        if (Double.compare(result, 0.0) == 0) {
+            return 0.01;
+        }
+        return result;
+    }
+
     static HashList[] hashingWithDivisionMethod(
         final List<Integer> values,
         final HashList[] initialHashTable,
         final Optional<ProbingFunction> optionalProbingFunction
+    ) throws HashException {
+        return Hashing.hashingWithDivisionMethod(values, initialHashTable, optionalProbingFunction, Optional.empty());
+    }
+
+    static HashList[] hashingWithDivisionMethod(
+        final List<Integer> values,
+        final HashList[] initialHashTable,
+        final Optional<ProbingFunction> optionalProbingFunction,
+        final Optional<HashingStatistics> statistics
     ) throws HashException {
         return Hashing.hashing(
             values,
             initialHashTable,
-            (value, capacity) -> value % capacity,
-            optionalProbingFunction
+            HashFunction.division(),
+            optionalProbingFunction,
+            statistics
         );
     }
 
@@ -89,12 +192,29 @@ abstract class Hashing {
         final HashList[] initialHashTable,
         final double factor,
         final Optional<ProbingFunction> optionalProbingFunction
+    ) throws HashException {
+        return Hashing.hashingWithMultiplicationMethod(
+            values,
+            initialHashTable,
+            factor,
+            optionalProbingFunction,
+            Optional.empty()
+        );
+    }
+
+    static HashList[] hashingWithMultiplicationMethod(
+        final List<Integer> values,
+        final HashList[] initialHashTable,
+        final double factor,
+        final Optional<ProbingFunction> optionalProbingFunction,
+        final Optional<HashingStatistics> statistics
     ) throws HashException {
         return Hashing.hashing(
             values,
             initialHashTable,
-            (value, capacity) -> (int)Math.floor(capacity * ((value * factor) - Math.floor(value * factor))),
-            optionalProbingFunction
+            HashFunction.multiplication(factor),
+            optionalProbingFunction,
+            statistics
         );
     }
 
@@ -128,13 +248,19 @@ abstract class Hashing {
     }
 
     static HashResultWithProbingFactors parseOrGenerateProbingFactorsAndComputeResult(
-        final int capacity,
+        final HashList[] initialHashTable,
+        final int numberOfValues,
         final CheckedBiFunction<Integer, Integer, HashList[], HashException> hashingAlgorithm,
         final Parameters options
     ) throws IOException {
         return new ParserAndGenerator<HashResultWithProbingFactors>(
             (reader, flags) -> Hashing.parseProbingFactorsAndComputeResult(reader, hashingAlgorithm, flags),
-            flags -> Hashing.generateProbingFactorsAndComputeResult(capacity, hashingAlgorithm, flags)
+            flags -> Hashing.generateProbingFactorsAndComputeResult(
+                initialHashTable.length,
+                numberOfValues + (int)Arrays.stream(initialHashTable).filter(list -> !list.isEmpty()).count(),
+                hashingAlgorithm,
+                flags
+            )
         ).getResult(options);
     }
 
@@ -195,6 +321,9 @@ abstract class Hashing {
         Hashing.printArray(result, contentLength, printOptions.probing, solutionWriter);
         LaTeXUtils.printEnd(LaTeXUtils.CENTER, solutionWriter);
         Main.newLine(solutionWriter);
+        if (printOptions.statistics.isPresent()) {
+            Hashing.printStatistics(printOptions.statistics.get(), printOptions.probing, solutionWriter);
+        }
     }
 
     static ProbingFunction quadraticProbing(final int linearFactor, final int quadraticFactor) {
@@ -207,15 +336,51 @@ abstract class Hashing {
                     )
                 );
             }
-            return
+            return (int)(
                 (
                     initialPosition
-                    + linearFactor * numberOfCollisions
-                    + quadraticFactor * numberOfCollisions * numberOfCollisions
-                ) % capacity;
+                    + ((long)linearFactor) * numberOfCollisions
+                    + ((long)quadraticFactor) * numberOfCollisions * numberOfCollisions
+                ) % capacity
+            );
         };
     }
 
+    /**
+     * If variant 2 is requested and the instance is to be generated (no source, input, or initial table is
+     * specified), searches an instance with enough collisions and long probing sequences (or chains) and stores it
+     * as input to be parsed by all subsequent parseOrGenerate methods.
+     * @param options The program options.
+     */
+    static void searchInstanceIfRequested(final Parameters options) {
+        if (
+            !options.containsKey(Flag.VARIANT)
+            || !options.get(Flag.VARIANT).equals("2")
+            || options.containsKey(Flag.SOURCE)
+            || options.containsKey(Flag.INPUT)
+            || options.containsKey(Flag.OPERATIONS)
+        ) {
+            return;
+        }
+        final Random gen = new Random();
+        final String algorithm = options.get(Flag.ALGORITHM);
+        final int numberOfValues =
+            options.containsKey(Flag.LENGTH) ? Integer.parseInt(options.get(Flag.LENGTH)) : gen.nextInt(16) + 5;
+        final List<HashingInstanceSearch.HashingInstance> instances =
+            HashingInstanceSearch.search(
+                algorithm,
+                numberOfValues,
+                1,
+                HashingInstanceSearch.defaultMinCollisions(numberOfValues),
+                3,
+                gen.nextLong(),
+                Runtime.getRuntime().availableProcessors()
+            );
+        if (!instances.isEmpty()) {
+            options.put(Flag.INPUT, instances.get(0).toInput(algorithm));
+        }
+    }
+
     static String toMultiplicationMethodExerciseText(final double factor) {
         return String.format(Locale.GERMANY, "\\emphasize{Multiplikationsmethode} ($c = %.2f$)", factor);
     }
@@ -245,16 +410,6 @@ abstract class Hashing {
         );
     }
 
-    /**
-     * @param a Some number.
-     * @param b Another number.
-     * @param c Yet another number.
-     * @return True if the three numbers are coprime to each other. False otherwise.
-     */
-    private static boolean areCoprime(final int a, final int b, final int c) {
-        return Hashing.gcd(a,b) == 1 && Hashing.gcd(b,c) == 1 && Hashing.gcd(a,c) == 1;
-    }
-
     private static int computeContentLength(final HashList[] array) {
         return Arrays.stream(array)
             .mapToInt(list -> list.stream().mapToInt(x -> String.valueOf(x).length()).max().orElse(1))
@@ -262,58 +417,13 @@ abstract class Hashing {
             .orElse(1);
     }
 
-    private static Pair<Integer, Integer> computeCoprimeProbingFactors(final int capacity, final Random gen) {
-        int coprimeLinearProbingFactor = Hashing.getRandomProbingFactor(capacity, gen);
-        int coprimeQuadraticProbingFactor = Hashing.getRandomProbingFactor(capacity, gen);
-        while (!Hashing.areCoprime(capacity, coprimeLinearProbingFactor, coprimeQuadraticProbingFactor)) {
-            coprimeLinearProbingFactor = Hashing.getRandomProbingFactor(capacity, gen);
-            if (Hashing.areCoprime(capacity, coprimeLinearProbingFactor, coprimeQuadraticProbingFactor)) {
-                break;
-            }
-            coprimeQuadraticProbingFactor = Hashing.getRandomProbingFactor(capacity, gen);
-        }
-        return new Pair<Integer, Integer>(coprimeLinearProbingFactor, coprimeQuadraticProbingFactor);
-    }
-
-    private static void copyValues(final HashList[] initialHashTable, final HashList[] hashTable) {
-        for (int i = 0; i < hashTable.length; i++) {
-            hashTable[i].addAll(initialHashTable[i]);
-        }
-    }
-
     /**
-     * Computes the gcd of two numbers by using the Eucilidian algorithm.
-     * @param number1 The first of the two numbers.
-     * @param number2 The second of the two numbers.
-     * @return The greates common divisor of number1 and number2.
+     * Draws probing factors such that the probing sequence reaches enough positions for all values. If the capacity
+     * is too small for such factors, factors are drawn among all coprime ones until the insertion succeeds.
      */
-    private static int gcd(final int number1, final int number2) {
-        //base case
-        if (number2 == 0) {
-            return number1;
-        }
-        return Hashing.gcd(number2, number1%number2);
-    }
-
-    private static int generateCapacity(final int numberOfValues, final Parameters options) {
-        final Random gen = new Random();
-        final int length = (int)(numberOfValues * 1.25);
-        final String alg = options.get(Flag.ALGORITHM);
-        if (alg == "hashDivision" || alg == "hashMultiplication") {
-            final Integer[] primes = Hashing.getAllUpToNextPrimes(length);
-            final int index = gen.nextInt(primes.length);
-            return primes[index];
-        } else {
-            int result = Hashing.getNextPrime(length);
-            while (gen.nextBoolean()) {
-                result = Hashing.getNextPrime(result + 1);
-            }
-            return result;
-        }
-    }
-
     private static HashResultWithProbingFactors generateProbingFactorsAndComputeResult(
         final int capacity,
+        final int numberOfStoredValues,
         final CheckedBiFunction<Integer, Integer, HashList[], HashException> hashingAlgorithm,
         final Parameters options
     ) {
@@ -325,7 +435,11 @@ abstract class Hashing {
         do {
             try {
                 final Pair<Integer, Integer> coprimeProbingFactors =
-                    Hashing.computeCoprimeProbingFactors(capacity, gen);
+                    QuadraticProbingFactors.draw(capacity, numberOfStoredValues, gen)
+                    .or(() -> QuadraticProbingFactors.draw(capacity, 0, gen))
+                    .orElseThrow(
+                        () -> new IllegalArgumentException("No coprime probing factors for capacity " + capacity)
+                    );
                 linearProbingFactor = coprimeProbingFactors.x;
                 quadraticProbingFactor = coprimeProbingFactors.y;
                 result = hashingAlgorithm.apply(linearProbingFactor, quadraticProbingFactor);
@@ -373,44 +487,28 @@ abstract class Hashing {
         return current;
     }
 
-    private static double getRandomFactorBetweenZeroAndOne(final Random gen) {
-        final double result = Math.round((gen.nextDouble()) * 100.0) / 100.0;
-        if (Double.compare(result, 0.0) == 0) {
-            return 0.01;
-        }
-        return result;
-    }
-
-    private static int getRandomProbingFactor(final int capacity, final Random gen) {
-        return gen.nextInt(capacity - 1) + 1;
-    }
-
     private static HashList[] hashing(
         final List<Integer> values,
         final HashList[] initialHashTable,
-        final BiFunction<Integer, Integer, Integer> hashFunction,
-        final Optional<ProbingFunction> optionalProbingFunction
+        final HashFunction hashFunction,
+        final Optional<ProbingFunction> optionalProbingFunction,
+        final Optional<HashingStatistics> statistics
     ) throws HashException {
-        final int capacity = initialHashTable.length;
-        final HashList[] hashTable = Hashing.createEmptyArray(capacity);
-        Hashing.copyValues(initialHashTable, hashTable);
         if (optionalProbingFunction.isPresent()) {
-            final ProbingFunction probingFunction = optionalProbingFunction.get();
-            for (final Integer value : values) {
-                final int initialPos = hashFunction.apply(value, capacity);
-                int pos = initialPos;
-                int numberOfCollisions = 0;
-                while (!hashTable[pos].isEmpty()) {
-                    pos = probingFunction.apply(value, initialPos, ++numberOfCollisions, capacity);
-                }
-                hashTable[pos].add(value);
-            }
-        } else {
-            for (final Integer value : values) {
-                hashTable[hashFunction.apply(value, capacity)].add(value);
+            final OpenAddressingHashTable hashTable =
+                new OpenAddressingHashTable(initialHashTable, hashFunction, optionalProbingFunction.get());
+            hashTable.setStatistics(statistics);
+            for (final int value : values) {
+                hashTable.insert(value);
             }
+            return hashTable.toHashLists();
+        }
+        final ChainedHashTable hashTable = new ChainedHashTable(initialHashTable, hashFunction);
+        hashTable.setStatistics(statistics);
+        for (final int value : values) {
+            hashTable.insert(value);
         }
-        return hashTable;
+        return hashTable.toHashLists();
     }
 
     /**
@@ -449,7 +547,7 @@ abstract class Hashing {
     throws IOException {
         return new ParserAndGenerator<Integer>(
             Hashing::parseCapacity,
-            flags -> Hashing.generateCapacity(numberOfValues, flags)
+            flags -> Hashing.generateCapacity(numberOfValues, flags.get(Flag.ALGORITHM), new Random())
         ).getResult(options);
     }
 
@@ -501,6 +599,55 @@ abstract class Hashing {
         LaTeXUtils.printTikzEnd(writer);
     }
 
+    private static void printStatistics(
+        final HashingStatistics statistics,
+        final boolean probing,
+        final BufferedWriter writer
+    ) throws IOException {
+        final int insertions = statistics.getInsertions();
+        final String[][] table = new String[insertions + 1][5];
+        table[0][0] = "\\textbf{Wert}";
+        table[0][1] = "\\textbf{Position}";
+        table[0][2] = probing ? "\\textbf{Sondierungen}" : "\\textbf{Listenl\\\"ange}";
+        table[0][3] = "\\textbf{Belegungsfaktor}";
+        table[0][4] = "\\textbf{l\\\"angster Cluster}";
+        for (int i = 0; i < insertions; i++) {
+            table[i + 1][0] = String.valueOf(statistics.getValue(i));
+            table[i + 1][1] = String.valueOf(statistics.getPosition(i));
+            table[i + 1][2] = String.valueOf(statistics.getProbes(i));
+            table[i + 1][3] = String.format(Locale.GERMANY, "%.2f", statistics.getLoadFactor(i));
+            table[i + 1][4] = String.valueOf(statistics.getLongestCluster(i));
+        }
+        writer.write(
+            probing ?
+                "Sondierungen, Belegungsfaktor und l\\\"angster Cluster (zusammenh\\\"angend belegte Positionen) nach jedem Einf\\\"ugen:\\\\[2ex]" :
+                    "Listenl\\\"angen, Belegungsfaktor und l\\\"angster Cluster (zusammenh\\\"angend belegte Positionen) nach jedem Einf\\\"ugen:\\\\[2ex]"
+        );
+        Main.newLine(writer);
+        LaTeXUtils.printBeginning(LaTeXUtils.CENTER, writer);
+        LaTeXUtils.printTable(
+            table,
+            Optional.empty(),
+            LaTeXUtils.defaultColumnDefinition("2.8cm"),
+            true,
+            0,
+            writer
+        );
+        LaTeXUtils.printEnd(LaTeXUtils.CENTER, writer);
+        writer.write(
+            String.format(
+                Locale.GERMANY,
+                "Durchschnittliche Anzahl an %s: %.2f, maximale Anzahl an %s: %d.\\\\",
+                probing ? "Sondierungen" : "Listenelementen",
+                statistics.getAverageProbes(),
+                probing ? "Sondierungen" : "Listenelementen",
+                statistics.getMaxProbes()
+            )
+        );
+        Main.newLine(writer);
+        Main.newLine(writer);
+    }
+
     private static List<ItemWithTikZInformation<Integer>> toTikZList(final HashList[] array) {
         return Arrays.stream(array)
             .map(list -> list.isEmpty() ?
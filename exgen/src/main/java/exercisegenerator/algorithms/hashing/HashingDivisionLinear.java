@@ -8,6 +8,7 @@ import exercisegenerator.algorithms.*;
 import exercisegenerator.algorithms.hashing.Hashing.*;
 import exercisegenerator.io.*;
 import exercisegenerator.structures.*;
+import exercisegenerator.structures.hashing.*;
 import exercisegenerator.util.*;
 
 public class HashingDivisionLinear implements AlgorithmImplementation {
@@ -24,11 +25,21 @@ public class HashingDivisionLinear implements AlgorithmImplementation {
 
     @Override
     public void executeAlgorithm(final AlgorithmInput input) throws IOException {
+        if (HashingStatisticsSweep.printSweepIfRequested(input.options, input.solutionWriter)) {
+            return;
+        }
+        Hashing.searchInstanceIfRequested(input.options);
         final List<Integer> values = Hashing.parseOrGenerateValues(input.options);
         final HashList[] initialHashTable = Hashing.parseOrGenerateInitialArray(values.size(), input.options);
+        final Optional<HashingStatistics> statistics =
+            Hashing.createStatisticsIfRequested(initialHashTable.length, input.options);
         try {
-            final HashList[] result =
-                Hashing.hashingWithDivisionMethod(values, initialHashTable, Optional.of(Hashing.linearProbing()));
+            final HashList[] result = Hashing.hashingWithDivisionMethod(
+                values,
+                initialHashTable,
+                Optional.of(Hashing.linearProbing()),
+                statistics
+            );
             Hashing.printHashingExerciseAndSolution(
                 values,
                 initialHashTable,
@@ -40,7 +51,8 @@ public class HashingDivisionLinear implements AlgorithmImplementation {
                     .concat(HashingDivisionLinear.toAdditionalHint(initialHashTable.length, initialHashTable.length)),
                     Hashing.toParameterString(initialHashTable.length),
                     true,
-                    PreprintMode.parsePreprintMode(input.options)
+                    PreprintMode.parsePreprintMode(input.options),
+                    statistics
                 ),
                 input.options,
                 input.exerciseWriter,
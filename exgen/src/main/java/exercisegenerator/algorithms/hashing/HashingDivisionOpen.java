@@ -8,6 +8,7 @@ import exercisegenerator.algorithms.*;
 import exercisegenerator.algorithms.hashing.Hashing.*;
 import exercisegenerator.io.*;
 import exercisegenerator.structures.*;
+import exercisegenerator.structures.hashing.*;
 import exercisegenerator.util.*;
 
 public class HashingDivisionOpen implements AlgorithmImplementation {
@@ -22,10 +23,17 @@ public class HashingDivisionOpen implements AlgorithmImplementation {
 
     @Override
     public void executeAlgorithm(final AlgorithmInput input) throws IOException {
+        if (HashingStatisticsSweep.printSweepIfRequested(input.options, input.solutionWriter)) {
+            return;
+        }
+        Hashing.searchInstanceIfRequested(input.options);
         final List<Integer> values = Hashing.parseOrGenerateValues(input.options);
         final HashList[] initialHashTable = Hashing.parseOrGenerateInitialArray(values.size(), input.options);
+        final Optional<HashingStatistics> statistics =
+            Hashing.createStatisticsIfRequested(initialHashTable.length, input.options);
         try {
-            final HashList[] result = Hashing.hashingWithDivisionMethod(values, initialHashTable, Optional.empty());
+            final HashList[] result =
+                Hashing.hashingWithDivisionMethod(values, initialHashTable, Optional.empty(), statistics);
             Hashing.printHashingExerciseAndSolution(
                 values,
                 initialHashTable,
@@ -37,7 +45,8 @@ public class HashingDivisionOpen implements AlgorithmImplementation {
                     .concat(HashingDivisionOpen.toAdditionalHint(initialHashTable.length)),
                     Hashing.toParameterString(initialHashTable.length),
                     false,
-                    PreprintMode.parsePreprintMode(input.options)
+                    PreprintMode.parsePreprintMode(input.options),
+                    statistics
                 ),
                 input.options,
                 input.exerciseWriter,
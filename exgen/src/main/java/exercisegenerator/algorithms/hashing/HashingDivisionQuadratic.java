@@ -8,6 +8,7 @@ import exercisegenerator.algorithms.*;
 import exercisegenerator.algorithms.hashing.Hashing.*;
 import exercisegenerator.io.*;
 import exercisegenerator.structures.*;
+import exercisegenerator.structures.hashing.*;
 
 public class HashingDivisionQuadratic implements AlgorithmImplementation {
 
@@ -48,16 +49,24 @@ public class HashingDivisionQuadratic implements AlgorithmImplementation {
 
     @Override
     public void executeAlgorithm(final AlgorithmInput input) throws IOException {
+        if (HashingStatisticsSweep.printSweepIfRequested(input.options, input.solutionWriter)) {
+            return;
+        }
+        Hashing.searchInstanceIfRequested(input.options);
         final List<Integer> values = Hashing.parseOrGenerateValues(input.options);
         final HashList[] initialHashTable = Hashing.parseOrGenerateInitialArray(values.size(), input.options);
+        final Optional<HashingStatistics> statistics =
+            Hashing.createStatisticsIfRequested(initialHashTable.length, input.options);
         final HashResultWithProbingFactors resultWithProbingFactors =
             Hashing.parseOrGenerateProbingFactorsAndComputeResult(
-                initialHashTable.length,
+                initialHashTable,
+                values.size(),
                 (linearProbingFactor, quadraticProbingFactor) ->
                     Hashing.hashingWithDivisionMethod(
                         values,
                         initialHashTable,
-                        Optional.of(Hashing.quadraticProbing(linearProbingFactor, quadraticProbingFactor))
+                        Optional.of(Hashing.quadraticProbing(linearProbingFactor, quadraticProbingFactor)),
+                        statistics
                     ),
                 input.options
             );
@@ -87,7 +96,8 @@ public class HashingDivisionQuadratic implements AlgorithmImplementation {
                     resultWithProbingFactors.quadraticProbingFactor
                 ),
                 true,
-                PreprintMode.parsePreprintMode(input.options)
+                PreprintMode.parsePreprintMode(input.options),
+                statistics
             ),
             input.options,
             input.exerciseWriter,
@@ -0,0 +1,216 @@
+package exercisegenerator.algorithms.hashing;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.stream.*;
+
+import exercisegenerator.*;
+import exercisegenerator.structures.*;
+import exercisegenerator.structures.hashing.*;
+import exercisegenerator.util.*;
+
+/**
+ * Parallel search for hashing instances (values, capacity, multiplication factor, and probing factors) matching
+ * target metrics such that the resulting exercises contain enough collisions and non-trivial probing sequences or
+ * chains. Candidate i is generated deterministically by the seed plus i and candidates are evaluated in parallel on
+ * the primitive hash table engines. The first matches in candidate order are returned.
+ */
+public abstract class HashingInstanceSearch {
+
+    /**
+     * A hashing instance for an initially empty table.
+     */
+    public static class HashingInstance {
+        public final int capacity;
+        public final int collisions;
+        public final double factor;
+        public final int linearProbingFactor;
+        public final int maxProbes;
+        public final int quadraticProbingFactor;
+        public final List<Integer> values;
+
+        private HashingInstance(
+            final List<Integer> values,
+            final int capacity,
+            final double factor,
+            final int linearProbingFactor,
+            final int quadraticProbingFactor,
+            final HashingStatistics statistics
+        ) {
+            this.values = values;
+            this.capacity = capacity;
+            this.factor = factor;
+            this.linearProbingFactor = linearProbingFactor;
+            this.quadraticProbingFactor = quadraticProbingFactor;
+            this.collisions = statistics.getCollisions();
+            this.maxProbes = statistics.getMaxProbes();
+        }
+
+        /**
+         * @param algorithm The name of the hashing algorithm.
+         * @return This instance in the input format of the specified hashing algorithm.
+         */
+        public String toInput(final String algorithm) {
+            final StringBuilder result = new StringBuilder();
+            result.append(this.capacity);
+            if (HashingInstanceSearch.isMultiplication(algorithm)) {
+                result.append(",");
+                result.append(this.factor);
+            }
+            if (HashingInstanceSearch.isQuadratic(algorithm)) {
+                result.append(",");
+                result.append(this.linearProbingFactor);
+                result.append(",");
+                result.append(this.quadraticProbingFactor);
+            }
+            result.append("\n");
+            result.append(this.values.stream().map(String::valueOf).collect(Collectors.joining(",")));
+            return result.toString();
+        }
+
+        @Override
+        public String toString() {
+            return String.format(
+                Locale.US,
+                "m = %d, c = %.2f, c1 = %d, c2 = %d, collisions = %d, max probes = %d, values = %s",
+                this.capacity,
+                this.factor,
+                this.linearProbingFactor,
+                this.quadraticProbingFactor,
+                this.collisions,
+                this.maxProbes,
+                this.values
+            );
+        }
+    }
+
+    /**
+     * The maximal number of candidates evaluated by one search.
+     */
+    public static final int MAX_CANDIDATES = 1000000;
+
+    /**
+     * @param algorithm The name of the hashing algorithm.
+     * @param numberOfValues The number of values to insert.
+     * @param matches The maximal number of instances to find.
+     * @param minCollisions The minimal number of insertions not finding their hash position empty.
+     * @param minProbes The minimal number of probes (or chain length) of at least one insertion.
+     * @param seed The base seed. Candidate i uses the seed <code>seed + i</code>.
+     * @param threads The number of threads to use.
+     * @return The first matching instances in candidate order (at most the specified number of matches).
+     */
+    public static List<HashingInstance> search(
+        final String algorithm,
+        final int numberOfValues,
+        final int matches,
+        final int minCollisions,
+        final int minProbes,
+        final long seed,
+        final int threads
+    ) {
+        final ForkJoinPool pool = new ForkJoinPool(threads);
+        try {
+            return pool.submit(
+                () -> IntStream.range(0, HashingInstanceSearch.MAX_CANDIDATES)
+                    .parallel()
+                    .mapToObj(
+                        candidate -> HashingInstanceSearch.evaluate(
+                            algorithm,
+                            numberOfValues,
+                            minCollisions,
+                            minProbes,
+                            seed + candidate
+                        )
+                    ).flatMap(Optional::stream)
+                    .limit(matches)
+                    .toList()
+            ).get();
+        } catch (final InterruptedException | ExecutionException e) {
+            throw new IllegalStateException(e);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    static int defaultMinCollisions(final int numberOfValues) {
+        return Math.max(2, numberOfValues / 4);
+    }
+
+    static boolean isLinear(final String algorithm) {
+        return algorithm.endsWith("Linear");
+    }
+
+    static boolean isMultiplication(final String algorithm) {
+        return algorithm.startsWith("hashMultiplication");
+    }
+
+    static boolean isQuadratic(final String algorithm) {
+        return algorithm.endsWith("Quadratic");
+    }
+
+    private static Optional<HashingInstance> evaluate(
+        final String algorithm,
+        final int numberOfValues,
+        final int minCollisions,
+        final int minProbes,
+        final long seed
+    ) {
+        final Random gen = new Random(seed);
+        final int[] values = new int[numberOfValues];
+        for (int i = 0; i < numberOfValues; i++) {
+            values[i] = gen.nextInt(Main.NUMBER_LIMIT);
+        }
+        final int capacity = Hashing.generateCapacity(numberOfValues, algorithm, gen);
+        final boolean multiplication = HashingInstanceSearch.isMultiplication(algorithm);
+        final double factor = multiplication ? Hashing.getRandomFactorBetweenZeroAndOne(gen) : 0.0;
+        final HashFunction hashFunction =
+            multiplication ? HashFunction.multiplication(factor) : HashFunction.division();
+        final HashingStatistics statistics = new HashingStatistics(capacity);
+        int linearProbingFactor = 0;
+        int quadraticProbingFactor = 0;
+        if (HashingInstanceSearch.isQuadratic(algorithm) || HashingInstanceSearch.isLinear(algorithm)) {
+            final ProbingFunction probingFunction;
+            if (HashingInstanceSearch.isQuadratic(algorithm)) {
+                final Optional<Pair<Integer, Integer>> factors =
+                    QuadraticProbingFactors.draw(capacity, numberOfValues, gen);
+                if (factors.isEmpty()) {
+                    return Optional.empty();
+                }
+                linearProbingFactor = factors.get().x;
+                quadraticProbingFactor = factors.get().y;
+                probingFunction = Hashing.quadraticProbing(linearProbingFactor, quadraticProbingFactor);
+            } else {
+                probingFunction = Hashing.linearProbing();
+            }
+            final OpenAddressingHashTable table = new OpenAddressingHashTable(capacity, hashFunction, probingFunction);
+            table.setStatistics(Optional.of(statistics));
+            try {
+                for (final int value : values) {
+                    table.insert(value);
+                }
+            } catch (final HashException e) {
+                return Optional.empty();
+            }
+        } else {
+            final ChainedHashTable table = new ChainedHashTable(capacity, hashFunction);
+            table.setStatistics(Optional.of(statistics));
+            for (final int value : values) {
+                table.insert(value);
+            }
+        }
+        if (statistics.getCollisions() < minCollisions || statistics.getMaxProbes() < minProbes) {
+            return Optional.empty();
+        }
+        return Optional.of(
+            new HashingInstance(
+                Arrays.stream(values).boxed().toList(),
+                capacity,
+                factor,
+                linearProbingFactor,
+                quadraticProbingFactor,
+                statistics
+            )
+        );
+    }
+
+}
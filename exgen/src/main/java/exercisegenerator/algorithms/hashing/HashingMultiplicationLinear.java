@@ -8,6 +8,7 @@ import exercisegenerator.algorithms.*;
 import exercisegenerator.algorithms.hashing.Hashing.*;
 import exercisegenerator.io.*;
 import exercisegenerator.structures.*;
+import exercisegenerator.structures.hashing.*;
 import exercisegenerator.util.*;
 
 public class HashingMultiplicationLinear implements AlgorithmImplementation {
@@ -30,15 +31,22 @@ public class HashingMultiplicationLinear implements AlgorithmImplementation {
 
     @Override
     public void executeAlgorithm(final AlgorithmInput input) throws IOException {
+        if (HashingStatisticsSweep.printSweepIfRequested(input.options, input.solutionWriter)) {
+            return;
+        }
+        Hashing.searchInstanceIfRequested(input.options);
         final List<Integer> values = Hashing.parseOrGenerateValues(input.options);
         final HashList[] initialHashTable = Hashing.parseOrGenerateInitialArray(values.size(), input.options);
+        final Optional<HashingStatistics> statistics =
+            Hashing.createStatisticsIfRequested(initialHashTable.length, input.options);
         final double factor = Hashing.parseOrGenerateMultiplicationFactor(input.options);
         try {
             final HashList[] result = Hashing.hashingWithMultiplicationMethod(
                 values,
                 initialHashTable,
                 factor,
-                Optional.of(Hashing.linearProbing())
+                Optional.of(Hashing.linearProbing()),
+                statistics
             );
             Hashing.printHashingExerciseAndSolution(
                 values,
@@ -51,7 +59,8 @@ public class HashingMultiplicationLinear implements AlgorithmImplementation {
                     .concat(HashingMultiplicationLinear.toAdditionalHint(initialHashTable.length, factor, initialHashTable.length)),
                     Hashing.toParameterString(initialHashTable.length, factor),
                     true,
-                    PreprintMode.parsePreprintMode(input.options)
+                    PreprintMode.parsePreprintMode(input.options),
+                    statistics
                 ),
                 input.options,
                 input.exerciseWriter,
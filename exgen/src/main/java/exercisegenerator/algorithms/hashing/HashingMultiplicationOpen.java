@@ -8,6 +8,7 @@ import exercisegenerator.algorithms.*;
 import exercisegenerator.algorithms.hashing.Hashing.*;
 import exercisegenerator.io.*;
 import exercisegenerator.structures.*;
+import exercisegenerator.structures.hashing.*;
 import exercisegenerator.util.*;
 
 public class HashingMultiplicationOpen implements AlgorithmImplementation {
@@ -29,12 +30,23 @@ public class HashingMultiplicationOpen implements AlgorithmImplementation {
 
     @Override
     public void executeAlgorithm(final AlgorithmInput input) throws IOException {
+        if (HashingStatisticsSweep.printSweepIfRequested(input.options, input.solutionWriter)) {
+            return;
+        }
+        Hashing.searchInstanceIfRequested(input.options);
         final List<Integer> values = Hashing.parseOrGenerateValues(input.options);
         final HashList[] initialHashTable = Hashing.parseOrGenerateInitialArray(values.size(), input.options);
+        final Optional<HashingStatistics> statistics =
+            Hashing.createStatisticsIfRequested(initialHashTable.length, input.options);
         final double factor = Hashing.parseOrGenerateMultiplicationFactor(input.options);
         try {
-            final HashList[] result =
-                Hashing.hashingWithMultiplicationMethod(values, initialHashTable, factor, Optional.empty());
+            final HashList[] result = Hashing.hashingWithMultiplicationMethod(
+                values,
+                initialHashTable,
+                factor,
+                Optional.empty(),
+                statistics
+            );
             Hashing.printHashingExerciseAndSolution(
                 values,
                 initialHashTable,
@@ -46,7 +58,8 @@ public class HashingMultiplicationOpen implements AlgorithmImplementation {
                     .concat(HashingMultiplicationOpen.toAdditionalHint(initialHashTable.length, factor)),
                     Hashing.toParameterString(initialHashTable.length, factor),
                     false,
-                    PreprintMode.parsePreprintMode(input.options)
+                    PreprintMode.parsePreprintMode(input.options),
+                    statistics
                 ),
                 input.options,
                 input.exerciseWriter,
@@ -8,6 +8,7 @@ import exercisegenerator.algorithms.*;
 import exercisegenerator.algorithms.hashing.Hashing.*;
 import exercisegenerator.io.*;
 import exercisegenerator.structures.*;
+import exercisegenerator.structures.hashing.*;
 
 public class HashingMultiplicationQuadratic implements AlgorithmImplementation {
 
@@ -52,18 +53,26 @@ public class HashingMultiplicationQuadratic implements AlgorithmImplementation {
 
     @Override
     public void executeAlgorithm(final AlgorithmInput input) throws IOException {
+        if (HashingStatisticsSweep.printSweepIfRequested(input.options, input.solutionWriter)) {
+            return;
+        }
+        Hashing.searchInstanceIfRequested(input.options);
         final List<Integer> values = Hashing.parseOrGenerateValues(input.options);
         final HashList[] initialHashTable = Hashing.parseOrGenerateInitialArray(values.size(), input.options);
+        final Optional<HashingStatistics> statistics =
+            Hashing.createStatisticsIfRequested(initialHashTable.length, input.options);
         final double factor = Hashing.parseOrGenerateMultiplicationFactor(input.options);
         final HashResultWithProbingFactors resultWithProbingFactors =
             Hashing.parseOrGenerateProbingFactorsAndComputeResult(
-                initialHashTable.length,
+                initialHashTable,
+                values.size(),
                 (linearProbingFactor, quadraticProbingFactor) ->
                     Hashing.hashingWithMultiplicationMethod(
                         values,
                         initialHashTable,
                         factor,
-                        Optional.of(Hashing.quadraticProbing(linearProbingFactor, quadraticProbingFactor))
+                        Optional.of(Hashing.quadraticProbing(linearProbingFactor, quadraticProbingFactor)),
+                        statistics
                     ),
                 input.options
             );
@@ -94,7 +103,8 @@ public class HashingMultiplicationQuadratic implements AlgorithmImplementation {
                     resultWithProbingFactors.quadraticProbingFactor
                 ),
                 true,
-                PreprintMode.parsePreprintMode(input.options)
+                PreprintMode.parsePreprintMode(input.options),
+                statistics
             ),
             input.options,
             input.exerciseWriter,
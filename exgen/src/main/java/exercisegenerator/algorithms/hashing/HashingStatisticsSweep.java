@@ -0,0 +1,175 @@
+package exercisegenerator.algorithms.hashing;
+
+import java.io.*;
+import java.util.*;
+
+import exercisegenerator.*;
+import exercisegenerator.io.*;
+import exercisegenerator.structures.hashing.*;
+import exercisegenerator.util.*;
+
+/**
+ * Sweeps a hashing algorithm over all capacities from {@link Hashing#PRIMES_5_101} (and a range of multiplication
+ * factors for the multiplication method) and collects the statistics of inserting random values into initially empty
+ * tables as comma separated values.
+ */
+abstract class HashingStatisticsSweep {
+
+    /**
+     * The header line of the comma separated values.
+     */
+    static final String HEADER =
+        "algorithm,capacity,factor,values,success,averageProbes,maxProbes,loadFactor,longestCluster";
+
+    /**
+     * The number of multiplication factors (evenly spaced in (0,1)).
+     */
+    private static final int FACTOR_STEPS = 9;
+
+    /**
+     * The load factor to reach by inserting values into initially empty tables.
+     */
+    private static final double LOAD_FACTOR = 0.8;
+
+    /**
+     * The value of the flag -m for writing the statistics as comma separated values.
+     */
+    private static final String SWEEP = "csv";
+
+    /**
+     * If requested by the flag -m, writes the statistics of the hashing algorithm specified by the flag -a as comma
+     * separated values instead of an exercise.
+     * @param options The program options.
+     * @param writer The writer for the solution.
+     * @return True if the statistics have been written.
+     * @throws IOException If some error occurs during output.
+     */
+    static boolean printSweepIfRequested(final Parameters options, final BufferedWriter writer) throws IOException {
+        if (!HashingStatisticsSweep.SWEEP.equals(options.get(Flag.METRICS))) {
+            return false;
+        }
+        final List<String> lines =
+            HashingStatisticsSweep.sweep(
+                options.get(Flag.ALGORITHM),
+                HashingStatisticsSweep.LOAD_FACTOR,
+                HashingStatisticsSweep.FACTOR_STEPS,
+                new Random()
+            );
+        writer.write(HashingStatisticsSweep.HEADER);
+        Main.newLine(writer);
+        for (final String line : lines) {
+            writer.write(line);
+            Main.newLine(writer);
+        }
+        return true;
+    }
+
+    /**
+     * @param algorithm The name of the hashing algorithm.
+     * @param loadFactor The load factor to reach by inserting values into initially empty tables.
+     * @param factorSteps The number of multiplication factors (only relevant for the multiplication method).
+     * @param gen The random number generator for the values.
+     * @return One line of comma separated values (without header) per capacity and multiplication factor.
+     */
+    static List<String> sweep(
+        final String algorithm,
+        final double loadFactor,
+        final int factorSteps,
+        final Random gen
+    ) {
+        final List<String> result = new ArrayList<String>();
+        for (final int capacity : Hashing.PRIMES_5_101) {
+            final int[] values = new int[(int)Math.round(loadFactor * capacity)];
+            for (int i = 0; i < values.length; i++) {
+                values[i] = gen.nextInt(Main.NUMBER_LIMIT);
+            }
+            final HashingStatistics statistics = new HashingStatistics(capacity);
+            if (!HashingInstanceSearch.isMultiplication(algorithm)) {
+                result.add(
+                    HashingStatisticsSweep.sweepTable(
+                        algorithm,
+                        capacity,
+                        "",
+                        HashFunction.division(),
+                        values,
+                        statistics
+                    )
+                );
+                continue;
+            }
+            for (int step = 1; step <= factorSteps; step++) {
+                final double factor = ((double)step) / (factorSteps + 1);
+                result.add(
+                    HashingStatisticsSweep.sweepTable(
+                        algorithm,
+                        capacity,
+                        String.valueOf(factor),
+                        HashFunction.multiplication(factor),
+                        values,
+                        statistics
+                    )
+                );
+            }
+        }
+        return result;
+    }
+
+    private static String sweepTable(
+        final String algorithm,
+        final int capacity,
+        final String factor,
+        final HashFunction hashFunction,
+        final int[] values,
+        final HashingStatistics statistics
+    ) {
+        final boolean success;
+        if (HashingInstanceSearch.isLinear(algorithm) || HashingInstanceSearch.isQuadratic(algorithm)) {
+            final OpenAddressingHashTable table =
+                new OpenAddressingHashTable(
+                    capacity,
+                    hashFunction,
+                    HashingInstanceSearch.isLinear(algorithm) ?
+                        Hashing.linearProbing() :
+                            Hashing.quadraticProbing(1, 1)
+                );
+            success = HashingStatisticsSweep.tryInsertAll(table, values, statistics);
+        } else {
+            final ChainedHashTable table = new ChainedHashTable(capacity, hashFunction);
+            table.setStatistics(Optional.of(statistics));
+            for (final int value : values) {
+                table.insert(value);
+            }
+            success = true;
+        }
+        return String.format(
+            Locale.US,
+            "%s,%d,%s,%d,%b,%.4f,%d,%.4f,%d",
+            algorithm,
+            capacity,
+            factor,
+            values.length,
+            success,
+            statistics.getAverageProbes(),
+            statistics.getMaxProbes(),
+            statistics.getLoadFactor(),
+            statistics.getLongestCluster()
+        );
+    }
+
+    private static boolean tryInsertAll(
+        final OpenAddressingHashTable table,
+        final int[] values,
+        final HashingStatistics statistics
+    ) {
+        table.setStatistics(Optional.of(statistics));
+        try {
+            for (final int value : values) {
+                table.insert(value);
+            }
+            return true;
+        } catch (final HashException e) {
+            return false;
+        }
+    }
+
+}
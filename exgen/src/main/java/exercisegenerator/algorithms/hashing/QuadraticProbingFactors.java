@@ -0,0 +1,161 @@
+package exercisegenerator.algorithms.hashing;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+import exercisegenerator.structures.*;
+
+/**
+ * Memoized table of all pairs of quadratic probing factors (c_1, c_2) with 0 < c_1, c_2 < m such that m, c_1, and c_2
+ * are pairwise coprime for a capacity m. Each pair is stored together with its coverage, i.e., the number of distinct
+ * positions reached by the probing sequence (c_1 * i + c_2 * i^2) mod m for i from 0 to m - 1. As long as the number
+ * of stored values is at most the coverage, insertion cannot fail. Note that no such pair covers the full table: For
+ * an odd prime p dividing m, a quadratic polynomial modulo p is no permutation, and for even m, both factors are odd
+ * such that all offsets are even. For a prime capacity m, every pair reaches exactly (m + 1) / 2 positions. The
+ * tables for all capacities from {@link Hashing#PRIMES_5_101} are computed eagerly, whereas the tables for all other
+ * capacities up to {@link #MAX_TABULATED_CAPACITY} are computed on first use. For bigger capacities, pairs are
+ * sampled randomly.
+ */
+abstract class QuadraticProbingFactors {
+
+    private static class Table {
+        private final int[] coverage;
+        private final int[] linear;
+        private final int[] quadratic;
+
+        private Table(final int[] linear, final int[] quadratic, final int[] coverage) {
+            this.linear = linear;
+            this.quadratic = quadratic;
+            this.coverage = coverage;
+        }
+
+        /**
+         * @param minCoverage The minimal coverage.
+         * @return The number of pairs having at least the specified coverage (pairs are sorted by descending coverage).
+         */
+        private int countWithCoverage(final int minCoverage) {
+            int low = 0;
+            int high = this.coverage.length;
+            while (low < high) {
+                final int middle = (low + high) >>> 1;
+                if (this.coverage[middle] >= minCoverage) {
+                    low = middle + 1;
+                } else {
+                    high = middle;
+                }
+            }
+            return low;
+        }
+    }
+
+    /**
+     * The biggest capacity for which all pairs of probing factors are tabulated.
+     */
+    static final int MAX_TABULATED_CAPACITY = 256;
+
+    private static final Map<Integer, Table> TABLES = new ConcurrentHashMap<Integer, Table>();
+
+    static {
+        for (final int capacity : Hashing.PRIMES_5_101) {
+            QuadraticProbingFactors.table(capacity);
+        }
+    }
+
+    /**
+     * @param capacity The capacity.
+     * @param linearFactor The linear probing factor.
+     * @param quadraticFactor The quadratic probing factor.
+     * @return The number of distinct positions reached by the probing sequence within capacity many probes.
+     */
+    static int coverage(final int capacity, final int linearFactor, final int quadraticFactor) {
+        final boolean[] reached = new boolean[capacity];
+        final long linear = linearFactor % capacity;
+        final long quadratic = quadraticFactor % capacity;
+        long offset = 0;
+        int result = 0;
+        for (int i = 0; i < capacity; i++) {
+            if (!reached[(int)offset]) {
+                reached[(int)offset] = true;
+                result++;
+            }
+            // offset(i + 1) - offset(i) = c_1 + c_2 * (2i + 1)
+            offset = (offset + linear + quadratic * (2 * i + 1)) % capacity;
+        }
+        return result;
+    }
+
+    /**
+     * Draws a random pair of coprime probing factors for the specified capacity among those pairs whose probing
+     * sequence reaches at least the specified number of positions.
+     * @param capacity The capacity.
+     * @param minCoverage The minimal number of positions to reach.
+     * @param gen A random number generator.
+     * @return A pair of linear and quadratic probing factor or empty if no such pair exists.
+     */
+    static Optional<Pair<Integer, Integer>> draw(final int capacity, final int minCoverage, final Random gen) {
+        if (capacity > QuadraticProbingFactors.MAX_TABULATED_CAPACITY) {
+            return QuadraticProbingFactors.sample(capacity, minCoverage, gen);
+        }
+        final Table table = QuadraticProbingFactors.table(capacity);
+        final int count = table.countWithCoverage(minCoverage);
+        if (count == 0) {
+            return Optional.empty();
+        }
+        final int index = gen.nextInt(count);
+        return Optional.of(new Pair<Integer, Integer>(table.linear[index], table.quadratic[index]));
+    }
+
+    private static Table computeTable(final int capacity) {
+        final int size = Math.max(capacity - 1, 0);
+        final long[] entries = new long[size * size];
+        int count = 0;
+        for (int linear = 1; linear < capacity; linear++) {
+            if (Hashing.gcd(capacity, linear) != 1) {
+                continue;
+            }
+            for (int quadratic = 1; quadratic < capacity; quadratic++) {
+                if (Hashing.areCoprime(capacity, linear, quadratic)) {
+                    final long coverage = QuadraticProbingFactors.coverage(capacity, linear, quadratic);
+                    // sort by descending coverage, then ascending factors
+                    entries[count++] = ((capacity - coverage) << 40) | (((long)linear) << 20) | quadratic;
+                }
+            }
+        }
+        Arrays.sort(entries, 0, count);
+        final int[] linear = new int[count];
+        final int[] quadratic = new int[count];
+        final int[] coverage = new int[count];
+        for (int i = 0; i < count; i++) {
+            coverage[i] = capacity - (int)(entries[i] >>> 40);
+            linear[i] = (int)((entries[i] >>> 20) & 0xFFFFF);
+            quadratic[i] = (int)(entries[i] & 0xFFFFF);
+        }
+        return new Table(linear, quadratic, coverage);
+    }
+
+    /**
+     * Samples pairs of probing factors randomly. Gives up after capacity many samples.
+     */
+    private static Optional<Pair<Integer, Integer>> sample(
+        final int capacity,
+        final int minCoverage,
+        final Random gen
+    ) {
+        for (int i = 0; i < capacity; i++) {
+            final int linear = gen.nextInt(capacity - 1) + 1;
+            final int quadratic = gen.nextInt(capacity - 1) + 1;
+            if (
+                Hashing.areCoprime(capacity, linear, quadratic)
+                && QuadraticProbingFactors.coverage(capacity, linear, quadratic) >= minCoverage
+            ) {
+                return Optional.of(new Pair<Integer, Integer>(linear, quadratic));
+            }
+        }
+        return Optional.empty();
+    }
+
+    private static Table table(final int capacity) {
+        return QuadraticProbingFactors.TABLES.computeIfAbsent(capacity, QuadraticProbingFactors::computeTable);
+    }
+
+}
@@ -2,6 +2,7 @@ package exercisegenerator.algorithms.logic;
 
 import java.io.*;
 import java.util.*;
+import java.util.stream.*;
 
 import exercisegenerator.*;
 import exercisegenerator.algorithms.*;
@@ -11,6 +12,32 @@ import exercisegenerator.structures.logic.*;
 
 public class ConversionFromTruthTable implements AlgorithmImplementation {
 
+    private static class TruthTableSolution {
+
+        /**
+         * The chosen implicants (empty if the formula is not minimized).
+         */
+        private final List<Implicant> cover;
+
+        private final PropositionalFormula formula;
+
+        /**
+         * All prime implicants (empty if the formula is not minimized by the Quine-McCluskey method).
+         */
+        private final List<Implicant> primeImplicants;
+
+        private TruthTableSolution(
+            final PropositionalFormula formula,
+            final List<Implicant> primeImplicants,
+            final List<Implicant> cover
+        ) {
+            this.formula = formula;
+            this.primeImplicants = primeImplicants;
+            this.cover = cover;
+        }
+
+    }
+
     public static final ConversionFromTruthTable INSTANCE = new ConversionFromTruthTable();
 
     public static PropositionalFormula fromTruthTable(final TruthTable table) {
@@ -30,6 +57,16 @@ public class ConversionFromTruthTable implements AlgorithmImplementation {
         return Collections.singletonList(result);
     }
 
+    private static boolean isCNFVariant(final Parameters options) {
+        return options.containsKey(Flag.VARIANT) && options.get(Flag.VARIANT).equals("2");
+    }
+
+    private static boolean isMinimizationVariant(final Parameters options) {
+        return
+            options.containsKey(Flag.VARIANT)
+            && (options.get(Flag.VARIANT).equals("1") || options.get(Flag.VARIANT).equals("2"));
+    }
+
     private static List<TruthTable> parseTruthTables(
         final BufferedReader reader,
         final Parameters options
@@ -49,6 +86,25 @@ public class ConversionFromTruthTable implements AlgorithmImplementation {
         return result;
     }
 
+    private static void printCNFFormula(final PropositionalFormula formula, final BufferedWriter writer)
+    throws IOException {
+        if (!formula.isConjunction()) {
+            ConversionFromTruthTable.printDNFFormula(formula, writer);
+            return;
+        }
+        LaTeXUtils.printBeginning("align*", writer);
+        writer.write(" & ");
+        writer.write(
+            ((Conjunction)formula).children.stream()
+                .map(clause -> clause.isDisjunction() ?
+                    String.format("(%s)", ConversionFromTruthTable.toLaTeX(clause)) :
+                        ConversionFromTruthTable.toLaTeX(clause))
+                .collect(Collectors.joining("\\\\" + Main.lineSeparator + "\\wedge & "))
+        );
+        Main.newLine(writer);
+        LaTeXUtils.printEnd("align*", writer);
+    }
+
     private static void printDNFFormula(final PropositionalFormula formula, final BufferedWriter writer)
     throws IOException {
         LaTeXUtils.printBeginning("align*", writer);
@@ -98,19 +154,77 @@ public class ConversionFromTruthTable implements AlgorithmImplementation {
         LaTeXUtils.printEnd("align*", writer);
     }
 
+    private static void printPrimeImplicants(
+        final TruthTable table,
+        final boolean cnf,
+        final TruthTableSolution solution,
+        final BufferedWriter writer
+    ) throws IOException {
+        final int numberOfVariables = table.variables.size();
+        final List<Implicant> primes = solution.primeImplicants;
+        if (primes.isEmpty()) {
+            return;
+        }
+        final Set<Implicant> chosen = new LinkedHashSet<Implicant>(solution.cover);
+        writer.write(
+            cnf ?
+                "Primimplikanten der Zeilen mit Wert \\code{0} (nach Quine-McCluskey) und die daraus gew\\\"ahlten "
+                + "Klauseln:\\\\[2ex]" :
+                    "Primimplikanten (nach Quine-McCluskey) und die daraus gew\\\"ahlten Konjunktionen:\\\\[2ex]"
+        );
+        Main.newLine(writer);
+        final String[][] tableForLaTeX = new String[primes.size() + 1][3];
+        tableForLaTeX[0][0] = "\\textbf{Implikant}";
+        tableForLaTeX[0][1] = cnf ? "\\textbf{Klausel}" : "\\textbf{Konjunktion}";
+        tableForLaTeX[0][2] = "\\textbf{gew\\\"ahlt}";
+        for (int i = 0; i < primes.size(); i++) {
+            final Implicant prime = primes.get(i);
+            tableForLaTeX[i + 1][0] = LaTeXUtils.code(prime.toString(numberOfVariables));
+            tableForLaTeX[i + 1][1] =
+                LaTeXUtils.inlineMath(
+                    ConversionFromTruthTable.toLaTeX(
+                        cnf ? prime.toClause(table.variables) : prime.toConjunction(table.variables)
+                    )
+                );
+            tableForLaTeX[i + 1][2] = chosen.contains(prime) ? "ja" : "nein";
+        }
+        LaTeXUtils.printBeginning(LaTeXUtils.CENTER, writer);
+        LaTeXUtils.printTable(
+            tableForLaTeX,
+            Optional.empty(),
+            cols -> String.format("|C{2.8cm}|C{%dem}|C{2.8cm}|", 2 * numberOfVariables + 4),
+            true,
+            0,
+            writer
+        );
+        LaTeXUtils.printEnd(LaTeXUtils.CENTER, writer);
+    }
+
     private static void printToFormulaExerciseAndSolution(
         final List<TruthTable> truthTables,
-        final List<PropositionalFormula> formulas,
+        final List<TruthTableSolution> solutions,
         final AlgorithmInput input
     ) throws IOException {
         final BufferedWriter exWriter = input.exerciseWriter;
         final BufferedWriter solWriter = input.solutionWriter;
-        final int size = formulas.size();
+        final int size = solutions.size();
+        final boolean minimize = ConversionFromTruthTable.isMinimizationVariant(input.options);
+        final boolean cnf = ConversionFromTruthTable.isCNFVariant(input.options);
+        final boolean exact =
+            truthTables.stream().allMatch(table -> table.variables.size() <= LogicMinimization.QUINE_MCCLUSKEY_LIMIT);
+        final String kind =
+            minimize ?
+                String.format(
+                    "eine %s aussagenlogische Formel in %s Normalform",
+                    exact ? "minimale" : "irredundante",
+                    cnf ? "konjunktiver" : "disjunktiver"
+                ) :
+                    "eine aussagenlogische Formel";
         if (size == 1) {
-            exWriter.write("Geben Sie zu der folgenden Wahrheitstabelle eine aussagenlogische Formel an:\\\\");
+            exWriter.write(String.format("Geben Sie zu der folgenden Wahrheitstabelle %s an:\\\\", kind));
         } else {
             exWriter.write(
-                "Geben Sie zu den folgenden Wahrheitstabellen jeweils eine aussagenlogische Formel an:\\\\"
+                String.format("Geben Sie zu den folgenden Wahrheitstabellen jeweils %s an:\\\\", kind)
             );
         }
         Main.newLine(exWriter);
@@ -124,15 +238,49 @@ public class ConversionFromTruthTable implements AlgorithmImplementation {
                 LaTeXUtils.printVerticalProtectedSpace(solWriter);
            }
             final TruthTable table = truthTables.get(i);
-            final PropositionalFormula formula = formulas.get(i);
+            final TruthTableSolution solution = solutions.get(i);
+            final PropositionalFormula formula = solution.formula;
             PropositionalLogic.printTruthTable(table, false, false, exWriter);
             PropositionalLogic.printTruthTable(table, false, false, solWriter);
-            ConversionFromTruthTable.printDNFFormula(formula, solWriter);
+            if (minimize) {
+                ConversionFromTruthTable.printPrimeImplicants(table, cnf, solution, solWriter);
+            }
+            if (cnf) {
+                ConversionFromTruthTable.printCNFFormula(formula, solWriter);
+            } else {
+                ConversionFromTruthTable.printDNFFormula(formula, solWriter);
+            }
         }
         LaTeXUtils.printSolutionSpaceEnd(Optional.of("1ex"), input.options, exWriter);
         Main.newLine(solWriter);
     }
 
+    private static TruthTableSolution solve(final TruthTable table, final Parameters options) {
+        if (!ConversionFromTruthTable.isMinimizationVariant(options)) {
+            return new TruthTableSolution(
+                ConversionFromTruthTable.fromTruthTable(table),
+                Collections.emptyList(),
+                Collections.emptyList()
+            );
+        }
+        final boolean cnf = ConversionFromTruthTable.isCNFVariant(options);
+        final int numberOfVariables = table.variables.size();
+        final BitSet rows = cnf ? LogicMinimization.offset(table) : LogicMinimization.onset(table);
+        final List<Implicant> primes =
+            numberOfVariables <= LogicMinimization.QUINE_MCCLUSKEY_LIMIT ?
+                LogicMinimization.primeImplicants(rows, new BitSet(), numberOfVariables) :
+                    Collections.emptyList();
+        final List<Implicant> cover =
+            numberOfVariables <= LogicMinimization.QUINE_MCCLUSKEY_LIMIT ?
+                LogicMinimization.cover(primes, rows) :
+                    LogicMinimization.espresso(rows, new BitSet(), numberOfVariables);
+        return new TruthTableSolution(
+            cnf ? LogicMinimization.toCNF(cover, table.variables) : LogicMinimization.toDNF(cover, table.variables),
+            primes,
+            cover
+        );
+    }
+
     private static PropositionalFormula toConjunction(final PropositionalInterpretation model) {
         final List<String> names = new ArrayList<String>(model.keySet());
         Collections.sort(names);
@@ -144,6 +292,44 @@ public class ConversionFromTruthTable implements AlgorithmImplementation {
         );
     }
 
+    private static String toLaTeX(final PropositionalFormula formula) {
+        return formula.visit(
+            new FormulaVisitor<String>() {
+
+                @Override
+                public String onConjunction(final List<String> children) {
+                    return String.join(" \\wedge ", children);
+                }
+
+                @Override
+                public String onDisjunction(final List<String> children) {
+                    return String.join(" \\vee ", children);
+                }
+
+                @Override
+                public String onFalse() {
+                    return "\\code{0}";
+                }
+
+                @Override
+                public String onNegation(final String child) {
+                    return "\\neg" + child;
+                }
+
+                @Override
+                public String onTrue() {
+                    return "\\code{1}";
+                }
+
+                @Override
+                public String onVariable(final String name) {
+                    return String.format("\\var{%s}", name);
+                }
+
+            }
+        );
+    }
+
     private ConversionFromTruthTable() {}
 
     @Override
@@ -153,9 +339,9 @@ public class ConversionFromTruthTable implements AlgorithmImplementation {
                 ConversionFromTruthTable::parseTruthTables,
                 ConversionFromTruthTable::generateTruthTables
             ).getResult(input.options);
-        final List<PropositionalFormula> formulas =
-            truthTables.stream().map(ConversionFromTruthTable::fromTruthTable).toList();
-        ConversionFromTruthTable.printToFormulaExerciseAndSolution(truthTables, formulas, input);
+        final List<TruthTableSolution> solutions =
+            truthTables.stream().map(table -> ConversionFromTruthTable.solve(table, input.options)).toList();
+        ConversionFromTruthTable.printToFormulaExerciseAndSolution(truthTables, solutions, input);
     }
 
     @Override
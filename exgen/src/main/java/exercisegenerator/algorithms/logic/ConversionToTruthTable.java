@@ -14,121 +14,13 @@ public class ConversionToTruthTable implements AlgorithmImplementation {
     public static final ConversionToTruthTable INSTANCE = new ConversionToTruthTable();
 
     public static TruthTable toTruthTable(final PropositionalFormula formula) {
-        final List<String> variables = formula.getVariableNames();
-        final List<PropositionalInterpretation> interpretations =
-            TruthTable.computeAllInterpretations(variables);
-        final boolean[] truthValues = new boolean[interpretations.size()];
-        int i = 0;
-        for (final PropositionalInterpretation interpretation : interpretations) {
-            truthValues[i++] = formula.evaluate(interpretation);
-        }
-        return new TruthTable(variables, truthValues);
-    }
-
-    private static List<PropositionalFormula> generateFormulas(final Parameters options) {
-        final Random gen = new Random();
-        final List<String> variables = PropositionalLogic.generateVariables(options);
-        final List<PropositionalFormula> formulas = new ArrayList<PropositionalFormula>();
-        for (final String name : variables) {
-            final PropositionalVariable var = new PropositionalVariable(name);
-            formulas.add(gen.nextBoolean() ? var : var.negate());
-        }
-        final int additional = gen.nextInt(10);
-        for (int i = 0; i < additional; i++) {
-            final PropositionalVariable var = new PropositionalVariable(variables.get(gen.nextInt(variables.size())));
-            formulas.add(gen.nextBoolean() ? var : var.negate());
-        }
-        while (formulas.size() > 3) {
-            final int number = gen.nextInt(formulas.size() - 1) + 1;
-            if (number == 1) {
-                final PropositionalFormula formula = formulas.remove(gen.nextInt(formulas.size()));
-                formulas.add(formula.negate());
-            } else {
-                final List<PropositionalFormula> children = new LinkedList<PropositionalFormula>();
-                for (int i = 0; i < number; i++) {
-                    children.add(formulas.remove(gen.nextInt(formulas.size())));
-                }
-                formulas.add(
-                    gen.nextBoolean() ?
-                        Conjunction.createConjunction(children) :
-                            Disjunction.createDisjunction(children)
-                );
-            }
-        }
-        while (formulas.size() > 1) {
-            final int number = formulas.size() > 2 ? gen.nextInt(formulas.size() - 2) + 2 : 2;
-            final List<PropositionalFormula> children = new LinkedList<PropositionalFormula>();
-            for (int i = 0; i < number; i++) {
-                children.add(formulas.remove(gen.nextInt(formulas.size())));
-            }
-            formulas.add(
-                gen.nextBoolean() ?
-                    Conjunction.createConjunction(children) :
-                        Disjunction.createDisjunction(children)
-            );
-        }
-        return formulas;
-    }
-
-    private static List<PropositionalFormula> parseFormulas(
-        final BufferedReader reader,
-        final Parameters options
-    ) throws IOException {
-        final List<PropositionalFormula> result = new ArrayList<PropositionalFormula>();
-        String line = reader.readLine();
-        while (line != null) {
-            if (!line.isBlank()) {
-                try {
-                    result.add(PropositionalFormula.parse(line));
-                } catch (final PropositionalFormulaParseException e) {
-                    throw new IOException(e);
-                }
-            }
-            line = reader.readLine();
-        }
-        return result;
+        return new CompiledFormula(formula).toTruthTable();
     }
 
     private static void printGeneralFormula(final PropositionalFormula formula, final BufferedWriter writer)
     throws IOException {
         writer.write("\\[");
-        writer.write(
-            formula.visit(
-                new FormulaVisitor<String>() {
-
-                    @Override
-                    public String onConjunction(final List<String> children) {
-                        return String.format("(%s)", String.join(" \\wedge ", children));
-                    }
-
-                    @Override
-                    public String onDisjunction(final List<String> children) {
-                        return String.format("(%s)", String.join(" \\vee ", children));
-                    }
-
-                    @Override
-                    public String onFalse() {
-                        return "\\code{0}";
-                    }
-
-                    @Override
-                    public String onNegation(final String child) {
-                        return "\\neg" + child;
-                    }
-
-                    @Override
-                    public String onTrue() {
-                        return "\\code{1}";
-                    }
-
-                    @Override
-                    public String onVariable(final String name) {
-                        return String.format("\\var{%s}", name);
-                    }
-
-                }
-            )
-        );
+        writer.write(PropositionalLogic.toLaTeX(formula));
         writer.write("\\]");
         Main.newLine(writer);
     }
@@ -175,8 +67,8 @@ public class ConversionToTruthTable implements AlgorithmImplementation {
     public void executeAlgorithm(final AlgorithmInput input) throws IOException {
         final List<PropositionalFormula> formulas =
             new ParserAndGenerator<List<PropositionalFormula>>(
-                ConversionToTruthTable::parseFormulas,
-                ConversionToTruthTable::generateFormulas
+                PropositionalLogic::parseFormulas,
+                PropositionalLogic::generateFormulas
             ).getResult(input.options);
         final List<TruthTable> truthTables = formulas.stream().map(ConversionToTruthTable::toTruthTable).toList();
         ConversionToTruthTable.printToTruthTableExerciseAndSolution(formulas, truthTables, input);
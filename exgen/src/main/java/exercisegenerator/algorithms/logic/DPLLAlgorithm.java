@@ -0,0 +1,246 @@
+package exercisegenerator.algorithms.logic;
+
+import java.io.*;
+import java.util.*;
+import java.util.stream.*;
+
+import exercisegenerator.*;
+import exercisegenerator.algorithms.*;
+import exercisegenerator.io.*;
+import exercisegenerator.structures.*;
+import exercisegenerator.structures.logic.*;
+
+/**
+ * The Davis-Putnam-Logemann-Loveland (DPLL) algorithm on clause sets as taught in logic courses. In each step, a unit
+ * clause is propagated if there is one, otherwise a pure literal is removed if there is one, and otherwise the
+ * smallest variable still occurring is split (trying the value 1 first). The clause sets after each step are
+ * recorded for the solution.
+ */
+public class DPLLAlgorithm implements AlgorithmImplementation {
+
+    public static enum DPLLRule {
+        PURE_LITERAL, SPLIT, UNIT_CLAUSE
+    }
+
+    public static class DPLLStep {
+
+        /**
+         * The clause set after this step.
+         */
+        public final List<int[]> clauses;
+
+        /**
+         * The number of splits enclosing this step.
+         */
+        public final int depth;
+
+        /**
+         * The literal set to true in this step.
+         */
+        public final int literal;
+
+        public final DPLLRule rule;
+
+        private DPLLStep(final DPLLRule rule, final int literal, final int depth, final List<int[]> clauses) {
+            this.rule = rule;
+            this.literal = literal;
+            this.depth = depth;
+            this.clauses = clauses;
+        }
+
+    }
+
+    public static final DPLLAlgorithm INSTANCE = new DPLLAlgorithm();
+
+    /**
+     * @param clauses The clauses.
+     * @param steps A list to which the steps of the algorithm are appended.
+     * @return The literals set to true on the successful branch if the clause set is satisfiable (the values of the
+     *         remaining variables do not matter).
+     */
+    public static Optional<List<Integer>> dpll(final List<int[]> clauses, final List<DPLLStep> steps) {
+        return DPLLAlgorithm.dpll(clauses, 0, new ArrayList<Integer>(), steps);
+    }
+
+    private static Optional<List<Integer>> dpll(
+        final List<int[]> clauses,
+        final int depth,
+        final List<Integer> assigned,
+        final List<DPLLStep> steps
+    ) {
+        if (clauses.isEmpty()) {
+            return Optional.of(assigned);
+        }
+        if (clauses.stream().anyMatch(clause -> clause.length == 0)) {
+            return Optional.empty();
+        }
+        final Optional<int[]> unitClause = clauses.stream().filter(clause -> clause.length == 1).findFirst();
+        if (unitClause.isPresent()) {
+            return DPLLAlgorithm.step(DPLLRule.UNIT_CLAUSE, unitClause.get()[0], clauses, depth, assigned, steps);
+        }
+        final Optional<Integer> pureLiteral = DPLLAlgorithm.findPureLiteral(clauses);
+        if (pureLiteral.isPresent()) {
+            return DPLLAlgorithm.step(DPLLRule.PURE_LITERAL, pureLiteral.get(), clauses, depth, assigned, steps);
+        }
+        final int variable =
+            clauses.stream().flatMapToInt(Arrays::stream).map(Math::abs).min().getAsInt();
+        final Optional<List<Integer>> positive =
+            DPLLAlgorithm.step(DPLLRule.SPLIT, variable, clauses, depth, assigned, steps);
+        if (positive.isPresent()) {
+            return positive;
+        }
+        return DPLLAlgorithm.step(DPLLRule.SPLIT, -variable, clauses, depth, assigned, steps);
+    }
+
+    private static Optional<Integer> findPureLiteral(final List<int[]> clauses) {
+        final SortedMap<Integer, Integer> signs = new TreeMap<Integer, Integer>();
+        for (final int[] clause : clauses) {
+            for (final int literal : clause) {
+                signs.merge(Math.abs(literal), literal > 0 ? 1 : 2, (x, y) -> x | y);
+            }
+        }
+        for (final Map.Entry<Integer, Integer> entry : signs.entrySet()) {
+            if (entry.getValue() != 3) {
+                return Optional.of(entry.getValue() == 1 ? entry.getKey() : -entry.getKey());
+            }
+        }
+        return Optional.empty();
+    }
+
+    private static void printExercise(final ClauseSet clauseSet, final BufferedWriter writer) throws IOException {
+        writer.write("Wenden Sie den DPLL-Algorithmus auf die folgende Klauselmenge an:");
+        Main.newLine(writer);
+        writer.write(
+            LaTeXUtils.displayMath(PropositionalLogic.clausesToLaTeX(clauseSet.clauses, clauseSet.variables))
+        );
+        Main.newLine(writer);
+        writer.write(
+            "Verwenden Sie in jedem Schritt zuerst die Regel f\\\"ur Einheitsklauseln, dann die Regel f\\\"ur reine "
+            + "Literale und erst dann eine Fallunterscheidung f\\\"ur die kleinste noch vorkommende Variable (zuerst "
+            + "mit dem Wert \\code{1}). Geben Sie nach jedem Schritt die resultierende Klauselmenge an und entscheiden "
+            + "Sie, ob die Klauselmenge erf\\\"ullbar ist."
+        );
+        Main.newLine(writer);
+    }
+
+    private static void printSolution(
+        final ClauseSet clauseSet,
+        final List<DPLLStep> steps,
+        final Optional<List<Integer>> result,
+        final BufferedWriter writer
+    ) throws IOException {
+        final List<String> variables = clauseSet.variables;
+        if (!steps.isEmpty()) {
+            LaTeXUtils.printBeginning(LaTeXUtils.ENUMERATE, writer);
+            for (final DPLLStep step : steps) {
+                writer.write(LaTeXUtils.ITEM);
+                writer.write(" ");
+                switch (step.rule) {
+                case UNIT_CLAUSE:
+                    writer.write("Einheitsklausel ");
+                    writer.write(
+                        LaTeXUtils.inlineMath(PropositionalLogic.clauseToLaTeX(new int[] {step.literal}, variables))
+                    );
+                    break;
+                case PURE_LITERAL:
+                    writer.write("Reines Literal ");
+                    writer.write(LaTeXUtils.inlineMath(PropositionalLogic.literalToLaTeX(step.literal, variables)));
+                    break;
+                default:
+                    writer.write(String.format("Fallunterscheidung (Ebene %d) ", step.depth + 1));
+                    writer.write(LaTeXUtils.inlineMath(DPLLAlgorithm.valueToLaTeX(step.literal, variables)));
+                }
+                writer.write(": ");
+                writer.write(LaTeXUtils.inlineMath(PropositionalLogic.clausesToLaTeX(step.clauses, variables)));
+                Main.newLine(writer);
+            }
+            LaTeXUtils.printEnd(LaTeXUtils.ENUMERATE, writer);
+        }
+        if (result.isPresent()) {
+            writer.write("Die Klauselmenge ist erf\\\"ullbar");
+            if (!result.get().isEmpty()) {
+                writer.write(" (z.\\,B. mit ");
+                writer.write(
+                    LaTeXUtils.inlineMath(
+                        result.get()
+                            .stream()
+                            .sorted(Comparator.comparingInt(Math::abs))
+                            .map(literal -> DPLLAlgorithm.valueToLaTeX(literal, variables))
+                            .collect(Collectors.joining(", "))
+                    )
+                );
+                writer.write(")");
+            }
+            writer.write(".");
+        } else {
+            writer.write("Die Klauselmenge ist unerf\\\"ullbar.");
+        }
+        Main.newLine(writer);
+    }
+
+    /**
+     * @return The clauses remaining after setting the specified literal to true.
+     */
+    private static List<int[]> simplify(final List<int[]> clauses, final int literal) {
+        final List<int[]> result = new ArrayList<int[]>();
+        for (final int[] clause : clauses) {
+            if (Arrays.stream(clause).noneMatch(other -> other == literal)) {
+                result.add(Arrays.stream(clause).filter(other -> other != -literal).toArray());
+            }
+        }
+        return result;
+    }
+
+    private static Optional<List<Integer>> step(
+        final DPLLRule rule,
+        final int literal,
+        final List<int[]> clauses,
+        final int depth,
+        final List<Integer> assigned,
+        final List<DPLLStep> steps
+    ) {
+        final List<int[]> simplified = DPLLAlgorithm.simplify(clauses, literal);
+        steps.add(new DPLLStep(rule, literal, depth, simplified));
+        final List<Integer> newAssigned = new ArrayList<Integer>(assigned);
+        newAssigned.add(literal);
+        return DPLLAlgorithm.dpll(simplified, rule == DPLLRule.SPLIT ? depth + 1 : depth, newAssigned, steps);
+    }
+
+    private static String valueToLaTeX(final int literal, final List<String> variables) {
+        return String.format(
+            "%s = \\code{%d}",
+            PropositionalLogic.literalToLaTeX(Math.abs(literal), variables),
+            literal > 0 ? 1 : 0
+        );
+    }
+
+    private DPLLAlgorithm() {}
+
+    @Override
+    public void executeAlgorithm(final AlgorithmInput input) throws IOException {
+        final ClauseSet clauseSet =
+            new ParserAndGenerator<ClauseSet>(
+                PropositionalLogic::parseClauseSet,
+                options -> PropositionalLogic.generateClauseSet(options, false)
+            ).getResult(input.options);
+        final ClauseSet normalized =
+            new ClauseSet(
+                clauseSet.variables,
+                clauseSet.numberOfVariables,
+                PropositionalLogic.normalizeClauses(clauseSet.clauses)
+            );
+        final List<DPLLStep> steps = new ArrayList<DPLLStep>();
+        final Optional<List<Integer>> result = DPLLAlgorithm.dpll(normalized.clauses, steps);
+        DPLLAlgorithm.printExercise(normalized, input.exerciseWriter);
+        DPLLAlgorithm.printSolution(normalized, steps, result, input.solutionWriter);
+    }
+
+    @Override
+    public String[] generateTestParameters() {
+        final String[] result = new String[2];
+        result[0] = "-l";
+        result[1] = "3";
+        return result;
+    }
+
+}
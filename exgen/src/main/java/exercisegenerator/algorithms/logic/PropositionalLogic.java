@@ -9,6 +9,95 @@ import exercisegenerator.structures.logic.*;
 
 abstract class PropositionalLogic {
 
+    /**
+     * @param clause A clause.
+     * @param variables The names of the variables (higher variables are printed as auxiliary variables y_i).
+     * @return The clause as a set of literals in LaTeX (the empty clause is printed as a box).
+     */
+    static String clauseToLaTeX(final int[] clause, final List<String> variables) {
+        if (clause.length == 0) {
+            return "\\Box";
+        }
+        return LaTeXUtils.mathematicalSet(
+            Arrays.stream(clause).mapToObj(literal -> PropositionalLogic.literalToLaTeX(literal, variables))
+        );
+    }
+
+    static String clausesToLaTeX(final List<int[]> clauses, final List<String> variables) {
+        return LaTeXUtils.mathematicalSet(
+            clauses.stream().map(clause -> PropositionalLogic.clauseToLaTeX(clause, variables))
+        );
+    }
+
+    /**
+     * Generates random clauses over the variables specified by the -l flag.
+     * @param unsatisfiable Whether the clause set should be unsatisfiable. In this case, random clauses are added
+     *                      until the clause set is unsatisfiable and then all clauses not needed for unsatisfiability
+     *                      are removed again.
+     */
+    static ClauseSet generateClauseSet(final Parameters options, final boolean unsatisfiable) {
+        final Random gen = new Random();
+        final List<String> variables = PropositionalLogic.generateVariables(options);
+        final int maxLength = Math.min(3, variables.size());
+        final List<int[]> clauses = new ArrayList<int[]>();
+        if (unsatisfiable) {
+            while (SatSolver.isSatisfiable(new ClauseSet(variables, variables.size(), clauses))) {
+                clauses.add(PropositionalLogic.generateClause(variables.size(), maxLength, gen));
+            }
+            for (int i = clauses.size() - 1; i >= 0; i--) {
+                final List<int[]> reduced = new ArrayList<int[]>(clauses);
+                reduced.remove(i);
+                if (!SatSolver.isSatisfiable(new ClauseSet(variables, variables.size(), reduced))) {
+                    clauses.remove(i);
+                }
+            }
+        } else {
+            final int number = variables.size() + 1 + gen.nextInt(variables.size() + 1);
+            for (int i = 0; i < number; i++) {
+                clauses.add(PropositionalLogic.generateClause(variables.size(), maxLength, gen));
+            }
+        }
+        return new ClauseSet(variables, variables.size(), clauses);
+    }
+
+    static List<PropositionalFormula> generateFormulas(final Parameters options) {
+        final Random gen = new Random();
+        final FormulaFactory factory = new FormulaFactory();
+        final List<String> variables = PropositionalLogic.generateVariables(options);
+        final List<PropositionalFormula> formulas = new ArrayList<PropositionalFormula>();
+        for (final String name : variables) {
+            final PropositionalFormula var = factory.variable(name);
+            formulas.add(gen.nextBoolean() ? var : factory.negation(var));
+        }
+        final int additional = gen.nextInt(10);
+        for (int i = 0; i < additional; i++) {
+            final PropositionalFormula var = factory.variable(variables.get(gen.nextInt(variables.size())));
+            formulas.add(gen.nextBoolean() ? var : factory.negation(var));
+        }
+        while (formulas.size() > 3) {
+            final int number = gen.nextInt(formulas.size() - 1) + 1;
+            if (number == 1) {
+                final PropositionalFormula formula = formulas.remove(gen.nextInt(formulas.size()));
+                formulas.add(factory.negation(formula));
+            } else {
+                final List<PropositionalFormula> children = new LinkedList<PropositionalFormula>();
+                for (int i = 0; i < number; i++) {
+                    children.add(formulas.remove(gen.nextInt(formulas.size())));
+                }
+                formulas.add(gen.nextBoolean() ? factory.conjunction(children) : factory.disjunction(children));
+            }
+        }
+        while (formulas.size() > 1) {
+            final int number = formulas.size() > 2 ? gen.nextInt(formulas.size() - 2) + 2 : 2;
+            final List<PropositionalFormula> children = new LinkedList<PropositionalFormula>();
+            for (int i = 0; i < number; i++) {
+                children.add(formulas.remove(gen.nextInt(formulas.size())));
+            }
+            formulas.add(gen.nextBoolean() ? factory.conjunction(children) : factory.disjunction(children));
+        }
+        return formulas;
+    }
+
     static List<String> generateVariables(final Parameters options) {
         final List<String> variables = new ArrayList<String>();
         final int size = Integer.parseInt(options.getOrDefault(Flag.LENGTH, "3"));
@@ -21,6 +110,60 @@ abstract class PropositionalLogic {
         return variables;
     }
 
+    static String literalToLaTeX(final int literal, final List<String> variables) {
+        final int variable = Math.abs(literal);
+        final String name =
+            variable <= variables.size() ?
+                String.format("\\var{%s}", variables.get(variable - 1)) :
+                    String.format("y_{%d}", variable - variables.size());
+        return literal < 0 ? "\\neg " + name : name;
+    }
+
+    /**
+     * @return The specified clauses with their literals sorted by variable (positive literals first) and without
+     *         duplicate literals.
+     */
+    static List<int[]> normalizeClauses(final List<int[]> clauses) {
+        return clauses.stream()
+            .map(
+                clause -> Arrays.stream(clause)
+                    .boxed()
+                    .sorted(Comparator.comparingInt((Integer literal) -> Math.abs(literal)).thenComparing(x -> -x))
+                    .distinct()
+                    .mapToInt(Integer::intValue)
+                    .toArray()
+            ).toList();
+    }
+
+    /**
+     * Parses formulas (one per line) and returns the clauses of their conjunction. If the conjunction is not in
+     * conjunctive normal form, the clauses are obtained by the Tseitin transformation.
+     */
+    static ClauseSet parseClauseSet(final BufferedReader reader, final Parameters options) throws IOException {
+        final PropositionalFormula formula =
+            Conjunction.createConjunction(PropositionalLogic.parseFormulas(reader, options));
+        return ClauseSet.fromCNF(formula).orElseGet(() -> TseitinEncoding.transform(formula));
+    }
+
+    static List<PropositionalFormula> parseFormulas(
+        final BufferedReader reader,
+        final Parameters options
+    ) throws IOException {
+        final List<PropositionalFormula> result = new ArrayList<PropositionalFormula>();
+        String line = reader.readLine();
+        while (line != null) {
+            if (!line.isBlank()) {
+                try {
+                    result.add(PropositionalFormula.parse(line));
+                } catch (final PropositionalFormulaParseException e) {
+                    throw new IOException(e);
+                }
+            }
+            line = reader.readLine();
+        }
+        return result;
+    }
+
     static void printTruthTable(
         final TruthTable table,
         final boolean empty,
@@ -66,4 +209,58 @@ abstract class PropositionalLogic {
         LaTeXUtils.printEnd(LaTeXUtils.CENTER, writer);
     }
 
+    static String toLaTeX(final PropositionalFormula formula) {
+        return formula.visit(
+            new FormulaVisitor<String>() {
+
+                @Override
+                public String onConjunction(final List<String> children) {
+                    return String.format("(%s)", String.join(" \\wedge ", children));
+                }
+
+                @Override
+                public String onDisjunction(final List<String> children) {
+                    return String.format("(%s)", String.join(" \\vee ", children));
+                }
+
+                @Override
+                public String onFalse() {
+                    return "\\code{0}";
+                }
+
+                @Override
+                public String onNegation(final String child) {
+                    return "\\neg" + child;
+                }
+
+                @Override
+                public String onTrue() {
+                    return "\\code{1}";
+                }
+
+                @Override
+                public String onVariable(final String name) {
+                    return String.format("\\var{%s}", name);
+                }
+
+            }
+        );
+    }
+
+    /**
+     * @return A random clause with at most maxLength literals of pairwise different variables (sorted by variable).
+     */
+    private static int[] generateClause(final int numberOfVariables, final int maxLength, final Random gen) {
+        final List<Integer> variables = new ArrayList<Integer>();
+        for (int variable = 1; variable <= numberOfVariables; variable++) {
+            variables.add(variable);
+        }
+        Collections.shuffle(variables, gen);
+        return variables.stream()
+            .limit(1 + gen.nextInt(maxLength))
+            .sorted()
+            .mapToInt(variable -> gen.nextBoolean() ? variable : -variable)
+            .toArray();
+    }
+
 }
@@ -0,0 +1,245 @@
+package exercisegenerator.algorithms.logic;
+
+import java.io.*;
+import java.util.*;
+
+import exercisegenerator.*;
+import exercisegenerator.algorithms.*;
+import exercisegenerator.io.*;
+import exercisegenerator.structures.*;
+import exercisegenerator.structures.logic.*;
+
+/**
+ * Resolution refutation of clause sets. The clauses are saturated level by level: each clause is resolved with all
+ * clauses before it and new resolvents (no tautologies) are appended. As soon as the empty clause is derived, only
+ * the resolvents needed for its derivation are kept. If the saturation finishes without the empty clause, the clause
+ * set is satisfiable.
+ */
+public class ResolutionAlgorithm implements AlgorithmImplementation {
+
+    public static class Resolvent {
+
+        public final int[] clause;
+
+        /**
+         * The indices of the resolved clauses (the given clauses are followed by the resolvents in their order).
+         */
+        public final int parent1;
+
+        public final int parent2;
+
+        private Resolvent(final int[] clause, final int parent1, final int parent2) {
+            this.clause = clause;
+            this.parent1 = parent1;
+            this.parent2 = parent2;
+        }
+
+    }
+
+    public static final ResolutionAlgorithm INSTANCE = new ResolutionAlgorithm();
+
+    /**
+     * The maximal number of clauses during the saturation.
+     */
+    public static final int MAXIMUM_NUMBER_OF_CLAUSES = 20000;
+
+    /**
+     * @param clauses The clauses (with their literals sorted by variable, positive literals first).
+     * @return The resolvents of a derivation of the empty clause (the last resolvent) if the clause set is
+     *         unsatisfiable (the list is empty if the given clauses already contain the empty clause).
+     * @throws IllegalArgumentException If the saturation needs more than {@link #MAXIMUM_NUMBER_OF_CLAUSES} clauses.
+     */
+    public static Optional<List<Resolvent>> refute(final List<int[]> clauses) {
+        if (clauses.stream().anyMatch(clause -> clause.length == 0)) {
+            return Optional.of(Collections.emptyList());
+        }
+        final List<int[]> all = new ArrayList<int[]>();
+        final List<int[]> parents = new ArrayList<int[]>();
+        final Set<List<Integer>> known = new LinkedHashSet<List<Integer>>();
+        for (final int[] clause : clauses) {
+            known.add(ResolutionAlgorithm.toKey(clause));
+            all.add(clause);
+            parents.add(null);
+        }
+        final int numberOfGivenClauses = all.size();
+        for (int j = 0; j < all.size(); j++) {
+            for (int i = 0; i < j; i++) {
+                for (final int literal : all.get(j)) {
+                    if (Arrays.stream(all.get(i)).noneMatch(other -> other == -literal)) {
+                        continue;
+                    }
+                    final Optional<int[]> resolvent = ResolutionAlgorithm.resolve(all.get(i), all.get(j), literal);
+                    if (resolvent.isEmpty() || !known.add(ResolutionAlgorithm.toKey(resolvent.get()))) {
+                        continue;
+                    }
+                    all.add(resolvent.get());
+                    parents.add(new int[] {i, j});
+                    if (resolvent.get().length == 0) {
+                        return Optional.of(ResolutionAlgorithm.extractDerivation(all, parents, numberOfGivenClauses));
+                    }
+                    if (all.size() > ResolutionAlgorithm.MAXIMUM_NUMBER_OF_CLAUSES) {
+                        throw new IllegalArgumentException(
+                            String.format(
+                                "Resolution needs more than %d clauses!",
+                                ResolutionAlgorithm.MAXIMUM_NUMBER_OF_CLAUSES
+                            )
+                        );
+                    }
+                }
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * @return The resolvents needed for the derivation of the last clause renumbered such that the given clauses
+     *         are followed by the needed resolvents.
+     */
+    private static List<Resolvent> extractDerivation(
+        final List<int[]> all,
+        final List<int[]> parents,
+        final int numberOfGivenClauses
+    ) {
+        final boolean[] needed = new boolean[all.size()];
+        needed[all.size() - 1] = true;
+        for (int index = all.size() - 1; index >= numberOfGivenClauses; index--) {
+            if (needed[index]) {
+                needed[parents.get(index)[0]] = true;
+                needed[parents.get(index)[1]] = true;
+            }
+        }
+        final int[] numbers = new int[all.size()];
+        for (int index = 0; index < numberOfGivenClauses; index++) {
+            numbers[index] = index;
+        }
+        final List<Resolvent> result = new ArrayList<Resolvent>();
+        for (int index = numberOfGivenClauses; index < all.size(); index++) {
+            if (needed[index]) {
+                numbers[index] = numberOfGivenClauses + result.size();
+                result.add(
+                    new Resolvent(all.get(index), numbers[parents.get(index)[0]], numbers[parents.get(index)[1]])
+                );
+            }
+        }
+        return result;
+    }
+
+    private static void printClauseTable(
+        final List<int[]> clauses,
+        final List<String> origins,
+        final List<String> variables,
+        final BufferedWriter writer
+    ) throws IOException {
+        final String[][] table = new String[clauses.size() + 1][3];
+        table[0][0] = "\\textbf{Nr.}";
+        table[0][1] = "\\textbf{Klausel}";
+        table[0][2] = "\\textbf{Herkunft}";
+        for (int i = 0; i < clauses.size(); i++) {
+            table[i + 1][0] = String.format("(%d)", i + 1);
+            table[i + 1][1] = LaTeXUtils.inlineMath(PropositionalLogic.clauseToLaTeX(clauses.get(i), variables));
+            table[i + 1][2] = origins.get(i);
+        }
+        LaTeXUtils.printBeginning(LaTeXUtils.CENTER, writer);
+        LaTeXUtils.printTable(table, Optional.empty(), cols -> "|r|l|l|", true, 0, writer);
+        LaTeXUtils.printEnd(LaTeXUtils.CENTER, writer);
+    }
+
+    private static void printExercise(final ClauseSet clauseSet, final BufferedWriter writer) throws IOException {
+        writer.write(
+            "Zeigen Sie mit dem Resolutionsverfahren, dass die folgende Klauselmenge unerf\\\"ullbar ist. Geben Sie "
+            + "dazu f\\\"ur jede Resolvente die Nummern der beiden verwendeten Klauseln an:"
+        );
+        Main.newLine(writer);
+        ResolutionAlgorithm.printClauseTable(
+            clauseSet.clauses,
+            Collections.nCopies(clauseSet.clauses.size(), "gegeben"),
+            clauseSet.variables,
+            writer
+        );
+    }
+
+    private static void printSolution(
+        final ClauseSet clauseSet,
+        final List<Resolvent> derivation,
+        final BufferedWriter writer
+    ) throws IOException {
+        final List<int[]> clauses = new ArrayList<int[]>(clauseSet.clauses);
+        final List<String> origins =
+            new ArrayList<String>(Collections.nCopies(clauseSet.clauses.size(), "gegeben"));
+        for (final Resolvent resolvent : derivation) {
+            clauses.add(resolvent.clause);
+            origins.add(String.format("Resolvente aus (%d) und (%d)", resolvent.parent1 + 1, resolvent.parent2 + 1));
+        }
+        ResolutionAlgorithm.printClauseTable(clauses, origins, clauseSet.variables, writer);
+        writer.write("Da die leere Klausel abgeleitet wurde, ist die Klauselmenge unerf\\\"ullbar.");
+        Main.newLine(writer);
+    }
+
+    /**
+     * @return The resolvent of the specified clauses on the specified literal of the second clause unless it is a
+     *         tautology.
+     */
+    private static Optional<int[]> resolve(final int[] clause1, final int[] clause2, final int literal) {
+        final SortedSet<Integer> literals =
+            new TreeSet<Integer>(
+                Comparator.comparingInt((Integer other) -> Math.abs(other)).thenComparing(other -> -other)
+            );
+        for (final int other : clause1) {
+            if (other != -literal) {
+                literals.add(other);
+            }
+        }
+        for (final int other : clause2) {
+            if (other != literal) {
+                literals.add(other);
+            }
+        }
+        for (final int other : literals) {
+            if (other > 0 && literals.contains(-other)) {
+                return Optional.empty();
+            }
+        }
+        return Optional.of(literals.stream().mapToInt(Integer::intValue).toArray());
+    }
+
+    private static List<Integer> toKey(final int[] clause) {
+        return Arrays.stream(clause).boxed().toList();
+    }
+
+    private ResolutionAlgorithm() {}
+
+    @Override
+    public void executeAlgorithm(final AlgorithmInput input) throws IOException {
+        final ClauseSet clauseSet =
+            new ParserAndGenerator<ClauseSet>(
+                PropositionalLogic::parseClauseSet,
+                options -> PropositionalLogic.generateClauseSet(options, true)
+            ).getResult(input.options);
+        final ClauseSet normalized =
+            new ClauseSet(
+                clauseSet.variables,
+                clauseSet.numberOfVariables,
+                PropositionalLogic.normalizeClauses(clauseSet.clauses)
+            );
+        if (SatSolver.isSatisfiable(normalized)) {
+            throw new IOException("The clause set is satisfiable, so the empty clause cannot be derived!");
+        }
+        final List<Resolvent> derivation;
+        try {
+            derivation = ResolutionAlgorithm.refute(normalized.clauses).get();
+        } catch (final IllegalArgumentException e) {
+            throw new IOException(e.getMessage(), e);
+        }
+        ResolutionAlgorithm.printExercise(normalized, input.exerciseWriter);
+        ResolutionAlgorithm.printSolution(normalized, derivation, input.solutionWriter);
+    }
+
+    @Override
+    public String[] generateTestParameters() {
+        final String[] result = new String[2];
+        result[0] = "-l";
+        result[1] = "3";
+        return result;
+    }
+
+}
@@ -0,0 +1,122 @@
+package exercisegenerator.algorithms.logic;
+
+import java.io.*;
+import java.util.*;
+import java.util.stream.*;
+
+import exercisegenerator.*;
+import exercisegenerator.algorithms.*;
+import exercisegenerator.io.*;
+import exercisegenerator.structures.*;
+import exercisegenerator.structures.logic.*;
+
+public class TseitinConversion implements AlgorithmImplementation {
+
+    public static final TseitinConversion INSTANCE = new TseitinConversion();
+
+    private static String definitionToLaTeX(final TseitinEncoding.Definition definition, final List<String> variables) {
+        final String operation =
+            definition.literals.length == 0 ?
+                "\\code{1}" :
+                    String.format(
+                        "(%s)",
+                        Arrays.stream(definition.literals)
+                            .mapToObj(literal -> PropositionalLogic.literalToLaTeX(literal, variables))
+                            .collect(Collectors.joining(definition.conjunction ? " \\wedge " : " \\vee "))
+                    );
+        return String.format(
+            "%s \\leftrightarrow %s",
+            PropositionalLogic.literalToLaTeX(definition.variable, variables),
+            operation
+        );
+    }
+
+    private static void printSolution(final PropositionalFormula formula, final BufferedWriter writer)
+    throws IOException {
+        final List<String> variables = formula.getVariableNames();
+        final TseitinEncoding encoding = new TseitinEncoding(variables);
+        final int root = encoding.encode(formula);
+        encoding.addClause(root);
+        final List<TseitinEncoding.Definition> definitions = encoding.getDefinitions();
+        if (!definitions.isEmpty()) {
+            writer.write("Definitionen der Hilfsvariablen und ihre Klauseln:");
+            Main.newLine(writer);
+            LaTeXUtils.printBeginning(LaTeXUtils.ENUMERATE, writer);
+            for (final TseitinEncoding.Definition definition : definitions) {
+                writer.write(LaTeXUtils.ITEM);
+                writer.write(" ");
+                writer.write(LaTeXUtils.inlineMath(TseitinConversion.definitionToLaTeX(definition, variables)));
+                writer.write(": ");
+                writer.write(
+                    LaTeXUtils.inlineMath(
+                        definition.toClauses()
+                            .stream()
+                            .map(clause -> PropositionalLogic.clauseToLaTeX(clause, variables))
+                            .collect(Collectors.joining(", "))
+                    )
+                );
+                Main.newLine(writer);
+            }
+            LaTeXUtils.printEnd(LaTeXUtils.ENUMERATE, writer);
+        }
+        writer.write("Erf\\\"ullbarkeits\\\"aquivalente Klauselmenge:");
+        Main.newLine(writer);
+        writer.write(
+            LaTeXUtils.displayMath(PropositionalLogic.clausesToLaTeX(encoding.toClauseSet().clauses, variables))
+        );
+        Main.newLine(writer);
+    }
+
+    private TseitinConversion() {}
+
+    @Override
+    public void executeAlgorithm(final AlgorithmInput input) throws IOException {
+        final List<PropositionalFormula> formulas =
+            new ParserAndGenerator<List<PropositionalFormula>>(
+                PropositionalLogic::parseFormulas,
+                PropositionalLogic::generateFormulas
+            ).getResult(input.options);
+        final BufferedWriter exWriter = input.exerciseWriter;
+        final BufferedWriter solWriter = input.solutionWriter;
+        exWriter.write(
+            formulas.size() == 1 ?
+                "Wandeln Sie die folgende aussagenlogische Formel mit der Tseitin-Transformation in eine "
+                + "erf\\\"ullbarkeits\\\"aquivalente Klauselmenge um:\\\\" :
+                    "Wandeln Sie die folgenden aussagenlogischen Formeln mit der Tseitin-Transformation in "
+                    + "erf\\\"ullbarkeits\\\"aquivalente Klauselmengen um:\\\\"
+        );
+        Main.newLine(exWriter);
+        exWriter.write(
+            "Verwenden Sie dabei f\\\"ur jede Konjunktion und Disjunktion eine Hilfsvariable $y_i$ (beginnend bei den "
+            + "innersten Teilformeln) und ersetzen Sie Negationen durch negierte Literale."
+        );
+        Main.newLine(exWriter);
+        LaTeXUtils.printSolutionSpaceBeginning(Optional.of("-3ex"), input.options, exWriter);
+        boolean first = true;
+        for (final PropositionalFormula formula : formulas) {
+            if (first) {
+                first = false;
+            } else {
+                LaTeXUtils.printVerticalProtectedSpace(exWriter);
+                LaTeXUtils.printVerticalProtectedSpace(solWriter);
+            }
+            final String formulaInLaTeX = LaTeXUtils.displayMath(PropositionalLogic.toLaTeX(formula));
+            exWriter.write(formulaInLaTeX);
+            Main.newLine(exWriter);
+            solWriter.write(formulaInLaTeX);
+            Main.newLine(solWriter);
+            TseitinConversion.printSolution(formula, solWriter);
+        }
+        LaTeXUtils.printSolutionSpaceEnd(Optional.of("1ex"), input.options, exWriter);
+        Main.newLine(solWriter);
+    }
+
+    @Override
+    public String[] generateTestParameters() {
+        final String[] result = new String[2];
+        result[0] = "-l";
+        result[1] = "3";
+        return result;
+    }
+
+}
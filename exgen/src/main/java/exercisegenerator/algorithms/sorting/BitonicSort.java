@@ -0,0 +1,138 @@
+package exercisegenerator.algorithms.sorting;
+
+import java.io.*;
+import java.util.*;
+import java.util.stream.*;
+
+import exercisegenerator.algorithms.*;
+import exercisegenerator.structures.*;
+
+/**
+ * Bitonic sorting network. The array is conceptually padded with infinite values up to the next power of two. Every
+ * comparator moves the smaller element to the smaller index: In the first stage for blocks of size k, index i is
+ * compared with its mirror index i XOR (k - 1) within the block, in the following stages with index i XOR d for
+ * d = k / 4, ..., 1. Comparators involving padded indices never swap and are omitted. All comparators of one stage
+ * work on disjoint pairs, so long arrays are processed in parallel chunks unless the trace records changes. A
+ * snapshot is recorded after each stage.
+ */
+public class BitonicSort implements AlgorithmImplementation {
+
+    /**
+     * Stages of arrays of at most this length are processed sequentially by default.
+     */
+    public static final int DEFAULT_THRESHOLD = 8192;
+
+    public static final BitonicSort INSTANCE = new BitonicSort();
+
+    /**
+     * @param array The array to sort.
+     * @param threshold The length of the chunks processed in parallel (arrays of at most this length are processed
+     *                  sequentially).
+     */
+    public static void sort(final SortingArray array, final int threshold) {
+        final int length = array.length();
+        final boolean parallel = !array.trace.isRecording() && length > threshold;
+        for (int block = 2; block / 2 < length; block *= 2) {
+            BitonicSort.stage(array, block - 1, block, parallel, threshold);
+            for (int distance = block / 4; distance > 0; distance /= 2) {
+                BitonicSort.stage(array, distance, block, parallel, threshold);
+            }
+        }
+    }
+
+    public static SortingTrace trace(final int[] initialArray) {
+        return Sorting.trace(
+            initialArray,
+            Optional.empty(),
+            array -> BitonicSort.sort(array, BitonicSort.DEFAULT_THRESHOLD)
+        );
+    }
+
+    public static SortingTrace trace(final int[] initialArray, final SortingCounters counters) {
+        return Sorting.trace(
+            initialArray,
+            Optional.of(counters),
+            array -> BitonicSort.sort(array, BitonicSort.DEFAULT_THRESHOLD)
+        );
+    }
+
+    /**
+     * Applies the comparators of one stage owned by the indices from start (inclusive) to end (exclusive).
+     * @return The number of comparators applied.
+     */
+    private static int compareExchange(final SortingArray array, final int mask, final int start, final int end) {
+        int comparators = 0;
+        for (int i = start; i < end; i++) {
+            final int partner = i ^ mask;
+            if (partner > i && partner < array.length()) {
+                comparators++;
+                if (array.less(array.get(partner), array.get(i))) {
+                    array.swap(i, partner);
+                }
+            }
+        }
+        return comparators;
+    }
+
+    private static void stage(
+        final SortingArray array,
+        final int mask,
+        final int block,
+        final boolean parallel,
+        final int threshold
+    ) {
+        final int length = array.length();
+        if (parallel) {
+            final int chunks = (length + threshold - 1) / threshold;
+            final SortingArray[] forks = new SortingArray[chunks];
+            for (int chunk = 0; chunk < chunks; chunk++) {
+                forks[chunk] = array.fork();
+            }
+            IntStream.range(0, chunks).parallel().forEach(
+                chunk -> BitonicSort.compareExchange(
+                    forks[chunk],
+                    mask,
+                    chunk * threshold,
+                    Math.min(length, (chunk + 1) * threshold)
+                )
+            );
+            for (final SortingArray fork : forks) {
+                array.join(fork);
+            }
+            return;
+        }
+        if (BitonicSort.compareExchange(array, mask, 0, length) > 0) {
+            for (int i = 0; i < length - 1; i++) {
+                array.trace.separate(i, (i + 1) % block == 0);
+            }
+            array.trace.snapshot(true, false);
+        }
+    }
+
+    private BitonicSort() {}
+
+    @Override
+    public void executeAlgorithm(final AlgorithmInput input) throws IOException {
+        Sorting.sort(
+            input,
+            "dem bitonischen Sortiernetzwerk",
+            "Stufe des Sortiernetzwerks",
+            ". Jeder Komparator bringt dabei das kleinere Element an die kleinere Position. F\\\"ur Bl\\\"ocke der "
+            + "L\\\"ange $k = 2, 4, 8, \\ldots$ vergleicht die erste Stufe jeweils Position $i$ mit der gespiegelten "
+            + "Position $i \\oplus (k-1)$ im selben Block, die folgenden Stufen Position $i$ mit $i \\oplus d$ f\\\"ur "
+            + "$d = k/4, \\ldots, 1$. Dabei wird das Array gedanklich mit $\\infty$ bis zur n\\\"achsten Zweierpotenz "
+            + "aufgef\\\"ullt",
+            array -> BitonicSort.sort(array, BitonicSort.DEFAULT_THRESHOLD),
+            Sorting::printSolution
+        );
+    }
+
+    @Override
+    public String[] generateTestParameters() {
+        final String[] result = new String[2];
+        result[0] = "-l";
+        result[1] = "5";
+        return result;
+    }
+
+}
@@ -13,23 +13,30 @@ public class BubbleSort implements AlgorithmImplementation {
     public static final BubbleSort INSTANCE = new BubbleSort();
 
     public static List<List<ItemWithTikZInformation<Integer>>> bubblesort(final int[] initialArray) {
-        final List<List<ItemWithTikZInformation<Integer>>> result =
-            new ArrayList<List<ItemWithTikZInformation<Integer>>>();
-        result.add(Sorting.toTikZItems(initialArray));
-        final int[] array = ArrayUtils.copy(initialArray);
-        int unsortedLength = array.length;
+        return BubbleSort.trace(initialArray).toItemsLists();
+    }
+
+    public static void sort(final SortingArray array) {
+        int unsortedLength = array.length();
         while (unsortedLength > 1) {
             int lowestIndexNotSwapped = 1;
             for (int i = 0; i < unsortedLength - 1; i++) {
-                if (array[i] > array[i + 1]) {
-                    ArrayUtils.swap(array, i, i + 1);
-                    result.add(Sorting.toTikZItems(array));
+                if (array.less(array.get(i + 1), array.get(i))) {
+                    array.swap(i, i + 1);
+                    array.trace.snapshot(false, false);
                     lowestIndexNotSwapped = i + 1;
                 }
             }
             unsortedLength = lowestIndexNotSwapped;
         }
-        return result;
+    }
+
+    public static SortingTrace trace(final int[] initialArray) {
+        return Sorting.trace(initialArray, Optional.empty(), BubbleSort::sort);
+    }
+
+    public static SortingTrace trace(final int[] initialArray, final SortingCounters counters) {
+        return Sorting.trace(initialArray, Optional.of(counters), BubbleSort::sort);
     }
 
     private BubbleSort() {}
@@ -41,7 +48,7 @@ public class BubbleSort implements AlgorithmImplementation {
             Algorithm.BUBBLESORT.longName,
             "Swap-Operation",
             "",
-            BubbleSort::bubblesort,
+            BubbleSort::sort,
             Sorting::printSolution
         );
     }
@@ -0,0 +1,128 @@
+package exercisegenerator.algorithms.sorting;
+
+import java.io.*;
+import java.util.*;
+
+import exercisegenerator.algorithms.*;
+import exercisegenerator.io.*;
+import exercisegenerator.structures.*;
+
+/**
+ * Bucketsort. The range from the minimum to the maximum of the array is divided into buckets of equal width. The
+ * elements are distributed stably to the buckets, which are stored consecutively in one auxiliary buffer (their
+ * bounds are computed by counting the elements per bucket first), and copied back. Afterwards, each bucket is sorted
+ * by Insertionsort. A snapshot separating the buckets is recorded after the distribution and after sorting each
+ * bucket containing at least two elements.
+ */
+public class BucketSort implements AlgorithmImplementation {
+
+    public static final BucketSort INSTANCE = new BucketSort();
+
+    /**
+     * @param array The array to sort.
+     * @param buckets The number of buckets (at least 1).
+     */
+    public static void sort(final SortingArray array, final int buckets) {
+        if (buckets < 1) {
+            throw new IllegalArgumentException("Bucketsort needs at least one bucket!");
+        }
+        final int length = array.length();
+        if (length < 2) {
+            return;
+        }
+        final int min = Sorting.minimum(array);
+        final long range = Integer.toUnsignedLong(Sorting.maximum(array) - min) + 1;
+        final int[] bounds = new int[buckets + 1];
+        for (int i = 0; i < length; i++) {
+            bounds[BucketSort.bucket(array.get(i), min, range, buckets) + 1]++;
+        }
+        for (int bucket = 1; bucket <= buckets; bucket++) {
+            bounds[bucket] += bounds[bucket - 1];
+        }
+        final int[] buffer = new int[length];
+        final int[] next = Arrays.copyOf(bounds, buckets);
+        for (int i = 0; i < length; i++) {
+            final int value = array.get(i);
+            buffer[next[BucketSort.bucket(value, min, range, buckets)]++] = value;
+        }
+        for (int i = 0; i < length; i++) {
+            array.set(i, buffer[i]);
+        }
+        final SortingTrace result = array.trace;
+        for (int bucket = 1; bucket < buckets; bucket++) {
+            if (bounds[bucket] > 0 && bounds[bucket] < length) {
+                result.separate(bounds[bucket] - 1, true);
+            }
+        }
+        result.snapshot(true, false);
+        for (int bucket = 0; bucket < buckets; bucket++) {
+            if (bounds[bucket + 1] - bounds[bucket] > 1) {
+                BucketSort.insertionSort(array, bounds[bucket], bounds[bucket + 1]);
+                result.snapshot(true, false);
+            }
+        }
+    }
+
+    public static SortingTrace trace(final int[] initialArray, final int buckets) {
+        return Sorting.trace(initialArray, Optional.empty(), array -> BucketSort.sort(array, buckets));
+    }
+
+    public static SortingTrace trace(final int[] initialArray, final int buckets, final SortingCounters counters) {
+        return Sorting.trace(initialArray, Optional.of(counters), array -> BucketSort.sort(array, buckets));
+    }
+
+    private static int bucket(final int value, final int min, final long range, final int buckets) {
+        return (int)(Integer.toUnsignedLong(value - min) * buckets / range);
+    }
+
+    /**
+     * Sorts the array from start (inclusive) to end (exclusive) by Insertionsort.
+     */
+    private static void insertionSort(final SortingArray array, final int start, final int end) {
+        for (int i = start + 1; i < end; i++) {
+            final int insert = array.get(i);
+            int j = i;
+            while (j > start && array.less(insert, array.get(j - 1))) {
+                array.set(j, array.get(j - 1));
+                j--;
+            }
+            if (j < i) {
+                array.set(j, insert);
+            }
+        }
+    }
+
+    private BucketSort() {}
+
+    @Override
+    public void executeAlgorithm(final AlgorithmInput input) throws IOException {
+        final Optional<Integer> buckets =
+            input.options.containsKey(Flag.DEGREE) ?
+                Optional.of(Integer.parseInt(input.options.get(Flag.DEGREE))) :
+                    Optional.empty();
+        Sorting.sort(
+            input,
+            Algorithm.BUCKETSORT.longName,
+            "Phase",
+            String.format(
+                ". Verteilen Sie die Werte dabei in der ersten Phase auf %s f\\\"ur den Bereich vom "
+                + "Minimum bis zum Maximum des Arrays und sortieren Sie danach in jeder weiteren Phase einen Bucket mit "
+                + "mindestens zwei Elementen mit Insertionsort",
+                buckets.isPresent() ?
+                    buckets.get() + " gleich breite Buckets" :
+                        "so viele gleich breite Buckets, wie das Array Elemente hat,"
+            ),
+            array -> BucketSort.sort(array, buckets.orElse(Math.max(1, array.length()))),
+            Sorting::printSolution
+        );
+    }
+
+    @Override
+    public String[] generateTestParameters() {
+        final String[] result = new String[2];
+        result[0] = "-l";
+        result[1] = "5";
+        return result;
+    }
+
+}
@@ -0,0 +1,128 @@
+package exercisegenerator.algorithms.sorting;
+
+import java.io.*;
+import java.util.*;
+
+import exercisegenerator.*;
+import exercisegenerator.algorithms.*;
+import exercisegenerator.io.*;
+import exercisegenerator.structures.*;
+
+/**
+ * Countingsort. Counts the occurrences of each value between the minimum and the maximum of the array and writes the
+ * values back in ascending order directly from the count array. Since the elements are plain integers without
+ * satellite data, no output buffer is needed. The running time and the additional memory are linear in the length of
+ * the array plus the range of its values.
+ */
+public class CountingSort implements AlgorithmImplementation {
+
+    public static final CountingSort INSTANCE = new CountingSort();
+
+    /**
+     * The maximal range of values (maximum minus minimum plus one) Countingsort can handle.
+     */
+    public static final long MAXIMUM_RANGE = Integer.MAX_VALUE - 8;
+
+    /**
+     * @param array An array.
+     * @return The number of occurrences of each value from the minimum to the maximum of the specified array.
+     */
+    public static int[] countArray(final int[] array) {
+        if (array.length == 0) {
+            return new int[0];
+        }
+        final SortingArray wrapper = SortingArray.of(array, SortingTrace.discarding(array), Optional.empty());
+        return CountingSort.countArray(wrapper, Sorting.minimum(wrapper), Sorting.maximum(wrapper));
+    }
+
+    public static void sort(final SortingArray array) {
+        final int length = array.length();
+        if (length < 2) {
+            return;
+        }
+        final int min = Sorting.minimum(array);
+        final int[] counts = CountingSort.countArray(array, min, Sorting.maximum(array));
+        int index = 0;
+        for (int key = 0; key < counts.length; key++) {
+            for (int count = counts[key]; count > 0; count--) {
+                array.set(index++, key + min);
+            }
+        }
+        array.trace.snapshot(false, false);
+    }
+
+    public static SortingTrace trace(final int[] initialArray) {
+        return Sorting.trace(initialArray, Optional.empty(), CountingSort::sort);
+    }
+
+    public static SortingTrace trace(final int[] initialArray, final SortingCounters counters) {
+        return Sorting.trace(initialArray, Optional.of(counters), CountingSort::sort);
+    }
+
+    private static int[] countArray(final SortingArray array, final int min, final int max) {
+        final long range = Integer.toUnsignedLong(max - min) + 1;
+        if (range > CountingSort.MAXIMUM_RANGE) {
+            throw new IllegalArgumentException("The range of the values is too large for Countingsort!");
+        }
+        final int[] result = new int[(int)range];
+        for (int i = 0; i < array.length(); i++) {
+            result[array.get(i) - min]++;
+        }
+        return result;
+    }
+
+    /**
+     * Prints the initial and the sorted array followed by the count array.
+     */
+    private static void printSolution(final Sorting.SortingSolution solutionData) throws IOException {
+        Sorting.printSolution(solutionData);
+        final int[] initialArray = solutionData.solution.getInitialArray();
+        final int[] counts = CountingSort.countArray(initialArray);
+        if (counts.length == 0) {
+            return;
+        }
+        final List<ItemWithTikZInformation<Integer>> items =
+            Arrays.stream(counts).mapToObj(count -> new ItemWithTikZInformation<Integer>(Optional.of(count))).toList();
+        solutionData.writer.write(
+            String.format(
+                "Z\\\"ahlarray f\\\"ur die Werte von %d bis %d:\\\\[2ex]",
+                Arrays.stream(initialArray).min().getAsInt(),
+                Arrays.stream(initialArray).max().getAsInt()
+            )
+        );
+        Main.newLine(solutionData.writer);
+        LaTeXUtils.printTikzBeginning(TikZStyle.ARRAY, solutionData.writer);
+        LaTeXUtils.printListAndReturnLeftmostNodesName(
+            items,
+            Optional.empty(),
+            Math.max(solutionData.contentLength, String.valueOf(initialArray.length).length()),
+            solutionData.writer
+        );
+        LaTeXUtils.printTikzEnd(solutionData.writer);
+        Main.newLine(solutionData.writer);
+    }
+
+    private CountingSort() {}
+
+    @Override
+    public void executeAlgorithm(final AlgorithmInput input) throws IOException {
+        Sorting.sort(
+            input,
+            Algorithm.COUNTINGSORT.longName,
+            "Phase des Zur\\\"uckschreibens",
+            ". Geben Sie au\\ss{}erdem das Z\\\"ahlarray an, das f\\\"ur jeden Wert vom Minimum bis zum Maximum des "
+            + "Arrays angibt, wie oft er im Array vorkommt",
+            CountingSort::sort,
+            CountingSort::printSolution
+        );
+    }
+
+    @Override
+    public String[] generateTestParameters() {
+        final String[] result = new String[2];
+        result[0] = "-l";
+        result[1] = "5";
+        return result;
+    }
+
+}
@@ -15,76 +15,99 @@ public class HeapSort implements AlgorithmImplementation {
     public static final HeapSort INSTANCE = new HeapSort();
 
     public static List<List<ItemWithTikZInformation<Integer>>> heapsort(final int[] initialArray) {
-        final List<List<ItemWithTikZInformation<Integer>>> result =
-            new ArrayList<List<ItemWithTikZInformation<Integer>>>();
-        result.add(Sorting.toTikZItems(initialArray));
-        final int[] array = ArrayUtils.copy(initialArray);
-        final boolean[] separate = new boolean[array.length - 1];
-        Arrays.fill(separate, false);
-        for (int i = array.length / 2; i > 0; i--) {
-            HeapSort.heapify(array, i, array.length, separate, result);
+        return HeapSort.trace(initialArray).toItemsLists();
+    }
+
+    public static void sort(final SortingArray array) {
+        HeapSort.sort(array, 2);
+    }
+
+    /**
+     * Heapsort with a d-ary max-heap.
+     * @param array The array to sort.
+     * @param arity The maximal number of children of each node in the heap.
+     */
+    public static void sort(final SortingArray array, final int arity) {
+        final int length = array.length();
+        if (length < 2) {
+            return;
         }
-        for (int i = array.length - 1; i > 0; i--) {
-            ArrayUtils.swap(array, 0, i);
-            if (i < separate.length) {
-                separate[i] = false;
-            }
-            if (i > 0) { // TODO check whether 1 is better here
-                separate[i - 1] = true;
+        final SortingTrace result = array.trace;
+        for (int i = (length - 2) / arity; i >= 0; i--) {
+            HeapSort.heapify(array, arity, i, length);
+        }
+        for (int i = length - 1; i > 0; i--) {
+            array.swap(0, i);
+            if (i < length - 1) {
+                result.separate(i, false);
             }
-            result.add(Sorting.toTikZItems(array, separate));
-            HeapSort.heapify(array, 1, i, separate, result);
+            result.separate(i - 1, true);
+            result.snapshot(true, false);
+            HeapSort.heapify(array, arity, 0, i);
         }
-        return result;
     }
 
-    private static int getSeparationIndex(final List<ItemWithTikZInformation<Integer>> list) {
-        int result = -1;
-        for (final ItemWithTikZInformation<Integer> item : list) {
-            if (item.separateBefore) {
-                return result;
-            }
-            result++;
-        }
-        return result;
+    public static SortingTrace trace(final int[] initialArray) {
+        return Sorting.trace(initialArray, Optional.empty(), HeapSort::sort);
+    }
+
+    public static SortingTrace trace(final int[] initialArray, final int arity) {
+        return Sorting.trace(initialArray, Optional.empty(), array -> HeapSort.sort(array, arity));
+    }
+
+    public static SortingTrace trace(final int[] initialArray, final SortingCounters counters) {
+        return Sorting.trace(initialArray, Optional.of(counters), HeapSort::sort);
     }
 
     /**
      * Establishes the heap property on the branch starting at index <code>from</code> when interpreting the array up
-     * to index <code>to</code> as a heap by sinking the element at index <code>from</code> as far as necessary.
-     * Moreover, the current state of the array is added to the solution after each swap operation.
+     * to index <code>to</code> (exclusive) as a d-ary heap by sinking the element at index <code>from</code> as far
+     * as necessary. Moreover, the current state of the array is added to the solution after each swap operation.
      */
-    private static void heapify(
-        final int[] array,
-        final int from,
-        final int to,
-        final boolean[] separate,
-        final List<List<ItemWithTikZInformation<Integer>>> result
-    ) {
+    private static void heapify(final SortingArray array, final int arity, final int from, final int to) {
         int i = from;
-        while (i <= to / 2) {
-            int j = 2 * i;
-            if (j < to && array[j] > array[j - 1]) {
-                j++;
+        while (arity * i + 1 < to) {
+            final int firstChild = arity * i + 1;
+            int max = firstChild;
+            for (int child = firstChild + 1; child < Math.min(firstChild + arity, to); child++) {
+                if (array.less(array.get(max), array.get(child))) {
+                    max = child;
+                }
             }
-            if (array[j - 1] <= array[i - 1]) {
+            if (array.lessOrEqual(array.get(max), array.get(i))) {
                 break;
             }
-            ArrayUtils.swap(array, j - 1, i - 1);
-            result.add(Sorting.toTikZItems(array, separate));
-            i = j;
+            array.swap(max, i);
+            array.trace.snapshot(true, false);
+            i = max;
         }
     }
 
-    private static void printSolutionWithTrees(final SortingSolution solutionData) throws IOException {
+    /**
+     * Prints the array and the heap part as tree after each step. The heap ends before the leftmost separator and the
+     * tree is only rendered again for the indices changed in each step.
+     */
+    private static void printSolutionWithTrees(
+        final SortingSolution solutionData,
+        final int arity
+    ) throws IOException {
+        final SortingTrace.Replay replay = solutionData.solution.replay();
+        final HeapTreeRenderer renderer = new HeapTreeRenderer(arity, replay.length());
+        int heapSize = replay.length();
         int step = 0;
-        for (final List<ItemWithTikZInformation<Integer>> list : solutionData.solution) {
+        while (replay.next()) {
+            for (final int separator : replay.getChangedSeparators()) {
+                if (replay.isSeparated(separator)) {
+                    heapSize = Math.min(heapSize, separator + 1);
+                }
+            }
+            renderer.update(replay::get, heapSize, replay.getChangedIndices());
             LaTeXUtils.printSamePageBeginning(step++, LaTeXUtils.COL_WIDTH, solutionData.writer);
-            HeapSort.printTree(list, solutionData.writer);
+            renderer.print(solutionData.writer);
             LaTeXUtils.printProtectedNewline(solutionData.writer);
             LaTeXUtils.printTikzBeginning(TikZStyle.ARRAY, solutionData.writer);
             LaTeXUtils.printListAndReturnLeftmostNodesName(
-                list,
+                replay.toItems(),
                 Optional.empty(),
                 solutionData.contentLength,
                 solutionData.writer
@@ -95,63 +118,6 @@ public class HeapSort implements AlgorithmImplementation {
         }
     }
 
-    /**
-     * Prints the specified array interpreted as binary tree up to the specified index.
-     * @param array The array.
-     * @param to The index to which the tree should be printed.
-     * @param writer The writer to send the output to.
-     * @throws IOException If some error occurs during output.
-     */
-    private static void printTree(
-        final List<ItemWithTikZInformation<Integer>> list,
-        final BufferedWriter writer
-    ) throws IOException {
-        final int to = HeapSort.getSeparationIndex(list);
-        if (to < 0) {
-            return;
-        }
-        LaTeXUtils.printTikzBeginning(TikZStyle.TREE, writer);
-        if (to > 0) {
-            writer.write("\\Tree");
-            HeapSort.printTree(list, 0, to, writer);
-        } else {
-            writer.write(
-                String.format("\\node[circle,draw=black,thick,inner sep=5pt] {%d};", list.get(0).optionalContent.get())
-            );
-        }
-        Main.newLine(writer);
-        LaTeXUtils.printTikzEnd(writer);
-    }
-
-    /**
-     * Prints the specified array interpreted as binary tree from the specified start index (i.e., it prints the
-     * subtree starting with the element at the specified start index) to the specified end index.
-     * @param array The array.
-     * @param start The start index.
-     * @param end The end index.
-     * @param writer The writer to send the output to.
-     * @throws IOException If some error occurs during output.
-     */
-    private static void printTree(
-        final List<ItemWithTikZInformation<Integer>> list,
-        final int start,
-        final int end,
-        final BufferedWriter writer
-    ) throws IOException {
-        final int next = 2 * start + 1;
-        final int valueAtStart = list.get(start).optionalContent.get();
-        if (next <= end) {
-            writer.write(" [." + valueAtStart);
-            HeapSort.printTree(list, next, end, writer);
-            if (next + 1 <= end) {
-                HeapSort.printTree(list, next + 1, end, writer);
-            }
-            writer.write(" ]");
-        } else {
-            writer.write(" " + valueAtStart);
-        }
-    }
-
     /**
      * Prints vertical space
      * @param step The next evaluation step.
@@ -171,14 +137,24 @@ public class HeapSort implements AlgorithmImplementation {
 
     @Override
     public void executeAlgorithm(final AlgorithmInput input) throws IOException {
+        final int arity =
+            input.options.containsKey(Flag.DEGREE) ? Integer.parseInt(input.options.get(Flag.DEGREE)) : 2;
+        if (arity < 2) {
+            throw new IllegalArgumentException("The degree of a heap must be at least 2!");
+        }
         Sorting.sort(
             input,
             Algorithm.HEAPSORT.longName,
             "Swap-Operation",
-            "",
-            HeapSort::heapsort,
+            arity == 2 ?
+                "" :
+                    String.format(
+                        ". Verwenden Sie dabei einen Max-Heap, in dem jeder Knoten bis zu %d Kinder hat",
+                        arity
+                    ),
+            array -> HeapSort.sort(array, arity),
             Algorithm.HEAPSORT_TREE.name.equals(input.options.get(Flag.ALGORITHM)) ?
-                HeapSort::printSolutionWithTrees :
+                solutionData -> HeapSort.printSolutionWithTrees(solutionData, arity) :
                     Sorting::printSolution
         );
     }
@@ -13,21 +13,28 @@ public class InsertionSort implements AlgorithmImplementation {
     public static final InsertionSort INSTANCE = new InsertionSort();
 
     public static List<List<ItemWithTikZInformation<Integer>>> insertionsort(final int[] initialArray) {
-        final List<List<ItemWithTikZInformation<Integer>>> result =
-            new ArrayList<List<ItemWithTikZInformation<Integer>>>();
-        result.add(Sorting.toTikZItems(initialArray));
-        final int[] array = ArrayUtils.copy(initialArray);
-        for (int i = 1; i < array.length; i++) {
-            final int insert = array[i];
+        return InsertionSort.trace(initialArray).toItemsLists();
+    }
+
+    public static void sort(final SortingArray array) {
+        for (int i = 1; i < array.length(); i++) {
+            final int insert = array.get(i);
             int j = i;
-            while (j > 0 && array[j - 1] > insert) {
-                array[j] = array[j - 1];
+            while (j > 0 && array.less(insert, array.get(j - 1))) {
+                array.set(j, array.get(j - 1));
                 j--;
             }
-            array[j] = insert;
-            result.add(Sorting.toTikZItems(array));
+            array.set(j, insert);
+            array.trace.snapshot(false, false);
         }
-        return result;
+    }
+
+    public static SortingTrace trace(final int[] initialArray) {
+        return Sorting.trace(initialArray, Optional.empty(), InsertionSort::sort);
+    }
+
+    public static SortingTrace trace(final int[] initialArray, final SortingCounters counters) {
+        return Sorting.trace(initialArray, Optional.of(counters), InsertionSort::sort);
     }
 
     private InsertionSort() {}
@@ -39,7 +46,7 @@ public class InsertionSort implements AlgorithmImplementation {
             Algorithm.INSERTIONSORT.longName,
             "Iteration der \\\"au\\ss{}eren Schleife",
             "",
-            InsertionSort::insertionsort,
+            InsertionSort::sort,
             Sorting::printSolution
         );
     }
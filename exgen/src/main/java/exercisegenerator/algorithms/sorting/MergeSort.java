@@ -16,71 +16,211 @@ public class MergeSort implements AlgorithmImplementation {
         final int[] initialArray,
         final boolean printSplitting
     ) {
-        final List<List<ItemWithTikZInformation<Integer>>> result =
-            new ArrayList<List<ItemWithTikZInformation<Integer>>>();
-        final int[] array = ArrayUtils.copy(initialArray);
-        final boolean[] separate = new boolean[array.length - 1];
-        final boolean[] mark = new boolean[array.length];
-        Arrays.fill(separate, false);
-        Arrays.fill(mark, false);
-        result.add(Sorting.toTikZItems(initialArray, separate, mark));
-        MergeSort.mergesort(array, 0, array.length - 1, separate, mark, printSplitting, result);
-        return result;
+        return MergeSort.trace(initialArray, printSplitting).toItemsLists();
+    }
+
+    /**
+     * Top-down Mergesort. Uses one auxiliary buffer for all merge operations.
+     * @param array The array to sort.
+     * @param printSplitting Whether the splitting steps should be recorded in the trace.
+     */
+    public static void sort(final SortingArray array, final boolean printSplitting) {
+        MergeSort.mergesort(array, 0, array.length() - 1, printSplitting, new int[array.length()]);
+    }
+
+    /**
+     * Bottom-up Mergesort. Each phase merges all pairs of neighboring runs, starting with runs of length one (or with
+     * the maximal sorted runs already contained in the array for the natural variant). The phases alternate between
+     * the array and one auxiliary buffer as source and target of the merge operations such that no element is copied
+     * back except after the last phase if the result ends up in the buffer. A snapshot is recorded after each phase.
+     * @param array The array to sort.
+     * @param natural Whether to start with the maximal sorted runs (natural Mergesort).
+     */
+    public static void sortBottomUp(final SortingArray array, final boolean natural) {
+        final int length = array.length();
+        if (length < 2) {
+            return;
+        }
+        final int[] runStarts = new int[length + 1];
+        int runs = natural ? MergeSort.detectRuns(array, runStarts) : MergeSort.singletonRuns(runStarts);
+        final int[] buffer = new int[length];
+        int[] source = array.array;
+        int[] target = buffer;
+        while (runs > 1) {
+            int merged = 0;
+            for (int run = 0; run < runs; run += 2) {
+                final int start = runStarts[run];
+                final int middle = runStarts[Math.min(run + 1, runs)];
+                final int end = runStarts[Math.min(run + 2, runs)];
+                MergeSort.mergeInto(array, source, target, start, middle, end);
+                runStarts[merged++] = start;
+            }
+            runStarts[merged] = length;
+            runs = merged;
+            final int[] swap = source;
+            source = target;
+            target = swap;
+            MergeSort.snapshotRuns(array.trace, runStarts, runs, length);
+        }
+        if (source != array.array) {
+            for (int i = 0; i < length; i++) {
+                array.set(i, source[i]);
+            }
+        }
+    }
+
+    public static SortingTrace trace(final int[] initialArray, final boolean printSplitting) {
+        return Sorting.trace(initialArray, Optional.empty(), array -> MergeSort.sort(array, printSplitting));
+    }
+
+    public static SortingTrace trace(
+        final int[] initialArray,
+        final boolean printSplitting,
+        final SortingCounters counters
+    ) {
+        return Sorting.trace(initialArray, Optional.of(counters), array -> MergeSort.sort(array, printSplitting));
+    }
+
+    public static SortingTrace traceBottomUp(final int[] initialArray, final boolean natural) {
+        return Sorting.trace(initialArray, Optional.empty(), array -> MergeSort.sortBottomUp(array, natural));
+    }
+
+    public static SortingTrace traceBottomUp(
+        final int[] initialArray,
+        final boolean natural,
+        final SortingCounters counters
+    ) {
+        return Sorting.trace(initialArray, Optional.of(counters), array -> MergeSort.sortBottomUp(array, natural));
     }
 
     /**
      * Merges two sorted array parts (between start and middle and between middle + 1 and end) to one sorted array part
-     * (from start to end).
+     * (from start to end). Concurrent merges must work on disjoint parts of the array and the buffer.
      * @param array The array.
      * @param start The start index.
      * @param middle The middle index.
      * @param end The end index.
+     * @param buffer The auxiliary buffer (at least as long as the array).
      */
-    private static void merge(final int[] array, final int start, final int middle, final int end) {
-        final int[] copy = new int[end - start + 1];
-        int i = 0;
+    static void merge(
+        final SortingArray array,
+        final int start,
+        final int middle,
+        final int end,
+        final int[] buffer
+    ) {
+        int i = start;
         int j = start;
         int k = middle + 1;
         while (j <= middle && k <= end) {
-            if (array[j] <= array[k]) {
-                copy[i++] = array[j++];
+            if (array.lessOrEqual(array.get(j), array.get(k))) {
+                buffer[i++] = array.get(j++);
             } else {
-                copy[i++] = array[k++];
+                buffer[i++] = array.get(k++);
             }
         }
         while (j <= middle) {
-            copy[i++] = array[j++];
+            buffer[i++] = array.get(j++);
         }
         while (k <= end) {
-            copy[i++] = array[k++];
+            buffer[i++] = array.get(k++);
+        }
+        for (i = start; i <= end; i++) {
+            array.set(i, buffer[i]);
+        }
+    }
+
+    /**
+     * Stores the start indices of all maximal sorted runs followed by the length of the array in the specified array.
+     * @param array The array to sort.
+     * @param runStarts The array to store the start indices in.
+     * @return The number of runs.
+     */
+    private static int detectRuns(final SortingArray array, final int[] runStarts) {
+        int runs = 1;
+        runStarts[0] = 0;
+        for (int i = 1; i < array.length(); i++) {
+            if (array.less(array.get(i), array.get(i - 1))) {
+                runStarts[runs++] = i;
+            }
+        }
+        runStarts[runs] = array.length();
+        return runs;
+    }
+
+    /**
+     * Merges the sorted parts of the source from start (inclusive) to middle (exclusive) and from middle (inclusive)
+     * to end (exclusive) into the same positions of the target. Each element moved counts as one write, no matter
+     * whether the target is the array itself or the auxiliary buffer.
+     */
+    private static void mergeInto(
+        final SortingArray array,
+        final int[] source,
+        final int[] target,
+        final int start,
+        final int middle,
+        final int end
+    ) {
+        int i = start;
+        int j = middle;
+        for (int k = start; k < end; k++) {
+            final int value;
+            if (j >= end || (i < middle && array.lessOrEqual(source[i], source[j]))) {
+                value = source[i++];
+            } else {
+                value = source[j++];
+            }
+            array.set(target, k, value);
         }
-        System.arraycopy(copy, 0, array, start, copy.length);
     }
 
     private static void mergesort(
-        final int[] array,
+        final SortingArray array,
         final int start,
         final int end,
-        final boolean[] separate,
-        final boolean[] mark,
         final boolean printSplitting,
-        final List<List<ItemWithTikZInformation<Integer>>> result
+        final int[] buffer
     ) {
         if (start >= end) {
             return;
         }
+        array.enterRecursion();
+        final SortingTrace result = array.trace;
         final int middle = (start + end) / 2;
         if (printSplitting) {
-            separate[middle] = true;
-            result.add(Sorting.toTikZItems(array, separate));
+            result.separate(middle, true);
+            result.snapshot(true, false);
+        }
+        MergeSort.mergesort(array, start, middle, printSplitting, buffer);
+        MergeSort.mergesort(array, middle + 1, end, printSplitting, buffer);
+        MergeSort.merge(array, start, middle, end, buffer);
+        result.separate(middle, false);
+        result.clearMarkers();
+        result.markRange(start, end + 1);
+        result.snapshot(true, true);
+        array.leaveRecursion();
+    }
+
+    private static int singletonRuns(final int[] runStarts) {
+        for (int i = 0; i < runStarts.length; i++) {
+            runStarts[i] = i;
         }
-        MergeSort.mergesort(array, start, middle, separate, mark, printSplitting, result);
-        MergeSort.mergesort(array, middle + 1, end, separate, mark, printSplitting, result);
-        MergeSort.merge(array, start, middle, end);
-        separate[middle] = false;
-        Arrays.fill(mark, false);
-        Arrays.fill(mark, start, end + 1, true);
-        result.add(Sorting.toTikZItems(array, separate, mark));
+        return runStarts.length - 1;
+    }
+
+    private static void snapshotRuns(
+        final SortingTrace result,
+        final int[] runStarts,
+        final int runs,
+        final int length
+    ) {
+        for (int i = 0; i < length - 1; i++) {
+            result.separate(i, false);
+        }
+        for (int run = 1; run < runs; run++) {
+            result.separate(runStarts[run] - 1, true);
+        }
+        result.snapshot(true, false);
     }
 
     private MergeSort() {}
@@ -88,12 +228,32 @@ public class MergeSort implements AlgorithmImplementation {
     @Override
     public void executeAlgorithm(final AlgorithmInput input) throws IOException {
         final boolean split = Algorithm.MERGESORT_SPLIT.name.equals(input.options.get(Flag.ALGORITHM));
+        final boolean bottomUp =
+            !split
+            && input.options.containsKey(Flag.VARIANT)
+            && (input.options.get(Flag.VARIANT).equals("1") || input.options.get(Flag.VARIANT).equals("2"));
+        if (bottomUp) {
+            final boolean natural = input.options.get(Flag.VARIANT).equals("2");
+            Sorting.sort(
+                input,
+                natural ? "nat\\\"urlichem Mergesort" : "Bottom-Up-Mergesort",
+                "Merge-Phase",
+                natural ?
+                    ". In jeder Phase werden dabei alle benachbarten sortierten Teilfolgen paarweise gemischt, beginnend "
+                    + "mit den maximalen bereits sortierten Teilfolgen des Arrays" :
+                        ". In jeder Phase werden dabei alle benachbarten sortierten Teilfolgen paarweise gemischt, "
+                        + "beginnend mit Teilfolgen der L\\\"ange 1",
+                array -> MergeSort.sortBottomUp(array, natural),
+                Sorting::printSolution
+            );
+            return;
+        }
         Sorting.sort(
             input,
             split ? Algorithm.MERGESORT_SPLIT.longName : Algorithm.MERGESORT.longName,
             "Merge-Operation",
             "",
-            (array) -> MergeSort.mergesort(array, split),
+            (array) -> MergeSort.sort(array, split),
             Sorting::printSolution
         );
     }
@@ -0,0 +1,195 @@
+package exercisegenerator.algorithms.sorting;
+
+import java.io.*;
+import java.util.*;
+import java.util.concurrent.*;
+
+import exercisegenerator.algorithms.*;
+import exercisegenerator.structures.*;
+
+/**
+ * Fork-join parallel Mergesort. Both halves of each part longer than a threshold are sorted by concurrent tasks
+ * before they are merged. When the trace records changes (e.g., for exercises), the same recursion is executed
+ * sequentially round by round instead: First all merge operations of the deepest recursion level are performed (they
+ * would run in parallel), then all merge operations of the level above and so on, recording a snapshot after each
+ * round.
+ */
+public class ParallelMergeSort implements AlgorithmImplementation {
+
+    private static class SortTask extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final SortingArray array;
+
+        private final int[] buffer;
+
+        private final int end;
+
+        private final int start;
+
+        private final int threshold;
+
+        private SortTask(
+            final SortingArray array,
+            final int start,
+            final int end,
+            final int threshold,
+            final int[] buffer
+        ) {
+            this.array = array;
+            this.start = start;
+            this.end = end;
+            this.threshold = threshold;
+            this.buffer = buffer;
+        }
+
+        @Override
+        protected void compute() {
+            if (this.start >= this.end) {
+                return;
+            }
+            this.array.enterRecursion();
+            final int middle = (this.start + this.end) / 2;
+            if (this.end - this.start + 1 > this.threshold) {
+                final SortingArray left = this.array.fork();
+                final SortingArray right = this.array.fork();
+                ForkJoinTask.invokeAll(
+                    new SortTask(left, this.start, middle, this.threshold, this.buffer),
+                    new SortTask(right, middle + 1, this.end, this.threshold, this.buffer)
+                );
+                this.array.join(left);
+                this.array.join(right);
+            } else {
+                new SortTask(this.array, this.start, middle, this.threshold, this.buffer).compute();
+                new SortTask(this.array, middle + 1, this.end, this.threshold, this.buffer).compute();
+            }
+            MergeSort.merge(this.array, this.start, middle, this.end, this.buffer);
+            this.array.leaveRecursion();
+        }
+
+    }
+
+    /**
+     * Parts of at most this length are sorted sequentially by default.
+     */
+    public static final int DEFAULT_THRESHOLD = 8192;
+
+    public static final ParallelMergeSort INSTANCE = new ParallelMergeSort();
+
+    /**
+     * @param array The array to sort.
+     * @param threshold Parts of at most this length are sorted sequentially.
+     */
+    public static void sort(final SortingArray array, final int threshold) {
+        final int[] buffer = new int[array.length()];
+        if (array.trace.isRecording()) {
+            ParallelMergeSort.sortInRounds(array, buffer);
+        } else {
+            final int end = array.length() - 1;
+            ForkJoinPool.commonPool().invoke(new SortTask(array, 0, end, Math.max(2, threshold), buffer));
+        }
+    }
+
+    public static SortingTrace trace(final int[] initialArray) {
+        return Sorting.trace(
+            initialArray,
+            Optional.empty(),
+            array -> ParallelMergeSort.sort(array, ParallelMergeSort.DEFAULT_THRESHOLD)
+        );
+    }
+
+    public static SortingTrace trace(final int[] initialArray, final SortingCounters counters) {
+        return Sorting.trace(
+            initialArray,
+            Optional.of(counters),
+            array -> ParallelMergeSort.sort(array, ParallelMergeSort.DEFAULT_THRESHOLD)
+        );
+    }
+
+    private static int height(final int start, final int end) {
+        if (start >= end) {
+            return 0;
+        }
+        final int middle = (start + end) / 2;
+        return 1 + Math.max(ParallelMergeSort.height(start, middle), ParallelMergeSort.height(middle + 1, end));
+    }
+
+    /**
+     * Performs all merge operations at the specified recursion depth and marks the merged parts.
+     */
+    private static void mergeAtDepth(
+        final SortingArray array,
+        final int start,
+        final int end,
+        final int depth,
+        final int[] buffer
+    ) {
+        if (start >= end) {
+            return;
+        }
+        final int middle = (start + end) / 2;
+        if (depth > 0) {
+            ParallelMergeSort.mergeAtDepth(array, start, middle, depth - 1, buffer);
+            ParallelMergeSort.mergeAtDepth(array, middle + 1, end, depth - 1, buffer);
+            return;
+        }
+        MergeSort.merge(array, start, middle, end, buffer);
+        array.trace.separate(middle, false);
+        array.trace.markRange(start, end + 1);
+    }
+
+    private static void separateAtDepth(
+        final SortingTrace result,
+        final int start,
+        final int end,
+        final int depth
+    ) {
+        if (start >= end || depth == 0) {
+            return;
+        }
+        final int middle = (start + end) / 2;
+        result.separate(middle, true);
+        ParallelMergeSort.separateAtDepth(result, start, middle, depth - 1);
+        ParallelMergeSort.separateAtDepth(result, middle + 1, end, depth - 1);
+    }
+
+    private static void sortInRounds(final SortingArray array, final int[] buffer) {
+        final int end = array.length() - 1;
+        final int height = ParallelMergeSort.height(0, end);
+        ParallelMergeSort.separateAtDepth(array.trace, 0, end, height);
+        for (int level = 0; level < height; level++) {
+            array.enterRecursion();
+        }
+        for (int depth = height - 1; depth >= 0; depth--) {
+            array.trace.clearMarkers();
+            ParallelMergeSort.mergeAtDepth(array, 0, end, depth, buffer);
+            array.trace.snapshot(true, true);
+            array.leaveRecursion();
+        }
+    }
+
+    private ParallelMergeSort() {}
+
+    @Override
+    public void executeAlgorithm(final AlgorithmInput input) throws IOException {
+        Sorting.sort(
+            input,
+            "parallelem Mergesort",
+            "Runde von Merge-Operationen",
+            ". In einer Runde werden dabei alle Merge-Operationen gleicher Rekursionstiefe parallel ausgef\\\"uhrt, "
+            + "beginnend mit der gr\\\"o\\ss{}ten Rekursionstiefe",
+            array -> ParallelMergeSort.sort(array, ParallelMergeSort.DEFAULT_THRESHOLD),
+            Sorting::printSolution
+        );
+    }
+
+    @Override
+    public String[] generateTestParameters() {
+        final String[] result = new String[2];
+        result[0] = "-l";
+        result[1] = "5";
+        return result;
+    }
+
+}
@@ -13,7 +13,7 @@ public class QuickSort implements AlgorithmImplementation {
     /**
      * Mode indicating how to treat elements equal to the pivot element during partitioning.
      */
-    private static enum PartitionMode {
+    public static enum PartitionMode {
 
         /**
          * Elements equal to the pivot element are always swapped.
@@ -37,136 +37,390 @@ public class QuickSort implements AlgorithmImplementation {
 
     }
 
-    public static final QuickSort INSTANCE = new QuickSort();
-
     /**
-     * Flag indicating whether elements equal to the pivot element should end up in the left partition.
+     * Variants of Quicksort selectable by the flag -v (by number or name).
      */
-    private static final PartitionMode PARTITION_MODE = PartitionMode.EQUAL_RIGHT; // TODO parameterize
+    public static enum Variant {
+
+        /**
+         * The last element is the pivot element and elements equal to it end up in the right partition (default).
+         */
+        LAST_EQUAL_RIGHT(PartitionMode.EQUAL_RIGHT, " und markieren Sie das jeweils verwendete Pivot-Element"),
+
+        /**
+         * The last element is the pivot element and elements equal to it end up in the left partition.
+         */
+        LAST_EQUAL_LEFT(PartitionMode.EQUAL_LEFT, " und markieren Sie das jeweils verwendete Pivot-Element"),
+
+        /**
+         * The last element is the pivot element and elements equal to it are always swapped.
+         */
+        LAST_EQUAL_ALWAYS_SWAP(
+            PartitionMode.EQUAL_ALWAYS_SWAP,
+            " und markieren Sie das jeweils verwendete Pivot-Element"
+        ),
+
+        /**
+         * The last element is the pivot element and elements equal to it are never swapped.
+         */
+        LAST_EQUAL_NEVER_SWAP(
+            PartitionMode.EQUAL_NEVER_SWAP,
+            " und markieren Sie das jeweils verwendete Pivot-Element"
+        ),
+
+        /**
+         * The median of the first, middle, and last element is swapped to the end and used as pivot element.
+         */
+        MEDIAN_OF_THREE(
+            PartitionMode.EQUAL_RIGHT,
+            " und markieren Sie das jeweils verwendete Pivot-Element. Als Pivot-Element wird dabei jeweils der Median "
+            + "aus erstem, mittlerem und letztem Element des Teilarrays verwendet, der vor dem Partitionieren mit dem "
+            + "letzten Element vertauscht wird"
+        ),
+
+        /**
+         * A random element is swapped to the end and used as pivot element.
+         */
+        RANDOM_PIVOT(
+            PartitionMode.EQUAL_RIGHT,
+            " und markieren Sie das jeweils verwendete Pivot-Element. Das Pivot-Element wird dabei jeweils zuf\\\"allig "
+            + "gew\\\"ahlt und vor dem Partitionieren mit dem letzten Element vertauscht"
+        ),
+
+        /**
+         * Three-way partitioning (Dutch national flag) with the last element as pivot element. All elements equal to
+         * the pivot element end up in the middle partition and are excluded from further recursion.
+         */
+        THREE_WAY(
+            PartitionMode.EQUAL_RIGHT,
+            " und markieren Sie jeweils alle Elemente, die gleich dem verwendeten Pivot-Element (dem letzten Element "
+            + "des Teilarrays) sind. Partitionieren Sie dabei dreigeteilt in kleinere, gleiche und gr\\\"o\\ss{}ere "
+            + "Elemente"
+        ),
+
+        /**
+         * Dual-pivot partitioning with the first and the last element as pivot elements.
+         */
+        DUAL_PIVOT(
+            PartitionMode.EQUAL_RIGHT,
+            " und markieren Sie die jeweils verwendeten Pivot-Elemente. Verwenden Sie dabei das erste und das letzte "
+            + "Element des Teilarrays als Pivot-Elemente"
+        );
+
+        /**
+         * @param options The program options.
+         * @return The variant specified by the flag -v (by number or name). The default variant if no variant is
+         *         specified.
+         */
+        public static Variant parse(final Parameters options) {
+            if (!options.containsKey(Flag.VARIANT)) {
+                return LAST_EQUAL_RIGHT;
+            }
+            final String text = options.get(Flag.VARIANT).trim();
+            for (final Variant variant : Variant.values()) {
+                if (String.valueOf(variant.ordinal()).equals(text) || variant.name().equalsIgnoreCase(text)) {
+                    return variant;
+                }
+            }
+            throw new IllegalArgumentException("Unknown Quicksort variant: " + text);
+        }
+
+        private final String exerciseSuffix;
+
+        private final PartitionMode partitionMode;
+
+        private Variant(final PartitionMode partitionMode, final String exerciseSuffix) {
+            this.partitionMode = partitionMode;
+            this.exerciseSuffix = exerciseSuffix;
+        }
 
-    public static List<List<ItemWithTikZInformation<Integer>>> quicksort(final int[] initialArray) {
-        final List<List<ItemWithTikZInformation<Integer>>> result =
-            new ArrayList<List<ItemWithTikZInformation<Integer>>>();
-        result.add(Sorting.toTikZItems(initialArray));
-        final int[] array = ArrayUtils.copy(initialArray);
-        final boolean[] separate = new boolean[array.length - 1];
-        final boolean[] mark = new boolean[array.length];
-        Arrays.fill(separate, false);
-        Arrays.fill(mark, false);
-        QuickSort.quicksort(array, 0, array.length - 1, separate, mark, result);
-        return result;
     }
 
     /**
-     * Partitions the array part between <code>start</code> and <code>end</code> using the element at <code>end</code>
-     * as Pivot element. It returns the resulting index of the Pivot element. So after this method call, all elements
-     * from <code>start</code> to the returned index minus one are less than or equal to the element at the returned
-     * index and all elements from the returned index plus one to <code>end</code> are greater than or equal to the
-     * element at the returned index.
-     * @param array The array.
-     * @param start The start index.
-     * @param end The end index.
-     * @return The index of the Pivot element after partitioning.
+     * State of one Quicksort run.
      */
-    private static int partition(final int[] array, final int start, final int end) {
-        int i = start - 1;
-        int j = end;
-        switch (QuickSort.PARTITION_MODE) {
-            case EQUAL_ALWAYS_SWAP:
-                while (i < j) {
-                    i++;
-                    while (array[i] < array[end]) {
+    private static class Run {
+
+        private final SortingArray array;
+
+        private final Random random;
+
+        private final Variant variant;
+
+        private Run(final SortingArray array, final Variant variant, final Random random) {
+            this.array = array;
+            this.variant = variant;
+            this.random = random;
+        }
+
+        private int medianOfThree(final int start, final int end) {
+            final int middle = (start + end) >>> 1;
+            final SortingArray array = this.array;
+            if (array.less(array.get(middle), array.get(start))) {
+                if (array.less(array.get(end), array.get(middle))) {
+                    return middle;
+                }
+                return array.less(array.get(end), array.get(start)) ? end : start;
+            }
+            if (array.less(array.get(end), array.get(start))) {
+                return start;
+            }
+            return array.less(array.get(end), array.get(middle)) ? end : middle;
+        }
+
+        /**
+         * Partitions the array part between <code>start</code> and <code>end</code> using the element at
+         * <code>end</code> as Pivot element. It returns the resulting index of the Pivot element. So after this
+         * method call, all elements from <code>start</code> to the returned index minus one are less than or equal to
+         * the element at the returned index and all elements from the returned index plus one to <code>end</code> are
+         * greater than or equal to the element at the returned index.
+         * @param start The start index.
+         * @param end The end index.
+         * @return The index of the Pivot element after partitioning.
+         */
+        private int partition(final int start, final int end) {
+            final SortingArray array = this.array;
+            int i = start - 1;
+            int j = end;
+            switch (this.variant.partitionMode) {
+                case EQUAL_ALWAYS_SWAP:
+                    while (i < j) {
                         i++;
-                    }
-                    j--;
-                    while (j > start - 1 && array[j] > array[end]) {
+                        while (array.less(array.get(i), array.get(end))) {
+                            i++;
+                        }
                         j--;
+                        while (j > start - 1 && array.less(array.get(end), array.get(j))) {
+                            j--;
+                        }
+                        if (i < j) {
+                            this.swap(i, j);
+                        }
                     }
-                    ArrayUtils.swap(array, i, j);
-                }
-                break;
-            case EQUAL_LEFT:
-                while (i < j) {
-                    i++;
-                    while (array[i] <= array[end]) {
+                    break;
+                case EQUAL_LEFT:
+                    while (i < j) {
                         i++;
-                    }
-                    j--;
-                    while (j > start - 1 && array[j] > array[end]) {
+                        while (i < end && array.lessOrEqual(array.get(i), array.get(end))) {
+                            i++;
+                        }
                         j--;
+                        while (j > start - 1 && array.less(array.get(end), array.get(j))) {
+                            j--;
+                        }
+                        if (i < j) {
+                            this.swap(i, j);
+                        }
                     }
-                    ArrayUtils.swap(array, i, j);
-                }
-                break;
-            case EQUAL_NEVER_SWAP:
-                while (i < j) {
-                    i++;
-                    while (array[i] <= array[end]) {
+                    break;
+                case EQUAL_NEVER_SWAP:
+                    while (i < j) {
                         i++;
-                    }
-                    j--;
-                    while (j > start - 1 && array[j] >= array[end]) {
+                        while (i < end && array.lessOrEqual(array.get(i), array.get(end))) {
+                            i++;
+                        }
                         j--;
+                        while (j > start - 1 && array.lessOrEqual(array.get(end), array.get(j))) {
+                            j--;
+                        }
+                        if (i < j) {
+                            this.swap(i, j);
+                        }
                     }
-                    ArrayUtils.swap(array, i, j);
-                }
-                break;
-            case EQUAL_RIGHT:
-                while (i < j) {
-                    i++;
-                    while (array[i] < array[end]) {
+                    break;
+                case EQUAL_RIGHT:
+                    while (i < j) {
                         i++;
-                    }
-                    j--;
-                    while (j > start - 1 && array[j] >= array[end]) {
+                        while (array.less(array.get(i), array.get(end))) {
+                            i++;
+                        }
                         j--;
+                        while (j > start - 1 && array.lessOrEqual(array.get(end), array.get(j))) {
+                            j--;
+                        }
+                        if (i < j) {
+                            this.swap(i, j);
+                        }
+                    }
+                    break;
+                default:
+                    throw new IllegalStateException("Unknown partition mode!");
+            }
+            this.swap(i, end);
+            return i;
+        }
+
+        private void quicksort(final int start, final int end) {
+            if (start >= end) {
+                return;
+            }
+            this.array.enterRecursion();
+            switch (this.variant) {
+                case THREE_WAY:
+                    this.quicksortThreeWay(start, end);
+                    break;
+                case DUAL_PIVOT:
+                    this.quicksortDualPivot(start, end);
+                    break;
+                case MEDIAN_OF_THREE:
+                    this.swap(this.medianOfThree(start, end), end);
+                    this.quicksortSinglePivot(start, end);
+                    break;
+                case RANDOM_PIVOT:
+                    this.swap(start + this.random.nextInt(end - start + 1), end);
+                    this.quicksortSinglePivot(start, end);
+                    break;
+                default:
+                    this.quicksortSinglePivot(start, end);
+            }
+            this.array.leaveRecursion();
+        }
+
+        private void quicksortDualPivot(final int start, final int end) {
+            final SortingArray array = this.array;
+            if (array.less(array.get(end), array.get(start))) {
+                this.swap(start, end);
+            }
+            final int left = array.get(start);
+            final int right = array.get(end);
+            int lower = start + 1;
+            int upper = end - 1;
+            int k = lower;
+            while (k <= upper) {
+                if (array.less(array.get(k), left)) {
+                    this.swap(k, lower);
+                    lower++;
+                } else if (!array.less(array.get(k), right)) {
+                    while (k < upper && array.less(right, array.get(upper))) {
+                        upper--;
+                    }
+                    this.swap(k, upper);
+                    upper--;
+                    if (array.less(array.get(k), left)) {
+                        this.swap(k, lower);
+                        lower++;
                     }
-                    ArrayUtils.swap(array, i, j);
                 }
-                break;
-            default:
-                throw new IllegalStateException("Unknown partition mode!");
+                k++;
+            }
+            lower--;
+            upper++;
+            this.swap(start, lower);
+            this.swap(end, upper);
+            this.separateAround(lower, lower);
+            this.separateAround(upper, upper);
+            this.array.trace.clearMarkers();
+            this.array.trace.mark(lower, true);
+            this.array.trace.mark(upper, true);
+            this.array.trace.snapshot(true, true);
+            this.quicksort(start, lower - 1);
+            this.quicksort(lower + 1, upper - 1);
+            this.quicksort(upper + 1, end);
         }
-        ArrayUtils.swap(array, i, j);
-        ArrayUtils.swap(array, i, end);
-        return i;
-    }
 
-    private static void quicksort(
-        final int[] array,
-        final int start,
-        final int end,
-        final boolean[] separate,
-        final boolean[] mark,
-        final List<List<ItemWithTikZInformation<Integer>>> result
-    ) {
-        if (start >= end) {
-            return;
+        private void quicksortSinglePivot(final int start, final int end) {
+            final int middle = this.partition(start, end);
+            this.separateAround(middle, middle);
+            this.array.trace.clearMarkers();
+            this.array.trace.mark(middle, true);
+            this.array.trace.snapshot(true, true);
+            this.quicksort(start, middle - 1);
+            this.quicksort(middle + 1, end);
+        }
+
+        private void quicksortThreeWay(final int start, final int end) {
+            final SortingArray array = this.array;
+            final int pivot = array.get(end);
+            int lower = start;
+            int upper = end;
+            int i = start;
+            while (i <= upper) {
+                if (array.less(array.get(i), pivot)) {
+                    this.swap(lower, i);
+                    lower++;
+                    i++;
+                } else if (array.less(pivot, array.get(i))) {
+                    this.swap(i, upper);
+                    upper--;
+                } else {
+                    i++;
+                }
+            }
+            this.separateAround(lower, upper);
+            this.array.trace.clearMarkers();
+            this.array.trace.markRange(lower, upper + 1);
+            this.array.trace.snapshot(true, true);
+            this.quicksort(start, lower - 1);
+            this.quicksort(upper + 1, end);
         }
-        final int middle = QuickSort.partition(array, start, end);
-        if (middle > 0) {
-            separate[middle - 1] = true;
+
+        private void separateAround(final int from, final int to) {
+            if (from > 0) {
+                this.array.trace.separate(from - 1, true);
+            }
+            if (to < this.array.length() - 1) {
+                this.array.trace.separate(to, true);
+            }
         }
-        if (middle < array.length - 1) {
-            separate[middle] = true;
+
+        private void swap(final int i, final int j) {
+            if (i >= 0 && j >= 0 && i != j) {
+                this.array.swap(i, j);
+            }
         }
-        Arrays.fill(mark, false);
-        mark[middle] = true;
-        result.add(Sorting.toTikZItems(array, separate, mark));
-        QuickSort.quicksort(array, start, middle - 1, separate, mark, result);
-        QuickSort.quicksort(array, middle + 1, end, separate, mark, result);
+
+    }
+
+    public static final QuickSort INSTANCE = new QuickSort();
+
+    public static List<List<ItemWithTikZInformation<Integer>>> quicksort(final int[] initialArray) {
+        return QuickSort.trace(initialArray).toItemsLists();
+    }
+
+    /**
+     * @param array The array to sort.
+     * @param variant The variant of Quicksort.
+     * @param random The random number generator used for random pivot elements.
+     */
+    public static void sort(final SortingArray array, final Variant variant, final Random random) {
+        new Run(array, variant, random).quicksort(0, array.length() - 1);
+    }
+
+    public static SortingTrace trace(final int[] initialArray) {
+        return Sorting.trace(
+            initialArray,
+            Optional.empty(),
+            array -> QuickSort.sort(array, Variant.LAST_EQUAL_RIGHT, new Random())
+        );
+    }
+
+    /**
+     * @param initialArray The array to sort.
+     * @param variant The variant of Quicksort.
+     * @param random The random number generator used for random pivot elements.
+     * @param counters The counters for comparisons, swaps, and recursion depth.
+     * @return The trace of sorting the specified array with the specified variant.
+     */
+    public static SortingTrace trace(
+        final int[] initialArray,
+        final Variant variant,
+        final Random random,
+        final SortingCounters counters
+    ) {
+        return Sorting.trace(initialArray, Optional.of(counters), array -> QuickSort.sort(array, variant, random));
     }
 
     private QuickSort() {}
 
     @Override
     public void executeAlgorithm(final AlgorithmInput input) throws IOException {
+        final Variant variant = Variant.parse(input.options);
         Sorting.sort(
             input,
             Algorithm.QUICKSORT.longName,
             "Partition-Operation",
-            " und markieren Sie das jeweils verwendete Pivot-Element",
-            QuickSort::quicksort,
+            variant.exerciseSuffix,
+            array -> QuickSort.sort(array, variant, new Random()),
             Sorting::printSolution
         );
     }
@@ -0,0 +1,145 @@
+package exercisegenerator.algorithms.sorting;
+
+import java.io.*;
+import java.util.*;
+
+import exercisegenerator.algorithms.*;
+import exercisegenerator.io.*;
+import exercisegenerator.structures.*;
+
+/**
+ * LSD Radixsort with a configurable base. Each pass distributes the elements stably by one digit (starting with the
+ * least significant one) using one count array for all passes. The passes alternate between the array and one
+ * auxiliary buffer as source and target such that no element is copied back except after the last pass if the result
+ * ends up in the buffer. Negative values are shifted by the minimum such that all keys are non-negative. A snapshot
+ * separating the groups of equal digits is recorded after each pass.
+ */
+public class RadixSort implements AlgorithmImplementation {
+
+    public static final int DEFAULT_BASE = 10;
+
+    public static final RadixSort INSTANCE = new RadixSort();
+
+    /**
+     * @param array The array to sort.
+     * @param base The base of the digits (at least 2). Powers of two use shifts instead of divisions.
+     */
+    public static void sort(final SortingArray array, final int base) {
+        if (base < 2) {
+            throw new IllegalArgumentException("The base of Radixsort must be at least 2!");
+        }
+        final int length = array.length();
+        if (length < 2) {
+            return;
+        }
+        final int offset = Math.min(0, Sorting.minimum(array));
+        final long maxKey = Integer.toUnsignedLong(Sorting.maximum(array) - offset);
+        if (maxKey == 0) {
+            return;
+        }
+        final int[] counts = new int[base + 1];
+        final int[] buffer = new int[length];
+        int[] source = array.array;
+        int[] target = buffer;
+        for (long divisor = 1; ; divisor *= base) {
+            RadixSort.pass(array, source, target, counts, offset, divisor, base);
+            final int[] swap = source;
+            source = target;
+            target = swap;
+            if (divisor > maxKey / base) {
+                break;
+            }
+        }
+        if (source != array.array) {
+            for (int i = 0; i < length; i++) {
+                array.set(i, source[i]);
+            }
+        }
+    }
+
+    public static SortingTrace trace(final int[] initialArray, final int base) {
+        return Sorting.trace(initialArray, Optional.empty(), array -> RadixSort.sort(array, base));
+    }
+
+    public static SortingTrace trace(final int[] initialArray, final int base, final SortingCounters counters) {
+        return Sorting.trace(initialArray, Optional.of(counters), array -> RadixSort.sort(array, base));
+    }
+
+    private static int digit(final int value, final int offset, final long divisor, final int base) {
+        final long key = Integer.toUnsignedLong(value - offset);
+        if ((base & (base - 1)) == 0) {
+            return (int)(key >>> Long.numberOfTrailingZeros(divisor)) & (base - 1);
+        }
+        return (int)(key / divisor % base);
+    }
+
+    /**
+     * Distributes the elements of the source stably by the digit specified by the divisor into the target. Each
+     * element placed counts as one write, no matter whether the target is the array itself or the auxiliary buffer.
+     */
+    private static void pass(
+        final SortingArray array,
+        final int[] source,
+        final int[] target,
+        final int[] counts,
+        final int offset,
+        final long divisor,
+        final int base
+    ) {
+        final int length = source.length;
+        Arrays.fill(counts, 0);
+        for (int i = 0; i < length; i++) {
+            counts[RadixSort.digit(source[i], offset, divisor, base) + 1]++;
+        }
+        for (int digit = 1; digit < base; digit++) {
+            counts[digit] += counts[digit - 1];
+        }
+        for (int i = 0; i < length; i++) {
+            final int value = source[i];
+            final int index = counts[RadixSort.digit(value, offset, divisor, base)]++;
+            array.set(target, index, value);
+        }
+        if (array.trace.isRecording()) {
+            for (int i = 0; i < length - 1; i++) {
+                array.trace.separate(i, false);
+            }
+            for (int digit = 0; digit < base; digit++) {
+                if (counts[digit] > 0 && counts[digit] < length) {
+                    array.trace.separate(counts[digit] - 1, true);
+                }
+            }
+            array.trace.snapshot(true, false);
+        }
+    }
+
+    private RadixSort() {}
+
+    @Override
+    public void executeAlgorithm(final AlgorithmInput input) throws IOException {
+        final int base =
+            input.options.containsKey(Flag.DEGREE) ?
+                Integer.parseInt(input.options.get(Flag.DEGREE)) :
+                    RadixSort.DEFAULT_BASE;
+        Sorting.sort(
+            input,
+            Algorithm.RADIXSORT.longName,
+            "Phase",
+            String.format(
+                ". Sortieren Sie dabei in jeder Phase stabil nach einer Ziffer zur Basis %d, beginnend mit der "
+                + "niederwertigsten Ziffer, und trennen Sie die Gruppen gleicher Ziffern voneinander",
+                base
+            ),
+            array -> RadixSort.sort(array, base),
+            Sorting::printSolution
+        );
+    }
+
+    @Override
+    public String[] generateTestParameters() {
+        final String[] result = new String[2];
+        result[0] = "-l";
+        result[1] = "5";
+        return result;
+    }
+
+}
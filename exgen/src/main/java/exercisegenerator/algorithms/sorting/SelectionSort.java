@@ -13,23 +13,30 @@ public class SelectionSort implements AlgorithmImplementation {
     public static final SelectionSort INSTANCE = new SelectionSort();
 
     public static List<List<ItemWithTikZInformation<Integer>>> selectionsort(final int[] initialArray) {
-        final List<List<ItemWithTikZInformation<Integer>>> result =
-            new ArrayList<List<ItemWithTikZInformation<Integer>>>();
-        result.add(Sorting.toTikZItems(initialArray));
-        final int[] array = ArrayUtils.copy(initialArray);
-        for (int i = 0; i < array.length - 1; i++) {
+        return SelectionSort.trace(initialArray).toItemsLists();
+    }
+
+    public static void sort(final SortingArray array) {
+        for (int i = 0; i < array.length() - 1; i++) {
             int min = i;
-            for (int j = i + 1; j < array.length; j++) {
-                if (array[j] < array[min]) {
+            for (int j = i + 1; j < array.length(); j++) {
+                if (array.less(array.get(j), array.get(min))) {
                     min = j;
                 }
             }
             if (i != min) {
-                ArrayUtils.swap(array, i, min);
-                result.add(Sorting.toTikZItems(array));
+                array.swap(i, min);
+                array.trace.snapshot(false, false);
             }
         }
-        return result;
+    }
+
+    public static SortingTrace trace(final int[] initialArray) {
+        return Sorting.trace(initialArray, Optional.empty(), SelectionSort::sort);
+    }
+
+    public static SortingTrace trace(final int[] initialArray, final SortingCounters counters) {
+        return Sorting.trace(initialArray, Optional.of(counters), SelectionSort::sort);
     }
 
     private SelectionSort() {}
@@ -41,7 +48,7 @@ public class SelectionSort implements AlgorithmImplementation {
             Algorithm.SELECTIONSORT.longName,
             "Swap-Operation",
             "",
-            SelectionSort::selectionsort,
+            SelectionSort::sort,
             Sorting::printSolution
         );
     }
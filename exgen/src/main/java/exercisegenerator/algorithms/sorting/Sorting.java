@@ -13,10 +13,10 @@ abstract class Sorting {
 
     static class SortingSolution {
         final int contentLength;
-        final List<List<ItemWithTikZInformation<Integer>>> solution;
+        final SortingTrace solution;
         final BufferedWriter writer;
         SortingSolution(
-            final List<List<ItemWithTikZInformation<Integer>>> solution,
+            final SortingTrace solution,
             final int contentLength,
             final BufferedWriter writer
         ) {
@@ -27,6 +27,51 @@ abstract class Sorting {
         }
     }
 
+    /**
+     * The header line of the comma separated values written for the metrics value {@link Sorting#SWEEP}.
+     */
+    static final String SWEEP_HEADER = "algorithm,length,nanos,comparisons,swaps,writes,recursionDepth";
+
+    /**
+     * The value of the flag -m for writing running times and operation counts as comma separated values.
+     */
+    private static final String SWEEP = "csv";
+
+    /**
+     * The default maximal length for writing running times and operation counts as comma separated values.
+     */
+    private static final int SWEEP_MAX_LENGTH = 4096;
+
+    /**
+     * The minimal length for writing running times and operation counts as comma separated values.
+     */
+    private static final int SWEEP_MIN_LENGTH = 16;
+
+    /**
+     * The number of timed runs per length for writing running times and operation counts as comma separated values.
+     */
+    private static final int SWEEP_RUNS = 5;
+
+    static int maximum(final SortingArray array) {
+        int result = array.get(0);
+        for (int i = 1; i < array.length(); i++) {
+            if (array.less(result, array.get(i))) {
+                result = array.get(i);
+            }
+        }
+        return result;
+    }
+
+    static int minimum(final SortingArray array) {
+        int result = array.get(0);
+        for (int i = 1; i < array.length(); i++) {
+            if (array.less(array.get(i), result)) {
+                result = array.get(i);
+            }
+        }
+        return result;
+    }
+
     static void printSolution(final SortingSolution solutionData) throws IOException {
         LaTeXUtils.printTikzBeginning(TikZStyle.ARRAY, solutionData.writer);
         String anchor = null;
@@ -48,11 +93,17 @@ abstract class Sorting {
         final String name,
         final String operation,
         final String suffix,
-        final Function<int[], List<List<ItemWithTikZInformation<Integer>>>> sort,
+        final Consumer<SortingArray> algorithm,
         final CheckedConsumer<SortingSolution, IOException> solutionPrinter
     ) throws IOException {
+        if (Sorting.SWEEP.equals(input.options.get(Flag.METRICS))) {
+            Sorting.printSweep(algorithm, input.options, input.solutionWriter);
+            return;
+        }
         final int[] array = Sorting.parseOrGenerateArray(input.options);
-        final List<List<ItemWithTikZInformation<Integer>>> solution = sort.apply(array);
+        final Optional<SortingCounters> counters =
+            Boolean.parseBoolean(input.options.get(Flag.METRICS)) ? Optional.of(new SortingCounters()) : Optional.empty();
+        final SortingTrace solution = Sorting.trace(array, counters, algorithm);
         final int contentLength = Sorting.getMaximumContentLength(array);
         if (input.options.containsKey(Flag.EXERCISE)) {
             Sorting.printExerciseText(
@@ -67,6 +118,61 @@ abstract class Sorting {
             );
         }
         solutionPrinter.accept(new SortingSolution(solution, contentLength, input.solutionWriter));
+        if (counters.isPresent()) {
+            Sorting.printOperationCounts(counters.get(), input.solutionWriter);
+        }
+    }
+
+    /**
+     * Sorts random arrays with lengths doubling from the specified minimal to the specified maximal length. The
+     * running time is the minimum over several runs without recording a trace, the operation counts stem from one
+     * additional counted run.
+     * @param name The name of the sorting algorithm.
+     * @param algorithm The sorting algorithm.
+     * @param minLength The minimal length.
+     * @param maxLength The maximal length.
+     * @param runs The number of timed runs per length.
+     * @param gen The random number generator for the arrays.
+     * @return One line of comma separated values (without header) per length.
+     */
+    static List<String> sweep(
+        final String name,
+        final Consumer<SortingArray> algorithm,
+        final int minLength,
+        final int maxLength,
+        final int runs,
+        final Random gen
+    ) {
+        final List<String> result = new ArrayList<String>();
+        for (int length = Math.max(1, minLength); length <= maxLength; length *= 2) {
+            final int[] array = new int[length];
+            for (int i = 0; i < length; i++) {
+                array[i] = gen.nextInt(Main.NUMBER_LIMIT);
+            }
+            long nanos = Long.MAX_VALUE;
+            for (int run = 0; run < runs; run++) {
+                final SortingArray sorting =
+                    SortingArray.of(array.clone(), SortingTrace.discarding(array), Optional.empty());
+                final long start = System.nanoTime();
+                algorithm.accept(sorting);
+                nanos = Math.min(nanos, System.nanoTime() - start);
+            }
+            final SortingCounters counters = new SortingCounters();
+            algorithm.accept(SortingArray.of(array.clone(), SortingTrace.discarding(array), Optional.of(counters)));
+            result.add(
+                String.format(
+                    "%s,%d,%d,%d,%d,%d,%d",
+                    name,
+                    length,
+                    runs > 0 ? nanos : 0,
+                    counters.getComparisons(),
+                    counters.getSwaps(),
+                    counters.getWrites(),
+                    counters.getMaxRecursionDepth()
+                )
+            );
+        }
+        return result;
     }
 
     static List<ItemWithTikZInformation<Integer>> toTikZItems(final int[] array) {
@@ -75,27 +181,14 @@ abstract class Sorting {
             .toList();
     }
 
-    static List<ItemWithTikZInformation<Integer>> toTikZItems(final int[] array, final boolean[] separate) {
-        final List<ItemWithTikZInformation<Integer>> result = new ArrayList<ItemWithTikZInformation<Integer>>();
-        result.add(new ItemWithTikZInformation<Integer>(Optional.of(array[0]), false));
-        for (int i = 1; i < array.length; i++) {
-            result.add(new ItemWithTikZInformation<Integer>(Optional.of(array[i]), separate[i - 1]));
-        }
-        return result;
-    }
-
-    static List<ItemWithTikZInformation<Integer>> toTikZItems(
-        final int[] array,
-        final boolean[] separate,
-        final boolean[] markers
+    static SortingTrace trace(
+        final int[] initialArray,
+        final Optional<SortingCounters> counters,
+        final Consumer<SortingArray> algorithm
     ) {
-        final List<ItemWithTikZInformation<Integer>> result = new ArrayList<ItemWithTikZInformation<Integer>>();
-        result.add(new ItemWithTikZInformation<Integer>(Optional.ofNullable(array[0]), markers[0], false));
-        for (int i = 1; i < array.length; i++) {
-            result.add(
-                new ItemWithTikZInformation<Integer>(Optional.ofNullable(array[i]), markers[i], separate[i - 1])
-            );
-        }
+        final SortingTrace result = new SortingTrace(initialArray);
+        result.snapshot(false, false);
+        algorithm.accept(SortingArray.of(ArrayUtils.copy(initialArray), result, counters));
         return result;
     }
 
@@ -174,4 +267,44 @@ abstract class Sorting {
         LaTeXUtils.printSolutionSpaceEnd(Optional.of("1ex"), options, writer);
     }
 
+    private static void printOperationCounts(final SortingCounters counters, final BufferedWriter writer)
+    throws IOException {
+        writer.write(
+            String.format(
+                "Dabei werden %d Vergleiche, %d Vertauschungen und %d weitere Schreibzugriffe ausgef\\\"uhrt. Die "
+                + "maximale Rekursionstiefe betr\\\"agt %d.",
+                counters.getComparisons(),
+                counters.getSwaps(),
+                counters.getWrites(),
+                counters.getMaxRecursionDepth()
+            )
+        );
+        Main.newLine(writer);
+        Main.newLine(writer);
+    }
+
+    private static void printSweep(
+        final Consumer<SortingArray> algorithm,
+        final Parameters options,
+        final BufferedWriter writer
+    ) throws IOException {
+        final int maxLength =
+            options.containsKey(Flag.LENGTH) ? Integer.parseInt(options.get(Flag.LENGTH)) : Sorting.SWEEP_MAX_LENGTH;
+        final List<String> lines =
+            Sorting.sweep(
+                options.get(Flag.ALGORITHM),
+                algorithm,
+                Sorting.SWEEP_MIN_LENGTH,
+                maxLength,
+                Sorting.SWEEP_RUNS,
+                new Random()
+            );
+        writer.write(Sorting.SWEEP_HEADER);
+        Main.newLine(writer);
+        for (final String line : lines) {
+            writer.write(line);
+            Main.newLine(writer);
+        }
+    }
+
 }
@@ -0,0 +1,232 @@
+package exercisegenerator.algorithms.sorting;
+
+import java.util.*;
+
+/**
+ * The array of integers a sorting algorithm works on. All comparisons and changes of the array contents go through
+ * this wrapper such that changes are recorded in the trace and operations can be counted. Counting is implemented by
+ * a separate subclass instead of a check per access, so a run without counters only pays for a virtual call which the
+ * JIT compiler inlines at monomorphic call sites.
+ */
+public abstract class SortingArray {
+
+    private static final class Counting extends SortingArray {
+
+        private final SortingCounters counters;
+
+        private Counting(final int[] array, final SortingTrace trace, final SortingCounters counters) {
+            super(array, trace);
+            this.counters = counters;
+        }
+
+        @Override
+        public void enterRecursion() {
+            this.counters.enterRecursion();
+        }
+
+        @Override
+        public SortingArray fork() {
+            return new Counting(this.array, this.trace, new SortingCounters());
+        }
+
+        @Override
+        public void join(final SortingArray forked) {
+            this.counters.add(((Counting)forked).counters);
+        }
+
+        @Override
+        public void leaveRecursion() {
+            this.counters.leaveRecursion();
+        }
+
+        @Override
+        public boolean less(final int a, final int b) {
+            this.counters.countComparison();
+            return a < b;
+        }
+
+        @Override
+        public boolean lessOrEqual(final int a, final int b) {
+            this.counters.countComparison();
+            return a <= b;
+        }
+
+        @Override
+        public void set(final int index, final int value) {
+            this.counters.countWrite();
+            this.array[index] = value;
+            this.trace.write(index, value);
+        }
+
+        @Override
+        public void set(final int[] target, final int index, final int value) {
+            this.counters.countWrite();
+            target[index] = value;
+            this.trace.write(index, value);
+        }
+
+        @Override
+        public void swap(final int i, final int j) {
+            this.counters.countSwap();
+            final int value = this.array[i];
+            this.array[i] = this.array[j];
+            this.array[j] = value;
+            this.trace.swap(i, j);
+        }
+
+    }
+
+    private static final class Uncounted extends SortingArray {
+
+        private Uncounted(final int[] array, final SortingTrace trace) {
+            super(array, trace);
+        }
+
+        @Override
+        public void enterRecursion() {}
+
+        @Override
+        public SortingArray fork() {
+            return this;
+        }
+
+        @Override
+        public void join(final SortingArray forked) {}
+
+        @Override
+        public void leaveRecursion() {}
+
+        @Override
+        public boolean less(final int a, final int b) {
+            return a < b;
+        }
+
+        @Override
+        public boolean lessOrEqual(final int a, final int b) {
+            return a <= b;
+        }
+
+        @Override
+        public void set(final int index, final int value) {
+            this.array[index] = value;
+            this.trace.write(index, value);
+        }
+
+        @Override
+        public void set(final int[] target, final int index, final int value) {
+            target[index] = value;
+            this.trace.write(index, value);
+        }
+
+        @Override
+        public void swap(final int i, final int j) {
+            final int value = this.array[i];
+            this.array[i] = this.array[j];
+            this.array[j] = value;
+            this.trace.swap(i, j);
+        }
+
+    }
+
+    /**
+     * @param array The array to sort (it is modified directly, not copied).
+     * @param trace The trace to record the changes in.
+     * @param counters The counters for the operations if they should be counted.
+     * @return A wrapper around the specified array.
+     */
+    public static SortingArray of(
+        final int[] array,
+        final SortingTrace trace,
+        final Optional<SortingCounters> counters
+    ) {
+        if (counters.isPresent()) {
+            return new Counting(array, trace, counters.get());
+        }
+        return new Uncounted(array, trace);
+    }
+
+    final int[] array;
+
+    final SortingTrace trace;
+
+    private SortingArray(final int[] array, final SortingTrace trace) {
+        this.array = array;
+        this.trace = trace;
+    }
+
+    /**
+     * Marks entering a recursive call.
+     */
+    public abstract void enterRecursion();
+
+    /**
+     * Creates a wrapper around the same array for a concurrently running task. Forking is only allowed if the trace
+     * does not record changes.
+     * @return A wrapper around the same array with its own counters (if counting).
+     */
+    public abstract SortingArray fork();
+
+    /**
+     * @param index The index.
+     * @return The value at the specified index (reads are not counted).
+     */
+    public final int get(final int index) {
+        return this.array[index];
+    }
+
+    /**
+     * Marks leaving a recursive call.
+     */
+    public abstract void leaveRecursion();
+
+    /**
+     * Adds the counts of the specified forked wrapper after its task has finished.
+     * @param forked A wrapper created by {@link #fork()} on this wrapper.
+     */
+    public abstract void join(SortingArray forked);
+
+    public final int length() {
+        return this.array.length;
+    }
+
+    /**
+     * Compares two values (this counts as one comparison).
+     * @param a The first value.
+     * @param b The second value.
+     * @return Whether a is less than b.
+     */
+    public abstract boolean less(int a, int b);
+
+    /**
+     * Compares two values (this counts as one comparison).
+     * @param a The first value.
+     * @param b The second value.
+     * @return Whether a is less than or equal to b.
+     */
+    public abstract boolean lessOrEqual(int a, int b);
+
+    /**
+     * Writes the specified value at the specified index.
+     * @param index The index.
+     * @param value The value.
+     */
+    public abstract void set(int index, int value);
+
+    /**
+     * Writes the specified value at the specified index of the specified target, which is either the array itself or
+     * an auxiliary buffer of the same length temporarily holding the current contents at this index. Both count as
+     * one write and are recorded at the same index such that the trace always shows the current state.
+     * @param target The array itself or an auxiliary buffer.
+     * @param index The index.
+     * @param value The value.
+     */
+    public abstract void set(int[] target, int index, int value);
+
+    /**
+     * Swaps the values at the specified indices.
+     * @param i The first index.
+     * @param j The second index.
+     */
+    public abstract void swap(int i, int j);
+
+}
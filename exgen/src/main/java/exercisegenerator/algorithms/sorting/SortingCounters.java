@@ -0,0 +1,80 @@
+package exercisegenerator.algorithms.sorting;
+
+/**
+ * Counts the basic operations performed by a sorting algorithm on a {@link SortingArray}. Swaps are not counted as
+ * writes. Each element placed by a merge or distribution step counts as one write, also if it is placed in an
+ * auxiliary buffer taking the place of the array. Copies to a scratch buffer which are written back to the array
+ * afterwards only count once.
+ */
+public class SortingCounters {
+
+    private long comparisons;
+
+    private int maxRecursionDepth;
+
+    private int recursionDepth;
+
+    private long swaps;
+
+    private long writes;
+
+    public long getComparisons() {
+        return this.comparisons;
+    }
+
+    public int getMaxRecursionDepth() {
+        return this.maxRecursionDepth;
+    }
+
+    public long getSwaps() {
+        return this.swaps;
+    }
+
+    public long getWrites() {
+        return this.writes;
+    }
+
+    @Override
+    public String toString() {
+        return String.format(
+            "comparisons: %d, swaps: %d, writes: %d, recursion depth: %d",
+            this.comparisons,
+            this.swaps,
+            this.writes,
+            this.maxRecursionDepth
+        );
+    }
+
+    /**
+     * Adds the counts of a task forked at the current recursion depth.
+     * @param forked The counters of the forked task.
+     */
+    void add(final SortingCounters forked) {
+        this.comparisons += forked.comparisons;
+        this.swaps += forked.swaps;
+        this.writes += forked.writes;
+        this.maxRecursionDepth = Math.max(this.maxRecursionDepth, this.recursionDepth + forked.maxRecursionDepth);
+    }
+
+    void countComparison() {
+        this.comparisons++;
+    }
+
+    void countSwap() {
+        this.swaps++;
+    }
+
+    void countWrite() {
+        this.writes++;
+    }
+
+    void enterRecursion() {
+        this.recursionDepth++;
+        this.maxRecursionDepth = Math.max(this.maxRecursionDepth, this.recursionDepth);
+    }
+
+    void leaveRecursion() {
+        this.recursionDepth--;
+    }
+
+}
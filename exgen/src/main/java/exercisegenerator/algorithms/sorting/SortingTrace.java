@@ -0,0 +1,430 @@
+package exercisegenerator.algorithms.sorting;
+
+import java.util.*;
+
+import exercisegenerator.io.*;
+
+/**
+ * Compact trace of a sorting algorithm. It stores the initial array and a primitive log of changes to the array
+ * contents, separators, and markers. Each recorded snapshot only stores its position in the log and which
+ * decorations it shows. The intermediate states of the array are reconstructed on demand by replaying the log
+ * when iterating over the trace.
+ */
+public class SortingTrace implements Iterable<List<ItemWithTikZInformation<Integer>>> {
+
+    /**
+     * Trace only counting snapshots, but discarding all changes. Replaying it yields no snapshots.
+     */
+    private static final class Discarding extends SortingTrace {
+
+        private Discarding(final int[] initialArray) {
+            super(initialArray, 0);
+        }
+
+        @Override
+        public boolean isRecording() {
+            return false;
+        }
+
+        @Override
+        public Replay replay() {
+            return new Replay(0);
+        }
+
+        @Override
+        void append(final int operation, final int first, final int second) {}
+
+    }
+
+    /**
+     * Cursor replaying a trace snapshot by snapshot. In contrast to iterating over the trace, it does not create items
+     * for each snapshot, but exposes the current state together with the indices whose values or separators changed
+     * since the previous snapshot. Thus, consumers only need to update what has changed.
+     */
+    public class Replay {
+
+        private final int[] changedIndices;
+
+        private final int[] changedSeparators;
+
+        private final boolean[] isChangedIndex;
+
+        private final boolean[] isChangedSeparator;
+
+        private final boolean[] markers;
+
+        private int numberOfChangedIndices;
+
+        private int numberOfChangedSeparators;
+
+        private int position;
+
+        private final boolean[] separators;
+
+        private int show;
+
+        private int snapshot;
+
+        private final int snapshots;
+
+        private final int[] values;
+
+        private Replay(final int snapshots) {
+            final int length = SortingTrace.this.initialArray.length;
+            this.values = SortingTrace.this.initialArray.clone();
+            this.markers = new boolean[length];
+            this.separators = new boolean[Math.max(length - 1, 0)];
+            this.changedIndices = new int[length];
+            this.isChangedIndex = new boolean[length];
+            this.changedSeparators = new int[this.separators.length];
+            this.isChangedSeparator = new boolean[this.separators.length];
+            this.numberOfChangedIndices = 0;
+            this.numberOfChangedSeparators = 0;
+            this.position = 0;
+            this.show = 0;
+            this.snapshot = 0;
+            this.snapshots = snapshots;
+        }
+
+        /**
+         * @param index The index.
+         * @return The value at the specified index in the current snapshot.
+         */
+        public int get(final int index) {
+            return this.values[index];
+        }
+
+        /**
+         * @return The indices whose values changed since the previous snapshot (in order of their first change).
+         */
+        public int[] getChangedIndices() {
+            return Arrays.copyOf(this.changedIndices, this.numberOfChangedIndices);
+        }
+
+        /**
+         * @return The indices whose separators changed since the previous snapshot (in order of their first change).
+         */
+        public int[] getChangedSeparators() {
+            return Arrays.copyOf(this.changedSeparators, this.numberOfChangedSeparators);
+        }
+
+        public boolean hasNext() {
+            return this.snapshot < this.snapshots;
+        }
+
+        /**
+         * @param index The index.
+         * @return Whether the separator between the elements at the specified index and the index plus one is set
+         *         (regardless of whether the current snapshot shows separators).
+         */
+        public boolean isSeparated(final int index) {
+            return this.separators[index];
+        }
+
+        public int length() {
+            return this.values.length;
+        }
+
+        /**
+         * Advances to the next snapshot.
+         * @return False if there is no next snapshot.
+         */
+        public boolean next() {
+            if (!this.hasNext()) {
+                return false;
+            }
+            this.clearChanges();
+            final int[] log = SortingTrace.this.log;
+            while (true) {
+                final int operation = log[this.position] & SortingTrace.OPERATION_MASK;
+                final int first = log[this.position] >>> SortingTrace.OPERATION_BITS;
+                final int second = log[this.position + 1];
+                this.position += 2;
+                switch (operation) {
+                    case CLEAR_MARKERS:
+                        Arrays.fill(this.markers, false);
+                        break;
+                    case MARK:
+                        this.markers[first] = second != 0;
+                        break;
+                    case MARK_RANGE:
+                        Arrays.fill(this.markers, first, second, true);
+                        break;
+                    case SEPARATE:
+                        this.separators[first] = second != 0;
+                        if (!this.isChangedSeparator[first]) {
+                            this.isChangedSeparator[first] = true;
+                            this.changedSeparators[this.numberOfChangedSeparators++] = first;
+                        }
+                        break;
+                    case SNAPSHOT:
+                        this.snapshot++;
+                        this.show = second;
+                        return true;
+                    case SWAP:
+                        final int swap = this.values[first];
+                        this.values[first] = this.values[second];
+                        this.values[second] = swap;
+                        this.changeIndex(first);
+                        this.changeIndex(second);
+                        break;
+                    case WRITE:
+                        this.values[first] = second;
+                        this.changeIndex(first);
+                        break;
+                    default:
+                        throw new IllegalStateException("Unknown operation in sorting trace!");
+                }
+            }
+        }
+
+        /**
+         * @return The current snapshot as list of items.
+         */
+        public List<ItemWithTikZInformation<Integer>> toItems() {
+            return SortingTrace.toItems(
+                this.values,
+                (this.show & SortingTrace.SHOW_SEPARATORS) != 0 ? this.separators : null,
+                (this.show & SortingTrace.SHOW_MARKERS) != 0 ? this.markers : null
+            );
+        }
+
+        private void changeIndex(final int index) {
+            if (!this.isChangedIndex[index]) {
+                this.isChangedIndex[index] = true;
+                this.changedIndices[this.numberOfChangedIndices++] = index;
+            }
+        }
+
+        private void clearChanges() {
+            for (int i = 0; i < this.numberOfChangedIndices; i++) {
+                this.isChangedIndex[this.changedIndices[i]] = false;
+            }
+            for (int i = 0; i < this.numberOfChangedSeparators; i++) {
+                this.isChangedSeparator[this.changedSeparators[i]] = false;
+            }
+            this.numberOfChangedIndices = 0;
+            this.numberOfChangedSeparators = 0;
+        }
+
+    }
+
+    private static final int CLEAR_MARKERS = 0;
+
+    private static final int MARK = 1;
+
+    private static final int MARK_RANGE = 2;
+
+    private static final int OPERATION_BITS = 3;
+
+    private static final int OPERATION_MASK = (1 << SortingTrace.OPERATION_BITS) - 1;
+
+    private static final int SEPARATE = 3;
+
+    private static final int SHOW_MARKERS = 2;
+
+    private static final int SHOW_SEPARATORS = 1;
+
+    private static final int SNAPSHOT = 4;
+
+    private static final int SWAP = 5;
+
+    private static final int WRITE = 6;
+
+    private final int[] initialArray;
+
+    private int[] log;
+
+    private int logLength;
+
+    private int snapshots;
+
+    /**
+     * @param initialArray The initial array.
+     * @return A trace only counting snapshots, but discarding all changes (e.g., to measure running times without
+     *         recording). Replaying or iterating it yields no snapshots.
+     */
+    public static SortingTrace discarding(final int[] initialArray) {
+        return new Discarding(initialArray);
+    }
+
+    /**
+     * Creates a trace for the specified initial array. The initial array is copied.
+     * @param initialArray The initial array.
+     */
+    public SortingTrace(final int[] initialArray) {
+        this(initialArray, Math.max(16, 4 * initialArray.length));
+    }
+
+    private SortingTrace(final int[] initialArray, final int logCapacity) {
+        this.initialArray = initialArray.clone();
+        this.log = new int[logCapacity];
+        this.logLength = 0;
+        this.snapshots = 0;
+    }
+
+    /**
+     * Removes all markers.
+     */
+    public void clearMarkers() {
+        this.append(SortingTrace.CLEAR_MARKERS, 0, 0);
+    }
+
+    public int[] getInitialArray() {
+        return this.initialArray.clone();
+    }
+
+    /**
+     * @return Whether changes are recorded. Algorithms may only work concurrently on the array if this is not the
+     *         case.
+     */
+    public boolean isRecording() {
+        return true;
+    }
+
+    @Override
+    public Iterator<List<ItemWithTikZInformation<Integer>>> iterator() {
+        final Replay replay = this.replay();
+        return new Iterator<List<ItemWithTikZInformation<Integer>>>() {
+
+            @Override
+            public boolean hasNext() {
+                return replay.hasNext();
+            }
+
+            @Override
+            public List<ItemWithTikZInformation<Integer>> next() {
+                if (!replay.next()) {
+                    throw new NoSuchElementException();
+                }
+                return replay.toItems();
+            }
+
+        };
+    }
+
+    /**
+     * Sets the marker at the specified index.
+     * @param index The index.
+     * @param marked Whether the element at the specified index is marked.
+     */
+    public void mark(final int index, final boolean marked) {
+        this.append(SortingTrace.MARK, index, marked ? 1 : 0);
+    }
+
+    /**
+     * Marks all elements from the specified start index (inclusive) to the specified end index (exclusive).
+     * @param from The start index.
+     * @param to The end index.
+     */
+    public void markRange(final int from, final int to) {
+        this.append(SortingTrace.MARK_RANGE, from, to);
+    }
+
+    /**
+     * Sets the separator between the elements at the specified index and the index plus one.
+     * @param index The index.
+     * @param separated Whether the separator is set.
+     */
+    public void separate(final int index, final boolean separated) {
+        this.append(SortingTrace.SEPARATE, index, separated ? 1 : 0);
+    }
+
+    /**
+     * @return A cursor replaying this trace snapshot by snapshot.
+     */
+    public Replay replay() {
+        return new Replay(this.snapshots);
+    }
+
+    /**
+     * @return The number of recorded snapshots.
+     */
+    public int size() {
+        return this.snapshots;
+    }
+
+    /**
+     * Records a snapshot of the current state.
+     * @param showSeparators Whether the snapshot shows separators.
+     * @param showMarkers Whether the snapshot shows markers.
+     */
+    public void snapshot(final boolean showSeparators, final boolean showMarkers) {
+        this.append(
+            SortingTrace.SNAPSHOT,
+            0,
+            (showSeparators ? SortingTrace.SHOW_SEPARATORS : 0) | (showMarkers ? SortingTrace.SHOW_MARKERS : 0)
+        );
+        this.snapshots++;
+    }
+
+    /**
+     * Records swapping the elements at the specified indices.
+     * @param i The first index.
+     * @param j The second index.
+     */
+    public void swap(final int i, final int j) {
+        this.append(SortingTrace.SWAP, i, j);
+    }
+
+    /**
+     * @return All snapshots as lists of items (this materializes the whole trace).
+     */
+    public List<List<ItemWithTikZInformation<Integer>>> toItemsLists() {
+        final List<List<ItemWithTikZInformation<Integer>>> result =
+            new ArrayList<List<ItemWithTikZInformation<Integer>>>(this.snapshots);
+        for (final List<ItemWithTikZInformation<Integer>> items : this) {
+            result.add(items);
+        }
+        return result;
+    }
+
+    /**
+     * Records writing the specified value at the specified index.
+     * @param index The index.
+     * @param value The value.
+     */
+    public void write(final int index, final int value) {
+        this.append(SortingTrace.WRITE, index, value);
+    }
+
+    /**
+     * Records writing the specified part of the specified array to the same indices.
+     * @param array The array.
+     * @param from The start index (inclusive).
+     * @param to The end index (exclusive).
+     */
+    public void writeRange(final int[] array, final int from, final int to) {
+        for (int i = from; i < to; i++) {
+            this.write(i, array[i]);
+        }
+    }
+
+    void append(final int operation, final int first, final int second) {
+        if (this.logLength + 2 > this.log.length) {
+            this.log = Arrays.copyOf(this.log, this.log.length * 2);
+        }
+        this.log[this.logLength++] = (first << SortingTrace.OPERATION_BITS) | operation;
+        this.log[this.logLength++] = second;
+    }
+
+    private static List<ItemWithTikZInformation<Integer>> toItems(
+        final int[] values,
+        final boolean[] separators,
+        final boolean[] markers
+    ) {
+        final List<ItemWithTikZInformation<Integer>> result =
+            new ArrayList<ItemWithTikZInformation<Integer>>(values.length);
+        for (int i = 0; i < values.length; i++) {
+            result.add(
+                new ItemWithTikZInformation<Integer>(
+                    Optional.of(values[i]),
+                    markers != null && markers[i],
+                    separators != null && i > 0 && separators[i - 1]
+                )
+            );
+        }
+        return result;
+    }
+
+}
@@ -0,0 +1,343 @@
+package exercisegenerator.algorithms.trees;
+
+import java.io.*;
+import java.util.*;
+
+import exercisegenerator.*;
+import exercisegenerator.algorithms.*;
+import exercisegenerator.io.*;
+import exercisegenerator.structures.*;
+import exercisegenerator.structures.trees.*;
+
+/**
+ * Operations of a priority queue on an implicit d-ary min-heap. The solution shows the heap as tree and as array
+ * after each operation. Only the subtrees containing positions changed by an operation are rendered again.
+ */
+public class PriorityQueueAlgorithm implements AlgorithmImplementation {
+
+    /**
+     * An operation of a priority queue.
+     */
+    public static class Operation {
+
+        /**
+         * @param oldValue The value to decrease (its first occurrence in array order).
+         * @param newValue The new value.
+         * @return The operation decreasing the specified value.
+         */
+        public static Operation decreaseKey(final int oldValue, final int newValue) {
+            return new Operation(Optional.of(oldValue), Optional.of(newValue));
+        }
+
+        /**
+         * @return The operation removing the minimum.
+         */
+        public static Operation extractMin() {
+            return new Operation(Optional.empty(), Optional.empty());
+        }
+
+        /**
+         * @param value The value to insert.
+         * @return The operation inserting the specified value.
+         */
+        public static Operation insert(final int value) {
+            return new Operation(Optional.empty(), Optional.of(value));
+        }
+
+        /**
+         * @param operation An operation in the input format: A number for insertion, - for removing the minimum, and
+         *                  a&gt;b for decreasing the value a to b.
+         * @return The parsed operation.
+         */
+        public static Operation parse(final String operation) {
+            final String stripped = operation.strip();
+            if ("-".equals(stripped)) {
+                return Operation.extractMin();
+            }
+            final String[] parts = stripped.split(">");
+            if (parts.length == 2) {
+                return Operation.decreaseKey(Integer.parseInt(parts[0].strip()), Integer.parseInt(parts[1].strip()));
+            }
+            return Operation.insert(Integer.parseInt(stripped));
+        }
+
+        /**
+         * The value to decrease (empty for other operations).
+         */
+        public final Optional<Integer> oldValue;
+
+        /**
+         * The value to insert or the new value when decreasing a value (empty for removing the minimum).
+         */
+        public final Optional<Integer> value;
+
+        private Operation(final Optional<Integer> oldValue, final Optional<Integer> value) {
+            this.oldValue = oldValue;
+            this.value = value;
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (o instanceof Operation) {
+                final Operation other = (Operation)o;
+                return this.oldValue.equals(other.oldValue) && this.value.equals(other.value);
+            }
+            return false;
+        }
+
+        @Override
+        public int hashCode() {
+            return this.oldValue.hashCode() * 31 + this.value.hashCode();
+        }
+
+        @Override
+        public String toString() {
+            if (this.oldValue.isPresent()) {
+                return this.oldValue.get() + ">" + this.value.get();
+            }
+            return this.value.isPresent() ? String.valueOf(this.value.get()) : "-";
+        }
+
+    }
+
+    public static final PriorityQueueAlgorithm INSTANCE = new PriorityQueueAlgorithm();
+
+    /**
+     * @param operations Comma separated operations (see {@link Operation#parse(String)}).
+     * @return The parsed operations.
+     */
+    public static List<Operation> parseOperations(final String operations) {
+        final List<Operation> result = new ArrayList<Operation>();
+        for (final String operation : operations.split(",")) {
+            if (!operation.isBlank()) {
+                result.add(Operation.parse(operation));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Performs the specified operation on the specified heap.
+     * @param heap The heap.
+     * @param operation The operation.
+     * @return The removed minimum for removing the minimum, otherwise the index of the inserted or decreased value.
+     * @throws IllegalArgumentException If the value to decrease is not contained in the heap or the new value is
+     *                                  bigger than the old one.
+     * @throws NoSuchElementException If the minimum should be removed from an empty heap.
+     */
+    public static int perform(final ImplicitHeap heap, final Operation operation) {
+        if (operation.oldValue.isPresent()) {
+            final int index = heap.indexOf(operation.oldValue.get());
+            if (index < 0) {
+                throw new IllegalArgumentException("The value to decrease is not contained in the heap!");
+            }
+            return heap.decreaseKey(index, operation.value.get());
+        }
+        if (operation.value.isPresent()) {
+            return heap.insert(operation.value.get());
+        }
+        return heap.extractMin();
+    }
+
+    private static Pair<List<Operation>, List<Operation>> generateConstructionAndTasks(final Parameters options) {
+        final Random gen = new Random();
+        final int length =
+            options.containsKey(Flag.LENGTH) ? Integer.parseInt(options.get(Flag.LENGTH)) : gen.nextInt(6) + 5;
+        final List<Integer> contained = new ArrayList<Integer>();
+        final List<Operation> construction = new ArrayList<Operation>();
+        for (int i = gen.nextInt(8); i > 0; i--) {
+            final int value = gen.nextInt(Main.NUMBER_LIMIT);
+            construction.add(Operation.insert(value));
+            contained.add(value);
+        }
+        final List<Operation> tasks = new ArrayList<Operation>();
+        for (int i = 0; i < length; i++) {
+            final int kind = contained.isEmpty() ? 0 : gen.nextInt(4);
+            if (kind < 2) {
+                final int value = gen.nextInt(Main.NUMBER_LIMIT);
+                tasks.add(Operation.insert(value));
+                contained.add(value);
+            } else if (kind == 2) {
+                tasks.add(Operation.extractMin());
+                contained.remove(Collections.min(contained));
+            } else {
+                final int index = gen.nextInt(contained.size());
+                final int oldValue = contained.get(index);
+                final int newValue = oldValue - gen.nextInt(oldValue + 1);
+                tasks.add(Operation.decreaseKey(oldValue, newValue));
+                contained.set(index, newValue);
+            }
+        }
+        return new Pair<List<Operation>, List<Operation>>(construction, tasks);
+    }
+
+    private static int getArity(final Parameters options) {
+        return options.containsKey(Flag.DEGREE) ? Integer.parseInt(options.get(Flag.DEGREE)) : 2;
+    }
+
+    private static String getHeapName(final int arity) {
+        return arity == 2 ?
+            "\\emphasize{Min-Heap}" :
+                String.format("\\emphasize{Min-Heap}, in dem jeder Knoten bis zu %d Kinder hat", arity);
+    }
+
+    private static int getMaximumContentLength(final ImplicitHeap heap, final List<Operation> tasks) {
+        int result = 1;
+        for (final int value : heap.toArray()) {
+            result = Math.max(result, String.valueOf(value).length());
+        }
+        for (final Operation task : tasks) {
+            if (task.value.isPresent()) {
+                result = Math.max(result, String.valueOf(task.value.get()).length());
+            }
+        }
+        return result;
+    }
+
+    private static String operationToText(final Operation operation) {
+        if (operation.oldValue.isPresent()) {
+            return String.format(
+                "Verringern Sie den Wert %d auf %d",
+                operation.oldValue.get(),
+                operation.value.get()
+            );
+        }
+        if (operation.value.isPresent()) {
+            return String.format("F\\\"ugen Sie den Wert %d ein", operation.value.get());
+        }
+        return "Entnehmen Sie das Minimum";
+    }
+
+    private static Pair<List<Operation>, List<Operation>> parseConstructionAndTasks(
+        final BufferedReader reader,
+        final Parameters options
+    ) throws IOException {
+        final String[] parts = reader.readLine().split(";");
+        if (parts.length > 2) {
+            throw new IllegalArgumentException("Input must contain at most two parts: construction and tasks!");
+        }
+        return new Pair<List<Operation>, List<Operation>>(
+            parts.length == 2 ? PriorityQueueAlgorithm.parseOperations(parts[0]) : new ArrayList<Operation>(),
+            PriorityQueueAlgorithm.parseOperations(parts[parts.length - 1])
+        );
+    }
+
+    private static void printExercise(
+        final ImplicitHeap heap,
+        final List<Operation> tasks,
+        final int contentLength,
+        final BufferedWriter writer
+    ) throws IOException {
+        final String heapName = PriorityQueueAlgorithm.getHeapName(heap.getArity());
+        if (heap.isEmpty()) {
+            writer.write(
+                "F\\\"uhren Sie die folgenden Operationen beginnend mit einem anfangs leeren "
+                + heapName
+                + (heap.getArity() == 2 ? "" : ",")
+                + " aus und geben Sie den Heap nach jeder Operation als Baum und als Array an:\\\\[2ex]"
+            );
+            Main.newLine(writer);
+        } else {
+            writer.write("Betrachten Sie den folgenden " + heapName + ":\\\\[2ex]");
+            Main.newLine(writer);
+            Main.newLine(writer);
+            final HeapTreeRenderer renderer = new HeapTreeRenderer(heap.getArity(), heap.size());
+            renderer.update(heap::get, heap.size(), new int[0]);
+            LaTeXUtils.printBeginning(LaTeXUtils.CENTER, writer);
+            renderer.print(writer);
+            LaTeXUtils.printProtectedNewline(writer);
+            PriorityQueueAlgorithm.printHeapArray(heap, contentLength, writer);
+            LaTeXUtils.printEnd(LaTeXUtils.CENTER, writer);
+            Main.newLine(writer);
+            writer.write(
+                "F\\\"uhren Sie beginnend mit diesem Heap die folgenden Operationen aus und geben Sie den Heap nach "
+                + "jeder Operation als Baum und als Array an:\\\\[2ex]"
+            );
+            Main.newLine(writer);
+        }
+        LaTeXUtils.printBeginning(LaTeXUtils.ENUMERATE, writer);
+        for (final Operation task : tasks) {
+            writer.write(LaTeXUtils.ITEM + " " + PriorityQueueAlgorithm.operationToText(task) + ".");
+            Main.newLine(writer);
+        }
+        LaTeXUtils.printEnd(LaTeXUtils.ENUMERATE, writer);
+    }
+
+    private static void printHeapArray(
+        final ImplicitHeap heap,
+        final int contentLength,
+        final BufferedWriter writer
+    ) throws IOException {
+        if (heap.isEmpty()) {
+            writer.write("(leerer Heap)");
+            Main.newLine(writer);
+            return;
+        }
+        final List<ItemWithTikZInformation<Integer>> items = new ArrayList<ItemWithTikZInformation<Integer>>();
+        for (final int value : heap.toArray()) {
+            items.add(new ItemWithTikZInformation<Integer>(Optional.of(value)));
+        }
+        LaTeXUtils.printTikzBeginning(TikZStyle.ARRAY, writer);
+        LaTeXUtils.printListAndReturnLeftmostNodesName(items, Optional.empty(), contentLength, writer);
+        LaTeXUtils.printTikzEnd(writer);
+    }
+
+    private static void printSolution(
+        final ImplicitHeap heap,
+        final List<Operation> tasks,
+        final int contentLength,
+        final BufferedWriter writer
+    ) throws IOException {
+        final HeapTreeRenderer renderer = new HeapTreeRenderer(heap.getArity(), heap.size() + tasks.size());
+        renderer.update(heap::get, heap.size(), new int[0]);
+        int step = 1;
+        for (final Operation task : tasks) {
+            heap.clearChanges();
+            final int result = PriorityQueueAlgorithm.perform(heap, task);
+            renderer.update(heap::get, heap.size(), heap.getChangedIndices());
+            LaTeXUtils.printSamePageBeginning(step, LaTeXUtils.COL_WIDTH, writer);
+            if (task.oldValue.isEmpty() && task.value.isEmpty()) {
+                writer.write("Entnommenes Minimum: " + result);
+                LaTeXUtils.printProtectedNewline(writer);
+            }
+            renderer.print(writer);
+            LaTeXUtils.printProtectedNewline(writer);
+            PriorityQueueAlgorithm.printHeapArray(heap, contentLength, writer);
+            LaTeXUtils.printSamePageEnd(writer);
+            if (step % 3 == 0) {
+                Main.newLine(writer);
+                writer.write("~\\\\");
+                Main.newLine(writer);
+                Main.newLine(writer);
+            }
+            step++;
+        }
+    }
+
+    private PriorityQueueAlgorithm() {}
+
+    @Override
+    public void executeAlgorithm(final AlgorithmInput input) throws IOException {
+        final Pair<List<Operation>, List<Operation>> constructionAndTasks =
+            new ParserAndGenerator<Pair<List<Operation>, List<Operation>>>(
+                PriorityQueueAlgorithm::parseConstructionAndTasks,
+                PriorityQueueAlgorithm::generateConstructionAndTasks
+            ).getResult(input.options);
+        final ImplicitHeap heap = new ImplicitHeap(PriorityQueueAlgorithm.getArity(input.options));
+        for (final Operation operation : constructionAndTasks.x) {
+            PriorityQueueAlgorithm.perform(heap, operation);
+        }
+        final int contentLength = PriorityQueueAlgorithm.getMaximumContentLength(heap, constructionAndTasks.y);
+        PriorityQueueAlgorithm.printExercise(heap, constructionAndTasks.y, contentLength, input.exerciseWriter);
+        PriorityQueueAlgorithm.printSolution(heap, constructionAndTasks.y, contentLength, input.solutionWriter);
+    }
+
+    @Override
+    public String[] generateTestParameters() {
+        final String[] result = new String[2];
+        result[0] = "-l";
+        result[1] = "5";
+        return result;
+    }
+
+}
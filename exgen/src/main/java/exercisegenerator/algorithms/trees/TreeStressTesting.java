@@ -0,0 +1,156 @@
+package exercisegenerator.algorithms.trees;
+
+import java.io.*;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.stream.*;
+
+import exercisegenerator.structures.trees.*;
+import exercisegenerator.util.*;
+
+/**
+ * Randomized differential testing of the tree implementations. Each run performs a random sequence of insertions and
+ * deletions on a binary search tree, an AVL-tree, a B-tree, and a Red-Black-Tree together with a sorted reference
+ * array. After each operation, the contents of each tree are compared to the reference and the invariants of each
+ * tree are checked. Runs are executed in parallel and each run is seeded deterministically by the base seed and its
+ * index such that each failure can be reproduced.
+ */
+public abstract class TreeStressTesting {
+
+    /**
+     * @param seed The base seed. Run i uses the seed <code>seed + i</code>.
+     * @param runs The number of runs.
+     * @param operations The number of operations per run.
+     * @param bound The bound for the keys (exclusive). Keys are chosen from 0 to bound - 1.
+     * @param degree The degree of the B-trees.
+     * @param threads The number of threads to use.
+     * @return Descriptions of all failed runs ordered by their seeds.
+     */
+    public static List<String> run(
+        final long seed,
+        final int runs,
+        final int operations,
+        final int bound,
+        final int degree,
+        final int threads
+    ) {
+        final ForkJoinPool pool = new ForkJoinPool(threads);
+        try {
+            return pool.submit(
+                () -> IntStream.range(0, runs)
+                    .parallel()
+                    .mapToObj(run -> TreeStressTesting.runSingle(seed + run, operations, bound, degree))
+                    .flatMap(Optional::stream)
+                    .toList()
+            ).get();
+        } catch (final InterruptedException | ExecutionException e) {
+            throw new IllegalStateException(e);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * @param seed The seed for this run.
+     * @param operations The number of operations to perform.
+     * @param bound The bound for the keys (exclusive).
+     * @param degree The degree of the B-tree.
+     * @return A description of the first failure in this run or empty if no failure occurred. The description
+     *         contains the performed operations in the input format of the tree algorithms.
+     */
+    public static Optional<String> runSingle(final long seed, final int operations, final int bound, final int degree) {
+        final SplittableRandom random = new SplittableRandom(seed);
+        final int[] reference = new int[operations];
+        int size = 0;
+        BinaryTree<Integer> binaryTree = TreeAlgorithms.BINARY_TREE_FACTORY.create();
+        AVLTree<Integer> avlTree = (AVLTree<Integer>)TreeAlgorithms.AVL_TREE_FACTORY.create();
+        final IntBTree bTree = new IntBTree(degree);
+        final IntRBTree rbTree = new IntRBTree();
+        final StringBuilder performed = new StringBuilder();
+        for (int i = 0; i < operations; i++) {
+            final boolean add = size == 0 || random.nextInt(3) > 0;
+            final int key =
+                add || random.nextInt(4) == 0 ? random.nextInt(bound) : reference[random.nextInt(size)];
+            if (i > 0) {
+                performed.append(",");
+            }
+            if (!add) {
+                performed.append("~");
+            }
+            performed.append(key);
+            final int index = size == 0 ? 0 : ArrayUtils.binarySearch(reference, key, 0, size - 1);
+            final boolean contained = index < size && reference[index] == key;
+            try {
+                if (add) {
+                    System.arraycopy(reference, index, reference, index + 1, size - index);
+                    reference[index] = key;
+                    size++;
+                    binaryTree = binaryTree.add(key);
+                    avlTree = (AVLTree<Integer>)avlTree.add(key);
+                    bTree.add(key);
+                    rbTree.rbInsert(key, null, false);
+                } else {
+                    if (contained) {
+                        System.arraycopy(reference, index + 1, reference, index, size - index - 1);
+                        size--;
+                    }
+                    binaryTree = binaryTree.remove(key);
+                    avlTree = (AVLTree<Integer>)avlTree.remove(key);
+                    if (bTree.remove(key) != contained) {
+                        return TreeStressTesting.failure(seed, performed, "B-tree reports wrong removal result");
+                    }
+                    final RBNode node = rbTree.find(key);
+                    if ((node != null) != contained) {
+                        return TreeStressTesting.failure(seed, performed, "Red-Black-Tree finds wrong node");
+                    }
+                    if (node != null) {
+                        rbTree.remove(node, null, false);
+                    }
+                }
+            } catch (final IOException | RuntimeException | AssertionError e) {
+                return TreeStressTesting.failure(seed, performed, e.toString());
+            }
+            if (!TreeStressTesting.sameValues(reference, size, binaryTree)) {
+                return TreeStressTesting.failure(seed, performed, "binary search tree has wrong keys");
+            }
+            if (!TreeStressTesting.sameValues(reference, size, avlTree)) {
+                return TreeStressTesting.failure(seed, performed, "AVL-tree has wrong keys");
+            }
+            if (!avlTree.isBalanced()) {
+                return TreeStressTesting.failure(seed, performed, "AVL-tree is not balanced");
+            }
+            if (!TreeStressTesting.sameValues(reference, size, bTree.getKeys())) {
+                return TreeStressTesting.failure(seed, performed, "B-tree has wrong keys");
+            }
+            if (!bTree.isWellFormed()) {
+                return TreeStressTesting.failure(seed, performed, "B-tree is not well-formed");
+            }
+            if (!TreeStressTesting.sameValues(reference, size, rbTree.getValues())) {
+                return TreeStressTesting.failure(seed, performed, "Red-Black-Tree has wrong keys");
+            }
+            if (!rbTree.isWellFormed()) {
+                return TreeStressTesting.failure(seed, performed, "Red-Black-Tree is not well-formed");
+            }
+        }
+        return Optional.empty();
+    }
+
+    private static Optional<String> failure(final long seed, final StringBuilder performed, final String message) {
+        return Optional.of(String.format("Seed %d: %s after operations %s", seed, message, performed.toString()));
+    }
+
+    private static boolean sameValues(final int[] reference, final int size, final BinaryTree<Integer> tree) {
+        int index = 0;
+        for (final Integer value : tree) {
+            if (index >= size || reference[index++] != value) {
+                return false;
+            }
+        }
+        return index == size;
+    }
+
+    private static boolean sameValues(final int[] reference, final int size, final int[] values) {
+        return Arrays.equals(reference, 0, size, values, 0, values.length);
+    }
+
+}
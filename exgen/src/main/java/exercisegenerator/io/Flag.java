@@ -30,9 +30,14 @@ public enum Flag {
     ),
 
     /**
-     * Degree (e.g., of a B-tree).
+     * Degree (e.g., of a B-tree or a heap).
      */
-    DEGREE("-d", "Degree", "Used to specify the degree, e.g., of a B-tree. Not relevant for all algorithms."),
+    DEGREE(
+        "-d",
+        "Degree",
+        "Used to specify the degree, e.g., of a B-tree or a heap, the base of Radixsort, or the number of buckets of "
+        + "Bucketsort. Not relevant for all algorithms."
+    ),
 
     /**
      * Should the resulting files contain all command definitions (standalone) or should they be part of a bigger
@@ -68,6 +73,26 @@ public enum Flag {
         "Used to specify a length, e.g., of an array. Its use depends on the chosen algorithm."
     ),
 
+    /**
+     * Metrics reported by some algorithms in addition to or instead of the solution.
+     */
+    METRICS(
+        "-m",
+        "Metrics",
+        "Reports metrics of some algorithms. The following values are supported: \n"
+        + "    -a <sorting algorithm> -m true: Appends the numbers of comparisons, swaps, and writes as well as the "
+        + "maximal recursion depth to the solution.\n"
+        + "    -a <sorting algorithm> -m csv: Instead of the solution, writes running times and operation counts for "
+        + "random arrays with lengths doubling from 16 up to the length given by -l (4096 by default) as comma "
+        + "separated values. Should be used with -x embedded.\n"
+        + "    -a <hashing algorithm> -m true: Adds probe counts, load factors, and cluster lengths after each "
+        + "insertion to the solution (like -v 1).\n"
+        + "    -a <hashing algorithm> -m csv: Instead of the solution, writes the average and maximal probe counts, "
+        + "the load factor, and the longest cluster after inserting random values into empty tables of all prime "
+        + "capacities from 5 to 101 (for the multiplication method with factors 0.1 to 0.9) as comma separated "
+        + "values. Should be used with -x embedded.\n"
+    ),
+
     NUMBER(
         "-n",
         "Number of randomly generated exercises",
@@ -108,6 +133,25 @@ public enum Flag {
         "Triggers the variant of the given algorithm. The following variants of algorithms are available: \n"
         + "    -a [avltree|btree|rbtree] -v 0: Generates examples where nodes get inserted and deleted.\n"
         + "    -a [avltree|btree|rbtree] -v 1: Generates examples where nodes get only inserted.\n"
+        + "    -a [fromhamming|tohamming] -v 1: Uses the extended Hamming code (SECDED) with an overall parity bit in "
+        + "front.\n"
+        + "    -a fromtruthtable -v 1: Computes a minimal (for more than 6 variables only irredundant) disjunctive normal "
+        + "form.\n"
+        + "    -a fromtruthtable -v 2: Computes a minimal (for more than 6 variables only irredundant) conjunctive normal "
+        + "form.\n"
+        + "    -a [hashDivision|hashDivisionLinear|hashDivisionQuadratic|hashMultiplication|"
+        + "hashMultiplicationLinear|hashMultiplicationQuadratic] -v 1: Adds probe counts, load factors, and cluster "
+        + "lengths after each insertion to the solution.\n"
+        + "    -a [hashDivision|hashDivisionLinear|hashDivisionQuadratic|hashMultiplication|"
+        + "hashMultiplicationLinear|hashMultiplicationQuadratic] -v 2: Searches generated instances for enough "
+        + "collisions and long probing sequences (or chains).\n"
+        + "    -a mergesort -v 1: Uses bottom-up Mergesort and shows the array after each merge phase.\n"
+        + "    -a mergesort -v 2: Uses natural bottom-up Mergesort (starting with the maximal sorted runs) and shows "
+        + "the array after each merge phase.\n"
+        + "    -a quicksort -v [0|...|7]: Selects the pivot strategy and partition mode by number or name: "
+        + "0 LAST_EQUAL_RIGHT (default), 1 LAST_EQUAL_LEFT, 2 LAST_EQUAL_ALWAYS_SWAP, 3 LAST_EQUAL_NEVER_SWAP, "
+        + "4 MEDIAN_OF_THREE, 5 RANDOM_PIVOT, 6 THREE_WAY, 7 DUAL_PIVOT.\n"
+        + "    -a tohuff -v 1: Generates the canonical Huffman code.\n"
     ),
 
     WINDOWS("-w", "Windows line separators", "Forced use of Windows (true) or Unix (false) line separators.");
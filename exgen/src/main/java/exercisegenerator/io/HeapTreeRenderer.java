@@ -0,0 +1,129 @@
+package exercisegenerator.io;
+
+import java.io.*;
+import java.util.*;
+import java.util.function.*;
+
+import exercisegenerator.*;
+
+/**
+ * Renders an implicit d-ary heap stored in an array as TikZ tree. The renderer caches the code of each subtree, so
+ * between two steps only the subtrees of changed nodes (i.e., the changed nodes and their ancestors) are rendered
+ * again.
+ */
+public class HeapTreeRenderer {
+
+    private final int arity;
+
+    private final boolean[] dirty;
+
+    private final int[] dirtyNodes;
+
+    private int size;
+
+    private final String[] subtrees;
+
+    private final int[] values;
+
+    /**
+     * @param arity The maximal number of children of each node.
+     * @param capacity The maximal size of the heap.
+     */
+    public HeapTreeRenderer(final int arity, final int capacity) {
+        this.arity = arity;
+        this.size = 0;
+        this.subtrees = new String[capacity];
+        this.values = new int[capacity];
+        this.dirty = new boolean[capacity];
+        this.dirtyNodes = new int[capacity];
+    }
+
+    /**
+     * Prints the current heap as TikZ tree (nothing for an empty heap).
+     * @param writer The writer to send the output to.
+     * @throws IOException If some error occurs during output.
+     */
+    public void print(final BufferedWriter writer) throws IOException {
+        if (this.size == 0) {
+            return;
+        }
+        LaTeXUtils.printTikzBeginning(TikZStyle.TREE, writer);
+        if (this.size > 1) {
+            writer.write("\\Tree");
+            writer.write(this.subtrees[0]);
+        } else {
+            writer.write(String.format("\\node[circle,draw=black,thick,inner sep=5pt] {%d};", this.values[0]));
+        }
+        Main.newLine(writer);
+        LaTeXUtils.printTikzEnd(writer);
+    }
+
+    /**
+     * Updates the heap to render.
+     * @param values The values of the heap by index.
+     * @param size The new size of the heap.
+     * @param changedIndices The indices whose values changed since the last update (indices not smaller than the
+     *                       new size are ignored). Indices added by growing the heap need not be reported.
+     */
+    public void update(final IntUnaryOperator values, final int size, final int[] changedIndices) {
+        int numberOfDirtyNodes = 0;
+        for (final int index : changedIndices) {
+            if (index < size) {
+                this.values[index] = values.applyAsInt(index);
+                numberOfDirtyNodes = this.markPath(index, numberOfDirtyNodes);
+            }
+        }
+        for (int index = Math.min(size, this.size); index < Math.max(size, this.size); index++) {
+            if (index < size) {
+                this.values[index] = values.applyAsInt(index);
+                numberOfDirtyNodes = this.markPath(index, numberOfDirtyNodes);
+            } else if (index > 0) {
+                numberOfDirtyNodes = this.markPath((index - 1) / this.arity, numberOfDirtyNodes);
+            }
+        }
+        this.size = size;
+        Arrays.sort(this.dirtyNodes, 0, numberOfDirtyNodes);
+        // children have bigger indices than their parents
+        for (int i = numberOfDirtyNodes - 1; i >= 0; i--) {
+            final int node = this.dirtyNodes[i];
+            this.dirty[node] = false;
+            if (node < size) {
+                this.subtrees[node] = this.renderSubtree(node);
+            }
+        }
+    }
+
+    /**
+     * Marks the specified node and all its ancestors as dirty (stopping at the first ancestor already marked).
+     * @return The new number of dirty nodes.
+     */
+    private int markPath(final int index, final int numberOfDirtyNodes) {
+        int result = numberOfDirtyNodes;
+        int node = index;
+        while (!this.dirty[node]) {
+            this.dirty[node] = true;
+            this.dirtyNodes[result++] = node;
+            if (node == 0) {
+                break;
+            }
+            node = (node - 1) / this.arity;
+        }
+        return result;
+    }
+
+    private String renderSubtree(final int node) {
+        final int firstChild = this.arity * node + 1;
+        if (firstChild >= this.size) {
+            return " " + this.values[node];
+        }
+        final StringBuilder result = new StringBuilder();
+        result.append(" [.");
+        result.append(this.values[node]);
+        for (int child = firstChild; child < Math.min(firstChild + this.arity, this.size); child++) {
+            result.append(this.subtrees[child]);
+        }
+        result.append(" ]");
+        return result.toString();
+    }
+
+}
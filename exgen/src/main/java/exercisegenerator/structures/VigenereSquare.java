@@ -5,30 +5,97 @@ import java.util.*;
 
 import exercisegenerator.io.*;
 
+/**
+ * Vigenere square over an arbitrary alphabet. The letters are mapped to dense indices once and stored twice in a
+ * row such that shifting a letter by a key letter is a single array access without a modulo operation. Texts are
+ * processed in bulk on character arrays and can also be streamed. Characters not contained in the alphabet are kept
+ * unchanged and do not consume a letter of the keyword.
+ */
 public class VigenereSquare {
 
+    private static final int BUFFER_SIZE = 8192;
+
     private final List<Character> alphabet;
 
-    private final Map<Character, Integer> charMap;
+    /**
+     * The index of each character in the alphabet (or -1 for characters not contained in the alphabet).
+     */
+    private final int[] indices;
+
+    /**
+     * The letters of the alphabet twice in a row such that the letter at index i shifted by s is at index i + s.
+     */
+    private final char[] shiftedLetters;
 
     private final int size;
 
     public VigenereSquare(final List<Character> alphabet) {
         this.alphabet = alphabet;
         this.size = alphabet.size();
-        this.charMap = new LinkedHashMap<Character, Integer>();
+        this.indices = new int[alphabet.stream().mapToInt(c -> c + 1).max().orElse(0)];
+        Arrays.fill(this.indices, -1);
+        this.shiftedLetters = new char[2 * this.size];
         for (int i = 0; i < this.size; i++) {
             final char c = alphabet.get(i);
-            this.charMap.put(c, i);
+            this.indices[c] = i;
+            this.shiftedLetters[i] = c;
+            this.shiftedLetters[i + this.size] = c;
         }
     }
 
+    /**
+     * @param text The text.
+     * @param shift The number of positions each letter is shifted (may be negative).
+     * @return The text with each letter shifted by the specified number of positions (Caesar cipher).
+     */
+    public String caesar(final String text, final int shift) {
+        final char[] result = text.toCharArray();
+        this.shift(result, result.length, new int[] {Math.floorMod(shift, Math.max(1, this.size))}, 0);
+        return new String(result);
+    }
+
     public char decode(final char cipher, final char key) {
-        return this.alphabet.get((this.charMap.get(cipher) - this.charMap.get(key) + this.size) % this.size);
+        return this.shiftedLetters[this.index(cipher) + this.size - this.index(key)];
+    }
+
+    public void decode(final Reader cipherText, final Writer target, final String keyword) throws IOException {
+        this.shift(cipherText, target, this.toShifts(keyword, false));
+    }
+
+    public String decode(final String cipherText, final String keyword) {
+        final char[] result = cipherText.toCharArray();
+        this.shift(result, result.length, this.toShifts(keyword, false), 0);
+        return new String(result);
     }
 
     public char encode(final char source, final char key) {
-        return this.alphabet.get((this.charMap.get(source) + this.charMap.get(key)) % this.size);
+        return this.shiftedLetters[this.index(source) + this.index(key)];
+    }
+
+    public void encode(final Reader sourceText, final Writer target, final String keyword) throws IOException {
+        this.shift(sourceText, target, this.toShifts(keyword, true));
+    }
+
+    public String encode(final String sourceText, final String keyword) {
+        final char[] result = sourceText.toCharArray();
+        this.shift(result, result.length, this.toShifts(keyword, true), 0);
+        return new String(result);
+    }
+
+    public List<Character> getAlphabet() {
+        return this.alphabet;
+    }
+
+    public int getSize() {
+        return this.size;
+    }
+
+    /**
+     * @param c A character.
+     * @return The index of the specified character in the alphabet or -1 if it is not contained in the alphabet.
+     */
+    public int indexOf(final char c) {
+        return c < this.indices.length ? this.indices[c] : -1;
     }
 
     public void toLaTeX(final BufferedWriter writer) throws IOException {
@@ -40,4 +107,54 @@ public class VigenereSquare {
         LaTeXUtils.printTable(table, Optional.empty(), LaTeXUtils.defaultColumnDefinition("1.5em"), false, 13, writer);
     }
 
+    private int index(final char c) {
+        final int result = this.indexOf(c);
+        if (result < 0) {
+            throw new IllegalArgumentException("The character " + c + " is not contained in the alphabet!");
+        }
+        return result;
+    }
+
+    private void shift(final Reader source, final Writer target, final int[] shifts) throws IOException {
+        final char[] buffer = new char[VigenereSquare.BUFFER_SIZE];
+        int keyPosition = 0;
+        for (int length = source.read(buffer); length >= 0; length = source.read(buffer)) {
+            keyPosition = this.shift(buffer, length, shifts, keyPosition);
+            target.write(buffer, 0, length);
+        }
+        target.flush();
+    }
+
+    /**
+     * Shifts the first letters of the specified text in place by the specified shifts (cyclically starting at the
+     * specified key position).
+     * @return The key position for the next letter.
+     */
+    private int shift(final char[] text, final int length, final int[] shifts, final int keyPosition) {
+        int position = keyPosition;
+        for (int i = 0; i < length; i++) {
+            final char c = text[i];
+            final int index = c < this.indices.length ? this.indices[c] : -1;
+            if (index >= 0) {
+                text[i] = this.shiftedLetters[index + shifts[position]];
+                if (++position == shifts.length) {
+                    position = 0;
+                }
+            }
+        }
+        return position;
+    }
+
+    private int[] toShifts(final String keyword, final boolean encode) {
+        if (keyword.isEmpty()) {
+            throw new IllegalArgumentException("The keyword must not be empty!");
+        }
+        final int[] result = new int[keyword.length()];
+        for (int i = 0; i < result.length; i++) {
+            final int index = this.index(keyword.charAt(i));
+            result[i] = encode ? index : this.size - index;
+        }
+        return result;
+    }
+
 }
@@ -3,13 +3,18 @@ package exercisegenerator.structures.binary;
 import java.io.*;
 import java.math.*;
 import java.util.*;
-import java.util.stream.*;
 
 import exercisegenerator.io.*;
 
-public class BitString extends LinkedList<Bit> {
+/**
+ * A string of bits packed into 64-bit words. The bit at index i is stored at position i mod 64 of word i / 64 and all
+ * positions beyond the length are zero. Index 0 is the leftmost (most significant) bit. Random access, setting, and
+ * inverting single bits take constant time while incrementing, inverting, appending, and counting work on whole words.
+ * The bit string is also a list of bits such that it can be rendered and compared like any other list.
+ */
+public class BitString extends AbstractList<Bit> implements RandomAccess {
 
-    private static final long serialVersionUID = -3160588348086277796L;
+    private static final int BITS_PER_WORD = 64;
 
     public static BitString create(final BigInteger value, final int bitLength) {
         return BitString.parse(BitString.toBitLength(value.toString(2), bitLength));
@@ -20,10 +25,35 @@ public class BitString extends LinkedList<Bit> {
     }
 
     public static BitString parse(final String bitString) {
-        return
-            bitString.chars()
-                .mapToObj(c -> c == '0' ? Bit.ZERO : Bit.ONE)
-                .collect(Collectors.toCollection(BitString::new));
+        final BitString result = new BitString(bitString.length());
+        for (int i = 0; i < bitString.length(); i++) {
+            if (bitString.charAt(i) != '0') {
+                result.words[i >>> 6] |= 1L << i;
+            }
+        }
+        result.length = bitString.length();
+        return result;
+    }
+
+    /**
+     * @param words The words containing the bits in the layout of a bit string (bit i at position i mod 64 of word
+     *              i / 64). They are copied and positions beyond the length are ignored.
+     * @param length The number of bits.
+     * @return The bit string with the specified bits.
+     */
+    public static BitString valueOf(final long[] words, final int length) {
+        if (length < 0 || BitString.wordsFor(length) > words.length) {
+            throw new IllegalArgumentException("Not enough words for the specified length!");
+        }
+        final BitString result = new BitString(length);
+        System.arraycopy(words, 0, result.words, 0, BitString.wordsFor(length));
+        result.length = length;
+        result.clearFrom(length);
+        return result;
+    }
+
+    private static long mask(final int bits) {
+        return bits >= BitString.BITS_PER_WORD ? -1L : (1L << bits) - 1;
     }
 
     private static String toBitLength(final String bits, final int bitLength) {
@@ -34,68 +64,262 @@ public class BitString extends LinkedList<Bit> {
         return "0".repeat(bitLength - length) + bits;
     }
 
+    private static int wordsFor(final int bits) {
+        return (bits + BitString.BITS_PER_WORD - 1) >>> 6;
+    }
+
+    private int length;
+
+    private long[] words;
+
     public BitString() {
-        super();
+        this(BitString.BITS_PER_WORD);
     }
 
     public BitString(final List<? extends Bit> bitString) {
-        super(bitString);
+        this(bitString.size());
+        if (bitString instanceof BitString) {
+            final BitString other = (BitString)bitString;
+            System.arraycopy(other.words, 0, this.words, 0, BitString.wordsFor(other.length));
+            this.length = other.length;
+        } else {
+            for (final Bit bit : bitString) {
+                this.add(bit);
+            }
+        }
+    }
+
+    private BitString(final int capacity) {
+        this.words = new long[Math.max(1, BitString.wordsFor(capacity))];
+        this.length = 0;
+    }
+
+    @Override
+    public void add(final int index, final Bit bit) {
+        Objects.checkIndex(index, this.length + 1);
+        this.ensureCapacity(this.length + 1);
+        final int wordIndex = index >>> 6;
+        for (int i = BitString.wordsFor(this.length + 1) - 1; i > wordIndex; i--) {
+            this.words[i] = (this.words[i] << 1) | (this.words[i - 1] >>> 63);
+        }
+        final long low = BitString.mask(index & 63);
+        this.words[wordIndex] = (this.words[wordIndex] & low) | ((this.words[wordIndex] << 1) & ~low);
+        this.length++;
+        this.modCount++;
+        this.setBit(index, !bit.isZero());
+    }
+
+    public void addFirst(final Bit bit) {
+        this.add(0, bit);
+    }
+
+    public void addLast(final Bit bit) {
+        this.add(bit);
     }
 
     public void append(final BitString toAppend) {
-        for (final Bit bit : toAppend) {
-            this.add(bit);
+        final int bits = toAppend.length;
+        this.ensureCapacity(this.length + bits);
+        for (int i = 0; i < bits; i += BitString.BITS_PER_WORD) {
+            this.appendBits(toAppend.words[i >>> 6], Math.min(BitString.BITS_PER_WORD, bits - i));
         }
+        this.modCount++;
     }
 
-    public BitString increment() {
-        final BitString result = new BitString();
-        final Iterator<Bit> iterator = this.descendingIterator();
-        boolean add = true;
-        while (iterator.hasNext()) {
-            final Bit current = iterator.next();
-            if (add) {
-                if (current.isZero()) {
-                    add = false;
-                }
-                result.addFirst(current.invert());
-            } else {
-                result.addFirst(current);
-            }
+    @Override
+    public void clear() {
+        Arrays.fill(this.words, 0, BitString.wordsFor(this.length), 0L);
+        this.length = 0;
+        this.modCount++;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (o instanceof BitString) {
+            final BitString other = (BitString)o;
+            return this.length == other.length
+                && Arrays.equals(
+                    this.words,
+                    0,
+                    BitString.wordsFor(this.length),
+                    other.words,
+                    0,
+                    BitString.wordsFor(other.length)
+                );
+        }
+        return super.equals(o);
+    }
+
+    @Override
+    public Bit get(final int index) {
+        return Bit.fromBoolean(this.isSet(index));
+    }
+
+    public Bit getFirst() {
+        if (this.length == 0) {
+            throw new NoSuchElementException();
+        }
+        return this.get(0);
+    }
+
+    public Bit getLast() {
+        if (this.length == 0) {
+            throw new NoSuchElementException();
         }
-        if (add) {
-            result.addFirst(Bit.ONE);
+        return this.get(this.length - 1);
+    }
+
+    @Override
+    public int hashCode() {
+        return super.hashCode();
+    }
+
+    /**
+     * Adds one to the number represented by this bit string (which is not modified). The result has one more bit if
+     * all bits are one.
+     * @return The incremented bit string.
+     */
+    public BitString increment() {
+        final int lastZero = this.lastIndexOfZero();
+        final BitString result;
+        if (lastZero < 0) {
+            result = new BitString(this.length + 1);
+            result.length = this.length + 1;
+            result.setBit(0, true);
+        } else {
+            result = new BitString(this);
+            result.setBit(lastZero, true);
+            result.clearFrom(lastZero + 1);
         }
         return result;
     }
 
     public BitString invert() {
-        return this.stream().map(b -> b.invert()).collect(Collectors.toCollection(BitString::new));
+        final BitString result = new BitString(this);
+        final int numberOfWords = BitString.wordsFor(this.length);
+        for (int i = 0; i < numberOfWords; i++) {
+            result.words[i] = ~result.words[i];
+        }
+        result.clearFrom(this.length);
+        return result;
     }
 
     public void invertBit(final int index) {
-        final Bit bit = this.get(index);
-        this.set(index, bit.invert());
+        Objects.checkIndex(index, this.length);
+        this.words[index >>> 6] ^= 1L << index;
+    }
+
+    /**
+     * @param index The index.
+     * @return Whether the bit at the specified index is one.
+     */
+    public boolean isSet(final int index) {
+        Objects.checkIndex(index, this.length);
+        return (this.words[index >>> 6] & (1L << index)) != 0;
     }
 
     public boolean isZero() {
-        return this.toUnsignedInt() == 0;
+        final int numberOfWords = BitString.wordsFor(this.length);
+        for (int i = 0; i < numberOfWords; i++) {
+            if (this.words[i] != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public Bit pollFirst() {
+        return this.length == 0 ? null : this.remove(0);
+    }
+
+    public Bit pollLast() {
+        return this.length == 0 ? null : this.remove(this.length - 1);
+    }
+
+    /**
+     * @return The number of ones in this bit string.
+     */
+    public int popCount() {
+        int result = 0;
+        final int numberOfWords = BitString.wordsFor(this.length);
+        for (int i = 0; i < numberOfWords; i++) {
+            result += Long.bitCount(this.words[i]);
+        }
+        return result;
+    }
+
+    @Override
+    public Bit remove(final int index) {
+        final Bit result = this.get(index);
+        final int wordIndex = index >>> 6;
+        final int numberOfWords = BitString.wordsFor(this.length);
+        final long low = BitString.mask(index & 63);
+        this.words[wordIndex] = (this.words[wordIndex] & low) | ((this.words[wordIndex] >>> 1) & ~low);
+        for (int i = wordIndex + 1; i < numberOfWords; i++) {
+            this.words[i - 1] |= this.words[i] << 63;
+            this.words[i] >>>= 1;
+        }
+        this.length--;
+        this.modCount++;
+        return result;
+    }
+
+    public Bit removeFirst() {
+        if (this.length == 0) {
+            throw new NoSuchElementException();
+        }
+        return this.remove(0);
+    }
+
+    public Bit removeLast() {
+        if (this.length == 0) {
+            throw new NoSuchElementException();
+        }
+        return this.remove(this.length - 1);
     }
 
     public BitString reverse() {
-        final BitString result = new BitString();
-        for (final Bit bit : this) {
-            result.addFirst(bit);
+        final BitString result = new BitString(this.length);
+        result.length = this.length;
+        for (int i = 0; i < this.length; i++) {
+            if (this.isSet(i)) {
+                result.setBit(this.length - 1 - i, true);
+            }
         }
         return result;
     }
 
+    @Override
+    public Bit set(final int index, final Bit bit) {
+        final Bit result = this.get(index);
+        this.setBit(index, !bit.isZero());
+        return result;
+    }
+
+    @Override
+    public int size() {
+        return this.length;
+    }
+
     public BitString subString(final int fromIndex) {
         return this.subString(fromIndex, this.size());
     }
 
     public BitString subString(final int fromIndex, final int toIndexExclusive) {
-        return new BitString(this.subList(fromIndex, toIndexExclusive));
+        Objects.checkFromToIndex(fromIndex, toIndexExclusive, this.length);
+        final BitString result = new BitString(toIndexExclusive - fromIndex);
+        for (int i = fromIndex; i < toIndexExclusive; i += BitString.BITS_PER_WORD) {
+            result.appendBits(this.wordAt(i), Math.min(BitString.BITS_PER_WORD, toIndexExclusive - i));
+        }
+        return result;
+    }
+
+    /**
+     * @return A copy of the words of this bit string (bit i at position i mod 64 of word i / 64) containing exactly as
+     *         many words as needed for its length.
+     */
+    public long[] toLongArray() {
+        return Arrays.copyOf(this.words, BitString.wordsFor(this.length));
     }
 
     public BigInteger toNonNegativeBigInteger() {
@@ -104,22 +328,89 @@ public class BitString extends LinkedList<Bit> {
 
     @Override
     public String toString() {
-        final StringBuilder result = new StringBuilder();
-        for (final Bit b : this) {
-            result.append(b.toString());
+        final StringBuilder result = new StringBuilder(this.length);
+        for (int i = 0; i < this.length; i++) {
+            result.append(this.isSet(i) ? '1' : '0');
         }
         return result.toString();
     }
 
+    /**
+     * @return The number represented by the last 32 bits of this bit string (higher bits are ignored).
+     */
     public int toUnsignedInt() {
-        final Iterator<Bit> iterator = this.descendingIterator();
-        int exponent = 1;
         int result = 0;
-        while (iterator.hasNext()) {
-            result += exponent * iterator.next().value;
-            exponent *= 2;
+        for (int i = Math.max(0, this.length - Integer.SIZE); i < this.length; i++) {
+            result = (result << 1) | (this.isSet(i) ? 1 : 0);
         }
         return result;
     }
 
+    /**
+     * Appends the specified number of the lowest bits of the specified word (in index order). The capacity must
+     * suffice.
+     */
+    private void appendBits(final long word, final int count) {
+        final long bits = word & BitString.mask(count);
+        final int offset = this.length & 63;
+        final int wordIndex = this.length >>> 6;
+        this.words[wordIndex] |= bits << offset;
+        if (offset > 0 && offset + count > BitString.BITS_PER_WORD) {
+            this.words[wordIndex + 1] |= bits >>> (BitString.BITS_PER_WORD - offset);
+        }
+        this.length += count;
+    }
+
+    /**
+     * Sets all bits from the specified index to the end of the last used word to zero.
+     */
+    private void clearFrom(final int index) {
+        final int numberOfWords = BitString.wordsFor(this.length);
+        if (index >= numberOfWords * BitString.BITS_PER_WORD) {
+            return;
+        }
+        this.words[index >>> 6] &= BitString.mask(index & 63);
+        Arrays.fill(this.words, (index >>> 6) + 1, numberOfWords, 0L);
+    }
+
+    private void ensureCapacity(final int bits) {
+        final int numberOfWords = BitString.wordsFor(bits);
+        if (numberOfWords > this.words.length) {
+            this.words = Arrays.copyOf(this.words, Math.max(numberOfWords, 2 * this.words.length));
+        }
+    }
+
+    private int lastIndexOfZero() {
+        for (int i = BitString.wordsFor(this.length) - 1; i >= 0; i--) {
+            final int bits = Math.min(BitString.BITS_PER_WORD, this.length - i * BitString.BITS_PER_WORD);
+            final long zeros = ~this.words[i] & BitString.mask(bits);
+            if (zeros != 0) {
+                return i * BitString.BITS_PER_WORD + 63 - Long.numberOfLeadingZeros(zeros);
+            }
+        }
+        return -1;
+    }
+
+    private void setBit(final int index, final boolean one) {
+        Objects.checkIndex(index, this.length);
+        if (one) {
+            this.words[index >>> 6] |= 1L << index;
+        } else {
+            this.words[index >>> 6] &= ~(1L << index);
+        }
+    }
+
+    /**
+     * @return The (up to) 64 bits starting at the specified index in index order (bits beyond the length are zero).
+     */
+    private long wordAt(final int index) {
+        final int wordIndex = index >>> 6;
+        final int offset = index & 63;
+        if (offset == 0) {
+            return this.words[wordIndex];
+        }
+        final long high = wordIndex + 1 < this.words.length ? this.words[wordIndex + 1] << (64 - offset) : 0L;
+        return (this.words[wordIndex] >>> offset) | high;
+    }
+
 }
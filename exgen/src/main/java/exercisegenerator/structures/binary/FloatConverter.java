@@ -0,0 +1,401 @@
+package exercisegenerator.structures.binary;
+
+import java.math.*;
+import java.util.*;
+
+/**
+ * Conversion between rational numbers in decimal notation (with a comma as decimal separator) and floating point
+ * numbers consisting of a sign bit, an exponent in excess representation, and a mantissa (with a hidden leading one
+ * for normalized numbers). Mantissa bits beyond the available ones are truncated, too large numbers yield infinity
+ * and too small ones zero. Decimal fractions are handled as numerators scaled to a power of ten and binary fractions
+ * as numerators scaled to a power of two. Both are kept in longs whenever they fit and only fall back to BigIntegers
+ * for long digit strings or wide formats.
+ */
+public class FloatConverter {
+
+    /**
+     * A decimal fraction in [0,1) whose binary digits are extracted one after another.
+     */
+    private abstract static class DecimalFraction {
+
+        static DecimalFraction parse(final String digits) {
+            if (!digits.chars().allMatch(c -> c >= '0' && c <= '9')) {
+                throw new IllegalArgumentException(String.format("%s is not a sequence of digits!", digits));
+            }
+            if (digits.length() <= FloatConverter.MAXIMUM_LONG_DIGITS) {
+                return new LongDecimalFraction(Long.parseLong(digits), FloatConverter.POWERS_OF_TEN[digits.length()]);
+            }
+            return new BigDecimalFraction(new BigInteger(digits), BigInteger.TEN.pow(digits.length()));
+        }
+
+        abstract boolean isZero();
+
+        /**
+         * @return The next binary digit.
+         */
+        abstract boolean nextBit();
+
+        /**
+         * Skips the binary digits before the first one such that the next call of {@link #nextBit()} returns true.
+         * @return The number of skipped digits.
+         */
+        abstract int skipLeadingZeros();
+
+    }
+
+    private static class BigDecimalFraction extends DecimalFraction {
+
+        private final BigInteger denominator;
+
+        private BigInteger numerator;
+
+        private BigDecimalFraction(final BigInteger numerator, final BigInteger denominator) {
+            this.numerator = numerator;
+            this.denominator = denominator;
+        }
+
+        @Override
+        boolean isZero() {
+            return this.numerator.signum() == 0;
+        }
+
+        @Override
+        boolean nextBit() {
+            this.numerator = this.numerator.shiftLeft(1);
+            if (this.numerator.compareTo(this.denominator) >= 0) {
+                this.numerator = this.numerator.subtract(this.denominator);
+                return true;
+            }
+            return false;
+        }
+
+        @Override
+        int skipLeadingZeros() {
+            int shift = this.denominator.bitLength() - this.numerator.bitLength();
+            if (this.numerator.shiftLeft(shift).compareTo(this.denominator) < 0) {
+                shift++;
+            }
+            this.numerator = this.numerator.shiftLeft(shift - 1);
+            return shift - 1;
+        }
+
+    }
+
+    private static class LongDecimalFraction extends DecimalFraction {
+
+        private final long denominator;
+
+        private long numerator;
+
+        private LongDecimalFraction(final long numerator, final long denominator) {
+            this.numerator = numerator;
+            this.denominator = denominator;
+        }
+
+        @Override
+        boolean isZero() {
+            return this.numerator == 0;
+        }
+
+        @Override
+        boolean nextBit() {
+            this.numerator <<= 1;
+            if (this.numerator >= this.denominator) {
+                this.numerator -= this.denominator;
+                return true;
+            }
+            return false;
+        }
+
+        @Override
+        int skipLeadingZeros() {
+            int shift = Long.numberOfLeadingZeros(this.numerator) - Long.numberOfLeadingZeros(this.denominator);
+            if (this.numerator << shift < this.denominator) {
+                shift++;
+            }
+            this.numerator <<= shift - 1;
+            return shift - 1;
+        }
+
+    }
+
+    /**
+     * The maximal number of decimal digits such that twice the scaled numerator and the product of a binary
+     * numerator with the corresponding power of five fit into a long.
+     */
+    private static final int MAXIMUM_LONG_DIGITS = 18;
+
+    /**
+     * The maximal number of bits of a mantissa with hidden one which is still shifted in a long.
+     */
+    private static final int MAXIMUM_LONG_MANTISSA_LENGTH = 61;
+
+    private static final long[] POWERS_OF_FIVE = FloatConverter.powers(5);
+
+    private static final long[] POWERS_OF_TEN = FloatConverter.powers(10);
+
+    private static String leftPadWithZeros(final String digits, final int length) {
+        return "0".repeat(length - digits.length()) + digits;
+    }
+
+    private static long[] powers(final int base) {
+        final long[] result = new long[FloatConverter.MAXIMUM_LONG_DIGITS + 1];
+        result[0] = 1;
+        for (int i = 1; i < result.length; i++) {
+            result[i] = result[i - 1] * base;
+        }
+        return result;
+    }
+
+    private static void setBit(final long[] words, final int index) {
+        words[index >>> 6] |= 1L << index;
+    }
+
+    private final int excess;
+
+    private final int exponentLength;
+
+    private final int length;
+
+    private final int mantissaLength;
+
+    /**
+     * @param exponentLength The number of exponent bits (between 2 and 31).
+     * @param mantissaLength The number of mantissa bits (without the hidden one).
+     */
+    public FloatConverter(final int exponentLength, final int mantissaLength) {
+        if (exponentLength < 2 || exponentLength > 31) {
+            throw new IllegalArgumentException("The exponent must have between 2 and 31 bits!");
+        }
+        if (mantissaLength < 0) {
+            throw new IllegalArgumentException("The mantissa length must not be negative!");
+        }
+        this.exponentLength = exponentLength;
+        this.mantissaLength = mantissaLength;
+        this.excess = (1 << (exponentLength - 1)) - 1;
+        this.length = exponentLength + mantissaLength + 1;
+    }
+
+    /**
+     * @param bitString A floating point number in this format.
+     * @return The represented rational number with a comma as decimal separator, inf, -inf, or NaN.
+     */
+    public String fromFloat(final BitString bitString) {
+        if (bitString.size() != this.length) {
+            throw new IllegalArgumentException(
+                String.format(
+                    "%s is not a 1.%d.%d floating point number!",
+                    bitString,
+                    this.exponentLength,
+                    this.mantissaLength
+                )
+            );
+        }
+        final String sign = bitString.isSet(0) ? "-" : "";
+        int exponent = 0;
+        for (int i = 1; i <= this.exponentLength; i++) {
+            exponent = (exponent << 1) | (bitString.isSet(i) ? 1 : 0);
+        }
+        if (exponent == 2 * this.excess + 1) {
+            for (int i = this.exponentLength + 1; i < this.length; i++) {
+                if (bitString.isSet(i)) {
+                    return "NaN";
+                }
+            }
+            return sign + "inf";
+        }
+        // the value is mantissa * 2^shift where the mantissa includes the hidden one for normalized numbers
+        final int shift = (exponent == 0 ? 1 : exponent) - this.excess - this.mantissaLength;
+        if (this.mantissaLength <= FloatConverter.MAXIMUM_LONG_MANTISSA_LENGTH) {
+            long mantissa = exponent == 0 ? 0 : 1;
+            for (int i = this.exponentLength + 1; i < this.length; i++) {
+                mantissa = (mantissa << 1) | (bitString.isSet(i) ? 1 : 0);
+            }
+            return sign + this.toDecimal(mantissa, shift);
+        }
+        BigInteger mantissa = exponent == 0 ? BigInteger.ZERO : BigInteger.ONE;
+        for (int i = this.exponentLength + 1; i < this.length; i++) {
+            mantissa = bitString.isSet(i) ? mantissa.shiftLeft(1).setBit(0) : mantissa.shiftLeft(1);
+        }
+        return sign + this.toDecimal(mantissa, shift);
+    }
+
+    /**
+     * Bulk version of {@link #fromFloat(BitString)}.
+     */
+    public String[] fromFloats(final BitString[] bitStrings) {
+        final String[] result = new String[bitStrings.length];
+        for (int i = 0; i < bitStrings.length; i++) {
+            result[i] = this.fromFloat(bitStrings[i]);
+        }
+        return result;
+    }
+
+    /**
+     * @param number A rational number with a comma as decimal separator, inf, or -inf.
+     * @return The floating point number in this format closest to the specified number towards zero.
+     */
+    public BitString toFloat(final String number) {
+        final long[] words = new long[(this.length + Long.SIZE - 1) / Long.SIZE];
+        this.toFloat(number, words);
+        return BitString.valueOf(words, this.length);
+    }
+
+    /**
+     * Bulk version of {@link #toFloat(String)} reusing one buffer for the bits of all numbers.
+     */
+    public BitString[] toFloats(final String[] numbers) {
+        final BitString[] result = new BitString[numbers.length];
+        final long[] words = new long[(this.length + Long.SIZE - 1) / Long.SIZE];
+        for (int i = 0; i < numbers.length; i++) {
+            Arrays.fill(words, 0);
+            this.toFloat(numbers[i], words);
+            result[i] = BitString.valueOf(words, this.length);
+        }
+        return result;
+    }
+
+    private void setExponent(final long[] words, final int exponent) {
+        for (int i = 0; i < this.exponentLength; i++) {
+            if ((exponent >>> (this.exponentLength - 1 - i) & 1) != 0) {
+                FloatConverter.setBit(words, i + 1);
+            }
+        }
+    }
+
+    private void setInfinity(final long[] words) {
+        this.setExponent(words, 2 * this.excess + 1);
+    }
+
+    /**
+     * Sets the mantissa bits from the specified index on to the next binary digits of the specified fraction.
+     */
+    private void setMantissa(final long[] words, final int fromIndex, final DecimalFraction fraction) {
+        for (int i = fromIndex; i < this.mantissaLength; i++) {
+            if (fraction.nextBit()) {
+                FloatConverter.setBit(words, this.exponentLength + 1 + i);
+            }
+        }
+    }
+
+    /**
+     * Writes the bits of the specified number into the specified (zeroed) words in the layout of a bit string.
+     */
+    private void toFloat(final String number, final long[] words) {
+        final String[] parts = number.strip().split(",");
+        if (parts.length > 2) {
+            throw new IllegalArgumentException(
+                String.format("%s is not a syntactically correct rational number!", number)
+            );
+        }
+        if (parts[0].charAt(0) == '-') {
+            FloatConverter.setBit(words, 0);
+        }
+        if (parts.length == 1 && (parts[0].equals("inf") || parts[0].equals("-inf"))) {
+            this.setInfinity(words);
+            return;
+        }
+        final DecimalFraction fraction = DecimalFraction.parse(parts.length == 1 ? "0" : parts[1]);
+        if (parts[0].length() <= FloatConverter.MAXIMUM_LONG_DIGITS) {
+            final long beforeComma = Math.abs(Long.parseLong(parts[0]));
+            if (beforeComma > 0) {
+                final int bitsFromBefore = Long.SIZE - 1 - Long.numberOfLeadingZeros(beforeComma);
+                if (bitsFromBefore > this.excess) {
+                    this.setInfinity(words);
+                    return;
+                }
+                this.setExponent(words, bitsFromBefore + this.excess);
+                for (int i = 0; i < Math.min(bitsFromBefore, this.mantissaLength); i++) {
+                    if ((beforeComma >>> (bitsFromBefore - 1 - i) & 1) != 0) {
+                        FloatConverter.setBit(words, this.exponentLength + 1 + i);
+                    }
+                }
+                this.setMantissa(words, bitsFromBefore, fraction);
+                return;
+            }
+        } else {
+            final BigInteger beforeComma = new BigInteger(parts[0]).abs();
+            if (beforeComma.signum() > 0) {
+                final int bitsFromBefore = beforeComma.bitLength() - 1;
+                if (bitsFromBefore > this.excess) {
+                    this.setInfinity(words);
+                    return;
+                }
+                this.setExponent(words, bitsFromBefore + this.excess);
+                for (int i = 0; i < Math.min(bitsFromBefore, this.mantissaLength); i++) {
+                    if (beforeComma.testBit(bitsFromBefore - 1 - i)) {
+                        FloatConverter.setBit(words, this.exponentLength + 1 + i);
+                    }
+                }
+                this.setMantissa(words, bitsFromBefore, fraction);
+                return;
+            }
+        }
+        if (fraction.isZero()) {
+            return;
+        }
+        final int exponent = this.excess - 1 - fraction.skipLeadingZeros();
+        fraction.nextBit();
+        if (exponent < 1 - this.mantissaLength) {
+            // round to zero
+            return;
+        }
+        if (exponent > 0) {
+            this.setExponent(words, exponent);
+            this.setMantissa(words, 0, fraction);
+            return;
+        }
+        // denormalized: the exponent is zero and the leading one becomes part of the mantissa
+        FloatConverter.setBit(words, this.exponentLength + 1 - exponent);
+        this.setMantissa(words, 1 - exponent, fraction);
+    }
+
+    private String toDecimal(final BigInteger mantissa, final int shift) {
+        if (shift >= 0) {
+            return mantissa.shiftLeft(shift) + ",0";
+        }
+        final BigInteger beforeComma = mantissa.shiftRight(-shift);
+        final BigInteger afterComma = mantissa.subtract(beforeComma.shiftLeft(-shift));
+        if (afterComma.signum() == 0) {
+            return beforeComma + ",0";
+        }
+        final int trailingZeros = afterComma.getLowestSetBit();
+        final int digits = -shift - trailingZeros;
+        return String.format(
+            "%s,%s",
+            beforeComma,
+            FloatConverter.leftPadWithZeros(
+                afterComma.shiftRight(trailingZeros).multiply(BigInteger.valueOf(5).pow(digits)).toString(),
+                digits
+            )
+        );
+    }
+
+    private String toDecimal(final long mantissa, final int shift) {
+        if (shift >= 0) {
+            if (Long.numberOfLeadingZeros(mantissa) > shift) {
+                return (mantissa << shift) + ",0";
+            }
+            return this.toDecimal(BigInteger.valueOf(mantissa), shift);
+        }
+        final long beforeComma = -shift >= Long.SIZE ? 0 : mantissa >>> -shift;
+        final long afterComma = -shift >= Long.SIZE ? mantissa : mantissa & ((1L << -shift) - 1);
+        if (afterComma == 0) {
+            return beforeComma + ",0";
+        }
+        final int trailingZeros = Long.numberOfTrailingZeros(afterComma);
+        final int digits = -shift - trailingZeros;
+        if (digits > FloatConverter.MAXIMUM_LONG_DIGITS) {
+            return this.toDecimal(BigInteger.valueOf(mantissa), shift);
+        }
+        return String.format(
+            "%d,%s",
+            beforeComma,
+            FloatConverter.leftPadWithZeros(
+                String.valueOf((afterComma >>> trailingZeros) * FloatConverter.POWERS_OF_FIVE[digits]),
+                digits
+            )
+        );
+    }
+
+}
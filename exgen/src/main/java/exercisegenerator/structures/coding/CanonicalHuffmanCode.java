@@ -0,0 +1,149 @@
+package exercisegenerator.structures.coding;
+
+import java.util.*;
+
+/**
+ * Canonical Huffman codes for arbitrary target alphabets. The frequencies of the source symbols are counted into a
+ * histogram indexed by the symbols, the leaves are sorted once, and the tree is built by merging the smallest nodes
+ * from two queues: the sorted leaves and the inner nodes (which are created in ascending order of their frequencies).
+ * For target alphabets with k > 2 symbols, leaves with frequency zero are added such that each merge combines exactly
+ * k nodes. Only the code lengths are derived from the tree and the codes are assigned canonically.
+ */
+public abstract class CanonicalHuffmanCode {
+
+    /**
+     * @param lengths The code length of each source symbol (indexed by the symbols, zero for symbols without code).
+     * @param targetAlphabet The target alphabet in ascending order.
+     * @return The canonical code book for the specified code lengths. The source symbols are ordered by the lengths
+     *         of their codes (and by themselves for equal lengths) and each code is the successor of the previous code
+     *         (padded with the least target symbol if it is longer).
+     * @throws IllegalArgumentException If the code lengths violate the Kraft inequality.
+     */
+    public static Map<Character, String> codeBook(final int[] lengths, final List<Character> targetAlphabet) {
+        final int maxLength = Arrays.stream(lengths).max().orElse(0);
+        final List<List<Character>> symbolsByLength = new ArrayList<List<Character>>();
+        for (int length = 0; length <= maxLength; length++) {
+            symbolsByLength.add(new ArrayList<Character>());
+        }
+        for (int symbol = 0; symbol < lengths.length; symbol++) {
+            if (lengths[symbol] > 0) {
+                symbolsByLength.get(lengths[symbol]).add((char)symbol);
+            }
+        }
+        final int base = targetAlphabet.size();
+        final Map<Character, String> result = new LinkedHashMap<Character, String>();
+        int[] digits = new int[0];
+        for (int length = 1; length <= maxLength; length++) {
+            for (final Character symbol : symbolsByLength.get(length)) {
+                if (!result.isEmpty() && !CanonicalHuffmanCode.increment(digits, base)) {
+                    throw new IllegalArgumentException("The code lengths do not allow for a prefix code!");
+                }
+                digits = Arrays.copyOf(digits, length);
+                final StringBuilder code = new StringBuilder(length);
+                for (final int digit : digits) {
+                    code.append(targetAlphabet.get(digit));
+                }
+                result.put(symbol, code.toString());
+            }
+        }
+        return result;
+    }
+
+    /**
+     * @param sourceText The source text.
+     * @param targetAlphabet The target alphabet in ascending order (at least two symbols).
+     * @return The canonical Huffman code book for the specified source text.
+     */
+    public static Map<Character, String> codeBook(final String sourceText, final List<Character> targetAlphabet) {
+        return CanonicalHuffmanCode.codeBook(
+            CanonicalHuffmanCode.codeLengths(CanonicalHuffmanCode.histogram(sourceText), targetAlphabet.size()),
+            targetAlphabet
+        );
+    }
+
+    /**
+     * @param frequencies The frequency of each source symbol (indexed by the symbols).
+     * @param arity The size of the target alphabet (at least 2).
+     * @return The lengths of the Huffman codes for all source symbols (zero for symbols with frequency zero). If only
+     *         one symbol occurs, its code has length 1.
+     */
+    public static int[] codeLengths(final int[] frequencies, final int arity) {
+        if (arity < 2) {
+            throw new IllegalArgumentException("The target alphabet must contain at least two symbols!");
+        }
+        final int[] result = new int[frequencies.length];
+        int numberOfSymbols = 0;
+        for (final int frequency : frequencies) {
+            if (frequency > 0) {
+                numberOfSymbols++;
+            }
+        }
+        if (numberOfSymbols == 0) {
+            return result;
+        }
+        final int dummies =
+            numberOfSymbols == 1 ? arity - 1 : (arity - 1 - (numberOfSymbols - 1) % (arity - 1)) % (arity - 1);
+        final long[] leaves = new long[numberOfSymbols + dummies];
+        int index = dummies;
+        for (int symbol = 0; symbol < frequencies.length; symbol++) {
+            if (frequencies[symbol] > 0) {
+                leaves[index++] = ((long)frequencies[symbol] << Character.SIZE) | symbol;
+            }
+        }
+        Arrays.sort(leaves, dummies, leaves.length);
+        final int numberOfInnerNodes = (leaves.length - 1) / (arity - 1);
+        final long[] innerFrequencies = new long[numberOfInnerNodes];
+        final int[] leafParents = new int[leaves.length];
+        final int[] innerParents = new int[numberOfInnerNodes];
+        int nextLeaf = 0;
+        int nextInner = 0;
+        for (int inner = 0; inner < numberOfInnerNodes; inner++) {
+            long frequency = 0;
+            for (int child = 0; child < arity; child++) {
+                if (
+                    nextLeaf < leaves.length
+                    && (nextInner == inner || (leaves[nextLeaf] >>> Character.SIZE) <= innerFrequencies[nextInner])
+                ) {
+                    frequency += leaves[nextLeaf] >>> Character.SIZE;
+                    leafParents[nextLeaf++] = inner;
+                } else {
+                    frequency += innerFrequencies[nextInner];
+                    innerParents[nextInner++] = inner;
+                }
+            }
+            innerFrequencies[inner] = frequency;
+        }
+        final int[] innerDepths = new int[numberOfInnerNodes];
+        for (int inner = numberOfInnerNodes - 2; inner >= 0; inner--) {
+            innerDepths[inner] = innerDepths[innerParents[inner]] + 1;
+        }
+        for (int leaf = dummies; leaf < leaves.length; leaf++) {
+            result[(int)(leaves[leaf] & Character.MAX_VALUE)] = innerDepths[leafParents[leaf]] + 1;
+        }
+        return result;
+    }
+
+    /**
+     * @param sourceText The source text.
+     * @return The number of occurrences of each character in the specified text (indexed by the characters).
+     */
+    public static int[] histogram(final CharSequence sourceText) {
+        final int[] result = new int[Character.MAX_VALUE + 1];
+        for (int i = 0; i < sourceText.length(); i++) {
+            result[sourceText.charAt(i)]++;
+        }
+        return result;
+    }
+
+    private static boolean increment(final int[] digits, final int base) {
+        for (int i = digits.length - 1; i >= 0; i--) {
+            digits[i]++;
+            if (digits[i] < base) {
+                return true;
+            }
+            digits[i] = 0;
+        }
+        return false;
+    }
+
+}
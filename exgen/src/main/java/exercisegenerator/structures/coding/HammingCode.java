@@ -0,0 +1,175 @@
+package exercisegenerator.structures.coding;
+
+import java.util.*;
+
+import exercisegenerator.structures.binary.*;
+
+/**
+ * Hamming codes for messages of arbitrary length. The bits of a code have positions starting with 1 and the parity
+ * bits are at the positions being powers of two. The parity bit at position 2^j makes the number of ones at all
+ * positions having bit j set even, i.e., the XOR of the positions of all ones (the syndrome) is zero for a valid code.
+ * If the message length is not of the form 2^r - r - 1, the code is shortened (the positions after the last data bit
+ * are omitted). The extended code (SECDED) additionally has an overall parity bit at position 0 in front of all other
+ * bits such that single errors can be corrected and double errors can be detected.
+ * The syndrome is computed in one pass over the packed words of the code: the low six bits are the parities of the
+ * XOR of all words masked with the index bits within a word and the higher bits are the XOR of the indices of all
+ * words having odd parity.
+ */
+public abstract class HammingCode {
+
+    /**
+     * Masks for the positions within a word having bit j set (for j from 0 to 5).
+     */
+    private static final long[] INDEX_BIT_MASKS = {
+        0xAAAAAAAAAAAAAAAAL,
+        0xCCCCCCCCCCCCCCCCL,
+        0xF0F0F0F0F0F0F0F0L,
+        0xFF00FF00FF00FF00L,
+        0xFFFF0000FFFF0000L,
+        0xFFFFFFFF00000000L
+    };
+
+    /**
+     * @param messageLength The message length.
+     * @param extended Whether the extended code with an overall parity bit is meant.
+     * @return The length of the code for messages of the specified length.
+     */
+    public static int codeLength(final int messageLength, final boolean extended) {
+        return messageLength + HammingCode.numberOfParityBits(messageLength) + (extended ? 1 : 0);
+    }
+
+    /**
+     * @param code The code.
+     * @param extended Whether the code is extended by an overall parity bit in front.
+     * @return The decoded message together with the syndrome and the information whether an error has been corrected
+     *         or detected.
+     */
+    public static HammingDecodingResult decode(final BitString code, final boolean extended) {
+        final int messageLength = HammingCode.messageLength(code.size(), extended);
+        final BitString positions = HammingCode.toPositions(code, extended);
+        final long[] words = positions.toLongArray();
+        final int syndrome = HammingCode.syndrome(words);
+        final boolean oddParity = extended && HammingCode.oddParity(words);
+        final int lastPosition = positions.size() - 1;
+        final HammingErrorStatus status;
+        final Optional<Integer> errorPosition;
+        if (syndrome == 0 && !oddParity) {
+            status = HammingErrorStatus.NO_ERROR;
+            errorPosition = Optional.empty();
+        } else if (syndrome > lastPosition || (extended && !oddParity)) {
+            status = HammingErrorStatus.DETECTED;
+            errorPosition = Optional.empty();
+        } else {
+            status = HammingErrorStatus.CORRECTED;
+            errorPosition = Optional.of(syndrome);
+            positions.invertBit(syndrome);
+        }
+        final BitString message = new BitString();
+        for (int power = 2; message.size() < messageLength; power *= 2) {
+            message.append(positions.subString(power + 1, Math.min(2 * power, lastPosition + 1)));
+        }
+        return new HammingDecodingResult(message, syndrome, status, errorPosition);
+    }
+
+    /**
+     * @param message The message.
+     * @param extended Whether the code should be extended by an overall parity bit in front.
+     * @return The Hamming code for the specified message.
+     */
+    public static BitString encode(final BitString message, final boolean extended) {
+        final int messageLength = message.size();
+        final BitString positions = new BitString();
+        positions.add(Bit.ZERO);
+        int from = 0;
+        for (int power = 1; from < messageLength; power *= 2) {
+            positions.add(Bit.ZERO);
+            final int to = Math.min(from + power - 1, messageLength);
+            positions.append(message.subString(from, to));
+            from = to;
+        }
+        for (int rest = HammingCode.syndrome(positions.toLongArray()); rest != 0; rest &= rest - 1) {
+            positions.invertBit(Integer.lowestOneBit(rest));
+        }
+        if (!extended) {
+            return positions.subString(1);
+        }
+        if (HammingCode.oddParity(positions.toLongArray())) {
+            positions.invertBit(0);
+        }
+        return positions;
+    }
+
+    /**
+     * @param codeLength The code length.
+     * @param extended Whether the code is extended by an overall parity bit.
+     * @return The length of the messages encoded by codes of the specified length.
+     * @throws IllegalArgumentException If there is no Hamming code of the specified length.
+     */
+    public static int messageLength(final int codeLength, final boolean extended) {
+        final int positions = codeLength - (extended ? 1 : 0);
+        if (positions < 0) {
+            throw new IllegalArgumentException("There is no Hamming code of length " + codeLength + "!");
+        }
+        final int result = positions - (Integer.SIZE - Integer.numberOfLeadingZeros(positions));
+        if (HammingCode.codeLength(result, extended) != codeLength) {
+            throw new IllegalArgumentException("There is no Hamming code of length " + codeLength + "!");
+        }
+        return result;
+    }
+
+    /**
+     * @param messageLength The message length.
+     * @return The number r of parity bits needed for messages of the specified length, i.e., the smallest r such that
+     *         2^r is greater than the message length plus r.
+     */
+    public static int numberOfParityBits(final int messageLength) {
+        int result = 0;
+        while ((1L << result) < messageLength + result + 1) {
+            result++;
+        }
+        return result;
+    }
+
+    private static boolean oddParity(final long[] words) {
+        long folded = 0L;
+        for (final long word : words) {
+            folded ^= word;
+        }
+        return (Long.bitCount(folded) & 1) != 0;
+    }
+
+    /**
+     * @param words The packed bits of a code where bit i is at position i.
+     * @return The XOR of the positions of all ones.
+     */
+    private static int syndrome(final long[] words) {
+        long folded = 0L;
+        int high = 0;
+        for (int i = 0; i < words.length; i++) {
+            folded ^= words[i];
+            if ((Long.bitCount(words[i]) & 1) != 0) {
+                high ^= i;
+            }
+        }
+        int low = 0;
+        for (int j = 0; j < HammingCode.INDEX_BIT_MASKS.length; j++) {
+            low |= (Long.bitCount(folded & HammingCode.INDEX_BIT_MASKS[j]) & 1) << j;
+        }
+        return (high << 6) | low;
+    }
+
+    /**
+     * @return The bits of the specified code such that bit i is at position i (position 0 is zero for codes which are
+     *         not extended).
+     */
+    private static BitString toPositions(final BitString code, final boolean extended) {
+        if (extended) {
+            return new BitString(code);
+        }
+        final BitString result = new BitString();
+        result.add(Bit.ZERO);
+        result.append(code);
+        return result;
+    }
+
+}
@@ -0,0 +1,39 @@
+package exercisegenerator.structures.coding;
+
+import java.util.*;
+
+import exercisegenerator.structures.binary.*;
+
+public class HammingDecodingResult {
+
+    /**
+     * The position of the corrected bit (positions start with 1 and the overall parity bit of the extended code has
+     * position 0). Empty if no bit has been corrected.
+     */
+    public final Optional<Integer> errorPosition;
+
+    /**
+     * The decoded message. If the error could only be detected, this is the uncorrected message.
+     */
+    public final BitString message;
+
+    public final HammingErrorStatus status;
+
+    /**
+     * The XOR of the positions of all ones in the code.
+     */
+    public final int syndrome;
+
+    public HammingDecodingResult(
+        final BitString message,
+        final int syndrome,
+        final HammingErrorStatus status,
+        final Optional<Integer> errorPosition
+    ) {
+        this.message = message;
+        this.syndrome = syndrome;
+        this.status = status;
+        this.errorPosition = errorPosition;
+    }
+
+}
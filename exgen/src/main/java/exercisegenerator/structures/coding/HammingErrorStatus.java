@@ -0,0 +1,7 @@
+package exercisegenerator.structures.coding;
+
+public enum HammingErrorStatus {
+
+    CORRECTED, DETECTED, NO_ERROR
+
+}
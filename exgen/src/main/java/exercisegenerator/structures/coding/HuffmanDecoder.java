@@ -0,0 +1,200 @@
+package exercisegenerator.structures.coding;
+
+import java.util.*;
+
+/**
+ * Table-driven decoder for prefix codes over arbitrary target alphabets. Each table is indexed by the next k target
+ * symbols (read as a number with the size of the target alphabet as base). An entry either contains a source symbol
+ * together with the length of its code (if the code is not longer than k) or refers to a table for the next k target
+ * symbols. Hence, decoding takes time linear in the length of the target text.
+ */
+public class HuffmanDecoder {
+
+    /**
+     * The maximal number of entries of a single table.
+     */
+    public static final int MAXIMUM_TABLE_SIZE = 4096;
+
+    private static final int INVALID = Integer.MIN_VALUE;
+
+    /**
+     * @param codeBook A code book for a prefix code.
+     * @param targetAlphabet The target alphabet in ascending order.
+     * @return The canonical code book with the same code lengths (see {@link CanonicalHuffmanCode}).
+     * @throws IllegalArgumentException If the code lengths violate the Kraft inequality or a code is empty.
+     */
+    public static Map<Character, String> canonicalCodeBook(
+        final Map<Character, String> codeBook,
+        final List<Character> targetAlphabet
+    ) {
+        final int[] lengths = new int[Character.MAX_VALUE + 1];
+        for (final Map.Entry<Character, String> entry : codeBook.entrySet()) {
+            if (entry.getValue().isEmpty()) {
+                throw new IllegalArgumentException("The specified code book contains an empty code!");
+            }
+            lengths[entry.getKey()] = entry.getValue().length();
+        }
+        return CanonicalHuffmanCode.codeBook(lengths, targetAlphabet);
+    }
+
+    static List<Character> toTargetAlphabet(final Map<Character, String> codeBook) {
+        final SortedSet<Character> result = new TreeSet<Character>();
+        for (final String code : codeBook.values()) {
+            for (final char symbol : code.toCharArray()) {
+                result.add(symbol);
+            }
+        }
+        return new ArrayList<Character>(result);
+    }
+
+    private final int base;
+
+    /**
+     * The value of each target symbol (or -1 for characters not in the target alphabet).
+     */
+    private final int[] digits;
+
+    /**
+     * The number of target symbols indexing one table.
+     */
+    private final int lookahead;
+
+    /**
+     * All tables one after another starting with the root table. Non-negative entries contain a source symbol shifted
+     * by 8 bits and the length of its (remaining) code, negative entries contain the complement of the offset of
+     * another table, and invalid entries do not belong to any code.
+     */
+    private int[] table;
+
+    private int tableLength;
+
+    /**
+     * The number of entries of each table.
+     */
+    private final int tableSize;
+
+    public HuffmanDecoder(final Map<Character, String> codeBook) {
+        this(codeBook, HuffmanDecoder.toTargetAlphabet(codeBook));
+    }
+
+    /**
+     * @param codeBook A code book for a prefix code.
+     * @param targetAlphabet The target alphabet (the value of each target symbol is its index in this list).
+     * @throws IllegalArgumentException If the code book contains an empty code, a target symbol not contained in the
+     *                                  target alphabet, or a code being a prefix of another code.
+     */
+    public HuffmanDecoder(final Map<Character, String> codeBook, final List<Character> targetAlphabet) {
+        this.base = Math.max(1, targetAlphabet.size());
+        this.digits = new int[targetAlphabet.stream().mapToInt(symbol -> symbol + 1).max().orElse(0)];
+        Arrays.fill(this.digits, -1);
+        for (int i = 0; i < targetAlphabet.size(); i++) {
+            this.digits[targetAlphabet.get(i)] = i;
+        }
+        final int maxLength = codeBook.values().stream().mapToInt(String::length).max().orElse(1);
+        int lookahead = 1;
+        int size = this.base;
+        while (lookahead < maxLength && size <= HuffmanDecoder.MAXIMUM_TABLE_SIZE / this.base) {
+            lookahead++;
+            size *= this.base;
+        }
+        this.lookahead = lookahead;
+        this.tableSize = size;
+        this.table = new int[size];
+        this.tableLength = 0;
+        final Map<Character, int[]> codes = new LinkedHashMap<Character, int[]>();
+        for (final Map.Entry<Character, String> entry : codeBook.entrySet()) {
+            final String code = entry.getValue();
+            if (code.isEmpty()) {
+                throw new IllegalArgumentException("The specified code book contains an empty code!");
+            }
+            final int[] values = new int[code.length()];
+            for (int i = 0; i < values.length; i++) {
+                values[i] = this.digit(code.charAt(i));
+            }
+            codes.put(entry.getKey(), values);
+        }
+        this.fillTable(codes, 0);
+    }
+
+    public String decode(final String targetText) {
+        final int length = targetText.length();
+        final StringBuilder result = new StringBuilder();
+        int position = 0;
+        while (position < length) {
+            int entry = this.table[this.index(targetText, position)];
+            while (entry < 0 && entry != HuffmanDecoder.INVALID) {
+                position += this.lookahead;
+                entry = this.table[~entry + this.index(targetText, position)];
+            }
+            if (entry == HuffmanDecoder.INVALID || position + (entry & 0xFF) > length) {
+                throw new IllegalArgumentException("The specified text cannot be decoded with this code book!");
+            }
+            result.append((char)(entry >>> 8));
+            position += entry & 0xFF;
+        }
+        return result.toString();
+    }
+
+    private int digit(final char symbol) {
+        if (symbol >= this.digits.length || this.digits[symbol] < 0) {
+            throw new IllegalArgumentException("The symbol " + symbol + " is not contained in the target alphabet!");
+        }
+        return this.digits[symbol];
+    }
+
+    /**
+     * Fills a new table for the specified codes starting at the specified depth (all codes share the same prefix up to
+     * this depth).
+     * @return The offset of the new table.
+     */
+    private int fillTable(final Map<Character, int[]> codes, final int depth) {
+        final int offset = this.tableLength;
+        this.tableLength += this.tableSize;
+        if (this.tableLength > this.table.length) {
+            this.table = Arrays.copyOf(this.table, Math.max(this.tableLength, 2 * this.table.length));
+        }
+        Arrays.fill(this.table, offset, this.tableLength, HuffmanDecoder.INVALID);
+        final Map<Integer, Map<Character, int[]>> longer = new LinkedHashMap<Integer, Map<Character, int[]>>();
+        for (final Map.Entry<Character, int[]> entry : codes.entrySet()) {
+            final int[] code = entry.getValue();
+            final int remaining = Math.min(this.lookahead, code.length - depth);
+            int index = 0;
+            for (int i = 0; i < this.lookahead; i++) {
+                index = index * this.base + (i < remaining ? code[depth + i] : 0);
+            }
+            if (code.length - depth > this.lookahead) {
+                longer.computeIfAbsent(index, key -> new LinkedHashMap<Character, int[]>()).put(entry.getKey(), code);
+                continue;
+            }
+            final int span = (int)Math.pow(this.base, this.lookahead - remaining);
+            for (int i = offset + index; i < offset + index + span; i++) {
+                if (this.table[i] != HuffmanDecoder.INVALID) {
+                    throw new IllegalArgumentException("The specified code book does not describe a prefix code!");
+                }
+                this.table[i] = (entry.getKey() << 8) | remaining;
+            }
+        }
+        for (final Map.Entry<Integer, Map<Character, int[]>> entry : longer.entrySet()) {
+            final int index = offset + entry.getKey();
+            if (this.table[index] != HuffmanDecoder.INVALID) {
+                throw new IllegalArgumentException("The specified code book does not describe a prefix code!");
+            }
+            final int next = this.fillTable(entry.getValue(), depth + this.lookahead);
+            this.table[index] = ~next;
+        }
+        return offset;
+    }
+
+    /**
+     * @return The index of the next target symbols starting at the specified position in a table (missing symbols at
+     *         the end of the text are treated as the least target symbol).
+     */
+    private int index(final String targetText, final int position) {
+        int result = 0;
+        for (int i = position; i < position + this.lookahead; i++) {
+            result = result * this.base + (i < targetText.length() ? this.digit(targetText.charAt(i)) : 0);
+        }
+        return result;
+    }
+
+}
@@ -2,8 +2,6 @@ package exercisegenerator.structures.coding;
 
 import java.util.*;
 
-import exercisegenerator.structures.*;
-
 public class HuffmanInnerNode extends HuffmanNode {
 
     public final Map<Character, HuffmanNode> children;
@@ -26,11 +24,6 @@ public class HuffmanInnerNode extends HuffmanNode {
             .reduce(Character.MAX_VALUE, (c1, c2) -> Character.compare(c1, c2) > 0 ? c2 : c1);
     }
 
-    @Override
-    Pair<Character, List<Character>> decode(final List<Character> targetText) {
-        return this.children.get(targetText.get(0)).decode(targetText.subList(1, targetText.size()));
-    }
-
     @Override
     void fillCodeBook(final String prefix, final Map<Character, String> codeBook) {
         for (final Map.Entry<Character, HuffmanNode> child : this.children.entrySet()) {
@@ -2,8 +2,6 @@ package exercisegenerator.structures.coding;
 
 import java.util.*;
 
-import exercisegenerator.structures.*;
-
 public class HuffmanLeaf extends HuffmanNode {
 
     public final char sourceSymbol;
@@ -23,11 +21,6 @@ public class HuffmanLeaf extends HuffmanNode {
         return this.sourceSymbol;
     }
 
-    @Override
-    Pair<Character, List<Character>> decode(final List<Character> targetText) {
-        return new Pair<Character, List<Character>>(this.sourceSymbol, targetText);
-    }
-
     @Override
     void fillCodeBook(final String prefix, final Map<Character, String> codeBook) {
         codeBook.put(this.sourceSymbol, prefix);
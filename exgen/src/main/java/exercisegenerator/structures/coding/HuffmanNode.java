@@ -2,8 +2,6 @@ package exercisegenerator.structures.coding;
 
 import java.util.*;
 
-import exercisegenerator.structures.*;
-
 public abstract class HuffmanNode implements Comparable<HuffmanNode> {
 
     public final int frequency;
@@ -29,8 +27,6 @@ public abstract class HuffmanNode implements Comparable<HuffmanNode> {
 
     public abstract char getLeastSourceSymbol();
 
-    abstract Pair<Character, List<Character>> decode(List<Character> targetText);
-
     abstract void fillCodeBook(String prefix, Map<Character, String> codeBook);
 
 }
@@ -0,0 +1,228 @@
+package exercisegenerator.structures.coding;
+
+import java.io.*;
+import java.util.*;
+
+/**
+ * Streaming encoder and decoder for a Huffman code book. Each target symbol is stored as a fixed number of bits (one
+ * bit for binary target alphabets) and the bits are packed into bytes with the most significant bit first. The last
+ * data byte is padded with zeros and followed by one byte containing the number of padding bits such that the stream
+ * is self-delimiting. Source texts are read and written through buffers and decoding walks a trie stored in a
+ * primitive array, so both directions take time linear in the length of the text and constant memory besides the code
+ * book.
+ */
+public class HuffmanStreamCodec {
+
+    private static final int BUFFER_SIZE = 8192;
+
+    private static final int NO_CHILD = 0;
+
+    private final int arity;
+
+    private final int bitsPerTargetSymbol;
+
+    /**
+     * The trie of the code book. The children of node i are stored at positions i * arity to (i + 1) * arity - 1.
+     * Positive entries refer to inner nodes, negative entries contain the complement of a source symbol, and zero
+     * entries denote missing children (the root has index 0 and is no child).
+     */
+    private int[] children;
+
+    /**
+     * The code of each source symbol as target symbol values packed into chunks of at most 32 bits (most significant
+     * bit first). The last element of each array contains the number of bits of the last chunk.
+     */
+    private final int[][] codes;
+
+    private int numberOfNodes;
+
+    public HuffmanStreamCodec(final Map<Character, String> codeBook) {
+        this(codeBook, HuffmanDecoder.toTargetAlphabet(codeBook));
+    }
+
+    /**
+     * @param codeBook A code book for a prefix code.
+     * @param targetAlphabet The target alphabet (the value of each target symbol is its index in this list).
+     * @throws IllegalArgumentException If the code book contains an empty code, a target symbol not contained in the
+     *                                  target alphabet, or a code being a prefix of another code.
+     */
+    public HuffmanStreamCodec(final Map<Character, String> codeBook, final List<Character> targetAlphabet) {
+        this.arity = Math.max(1, targetAlphabet.size());
+        this.bitsPerTargetSymbol = Math.max(1, Integer.SIZE - Integer.numberOfLeadingZeros(this.arity - 1));
+        this.codes = new int[codeBook.keySet().stream().mapToInt(symbol -> symbol + 1).max().orElse(0)][];
+        this.children = new int[this.arity * (codeBook.size() + 1)];
+        this.numberOfNodes = 1;
+        for (final Map.Entry<Character, String> entry : codeBook.entrySet()) {
+            final String code = entry.getValue();
+            if (code.isEmpty()) {
+                throw new IllegalArgumentException("The specified code book contains an empty code!");
+            }
+            final int[] values = new int[code.length()];
+            for (int i = 0; i < values.length; i++) {
+                values[i] = targetAlphabet.indexOf(code.charAt(i));
+                if (values[i] < 0) {
+                    throw new IllegalArgumentException(
+                        "The symbol " + code.charAt(i) + " is not contained in the target alphabet!"
+                    );
+                }
+            }
+            this.codes[entry.getKey()] = this.pack(values);
+            this.insert(entry.getKey(), values);
+        }
+    }
+
+    /**
+     * Decodes the bits from the specified source and writes the decoded text to the specified target.
+     * @throws IllegalArgumentException If the source does not contain a sequence of codes in the expected format.
+     */
+    public void decode(final InputStream source, final Writer target) throws IOException {
+        final InputStream input = new BufferedInputStream(source, HuffmanStreamCodec.BUFFER_SIZE);
+        final char[] buffer = new char[HuffmanStreamCodec.BUFFER_SIZE];
+        int length = 0;
+        int node = 0;
+        int value = 0;
+        int valueBits = 0;
+        int current = input.read();
+        int next = input.read();
+        if (current < 0) {
+            throw new IllegalArgumentException("The stream does not end with the number of padding bits!");
+        }
+        while (next >= 0) {
+            final int following = input.read();
+            final int bits = following < 0 ? Byte.SIZE - next : Byte.SIZE;
+            if (bits < 1 || bits > Byte.SIZE) {
+                throw new IllegalArgumentException("The number of padding bits must be between 0 and 7!");
+            }
+            for (int bit = Byte.SIZE - 1; bit >= Byte.SIZE - bits; bit--) {
+                value = (value << 1) | ((current >>> bit) & 1);
+                if (++valueBits < this.bitsPerTargetSymbol) {
+                    continue;
+                }
+                final int child =
+                    value < this.arity ? this.children[node * this.arity + value] : HuffmanStreamCodec.NO_CHILD;
+                if (child == HuffmanStreamCodec.NO_CHILD) {
+                    throw new IllegalArgumentException("The stream contains an invalid code!");
+                }
+                if (child < 0) {
+                    if (length == buffer.length) {
+                        target.write(buffer, 0, length);
+                        length = 0;
+                    }
+                    buffer[length++] = (char)~child;
+                    node = 0;
+                } else {
+                    node = child;
+                }
+                value = 0;
+                valueBits = 0;
+            }
+            if (following < 0) {
+                break;
+            }
+            current = next;
+            next = following;
+        }
+        if (next < 0 && current != 0) {
+            throw new IllegalArgumentException("The number of padding bits must be 0 for an empty stream!");
+        }
+        if (node != 0 || valueBits != 0) {
+            throw new IllegalArgumentException("The stream ends within a code!");
+        }
+        target.write(buffer, 0, length);
+        target.flush();
+    }
+
+    /**
+     * Encodes the text from the specified source and writes the packed bits to the specified target.
+     * @return The number of bits of the encoded text (without padding and the final byte).
+     * @throws IllegalArgumentException If the source contains a symbol without code.
+     */
+    public long encode(final Reader source, final OutputStream target) throws IOException {
+        final OutputStream output = new BufferedOutputStream(target, HuffmanStreamCodec.BUFFER_SIZE);
+        final char[] buffer = new char[HuffmanStreamCodec.BUFFER_SIZE];
+        long result = 0;
+        long pending = 0;
+        int pendingBits = 0;
+        for (int length = source.read(buffer); length >= 0; length = source.read(buffer)) {
+            for (int i = 0; i < length; i++) {
+                final char symbol = buffer[i];
+                final int[] code = symbol < this.codes.length ? this.codes[symbol] : null;
+                if (code == null) {
+                    throw new IllegalArgumentException("The symbol " + symbol + " has no code!");
+                }
+                final int chunks = code.length - 1;
+                for (int chunk = 0; chunk < chunks; chunk++) {
+                    final int bits = chunk < chunks - 1 ? Integer.SIZE : code[chunks];
+                    pending = (pending << bits) | Integer.toUnsignedLong(code[chunk]);
+                    pendingBits += bits;
+                    result += bits;
+                    while (pendingBits >= Byte.SIZE) {
+                        pendingBits -= Byte.SIZE;
+                        output.write((int)(pending >>> pendingBits));
+                    }
+                }
+            }
+        }
+        final int padding = (Byte.SIZE - pendingBits) % Byte.SIZE;
+        if (pendingBits > 0) {
+            output.write((int)(pending << padding));
+        }
+        output.write(padding);
+        output.flush();
+        return result;
+    }
+
+    /**
+     * @return The number of bits used to store one target symbol.
+     */
+    public int getBitsPerTargetSymbol() {
+        return this.bitsPerTargetSymbol;
+    }
+
+    private void insert(final char symbol, final int[] values) {
+        int node = 0;
+        for (int i = 0; i < values.length; i++) {
+            final int index = node * this.arity + values[i];
+            final int child = this.children[index];
+            if (child < 0 || (child > 0 && i == values.length - 1)) {
+                throw new IllegalArgumentException("The specified code book does not describe a prefix code!");
+            }
+            if (i == values.length - 1) {
+                this.children[index] = ~symbol;
+            } else if (child == HuffmanStreamCodec.NO_CHILD) {
+                if ((this.numberOfNodes + 1) * this.arity > this.children.length) {
+                    this.children = Arrays.copyOf(this.children, 2 * (this.numberOfNodes + 1) * this.arity);
+                }
+                this.children[index] = this.numberOfNodes;
+                node = this.numberOfNodes++;
+            } else {
+                node = child;
+            }
+        }
+    }
+
+    /**
+     * Packs the specified target symbol values with the fixed number of bits per value into chunks of at most 32 bits
+     * and appends the number of bits of the last chunk.
+     */
+    private int[] pack(final int[] values) {
+        final long totalBits = (long)values.length * this.bitsPerTargetSymbol;
+        final int chunks = (int)((totalBits + Integer.SIZE - 1) / Integer.SIZE);
+        final int[] result = new int[chunks + 1];
+        int chunk = 0;
+        int chunkBits = 0;
+        for (final int value : values) {
+            for (int bit = this.bitsPerTargetSymbol - 1; bit >= 0; bit--) {
+                if (chunkBits == Integer.SIZE) {
+                    chunk++;
+                    chunkBits = 0;
+                }
+                result[chunk] = (result[chunk] << 1) | ((value >>> bit) & 1);
+                chunkBits++;
+            }
+        }
+        result[chunks] = chunkBits;
+        return result;
+    }
+
+}
@@ -69,7 +69,7 @@ public class HuffmanTree {
         for (final Map.Entry<Character, String> entry : codeBook.entrySet()) {
             queue.offer(new Pair<String, HuffmanNode>(entry.getValue(), new HuffmanLeaf(0, entry.getKey())));
         }
-        while (queue.size() > 1) {
+        while (!queue.isEmpty() && (queue.size() > 1 || !queue.peek().x.isEmpty())) {
             Pair<String, HuffmanNode> prefixAndNode = queue.poll();
             final int length = prefixAndNode.x.length();
             if (length == 0) {
@@ -110,15 +110,15 @@ public class HuffmanTree {
         if (this.root.isEmpty()) {
             return targetText;
         }
-        final HuffmanNode rootNode = this.root.get();
-        Pair<Character, List<Character>> decoded = rootNode.decode(targetText.chars().mapToObj(c -> (char)c).toList());
-        final StringBuilder result = new StringBuilder();
-        result.append(decoded.x);
-        while (!decoded.y.isEmpty()) {
-            decoded = rootNode.decode(decoded.y);
-            result.append(decoded.x);
+        final Map<Character, String> codeBook = this.toCodeBook();
+        if (codeBook.size() == 1 && codeBook.values().iterator().next().isEmpty()) {
+            // a tree consisting of a single leaf assigns the empty code to its symbol
+            if (!targetText.isEmpty()) {
+                throw new IllegalArgumentException("The specified text cannot be decoded with this code book!");
+            }
+            return String.valueOf(codeBook.keySet().iterator().next());
         }
-        return result.toString();
+        return new HuffmanDecoder(codeBook).decode(targetText);
     }
 
     public Map<Character, String> toCodeBook() {
@@ -129,8 +129,16 @@ public class HuffmanTree {
         return codeBook;
     }
 
+    public HuffmanDecoder toDecoder() {
+        return new HuffmanDecoder(this.toCodeBook());
+    }
+
     public HuffmanEncoder toEncoder() {
         return new HuffmanEncoder(this.toCodeBook());
     }
 
+    public HuffmanStreamCodec toStreamCodec(final List<Character> targetAlphabet) {
+        return new HuffmanStreamCodec(this.toCodeBook(), targetAlphabet);
+    }
+
 }
@@ -0,0 +1,135 @@
+package exercisegenerator.structures.hashing;
+
+import java.util.*;
+
+import exercisegenerator.structures.*;
+
+/**
+ * Hash table with separate chaining storing ints in flat arrays. Each chain is a linked list of entry indices where
+ * new values are appended at the end.
+ */
+public class ChainedHashTable {
+
+    private static final int NONE = -1;
+
+    private final int[] heads;
+
+    private final HashFunction hashFunction;
+
+    private final int[] lengths;
+
+    private int[] next;
+
+    private int size;
+
+    private Optional<HashingStatistics> statistics;
+
+    private final int[] tails;
+
+    private int[] values;
+
+    public ChainedHashTable(final int capacity, final HashFunction hashFunction) {
+        this.heads = new int[capacity];
+        this.tails = new int[capacity];
+        this.lengths = new int[capacity];
+        this.hashFunction = hashFunction;
+        this.values = new int[Math.max(capacity, 1)];
+        this.next = new int[this.values.length];
+        this.statistics = Optional.empty();
+        this.clear();
+    }
+
+    public ChainedHashTable(final HashList[] initialHashTable, final HashFunction hashFunction) {
+        this(initialHashTable.length, hashFunction);
+        for (int i = 0; i < initialHashTable.length; i++) {
+            for (final int value : initialHashTable[i]) {
+                this.append(i, value);
+            }
+        }
+    }
+
+    public int capacity() {
+        return this.heads.length;
+    }
+
+    public int chainLength(final int index) {
+        return this.lengths[index];
+    }
+
+    public void clear() {
+        Arrays.fill(this.heads, ChainedHashTable.NONE);
+        Arrays.fill(this.tails, ChainedHashTable.NONE);
+        Arrays.fill(this.lengths, 0);
+        this.size = 0;
+    }
+
+    public double getLoadFactor() {
+        return ((double)this.size) / this.heads.length;
+    }
+
+    /**
+     * Appends the specified value to the chain at its hash position.
+     * @param value The value to insert.
+     * @return The position of the chain the value has been appended to.
+     */
+    public int insert(final int value) {
+        final int position = this.hashFunction.apply(value, this.heads.length);
+        this.append(position, value);
+        if (this.statistics.isPresent()) {
+            this.statistics.get().recordInsertion(value, position, this.lengths[position]);
+        }
+        return position;
+    }
+
+    /**
+     * Attaches the specified statistics to this table. The statistics are cleared and all currently non-empty chains
+     * are marked as occupied positions. Subsequent insertions are recorded where the number of probes is the length
+     * of the chain after appending the value.
+     * @param statistics The statistics (empty to detach).
+     */
+    public void setStatistics(final Optional<HashingStatistics> statistics) {
+        this.statistics = statistics;
+        if (statistics.isPresent()) {
+            final HashingStatistics stats = statistics.get();
+            stats.clear();
+            for (int i = 0; i < this.lengths.length; i++) {
+                if (this.lengths[i] > 0) {
+                    stats.markInitial(i, this.lengths[i]);
+                }
+            }
+        }
+    }
+
+    public int size() {
+        return this.size;
+    }
+
+    public HashList[] toHashLists() {
+        final HashList[] result = new HashList[this.heads.length];
+        for (int i = 0; i < this.heads.length; i++) {
+            result[i] = new HashList();
+            for (int entry = this.heads[i]; entry != ChainedHashTable.NONE; entry = this.next[entry]) {
+                result[i].add(this.values[entry]);
+            }
+        }
+        return result;
+    }
+
+    private void append(final int position, final int value) {
+        if (this.size == this.values.length) {
+            this.values = Arrays.copyOf(this.values, this.size * 2);
+            this.next = Arrays.copyOf(this.next, this.size * 2);
+        }
+        final int entry = this.size++;
+        this.values[entry] = value;
+        this.next[entry] = ChainedHashTable.NONE;
+        if (this.tails[position] == ChainedHashTable.NONE) {
+            this.heads[position] = entry;
+        } else {
+            this.next[this.tails[position]] = entry;
+        }
+        this.tails[position] = entry;
+        this.lengths[position]++;
+    }
+
+}
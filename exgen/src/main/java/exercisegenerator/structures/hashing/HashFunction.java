@@ -0,0 +1,16 @@
+package exercisegenerator.structures.hashing;
+
+@FunctionalInterface
+public interface HashFunction {
+
+    static HashFunction division() {
+        return (value, capacity) -> value % capacity;
+    }
+
+    static HashFunction multiplication(final double factor) {
+        return (value, capacity) -> (int)Math.floor(capacity * ((value * factor) - Math.floor(value * factor)));
+    }
+
+    int apply(int value, int capacity);
+
+}
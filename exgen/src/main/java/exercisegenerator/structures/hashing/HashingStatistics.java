@@ -0,0 +1,245 @@
+package exercisegenerator.structures.hashing;
+
+import java.util.*;
+
+/**
+ * Collects probe counts, load factors, and lengths of clusters (maximal runs of occupied neighboring positions,
+ * wrapping around at the end of the table) for a sequence of insertions into a hash table. All metrics are updated
+ * in (almost) constant time per insertion without allocating memory per probe. Clusters are maintained by a
+ * union-find structure over the table positions.
+ */
+public class HashingStatistics {
+
+    private static final int UNOCCUPIED = -1;
+
+    private final int[] clusterParent;
+
+    private final int[] clusterSize;
+
+    private int collisions;
+
+    private int initialValues;
+
+    private int insertions;
+
+    private int longestCluster;
+
+    private int[] longestClusters;
+
+    private int maxProbes;
+
+    private int occupied;
+
+    private int[] positions;
+
+    private int[] probes;
+
+    private long totalProbes;
+
+    private int[] values;
+
+    public HashingStatistics(final int capacity) {
+        this.clusterParent = new int[capacity];
+        this.clusterSize = new int[capacity];
+        this.values = new int[16];
+        this.positions = new int[16];
+        this.probes = new int[16];
+        this.longestClusters = new int[16];
+        this.clear();
+    }
+
+    public int capacity() {
+        return this.clusterParent.length;
+    }
+
+    public void clear() {
+        Arrays.fill(this.clusterParent, HashingStatistics.UNOCCUPIED);
+        Arrays.fill(this.clusterSize, 0);
+        this.collisions = 0;
+        this.initialValues = 0;
+        this.insertions = 0;
+        this.occupied = 0;
+        this.totalProbes = 0;
+        this.maxProbes = 0;
+        this.longestCluster = 0;
+    }
+
+    public double getAverageProbes() {
+        return this.insertions == 0 ? 0.0 : ((double)this.totalProbes) / this.insertions;
+    }
+
+    /**
+     * @return The lengths of all clusters in the order of their first positions (a cluster wrapping around the end of
+     *         the table is counted once).
+     */
+    public int[] getClusterLengths() {
+        final int capacity = this.capacity();
+        if (this.occupied == capacity) {
+            return new int[] {capacity};
+        }
+        int start = 0;
+        while (this.clusterParent[start] != HashingStatistics.UNOCCUPIED) {
+            start++;
+        }
+        final int[] result = new int[this.occupied];
+        int count = 0;
+        int length = 0;
+        for (int i = 1; i <= capacity; i++) {
+            if (this.clusterParent[(start + i) % capacity] == HashingStatistics.UNOCCUPIED) {
+                if (length > 0) {
+                    result[count++] = length;
+                    length = 0;
+                }
+            } else {
+                length++;
+            }
+        }
+        return Arrays.copyOf(result, count);
+    }
+
+    /**
+     * @return The number of insertions which did not find their hash position empty.
+     */
+    public int getCollisions() {
+        return this.collisions;
+    }
+
+    public int getInsertions() {
+        return this.insertions;
+    }
+
+    /**
+     * @return The number of stored values (including initial values) divided by the capacity.
+     */
+    public double getLoadFactor() {
+        return ((double)(this.initialValues + this.insertions)) / this.capacity();
+    }
+
+    /**
+     * @param insertion The index of the insertion.
+     * @return The load factor directly after the specified insertion.
+     */
+    public double getLoadFactor(final int insertion) {
+        return ((double)(this.initialValues + insertion + 1)) / this.capacity();
+    }
+
+    public int getLongestCluster() {
+        return this.longestCluster;
+    }
+
+    /**
+     * @param insertion The index of the insertion.
+     * @return The length of the longest cluster directly after the specified insertion.
+     */
+    public int getLongestCluster(final int insertion) {
+        return this.longestClusters[insertion];
+    }
+
+    public int getMaxProbes() {
+        return this.maxProbes;
+    }
+
+    public int getOccupiedPositions() {
+        return this.occupied;
+    }
+
+    public int getPosition(final int insertion) {
+        return this.positions[insertion];
+    }
+
+    public int getProbes(final int insertion) {
+        return this.probes[insertion];
+    }
+
+    public long getTotalProbes() {
+        return this.totalProbes;
+    }
+
+    public int getValue(final int insertion) {
+        return this.values[insertion];
+    }
+
+    /**
+     * Marks the specified position as occupied by initial table contents without counting an insertion.
+     * @param position The position.
+     * @param numberOfValues The number of values initially stored at the specified position.
+     */
+    public void markInitial(final int position, final int numberOfValues) {
+        this.initialValues += numberOfValues;
+        this.markOccupied(position);
+    }
+
+    /**
+     * Records an insertion.
+     * @param value The inserted value.
+     * @param position The position where the value has been stored.
+     * @param probes The number of positions inspected to find the position for the value (including the final one).
+     */
+    public void recordInsertion(final int value, final int position, final int probes) {
+        this.markOccupied(position);
+        if (this.insertions == this.values.length) {
+            final int length = this.insertions * 2;
+            this.values = Arrays.copyOf(this.values, length);
+            this.positions = Arrays.copyOf(this.positions, length);
+            this.probes = Arrays.copyOf(this.probes, length);
+            this.longestClusters = Arrays.copyOf(this.longestClusters, length);
+        }
+        this.values[this.insertions] = value;
+        this.positions[this.insertions] = position;
+        this.probes[this.insertions] = probes;
+        this.longestClusters[this.insertions] = this.longestCluster;
+        this.insertions++;
+        this.totalProbes += probes;
+        if (probes > 1) {
+            this.collisions++;
+        }
+        this.maxProbes = Math.max(this.maxProbes, probes);
+    }
+
+    private int find(final int position) {
+        int root = position;
+        while (this.clusterParent[root] != root) {
+            root = this.clusterParent[root];
+        }
+        int current = position;
+        while (this.clusterParent[current] != root) {
+            final int next = this.clusterParent[current];
+            this.clusterParent[current] = root;
+            current = next;
+        }
+        return root;
+    }
+
+    private void markOccupied(final int position) {
+        if (this.clusterParent[position] != HashingStatistics.UNOCCUPIED) {
+            return;
+        }
+        final int capacity = this.capacity();
+        this.clusterParent[position] = position;
+        this.clusterSize[position] = 1;
+        this.occupied++;
+        int root = position;
+        root = this.union(root, (position + capacity - 1) % capacity);
+        root = this.union(root, (position + 1) % capacity);
+        this.longestCluster = Math.max(this.longestCluster, this.clusterSize[root]);
+    }
+
+    private int union(final int root, final int neighbor) {
+        if (this.clusterParent[neighbor] == HashingStatistics.UNOCCUPIED) {
+            return root;
+        }
+        final int neighborRoot = this.find(neighbor);
+        if (neighborRoot == root) {
+            return root;
+        }
+        if (this.clusterSize[neighborRoot] < this.clusterSize[root]) {
+            this.clusterParent[neighborRoot] = root;
+            this.clusterSize[root] += this.clusterSize[neighborRoot];
+            return root;
+        }
+        this.clusterParent[root] = neighborRoot;
+        this.clusterSize[neighborRoot] += this.clusterSize[root];
+        return neighborRoot;
+    }
+
+}
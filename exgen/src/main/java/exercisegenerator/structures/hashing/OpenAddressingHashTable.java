@@ -0,0 +1,133 @@
+package exercisegenerator.structures.hashing;
+
+import java.util.*;
+
+import exercisegenerator.structures.*;
+import exercisegenerator.util.*;
+
+/**
+ * Hash table with open addressing storing ints in a plain array. Empty slots are marked by the value {@link #EMPTY}.
+ */
+public class OpenAddressingHashTable {
+
+    /**
+     * Sentinel marking empty slots. This value cannot be stored in the table.
+     */
+    public static final int EMPTY = Integer.MIN_VALUE;
+
+    private final HashFunction hashFunction;
+
+    private final ProbingFunction probingFunction;
+
+    private int size;
+
+    private final int[] slots;
+
+    private Optional<HashingStatistics> statistics;
+
+    public OpenAddressingHashTable(
+        final int capacity,
+        final HashFunction hashFunction,
+        final ProbingFunction probingFunction
+    ) {
+        this.slots = new int[capacity];
+        this.hashFunction = hashFunction;
+        this.probingFunction = probingFunction;
+        this.statistics = Optional.empty();
+        this.clear();
+    }
+
+    /**
+     * Creates a hash table containing the first value of each non-empty list at the respective position.
+     */
+    public OpenAddressingHashTable(
+        final HashList[] initialHashTable,
+        final HashFunction hashFunction,
+        final ProbingFunction probingFunction
+    ) {
+        this(initialHashTable.length, hashFunction, probingFunction);
+        for (int i = 0; i < initialHashTable.length; i++) {
+            if (!initialHashTable[i].isEmpty()) {
+                this.slots[i] = initialHashTable[i].get(0);
+                this.size++;
+            }
+        }
+    }
+
+    public int capacity() {
+        return this.slots.length;
+    }
+
+    public void clear() {
+        Arrays.fill(this.slots, OpenAddressingHashTable.EMPTY);
+        this.size = 0;
+    }
+
+    public int get(final int index) {
+        return this.slots[index];
+    }
+
+    public double getLoadFactor() {
+        return ((double)this.size) / this.slots.length;
+    }
+
+    /**
+     * Inserts the specified value at the first empty position of its probing sequence.
+     * @param value The value to insert.
+     * @return The position where the value has been stored.
+     * @throws HashException If the probing sequence does not reach an empty position.
+     */
+    public int insert(final int value) throws HashException {
+        if (value == OpenAddressingHashTable.EMPTY) {
+            throw new IllegalArgumentException("The sentinel value cannot be stored!");
+        }
+        final int capacity = this.slots.length;
+        final int initialPosition = this.hashFunction.apply(value, capacity);
+        int position = initialPosition;
+        int numberOfCollisions = 0;
+        while (this.slots[position] != OpenAddressingHashTable.EMPTY) {
+            position = this.probingFunction.apply(value, initialPosition, ++numberOfCollisions, capacity);
+        }
+        this.slots[position] = value;
+        this.size++;
+        if (this.statistics.isPresent()) {
+            this.statistics.get().recordInsertion(value, position, numberOfCollisions + 1);
+        }
+        return position;
+    }
+
+    public boolean isEmpty(final int index) {
+        return this.slots[index] == OpenAddressingHashTable.EMPTY;
+    }
+
+    /**
+     * Attaches the specified statistics to this table. The statistics are cleared and all currently occupied
+     * positions are marked. Subsequent insertions are recorded.
+     * @param statistics The statistics (empty to detach).
+     */
+    public void setStatistics(final Optional<HashingStatistics> statistics) {
+        this.statistics = statistics;
+        if (statistics.isPresent()) {
+            final HashingStatistics stats = statistics.get();
+            stats.clear();
+            for (int i = 0; i < this.slots.length; i++) {
+                if (!this.isEmpty(i)) {
+                    stats.markInitial(i, 1);
+                }
+            }
+        }
+    }
+
+    public int size() {
+        return this.size;
+    }
+
+    public HashList[] toHashLists() {
+        final HashList[] result = new HashList[this.slots.length];
+        for (int i = 0; i < this.slots.length; i++) {
+            result[i] = this.isEmpty(i) ? new HashList() : new HashList(this.slots[i]);
+        }
+        return result;
+    }
+
+}
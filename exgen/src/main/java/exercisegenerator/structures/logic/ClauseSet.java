@@ -0,0 +1,104 @@
+package exercisegenerator.structures.logic;
+
+import java.util.*;
+
+/**
+ * A set of clauses over the variables 1 to n. Each clause is an array of non-zero literals where the literal v denotes
+ * the variable v and -v denotes its negation (as in the DIMACS format). The first variables have names (the variables
+ * of the original formula) while the remaining variables are auxiliary variables (e.g., introduced by the Tseitin
+ * transformation).
+ */
+public class ClauseSet {
+
+    /**
+     * @param formula A formula.
+     * @return The clauses of the specified formula if it is in conjunctive normal form (a conjunction of disjunctions
+     *         of literals, where each part may also be a single literal or a constant).
+     */
+    public static Optional<ClauseSet> fromCNF(final PropositionalFormula formula) {
+        final List<String> variables = formula.getVariableNames();
+        final Map<String, Integer> indices = new LinkedHashMap<String, Integer>();
+        for (final String name : variables) {
+            indices.put(name, indices.size() + 1);
+        }
+        final List<? extends PropositionalFormula> clauses =
+            formula.isConjunction() ? ((Conjunction)formula).children : Collections.singletonList(formula);
+        final List<int[]> result = new ArrayList<int[]>();
+        for (final PropositionalFormula clause : clauses) {
+            if (clause.isConstant()) {
+                if (!clause.evaluate(null)) {
+                    result.add(new int[0]);
+                }
+                continue;
+            }
+            final List<? extends PropositionalFormula> literals =
+                clause.isDisjunction() ? ((Disjunction)clause).children : Collections.singletonList(clause);
+            final int[] encoded = new int[literals.size()];
+            for (int i = 0; i < encoded.length; i++) {
+                final PropositionalFormula literal = literals.get(i);
+                if (literal.isVariable()) {
+                    encoded[i] = indices.get(((PropositionalVariable)literal).name);
+                } else if (literal.isNegation() && ((Negation)literal).child.isVariable()) {
+                    encoded[i] = -indices.get(((PropositionalVariable)((Negation)literal).child).name);
+                } else {
+                    return Optional.empty();
+                }
+            }
+            result.add(encoded);
+        }
+        return Optional.of(new ClauseSet(variables, variables.size(), result));
+    }
+
+    public final List<int[]> clauses;
+
+    public final int numberOfVariables;
+
+    /**
+     * The names of the variables 1 to variables.size() (all other variables are auxiliary).
+     */
+    public final List<String> variables;
+
+    public ClauseSet(final List<String> variables, final int numberOfVariables, final List<int[]> clauses) {
+        if (numberOfVariables < variables.size()) {
+            throw new IllegalArgumentException("Each named variable must be one of the variables of the clauses!");
+        }
+        for (final int[] clause : clauses) {
+            for (final int literal : clause) {
+                if (literal == 0 || Math.abs(literal) > numberOfVariables) {
+                    throw new IllegalArgumentException(String.format("Invalid literal %d!", literal));
+                }
+            }
+        }
+        this.variables = variables;
+        this.numberOfVariables = numberOfVariables;
+        this.clauses = clauses;
+    }
+
+    /**
+     * @param model A model indexed by the variables (index 0 is not used).
+     * @return The interpretation of the named variables according to the specified model.
+     */
+    public PropositionalInterpretation toInterpretation(final boolean[] model) {
+        final PropositionalInterpretation result = new PropositionalInterpretation();
+        for (int i = 0; i < this.variables.size(); i++) {
+            result.put(this.variables.get(i), model[i + 1]);
+        }
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder result = new StringBuilder();
+        result.append(String.format("p cnf %d %d", this.numberOfVariables, this.clauses.size()));
+        for (final int[] clause : this.clauses) {
+            result.append('\n');
+            for (final int literal : clause) {
+                result.append(literal);
+                result.append(' ');
+            }
+            result.append('0');
+        }
+        return result.toString();
+    }
+
+}
@@ -0,0 +1,200 @@
+package exercisegenerator.structures.logic;
+
+import java.util.*;
+
+/**
+ * A propositional formula compiled into a postfix program over bit vectors. Each variable is mapped to a bit of the
+ * row index of the truth table (the first variable to the most significant bit) such that the column of a variable
+ * within a block of 64 rows is a fixed bit pattern. The program evaluates conjunctions, disjunctions, and negations
+ * on whole words, so a truth table with 2^n rows is computed with 2^n/64 evaluations of the program.
+ */
+public class CompiledFormula {
+
+    /**
+     * The maximal number of variables (such that the truth table fits into an array).
+     */
+    public static final int MAXIMUM_NUMBER_OF_VARIABLES = 30;
+
+    private static final int AND = 1;
+
+    private static final int FALSE = 2;
+
+    /**
+     * Column patterns for the variables assigned to the six least significant bits of the row index.
+     */
+    private static final long[] LOW_PATTERNS = {
+        0xAAAAAAAAAAAAAAAAL,
+        0xCCCCCCCCCCCCCCCCL,
+        0xF0F0F0F0F0F0F0F0L,
+        0xFF00FF00FF00FF00L,
+        0xFFFF0000FFFF0000L,
+        0xFFFFFFFF00000000L
+    };
+
+    private static final int LOW_BITS = 6;
+
+    private static final int NOT = 3;
+
+    private static final int OPERAND_BITS = 24;
+
+    private static final int OPERAND_MASK = (1 << CompiledFormula.OPERAND_BITS) - 1;
+
+    private static final int OR = 4;
+
+    private static final int TRUE = 5;
+
+    private static final int VARIABLE = 6;
+
+    public final List<String> variables;
+
+    /**
+     * The instructions in postfix order. Each instruction contains the operation in the high bits and its operand
+     * (the number of children or the bit of the row index of a variable) in the low bits.
+     */
+    private final int[] program;
+
+    private final int stackSize;
+
+    public CompiledFormula(final PropositionalFormula formula) {
+        this(formula, formula.getVariableNames());
+    }
+
+    /**
+     * @param formula The formula.
+     * @param variables The variables of the truth table in the order of the columns (must contain all variables
+     *                  of the formula).
+     * @throws IllegalArgumentException If the formula contains a variable not in the specified list or the list
+     *                                  contains more than {@link #MAXIMUM_NUMBER_OF_VARIABLES} variables.
+     */
+    public CompiledFormula(final PropositionalFormula formula, final List<String> variables) {
+        if (variables.size() > CompiledFormula.MAXIMUM_NUMBER_OF_VARIABLES) {
+            throw new IllegalArgumentException(
+                String.format(
+                    "Truth tables are limited to %d variables!",
+                    CompiledFormula.MAXIMUM_NUMBER_OF_VARIABLES
+                )
+            );
+        }
+        this.variables = variables;
+        final Map<String, Integer> bits = new LinkedHashMap<String, Integer>();
+        for (int i = 0; i < variables.size(); i++) {
+            bits.put(variables.get(i), variables.size() - 1 - i);
+        }
+        final List<Integer> program = new ArrayList<Integer>();
+        this.stackSize = formula.visit(new FormulaVisitor<Integer>() {
+
+            @Override
+            public Integer onConjunction(final List<Integer> children) {
+                return this.emit(CompiledFormula.AND, children);
+            }
+
+            @Override
+            public Integer onDisjunction(final List<Integer> children) {
+                return this.emit(CompiledFormula.OR, children);
+            }
+
+            @Override
+            public Integer onFalse() {
+                return this.emit(CompiledFormula.FALSE, Collections.emptyList());
+            }
+
+            @Override
+            public Integer onNegation(final Integer child) {
+                return this.emit(CompiledFormula.NOT, Collections.singletonList(child));
+            }
+
+            @Override
+            public Integer onTrue() {
+                return this.emit(CompiledFormula.TRUE, Collections.emptyList());
+            }
+
+            @Override
+            public Integer onVariable(final String name) {
+                if (!bits.containsKey(name)) {
+                    throw new IllegalArgumentException(
+                        String.format("Interpretation does not interpret variable %s!", name)
+                    );
+                }
+                program.add((CompiledFormula.VARIABLE << CompiledFormula.OPERAND_BITS) | bits.get(name));
+                return 1;
+            }
+
+            /**
+             * Emits the specified operation after the instructions of its children.
+             * @param childDepths The stack depths needed by the children.
+             * @return The stack depth needed by the operation (child i is evaluated with i results on the stack).
+             */
+            private Integer emit(final int operation, final List<Integer> childDepths) {
+                program.add((operation << CompiledFormula.OPERAND_BITS) | childDepths.size());
+                int result = 1;
+                for (int i = 0; i < childDepths.size(); i++) {
+                    result = Math.max(result, i + childDepths.get(i));
+                }
+                return result;
+            }
+
+        });
+        this.program = program.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    /**
+     * @return The truth values of all rows packed into words such that bit b of word w is the value of row 64w + b
+     *         (unused bits of the last word are zero).
+     */
+    public long[] evaluate() {
+        final int numberOfVariables = this.variables.size();
+        final long[] result = new long[Math.max(1, (1 << numberOfVariables) >>> CompiledFormula.LOW_BITS)];
+        final long[] stack = new long[this.stackSize];
+        for (int word = 0; word < result.length; word++) {
+            result[word] = this.evaluate(word, stack);
+        }
+        if (numberOfVariables < CompiledFormula.LOW_BITS) {
+            result[0] &= (1L << (1 << numberOfVariables)) - 1;
+        }
+        return result;
+    }
+
+    public TruthTable toTruthTable() {
+        return TruthTable.valueOf(this.variables, this.evaluate());
+    }
+
+    private long evaluate(final int word, final long[] stack) {
+        int top = -1;
+        for (final int instruction : this.program) {
+            final int operand = instruction & CompiledFormula.OPERAND_MASK;
+            switch (instruction >>> CompiledFormula.OPERAND_BITS) {
+            case AND:
+                for (int i = 1; i < operand; i++) {
+                    stack[top - i] &= stack[top - i + 1];
+                }
+                top -= operand - 1;
+                break;
+            case FALSE:
+                stack[++top] = 0L;
+                break;
+            case NOT:
+                stack[top] = ~stack[top];
+                break;
+            case OR:
+                for (int i = 1; i < operand; i++) {
+                    stack[top - i] |= stack[top - i + 1];
+                }
+                top -= operand - 1;
+                break;
+            case TRUE:
+                stack[++top] = -1L;
+                break;
+            case VARIABLE:
+                stack[++top] =
+                    operand < CompiledFormula.LOW_BITS ?
+                        CompiledFormula.LOW_PATTERNS[operand] :
+                            -((word >>> (operand - CompiledFormula.LOW_BITS)) & 1L);
+                break;
+            default:
+                throw new IllegalStateException("Unknown instruction!");
+            }
+        }
+        return stack[0];
+    }
+
+}
@@ -21,17 +21,33 @@ public class Disjunction extends PropositionalFormula {
 
     public final List<? extends PropositionalFormula> children;
 
+    private final int hash;
+
+    /**
+     * The sorted variable names (computed once since formulas are immutable and subformulas may be shared).
+     */
+    private final List<String> variableNames;
+
     private Disjunction(final List<? extends PropositionalFormula> children) {
         this.children = children;
+        this.hash = children.hashCode() * 31;
+        final SortedSet<String> variables = new TreeSet<String>();
+        for (final PropositionalFormula child : children) {
+            variables.addAll(child.getVariableNames());
+        }
+        this.variableNames = Collections.unmodifiableList(new ArrayList<String>(variables));
     }
 
     @Override
     public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
         if (!(o instanceof Disjunction)) {
             return false;
         }
         final Disjunction other = (Disjunction)o;
-        return this.children.equals(other.children);
+        return this.hash == other.hash && this.children.equals(other.children);
     }
 
     @Override
@@ -46,19 +62,12 @@ public class Disjunction extends PropositionalFormula {
 
     @Override
     public List<String> getVariableNames() {
-        final Set<String> variables = new LinkedHashSet<String>();
-        this.children
-            .stream()
-            .map(PropositionalFormula::getVariableNames)
-            .forEach(list -> variables.addAll(list));
-        final List<String> result = new ArrayList<String>(variables);
-        Collections.sort(result);
-        return result;
+        return this.variableNames;
     }
 
     @Override
     public int hashCode() {
-        return this.children.hashCode() * 31;
+        return this.hash;
     }
 
     @Override
@@ -0,0 +1,275 @@
+package exercisegenerator.structures.logic;
+
+import java.util.*;
+import java.util.function.*;
+
+/**
+ * Hash-consing factory for propositional formulas. Each structurally distinct subformula created by (or interned in)
+ * the same factory is represented by exactly one node, so formulas become directed acyclic graphs with structural
+ * sharing and equality of interned formulas is reference equality. Nodes are looked up by their kind and the identities
+ * of their (already interned) children, hence creating a node takes time linear in its number of children.
+ */
+public class FormulaFactory {
+
+    private static class NodeKey {
+
+        private final List<? extends PropositionalFormula> children;
+
+        private final int hash;
+
+        private final int kind;
+
+        private final String name;
+
+        private NodeKey(final int kind, final String name, final List<? extends PropositionalFormula> children) {
+            this.kind = kind;
+            this.name = name;
+            this.children = children;
+            int hash = kind * 31 + name.hashCode();
+            for (final PropositionalFormula child : children) {
+                hash = hash * 31 + System.identityHashCode(child);
+            }
+            this.hash = hash;
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (!(o instanceof NodeKey)) {
+                return false;
+            }
+            final NodeKey other = (NodeKey)o;
+            if (
+                this.hash != other.hash
+                || this.kind != other.kind
+                || !this.name.equals(other.name)
+                || this.children.size() != other.children.size()
+            ) {
+                return false;
+            }
+            final Iterator<? extends PropositionalFormula> iterator = other.children.iterator();
+            for (final PropositionalFormula child : this.children) {
+                if (child != iterator.next()) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        @Override
+        public int hashCode() {
+            return this.hash;
+        }
+
+    }
+
+    private static final int CONJUNCTION = 0;
+
+    private static final int DISJUNCTION = 1;
+
+    private static final int NEGATION = 2;
+
+    private static final int VARIABLE = 3;
+
+    /**
+     * Evaluates the specified formula such that each distinct node is evaluated only once.
+     * @param formula The formula.
+     * @param interpretation An interpretation of all variables of the formula.
+     * @return The truth value of the formula under the specified interpretation.
+     */
+    public static boolean evaluate(
+        final PropositionalFormula formula,
+        final PropositionalInterpretation interpretation
+    ) {
+        return FormulaFactory.visit(
+            formula,
+            new FormulaVisitor<Boolean>() {
+
+                @Override
+                public Boolean onConjunction(final List<Boolean> children) {
+                    return children.stream().allMatch(Boolean::booleanValue);
+                }
+
+                @Override
+                public Boolean onDisjunction(final List<Boolean> children) {
+                    return children.stream().anyMatch(Boolean::booleanValue);
+                }
+
+                @Override
+                public Boolean onFalse() {
+                    return false;
+                }
+
+                @Override
+                public Boolean onNegation(final Boolean child) {
+                    return !child;
+                }
+
+                @Override
+                public Boolean onTrue() {
+                    return true;
+                }
+
+                @Override
+                public Boolean onVariable(final String name) {
+                    return new PropositionalVariable(name).evaluate(interpretation);
+                }
+
+            }
+        );
+    }
+
+    /**
+     * Visits the specified formula bottom-up like {@link PropositionalFormula#visit(FormulaVisitor)}, but visits each
+     * distinct node only once (by reference). Hence, the time is linear in the size of the directed acyclic graph
+     * rather than the size of the formula tree.
+     * @param formula The formula.
+     * @param visitor The visitor.
+     * @return The result of the visitor for the specified formula.
+     */
+    public static <T> T visit(final PropositionalFormula formula, final FormulaVisitor<T> visitor) {
+        return FormulaFactory.visit(formula, visitor, new IdentityHashMap<PropositionalFormula, T>());
+    }
+
+    private static <T> T visit(
+        final PropositionalFormula formula,
+        final FormulaVisitor<T> visitor,
+        final Map<PropositionalFormula, T> results
+    ) {
+        if (results.containsKey(formula)) {
+            return results.get(formula);
+        }
+        final T result;
+        if (formula.isConjunction()) {
+            result = visitor.onConjunction(FormulaFactory.visitAll(((Conjunction)formula).children, visitor, results));
+        } else if (formula.isDisjunction()) {
+            result = visitor.onDisjunction(FormulaFactory.visitAll(((Disjunction)formula).children, visitor, results));
+        } else if (formula.isNegation()) {
+            result = visitor.onNegation(FormulaFactory.visit(((Negation)formula).child, visitor, results));
+        } else {
+            result = formula.visit(visitor);
+        }
+        results.put(formula, result);
+        return result;
+    }
+
+    private static <T> List<T> visitAll(
+        final List<? extends PropositionalFormula> children,
+        final FormulaVisitor<T> visitor,
+        final Map<PropositionalFormula, T> results
+    ) {
+        final List<T> result = new ArrayList<T>(children.size());
+        for (final PropositionalFormula child : children) {
+            result.add(FormulaFactory.visit(child, visitor, results));
+        }
+        return result;
+    }
+
+    /**
+     * Maps each node seen by this factory (interned or not) to its interned node.
+     */
+    private final Map<PropositionalFormula, PropositionalFormula> canonicalNodes;
+
+    private final Map<NodeKey, PropositionalFormula> nodes;
+
+    public FormulaFactory() {
+        this.canonicalNodes = new IdentityHashMap<PropositionalFormula, PropositionalFormula>();
+        this.nodes = new HashMap<NodeKey, PropositionalFormula>();
+    }
+
+    public PropositionalFormula conjunction(final List<? extends PropositionalFormula> children) {
+        final List<PropositionalFormula> interned = this.internAll(children);
+        if (interned.size() < 2) {
+            return this.intern(Conjunction.createConjunction(interned));
+        }
+        return this.node(
+            new NodeKey(FormulaFactory.CONJUNCTION, "", interned),
+            () -> Conjunction.createConjunction(interned)
+        );
+    }
+
+    public PropositionalFormula conjunction(final PropositionalFormula... children) {
+        return this.conjunction(Arrays.asList(children));
+    }
+
+    public PropositionalFormula disjunction(final List<? extends PropositionalFormula> children) {
+        final List<PropositionalFormula> interned = this.internAll(children);
+        if (interned.size() < 2) {
+            return this.intern(Disjunction.createDisjunction(interned));
+        }
+        return this.node(
+            new NodeKey(FormulaFactory.DISJUNCTION, "", interned),
+            () -> Disjunction.createDisjunction(interned)
+        );
+    }
+
+    public PropositionalFormula disjunction(final PropositionalFormula... children) {
+        return this.disjunction(Arrays.asList(children));
+    }
+
+    /**
+     * @return The number of distinct nodes created by this factory (constants are not counted).
+     */
+    public int getNumberOfNodes() {
+        return this.nodes.size();
+    }
+
+    /**
+     * @param formula A formula (possibly containing nodes not created by this factory).
+     * @return The interned node structurally equal to the specified formula.
+     */
+    public PropositionalFormula intern(final PropositionalFormula formula) {
+        final PropositionalFormula known = this.canonicalNodes.get(formula);
+        if (known != null) {
+            return known;
+        }
+        final PropositionalFormula result;
+        if (formula.isConjunction()) {
+            result = this.conjunction(((Conjunction)formula).children);
+        } else if (formula.isDisjunction()) {
+            result = this.disjunction(((Disjunction)formula).children);
+        } else if (formula.isNegation()) {
+            result = this.negation(((Negation)formula).child);
+        } else if (formula.isVariable()) {
+            result = this.variable(((PropositionalVariable)formula).name);
+        } else {
+            result = formula;
+        }
+        this.canonicalNodes.put(formula, result);
+        return result;
+    }
+
+    public PropositionalFormula negation(final PropositionalFormula child) {
+        final PropositionalFormula interned = this.intern(child);
+        return this.node(
+            new NodeKey(FormulaFactory.NEGATION, "", Collections.singletonList(interned)),
+            () -> new Negation(interned)
+        );
+    }
+
+    public PropositionalFormula variable(final String name) {
+        return this.node(
+            new NodeKey(FormulaFactory.VARIABLE, name, Collections.emptyList()),
+            () -> new PropositionalVariable(name)
+        );
+    }
+
+    private List<PropositionalFormula> internAll(final List<? extends PropositionalFormula> children) {
+        final List<PropositionalFormula> result = new ArrayList<PropositionalFormula>(children.size());
+        for (final PropositionalFormula child : children) {
+            result.add(this.intern(child));
+        }
+        return result;
+    }
+
+    private PropositionalFormula node(final NodeKey key, final Supplier<PropositionalFormula> constructor) {
+        final PropositionalFormula known = this.nodes.get(key);
+        if (known != null) {
+            return known;
+        }
+        final PropositionalFormula result = constructor.get();
+        this.nodes.put(key, result);
+        this.canonicalNodes.put(result, result);
+        return result;
+    }
+
+}
@@ -0,0 +1,100 @@
+package exercisegenerator.structures.logic;
+
+import java.util.*;
+
+/**
+ * A cube of a Boolean function over n variables, i.e., a set of rows of a truth table given by fixed values for some
+ * variables. The bits of the row indices are used as in truth tables (the first variable corresponds to the most
+ * significant bit).
+ */
+public class Implicant {
+
+    /**
+     * The bits of the variables not occurring in this implicant.
+     */
+    public final int dontCares;
+
+    /**
+     * The values of the variables occurring in this implicant (bits of don't cares are zero).
+     */
+    public final int values;
+
+    public Implicant(final int values, final int dontCares) {
+        this.values = values & ~dontCares;
+        this.dontCares = dontCares;
+    }
+
+    public boolean covers(final int row) {
+        return (row & ~this.dontCares) == this.values;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (!(o instanceof Implicant)) {
+            return false;
+        }
+        final Implicant other = (Implicant)o;
+        return this.values == other.values && this.dontCares == other.dontCares;
+    }
+
+    /**
+     * @param numberOfVariables The number of variables.
+     * @return The number of literals of this implicant.
+     */
+    public int getNumberOfLiterals(final int numberOfVariables) {
+        return numberOfVariables - Integer.bitCount(this.dontCares);
+    }
+
+    @Override
+    public int hashCode() {
+        return this.values * 31 + this.dontCares * 17;
+    }
+
+    /**
+     * @param variables The variables.
+     * @return The clause being the negation of this implicant (used for covers of the rows where a function is false).
+     */
+    public PropositionalFormula toClause(final List<String> variables) {
+        final List<PropositionalFormula> literals = new ArrayList<PropositionalFormula>();
+        final int n = variables.size();
+        for (int i = 0; i < n; i++) {
+            final int bit = 1 << (n - 1 - i);
+            if ((this.dontCares & bit) == 0) {
+                final PropositionalVariable variable = new PropositionalVariable(variables.get(i));
+                literals.add((this.values & bit) == 0 ? variable : variable.negate());
+            }
+        }
+        return Disjunction.createDisjunction(literals);
+    }
+
+    /**
+     * @param variables The variables.
+     * @return The conjunction of the literals of this implicant.
+     */
+    public PropositionalFormula toConjunction(final List<String> variables) {
+        final List<PropositionalFormula> literals = new ArrayList<PropositionalFormula>();
+        final int n = variables.size();
+        for (int i = 0; i < n; i++) {
+            final int bit = 1 << (n - 1 - i);
+            if ((this.dontCares & bit) == 0) {
+                final PropositionalVariable variable = new PropositionalVariable(variables.get(i));
+                literals.add((this.values & bit) == 0 ? variable.negate() : variable);
+            }
+        }
+        return Conjunction.createConjunction(literals);
+    }
+
+    /**
+     * @param numberOfVariables The number of variables.
+     * @return The cube notation of this implicant (e.g., 1-0 for the first variable being true and the third being
+     *         false).
+     */
+    public String toString(final int numberOfVariables) {
+        final StringBuilder result = new StringBuilder(numberOfVariables);
+        for (int bit = 1 << (numberOfVariables - 1); bit > 0; bit >>>= 1) {
+            result.append((this.dontCares & bit) != 0 ? '-' : (this.values & bit) != 0 ? '1' : '0');
+        }
+        return result.toString();
+    }
+
+}
@@ -0,0 +1,500 @@
+package exercisegenerator.structures.logic;
+
+import java.util.*;
+import java.util.function.*;
+import java.util.stream.*;
+
+/**
+ * Two-level minimization of Boolean functions given by the rows where they are true (onset) and the rows where their
+ * value does not matter (don't cares). The Quine-McCluskey method merges implicants differing in one variable level by
+ * level, where the implicants with the same don't care bits are stored in a bit set indexed by their values. A
+ * minimal cover by the resulting prime implicants is found by branch and bound over the prime implicant chart (rows
+ * covered by only one remaining prime implicant are covered by it, a set of rows without common prime implicants
+ * bounds the number of further terms, and the branching row has the fewest remaining prime implicants). For
+ * functions with more variables, an Espresso-style heuristic expands each uncovered row to a prime implicant
+ * (checking the onset and don't cares bit sets) and removes redundant implicants afterwards, which yields an
+ * irredundant but not necessarily minimal cover.
+ */
+public abstract class LogicMinimization {
+
+    /**
+     * Branch and bound search for a cheapest cover in a prime implicant chart (with the rows numbered consecutively).
+     */
+    private static class CoverSearch {
+
+        private long bestCost;
+
+        private BitSet bestSelection;
+
+        private final long[] costs;
+
+        private final BitSet[] coveredRows;
+
+        private final BitSet[] coveringPrimes;
+
+        private CoverSearch(final BitSet[] coveredRows, final BitSet[] coveringPrimes, final long[] costs) {
+            this.coveredRows = coveredRows;
+            this.coveringPrimes = coveringPrimes;
+            this.costs = costs;
+            this.bestCost = Long.MAX_VALUE;
+            this.bestSelection = new BitSet();
+        }
+
+        /**
+         * Reduces the chart by covering rows with only one remaining prime implicant, dropping rows whose remaining
+         * prime implicants are a superset of those of another row, and dropping prime implicants covering a subset of
+         * the rows covered by a cheaper (or equally expensive) prime implicant.
+         * @return The cost of the prime implicants selected for rows with only one remaining prime implicant or an
+         *         empty Optional if a row cannot be covered anymore.
+         */
+        private Optional<Long> reduce(final BitSet uncovered, final BitSet available, final BitSet selected) {
+            long cost = 0;
+            boolean changed = true;
+            while (changed) {
+                changed = false;
+                final Map<Integer, BitSet> primesOfRows = new LinkedHashMap<Integer, BitSet>();
+                for (int row = uncovered.nextSetBit(0); row >= 0; row = uncovered.nextSetBit(row + 1)) {
+                    final BitSet primes = (BitSet)this.coveringPrimes[row].clone();
+                    primes.and(available);
+                    if (primes.isEmpty()) {
+                        return Optional.empty();
+                    }
+                    if (primes.cardinality() == 1) {
+                        final int prime = primes.nextSetBit(0);
+                        selected.set(prime);
+                        available.clear(prime);
+                        cost += this.costs[prime];
+                        uncovered.andNot(this.coveredRows[prime]);
+                        changed = true;
+                    } else {
+                        primesOfRows.put(row, primes);
+                    }
+                }
+                if (changed) {
+                    continue;
+                }
+                for (final Map.Entry<Integer, BitSet> entry1 : primesOfRows.entrySet()) {
+                    for (final Map.Entry<Integer, BitSet> entry2 : primesOfRows.entrySet()) {
+                        final int row1 = entry1.getKey();
+                        final int row2 = entry2.getKey();
+                        if (
+                            row1 != row2
+                            && uncovered.get(row1)
+                            && uncovered.get(row2)
+                            && CoverSearch.isSubset(entry1.getValue(), entry2.getValue())
+                            && (row1 < row2 || !CoverSearch.isSubset(entry2.getValue(), entry1.getValue()))
+                        ) {
+                            uncovered.clear(row2);
+                            changed = true;
+                        }
+                    }
+                }
+                final Map<Integer, BitSet> rowsOfPrimes = new LinkedHashMap<Integer, BitSet>();
+                for (int prime = available.nextSetBit(0); prime >= 0; prime = available.nextSetBit(prime + 1)) {
+                    final BitSet rows = (BitSet)this.coveredRows[prime].clone();
+                    rows.and(uncovered);
+                    if (rows.isEmpty()) {
+                        available.clear(prime);
+                        changed = true;
+                    } else {
+                        rowsOfPrimes.put(prime, rows);
+                    }
+                }
+                for (final Map.Entry<Integer, BitSet> entry1 : rowsOfPrimes.entrySet()) {
+                    for (final Map.Entry<Integer, BitSet> entry2 : rowsOfPrimes.entrySet()) {
+                        final int prime1 = entry1.getKey();
+                        final int prime2 = entry2.getKey();
+                        if (
+                            prime1 != prime2
+                            && available.get(prime1)
+                            && available.get(prime2)
+                            && this.costs[prime2] <= this.costs[prime1]
+                            && CoverSearch.isSubset(entry1.getValue(), entry2.getValue())
+                            && (
+                                prime2 < prime1
+                                || this.costs[prime2] < this.costs[prime1]
+                                || !CoverSearch.isSubset(entry2.getValue(), entry1.getValue())
+                            )
+                        ) {
+                            available.clear(prime1);
+                            changed = true;
+                        }
+                    }
+                }
+            }
+            return Optional.of(cost);
+        }
+
+        private void search(
+            final BitSet uncoveredBefore,
+            final BitSet availableBefore,
+            final BitSet selectedBefore,
+            final long costBefore
+        ) {
+            final BitSet uncovered = (BitSet)uncoveredBefore.clone();
+            final BitSet available = (BitSet)availableBefore.clone();
+            final BitSet selected = (BitSet)selectedBefore.clone();
+            final Optional<Long> reducedCost = this.reduce(uncovered, available, selected);
+            if (reducedCost.isEmpty()) {
+                return;
+            }
+            final long cost = costBefore + reducedCost.get();
+            if (cost >= this.bestCost) {
+                return;
+            }
+            if (uncovered.isEmpty()) {
+                this.bestCost = cost;
+                this.bestSelection = selected;
+                return;
+            }
+            final List<Integer> rows = new ArrayList<Integer>();
+            final Map<Integer, BitSet> primesOfRows = new LinkedHashMap<Integer, BitSet>();
+            for (int row = uncovered.nextSetBit(0); row >= 0; row = uncovered.nextSetBit(row + 1)) {
+                final BitSet primes = (BitSet)this.coveringPrimes[row].clone();
+                primes.and(available);
+                rows.add(row);
+                primesOfRows.put(row, primes);
+            }
+            rows.sort(Comparator.comparingInt(row -> primesOfRows.get(row).cardinality()));
+            int independentRows = 0;
+            final BitSet blocked = new BitSet();
+            for (final int row : rows) {
+                if (!blocked.get(row)) {
+                    independentRows++;
+                    final BitSet primes = primesOfRows.get(row);
+                    for (int prime = primes.nextSetBit(0); prime >= 0; prime = primes.nextSetBit(prime + 1)) {
+                        blocked.or(this.coveredRows[prime]);
+                    }
+                }
+            }
+            if (cost + independentRows * (LogicMinimization.TERM_COST - Integer.SIZE) >= this.bestCost) {
+                return;
+            }
+            final BitSet branchPrimes = primesOfRows.get(rows.get(0));
+            final List<Integer> branches = branchPrimes.stream().boxed().collect(Collectors.toList());
+            branches.sort(
+                Comparator.comparingInt((Integer prime) -> -this.numberOfCoveredRows(prime, uncovered))
+                    .thenComparingLong(prime -> this.costs[prime])
+            );
+            for (final int prime : branches) {
+                available.clear(prime);
+                selected.set(prime);
+                final BitSet remaining = (BitSet)uncovered.clone();
+                remaining.andNot(this.coveredRows[prime]);
+                this.search(remaining, available, selected, cost + this.costs[prime]);
+                selected.clear(prime);
+            }
+        }
+
+        private static boolean isSubset(final BitSet subset, final BitSet superset) {
+            if (subset.cardinality() > superset.cardinality()) {
+                return false;
+            }
+            final BitSet difference = (BitSet)subset.clone();
+            difference.andNot(superset);
+            return difference.isEmpty();
+        }
+
+        private int numberOfCoveredRows(final int prime, final BitSet rows) {
+            final BitSet covered = (BitSet)this.coveredRows[prime].clone();
+            covered.and(rows);
+            return covered.cardinality();
+        }
+
+    }
+
+    /**
+     * The maximal number of variables for which {@link #minimize(BitSet, BitSet, int)} uses the Quine-McCluskey
+     * method (the Espresso-style heuristic is used for more variables).
+     */
+    public static final int QUINE_MCCLUSKEY_LIMIT = 6;
+
+    /**
+     * The cost of a term in a cover. The cost of a prime implicant is this cost minus its number of don't cares, so
+     * covers with fewer terms are always cheaper and the number of literals only decides between covers with the same
+     * number of terms.
+     */
+    private static final long TERM_COST = 1L << 32;
+
+    /**
+     * @param primeImplicants The prime implicants.
+     * @param onset The rows which need to be covered.
+     * @return A cover of the onset with the minimal number of prime implicants and, among those, the minimal number of
+     *         literals (sorted by values and don't cares).
+     */
+    public static List<Implicant> cover(final List<Implicant> primeImplicants, final BitSet onset) {
+        final int[] rows = onset.stream().toArray();
+        final Map<Integer, Integer> rowIndices = new LinkedHashMap<Integer, Integer>();
+        for (int i = 0; i < rows.length; i++) {
+            rowIndices.put(rows[i], i);
+        }
+        final BitSet[] coveredRows = new BitSet[primeImplicants.size()];
+        final BitSet[] coveringPrimes = new BitSet[rows.length];
+        for (int i = 0; i < rows.length; i++) {
+            coveringPrimes[i] = new BitSet(primeImplicants.size());
+        }
+        final long[] costs = new long[primeImplicants.size()];
+        for (int i = 0; i < primeImplicants.size(); i++) {
+            final int index = i;
+            coveredRows[i] = new BitSet(rows.length);
+            LogicMinimization.forEachRow(
+                primeImplicants.get(i),
+                onset,
+                row -> {
+                    coveredRows[index].set(rowIndices.get(row));
+                    coveringPrimes[rowIndices.get(row)].set(index);
+                }
+            );
+            costs[i] = LogicMinimization.TERM_COST - Integer.bitCount(primeImplicants.get(i).dontCares);
+        }
+        final CoverSearch search = new CoverSearch(coveredRows, coveringPrimes, costs);
+        final BitSet available = new BitSet(primeImplicants.size());
+        available.set(0, primeImplicants.size());
+        final BitSet uncovered = new BitSet(rows.length);
+        uncovered.set(0, rows.length);
+        search.search(uncovered, available, new BitSet(primeImplicants.size()), 0);
+        if (search.bestCost == Long.MAX_VALUE) {
+            throw new IllegalArgumentException("The prime implicants do not cover the onset!");
+        }
+        final List<Implicant> result =
+            new ArrayList<Implicant>(search.bestSelection.stream().mapToObj(primeImplicants::get).toList());
+        result.sort(LogicMinimization::compare);
+        return result;
+    }
+
+    /**
+     * @param onset The rows where the function is true.
+     * @param dontCares The rows where the value of the function does not matter.
+     * @param numberOfVariables The number of variables.
+     * @return An irredundant cover of the onset by prime implicants computed by an Espresso-style heuristic: each row
+     *         not covered yet is expanded to a prime implicant by dropping variables (most significant first) as long
+     *         as all covered rows belong to the onset or the don't cares. Afterwards, implicants only covering rows
+     *         covered by other implicants are removed (smallest first).
+     */
+    public static List<Implicant> espresso(final BitSet onset, final BitSet dontCares, final int numberOfVariables) {
+        LogicMinimization.checkNumberOfVariables(numberOfVariables);
+        final BitSet allowed = (BitSet)onset.clone();
+        allowed.or(dontCares);
+        final BitSet uncovered = (BitSet)onset.clone();
+        final List<Implicant> implicants = new ArrayList<Implicant>();
+        for (int row = uncovered.nextSetBit(0); row >= 0; row = uncovered.nextSetBit(row + 1)) {
+            Implicant implicant = new Implicant(row, 0);
+            for (int bit = 1 << (numberOfVariables - 1); bit > 0; bit >>>= 1) {
+                final Implicant neighbor = new Implicant(implicant.values ^ bit, implicant.dontCares);
+                if (LogicMinimization.isContained(neighbor, allowed)) {
+                    implicant = new Implicant(implicant.values, implicant.dontCares | bit);
+                }
+            }
+            implicants.add(implicant);
+            LogicMinimization.forEachRow(implicant, onset, uncovered::clear);
+        }
+        final int[] coverCounts = new int[onset.length()];
+        for (final Implicant implicant : implicants) {
+            LogicMinimization.forEachRow(implicant, onset, row -> coverCounts[row]++);
+        }
+        implicants.sort(Comparator.comparingInt(implicant -> Integer.bitCount(implicant.dontCares)));
+        final List<Implicant> result = new ArrayList<Implicant>();
+        for (final Implicant implicant : implicants) {
+            final boolean[] redundant = {true};
+            LogicMinimization.forEachRow(implicant, onset, row -> redundant[0] &= coverCounts[row] > 1);
+            if (redundant[0]) {
+                LogicMinimization.forEachRow(implicant, onset, row -> coverCounts[row]--);
+            } else {
+                result.add(implicant);
+            }
+        }
+        result.sort(LogicMinimization::compare);
+        return result;
+    }
+
+    /**
+     * @param table A truth table.
+     * @return A minimized conjunctive normal form of the specified truth table (computed by minimizing the rows where
+     *         the formula is false).
+     */
+    public static PropositionalFormula minimalCNF(final TruthTable table) {
+        return LogicMinimization.toCNF(
+            LogicMinimization.minimize(LogicMinimization.offset(table), new BitSet(), table.variables.size()),
+            table.variables
+        );
+    }
+
+    /**
+     * @param table A truth table.
+     * @return A minimized disjunctive normal form of the specified truth table.
+     */
+    public static PropositionalFormula minimalDNF(final TruthTable table) {
+        return LogicMinimization.toDNF(
+            LogicMinimization.minimize(LogicMinimization.onset(table), new BitSet(), table.variables.size()),
+            table.variables
+        );
+    }
+
+    /**
+     * @param onset The rows where the function is true.
+     * @param dontCares The rows where the value of the function does not matter.
+     * @param numberOfVariables The number of variables.
+     * @return A minimal cover of the onset by prime implicants computed by the Quine-McCluskey method and
+     *         {@link #cover(List, BitSet)} for at most {@link #QUINE_MCCLUSKEY_LIMIT} variables and an irredundant
+     *         cover computed by the Espresso-style heuristic otherwise.
+     */
+    public static List<Implicant> minimize(final BitSet onset, final BitSet dontCares, final int numberOfVariables) {
+        if (numberOfVariables > LogicMinimization.QUINE_MCCLUSKEY_LIMIT) {
+            return LogicMinimization.espresso(onset, dontCares, numberOfVariables);
+        }
+        return LogicMinimization.cover(
+            LogicMinimization.primeImplicants(onset, dontCares, numberOfVariables),
+            onset
+        );
+    }
+
+    public static BitSet offset(final TruthTable table) {
+        final BitSet result = new BitSet(table.truthValues.length);
+        for (int row = 0; row < table.truthValues.length; row++) {
+            result.set(row, !table.truthValues[row]);
+        }
+        return result;
+    }
+
+    public static BitSet onset(final TruthTable table) {
+        final BitSet result = new BitSet(table.truthValues.length);
+        for (int row = 0; row < table.truthValues.length; row++) {
+            result.set(row, table.truthValues[row]);
+        }
+        return result;
+    }
+
+    /**
+     * @param onset The rows where the function is true.
+     * @param dontCares The rows where the value of the function does not matter.
+     * @param numberOfVariables The number of variables.
+     * @return All prime implicants of the function covering at least one row of the onset computed by the
+     *         Quine-McCluskey method.
+     */
+    public static List<Implicant> primeImplicants(
+        final BitSet onset,
+        final BitSet dontCares,
+        final int numberOfVariables
+    ) {
+        LogicMinimization.checkNumberOfVariables(numberOfVariables);
+        final List<Implicant> result = new ArrayList<Implicant>();
+        Map<Integer, BitSet> level = new LinkedHashMap<Integer, BitSet>();
+        final BitSet minterms = (BitSet)onset.clone();
+        minterms.or(dontCares);
+        if (!minterms.isEmpty()) {
+            level.put(0, minterms);
+        }
+        while (!level.isEmpty()) {
+            final Map<Integer, BitSet> next = new TreeMap<Integer, BitSet>();
+            for (final Map.Entry<Integer, BitSet> entry : level.entrySet()) {
+                final int dontCareBits = entry.getKey();
+                final BitSet values = entry.getValue();
+                final BitSet merged = new BitSet();
+                for (int value = values.nextSetBit(0); value >= 0; value = values.nextSetBit(value + 1)) {
+                    for (int bit = 1; bit < 1 << numberOfVariables; bit <<= 1) {
+                        if ((dontCareBits & bit) != 0 || (value & bit) != 0 || !values.get(value | bit)) {
+                            continue;
+                        }
+                        next.computeIfAbsent(dontCareBits | bit, key -> new BitSet()).set(value);
+                        merged.set(value);
+                        merged.set(value | bit);
+                    }
+                }
+                for (int value = values.nextSetBit(0); value >= 0; value = values.nextSetBit(value + 1)) {
+                    if (!merged.get(value)) {
+                        final Implicant prime = new Implicant(value, dontCareBits);
+                        final boolean[] coversOnset = {false};
+                        LogicMinimization.forEachRow(prime, onset, row -> coversOnset[0] = true);
+                        if (coversOnset[0]) {
+                            result.add(prime);
+                        }
+                    }
+                }
+            }
+            level = next;
+        }
+        result.sort(LogicMinimization::compare);
+        return result;
+    }
+
+    /**
+     * @param cover A cover of the rows where a function is false.
+     * @param variables The variables.
+     * @return The conjunction of the clauses negating the implicants of the cover.
+     */
+    public static PropositionalFormula toCNF(final List<Implicant> cover, final List<String> variables) {
+        return Conjunction.createConjunction(
+            cover.stream().map(implicant -> implicant.toClause(variables)).toList()
+        );
+    }
+
+    /**
+     * @param cover A cover of the rows where a function is true.
+     * @param variables The variables.
+     * @return The disjunction of the implicants of the cover.
+     */
+    public static PropositionalFormula toDNF(final List<Implicant> cover, final List<String> variables) {
+        return Disjunction.createDisjunction(
+            cover.stream().map(implicant -> implicant.toConjunction(variables)).toList()
+        );
+    }
+
+    private static void checkNumberOfVariables(final int numberOfVariables) {
+        if (numberOfVariables < 0 || numberOfVariables > CompiledFormula.MAXIMUM_NUMBER_OF_VARIABLES) {
+            throw new IllegalArgumentException(
+                String.format(
+                    "Minimization is limited to %d variables!",
+                    CompiledFormula.MAXIMUM_NUMBER_OF_VARIABLES
+                )
+            );
+        }
+    }
+
+    /**
+     * Orders implicants by their values (with the don't cares treated as zero) and then by their don't cares.
+     */
+    private static int compare(final Implicant implicant1, final Implicant implicant2) {
+        final int result = Integer.compare(implicant1.values, implicant2.values);
+        return result == 0 ? Integer.compare(implicant1.dontCares, implicant2.dontCares) : result;
+    }
+
+    /**
+     * Calls the specified consumer for each row covered by the specified implicant contained in the specified set
+     * (enumerating only the set rows if the implicant covers more rows than the set contains).
+     */
+    private static void forEachRow(
+        final Implicant implicant,
+        final BitSet rows,
+        final IntConsumer consumer
+    ) {
+        final int numberOfDontCares = Integer.bitCount(implicant.dontCares);
+        if (numberOfDontCares > 0 && 1L << numberOfDontCares > rows.cardinality()) {
+            for (int row = rows.nextSetBit(0); row >= 0; row = rows.nextSetBit(row + 1)) {
+                if (implicant.covers(row)) {
+                    consumer.accept(row);
+                }
+            }
+            return;
+        }
+        int subset = 0;
+        do {
+            final int row = implicant.values | subset;
+            if (rows.get(row)) {
+                consumer.accept(row);
+            }
+            subset = (subset - implicant.dontCares) & implicant.dontCares;
+        } while (subset != 0);
+    }
+
+    private static boolean isContained(final Implicant implicant, final BitSet rows) {
+        int subset = 0;
+        do {
+            if (!rows.get(implicant.values | subset)) {
+                return false;
+            }
+            subset = (subset - implicant.dontCares) & implicant.dontCares;
+        } while (subset != 0);
+        return true;
+    }
+
+}
@@ -0,0 +1,248 @@
+package exercisegenerator.structures.logic;
+
+import java.util.*;
+
+import exercisegenerator.io.*;
+
+/**
+ * Pratt parser for propositional formulas. The tokenizer scans the input once by index without copying substrings
+ * (except for variable names) such that parsing takes time linear in the length of the input. Negation (!) binds
+ * strongest, followed by conjunction (&&), disjunction (||), implication (-> or =>, right associative), and
+ * equivalence (<-> or <=>). Nested conjunctions and disjunctions are flattened, implications are represented as
+ * disjunctions, and equivalences are represented as conjunctions of two implications. The constants are 1 and true
+ * (case insensitive) as well as 0 and false. All nodes are created by a {@link FormulaFactory} such that equal
+ * subformulas (e.g., both occurrences of the operands of an equivalence) are shared.
+ */
+class PropositionalFormulaParser {
+
+    private static final int AND = 1;
+
+    private static final int AND_BINDING_POWER = 4;
+
+    private static final int END = 2;
+
+    private static final int EQUIVALENCE = 3;
+
+    private static final int EQUIVALENCE_BINDING_POWER = 1;
+
+    private static final int IMPLICATION = 4;
+
+    private static final int IMPLICATION_BINDING_POWER = 2;
+
+    private static final int LEFT_PARENTHESIS = 5;
+
+    private static final int NOT = 6;
+
+    private static final int OR = 7;
+
+    private static final int OR_BINDING_POWER = 3;
+
+    private static final int RIGHT_PARENTHESIS = 8;
+
+    private static final int WORD = 9;
+
+    static PropositionalFormula parse(final String formula) throws PropositionalFormulaParseException {
+        final PropositionalFormulaParser parser = new PropositionalFormulaParser(formula);
+        parser.advance();
+        final PropositionalFormula result = parser.parseExpression(0);
+        if (parser.token != PropositionalFormulaParser.END) {
+            throw new PropositionalFormulaParseException();
+        }
+        return result;
+    }
+
+    private static void addFlattened(
+        final List<PropositionalFormula> children,
+        final PropositionalFormula child,
+        final int operator
+    ) {
+        if (operator == PropositionalFormulaParser.AND && child.isConjunction()) {
+            children.addAll(((Conjunction)child).children);
+        } else if (operator == PropositionalFormulaParser.OR && child.isDisjunction()) {
+            children.addAll(((Disjunction)child).children);
+        } else {
+            children.add(child);
+        }
+    }
+
+    private static int bindingPower(final int token) {
+        switch (token) {
+        case AND:
+            return PropositionalFormulaParser.AND_BINDING_POWER;
+        case OR:
+            return PropositionalFormulaParser.OR_BINDING_POWER;
+        case IMPLICATION:
+            return PropositionalFormulaParser.IMPLICATION_BINDING_POWER;
+        case EQUIVALENCE:
+            return PropositionalFormulaParser.EQUIVALENCE_BINDING_POWER;
+        default:
+            return -1;
+        }
+    }
+
+    private static boolean isWordCharacter(final char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9') || c == '_';
+    }
+
+    private final FormulaFactory factory;
+
+    private int position;
+
+    private final String text;
+
+    private int token;
+
+    private int tokenEnd;
+
+    private int tokenStart;
+
+    private PropositionalFormulaParser(final String text) {
+        this.text = text;
+        this.position = 0;
+        this.factory = new FormulaFactory();
+    }
+
+    private void advance() throws PropositionalFormulaParseException {
+        final int length = this.text.length();
+        while (this.position < length && Character.isWhitespace(this.text.charAt(this.position))) {
+            this.position++;
+        }
+        this.tokenStart = this.position;
+        if (this.position == length) {
+            this.token = PropositionalFormulaParser.END;
+            this.tokenEnd = this.position;
+            return;
+        }
+        final char c = this.text.charAt(this.position);
+        switch (c) {
+        case '(':
+            this.token = PropositionalFormulaParser.LEFT_PARENTHESIS;
+            this.position++;
+            break;
+        case ')':
+            this.token = PropositionalFormulaParser.RIGHT_PARENTHESIS;
+            this.position++;
+            break;
+        case '!':
+            this.token = PropositionalFormulaParser.NOT;
+            this.position++;
+            break;
+        case '&':
+            this.expect("&&", PropositionalFormulaParser.AND);
+            break;
+        case '|':
+            this.expect("||", PropositionalFormulaParser.OR);
+            break;
+        case '-':
+            this.expect("->", PropositionalFormulaParser.IMPLICATION);
+            break;
+        case '=':
+            this.expect("=>", PropositionalFormulaParser.IMPLICATION);
+            break;
+        case '<':
+            if (this.text.startsWith("<=>", this.position)) {
+                this.expect("<=>", PropositionalFormulaParser.EQUIVALENCE);
+            } else {
+                this.expect("<->", PropositionalFormulaParser.EQUIVALENCE);
+            }
+            break;
+        default:
+            if (!PropositionalFormulaParser.isWordCharacter(c)) {
+                throw new PropositionalFormulaParseException();
+            }
+            do {
+                this.position++;
+            } while (
+                this.position < length && PropositionalFormulaParser.isWordCharacter(this.text.charAt(this.position))
+            );
+            this.token = PropositionalFormulaParser.WORD;
+        }
+        this.tokenEnd = this.position;
+    }
+
+    private void expect(final String operator, final int token) throws PropositionalFormulaParseException {
+        if (!this.text.startsWith(operator, this.position)) {
+            throw new PropositionalFormulaParseException();
+        }
+        this.token = token;
+        this.position += operator.length();
+    }
+
+    private PropositionalFormula parseExpression(final int minimumBindingPower)
+    throws PropositionalFormulaParseException {
+        PropositionalFormula left = this.parsePrefix();
+        int operator = this.token;
+        int bindingPower = PropositionalFormulaParser.bindingPower(operator);
+        while (bindingPower > minimumBindingPower) {
+            switch (operator) {
+            case AND:
+            case OR:
+                final List<PropositionalFormula> children = new ArrayList<PropositionalFormula>();
+                PropositionalFormulaParser.addFlattened(children, left, operator);
+                while (this.token == operator) {
+                    this.advance();
+                    PropositionalFormulaParser.addFlattened(children, this.parseExpression(bindingPower), operator);
+                }
+                left =
+                    operator == PropositionalFormulaParser.AND ?
+                        this.factory.conjunction(children) :
+                            this.factory.disjunction(children);
+                break;
+            case IMPLICATION:
+                this.advance();
+                left = this.toImplication(left, this.parseExpression(bindingPower - 1));
+                break;
+            default:
+                this.advance();
+                final PropositionalFormula right = this.parseExpression(bindingPower);
+                left = this.factory.conjunction(this.toImplication(left, right), this.toImplication(right, left));
+            }
+            operator = this.token;
+            bindingPower = PropositionalFormulaParser.bindingPower(operator);
+        }
+        return left;
+    }
+
+    private PropositionalFormula parsePrefix() throws PropositionalFormulaParseException {
+        switch (this.token) {
+        case LEFT_PARENTHESIS:
+            this.advance();
+            final PropositionalFormula inner = this.parseExpression(0);
+            if (this.token != PropositionalFormulaParser.RIGHT_PARENTHESIS) {
+                throw new PropositionalFormulaParseException();
+            }
+            this.advance();
+            return inner;
+        case NOT:
+            this.advance();
+            return this.factory.negation(this.parsePrefix());
+        case WORD:
+            final String name = this.text.substring(this.tokenStart, this.tokenEnd);
+            this.advance();
+            if ("1".equals(name) || "true".equalsIgnoreCase(name)) {
+                return True.TRUE;
+            }
+            if ("0".equals(name) || "false".equalsIgnoreCase(name)) {
+                return False.FALSE;
+            }
+            return this.factory.variable(name);
+        default:
+            throw new PropositionalFormulaParseException();
+        }
+    }
+
+    private PropositionalFormula toImplication(
+        final PropositionalFormula premise,
+        final PropositionalFormula conclusion
+    ) {
+        final List<PropositionalFormula> children = new ArrayList<PropositionalFormula>();
+        PropositionalFormulaParser.addFlattened(
+            children,
+            this.factory.negation(premise),
+            PropositionalFormulaParser.OR
+        );
+        PropositionalFormulaParser.addFlattened(children, conclusion, PropositionalFormulaParser.OR);
+        return this.factory.disjunction(children);
+    }
+
+}
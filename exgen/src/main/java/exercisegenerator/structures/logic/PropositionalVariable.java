@@ -12,6 +12,9 @@ public class PropositionalVariable extends PropositionalFormula {
 
     @Override
     public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
         if (!(o instanceof PropositionalVariable)) {
             return false;
         }
@@ -0,0 +1,501 @@
+package exercisegenerator.structures.logic;
+
+import java.util.*;
+
+/**
+ * Conflict-driven clause learning (CDCL) SAT solver for clause sets. Literals are encoded internally as 2(v-1) for
+ * the variable v and 2(v-1)+1 for its negation. Unit propagation uses two watched literals per clause (the first two
+ * literals of the clause array), so assigning a literal only visits the clauses watching its negation. Conflicts are
+ * analyzed to learn the first unique implication point clause, after which the solver jumps back to the second
+ * highest decision level in the learned clause. Decisions choose the unassigned variable with the highest activity
+ * (variables are bumped when they take part in a conflict and older bumps decay) and assign its last value (phase
+ * saving). The search restarts after a number of conflicts following the Luby sequence. Learned clauses are
+ * minimized by removing literals implied by other literals of the clause, and when there are too many of them at a
+ * restart, the half with the most decision levels (literal block distance) is deleted.
+ */
+public class SatSolver {
+
+    private static final double ACTIVITY_DECAY = 0.95;
+
+    private static final double ACTIVITY_LIMIT = 1E100;
+
+    private static final int INITIAL_MAXIMUM_NUMBER_OF_LEARNED_CLAUSES = 1000;
+
+    private static final byte FALSE = -1;
+
+    private static final int RESTART_UNIT = 100;
+
+    private static final byte TRUE = 1;
+
+    private static final byte UNASSIGNED = 0;
+
+    /**
+     * @param formula1 A formula.
+     * @param formula2 Another formula.
+     * @return True if and only if both formulas have the same truth value under each interpretation.
+     */
+    public static boolean areEquivalent(final PropositionalFormula formula1, final PropositionalFormula formula2) {
+        return SatSolver.findCounterexample(formula1, formula2).isEmpty();
+    }
+
+    /**
+     * Checks the equivalence of two formulas by solving the Tseitin encoding of their exclusive or. Both formulas are
+     * encoded by the same {@link TseitinEncoding}, so equal subformulas share their auxiliary variables. This is much
+     * faster than comparing truth tables for formulas with many variables.
+     * @param formula1 A formula.
+     * @param formula2 Another formula.
+     * @return An interpretation of all variables of both formulas under which the formulas have different truth
+     *         values if such an interpretation exists.
+     */
+    public static Optional<PropositionalInterpretation> findCounterexample(
+        final PropositionalFormula formula1,
+        final PropositionalFormula formula2
+    ) {
+        final SortedSet<String> variables = new TreeSet<String>(formula1.getVariableNames());
+        variables.addAll(formula2.getVariableNames());
+        final TseitinEncoding encoding = new TseitinEncoding(new ArrayList<String>(variables));
+        final int literal1 = encoding.encode(formula1);
+        final int literal2 = encoding.encode(formula2);
+        encoding.addClause(literal1, literal2);
+        encoding.addClause(-literal1, -literal2);
+        final ClauseSet clauses = encoding.toClauseSet();
+        return new SatSolver(clauses).solve().map(clauses::toInterpretation);
+    }
+
+    /**
+     * @param formula A formula.
+     * @return A model of the specified formula if it is satisfiable.
+     */
+    public static Optional<PropositionalInterpretation> findModel(final PropositionalFormula formula) {
+        final ClauseSet clauses = TseitinEncoding.transform(formula);
+        return new SatSolver(clauses).solve().map(clauses::toInterpretation);
+    }
+
+    public static boolean isSatisfiable(final ClauseSet clauses) {
+        return new SatSolver(clauses).solve().isPresent();
+    }
+
+    public static boolean isSatisfiable(final PropositionalFormula formula) {
+        return SatSolver.findModel(formula).isPresent();
+    }
+
+    /**
+     * @return The i-th element (starting at 1) of the Luby sequence 1, 1, 2, 1, 1, 2, 4, 1, 1, 2, ...
+     */
+    private static int luby(final int i) {
+        int power = 1;
+        while (power - 1 < i) {
+            power *= 2;
+        }
+        if (power - 1 == i) {
+            return power / 2;
+        }
+        return SatSolver.luby(i - power / 2 + 1);
+    }
+
+    private static int toInternal(final int literal) {
+        return literal > 0 ? 2 * (literal - 1) : 2 * (-literal - 1) + 1;
+    }
+
+    private final double[] activities;
+
+    private double activityIncrement;
+
+    private final byte[] assignment;
+
+    private final List<int[]> clauses;
+
+    /**
+     * The number of decision levels of the literals of each learned clause when it was learned (0 for the given
+     * clauses).
+     */
+    private final List<Integer> literalBlockDistances;
+
+    private int decisionLevel;
+
+    /**
+     * True if the clause set contains the empty clause or complementary unit clauses.
+     */
+    private boolean inconsistent;
+
+    /**
+     * The positions on the trail where the decision levels start (index 0 is not used).
+     */
+    private final int[] levelStarts;
+
+    private final int[] levels;
+
+    private int maximumNumberOfLearnedClauses;
+
+    private final int numberOfGivenClauses;
+
+    private final int numberOfVariables;
+
+    /**
+     * The last values of the variables (used for decisions).
+     */
+    private final boolean[] phases;
+
+    private int propagationHead;
+
+    /**
+     * The indices of the clauses which implied the assignments of the variables (-1 for decisions and level 0).
+     */
+    private final int[] reasons;
+
+    private final boolean[] seen;
+
+    private final int[] trail;
+
+    private int trailSize;
+
+    private final int[] watchCounts;
+
+    /**
+     * The indices of the clauses watching each literal.
+     */
+    private final int[][] watches;
+
+    public SatSolver(final ClauseSet clauses) {
+        this.numberOfVariables = clauses.numberOfVariables;
+        this.activities = new double[this.numberOfVariables];
+        this.activityIncrement = 1.0;
+        this.assignment = new byte[this.numberOfVariables];
+        this.clauses = new ArrayList<int[]>();
+        this.decisionLevel = 0;
+        this.inconsistent = false;
+        this.levelStarts = new int[this.numberOfVariables + 1];
+        this.levels = new int[this.numberOfVariables];
+        this.literalBlockDistances = new ArrayList<Integer>();
+        this.phases = new boolean[this.numberOfVariables];
+        this.propagationHead = 0;
+        this.reasons = new int[this.numberOfVariables];
+        Arrays.fill(this.reasons, -1);
+        this.seen = new boolean[this.numberOfVariables];
+        this.trail = new int[this.numberOfVariables];
+        this.trailSize = 0;
+        this.watchCounts = new int[2 * this.numberOfVariables];
+        this.watches = new int[2 * this.numberOfVariables][];
+        for (final int[] clause : clauses.clauses) {
+            this.addClause(clause);
+        }
+        this.numberOfGivenClauses = this.clauses.size();
+        this.maximumNumberOfLearnedClauses =
+            Math.max(SatSolver.INITIAL_MAXIMUM_NUMBER_OF_LEARNED_CLAUSES, this.numberOfGivenClauses / 3);
+    }
+
+    /**
+     * Searches for a model of the clause set. Should be called at most once per solver.
+     * @return A model indexed by the variables (index 0 is not used) if the clause set is satisfiable.
+     */
+    public Optional<boolean[]> solve() {
+        if (this.inconsistent) {
+            return Optional.empty();
+        }
+        int restarts = 1;
+        int conflicts = 0;
+        while (true) {
+            final int conflict = this.propagate();
+            if (conflict >= 0) {
+                if (this.decisionLevel == 0) {
+                    this.inconsistent = true;
+                    return Optional.empty();
+                }
+                this.learn(conflict);
+                conflicts++;
+            } else if (conflicts >= SatSolver.RESTART_UNIT * SatSolver.luby(restarts)) {
+                restarts++;
+                conflicts = 0;
+                this.backtrack(0);
+                if (this.clauses.size() - this.numberOfGivenClauses > this.maximumNumberOfLearnedClauses) {
+                    this.reduceLearnedClauses();
+                    this.maximumNumberOfLearnedClauses += this.maximumNumberOfLearnedClauses / 10;
+                }
+            } else {
+                final int variable = this.selectVariable();
+                if (variable < 0) {
+                    final boolean[] result = new boolean[this.numberOfVariables + 1];
+                    for (int i = 0; i < this.numberOfVariables; i++) {
+                        result[i + 1] = this.assignment[i] == SatSolver.TRUE;
+                    }
+                    return Optional.of(result);
+                }
+                this.decisionLevel++;
+                this.levelStarts[this.decisionLevel] = this.trailSize;
+                this.assign(this.phases[variable] ? 2 * variable : 2 * variable + 1, -1);
+            }
+        }
+    }
+
+    /**
+     * Adds the specified clause after removing duplicate literals. Tautologies are ignored and unit clauses are
+     * assigned directly.
+     */
+    private void addClause(final int[] clause) {
+        final int[] literals = Arrays.stream(clause).map(SatSolver::toInternal).sorted().distinct().toArray();
+        for (int i = 1; i < literals.length; i++) {
+            if ((literals[i] ^ 1) == literals[i - 1]) {
+                return;
+            }
+        }
+        switch (literals.length) {
+        case 0:
+            this.inconsistent = true;
+            break;
+        case 1:
+            final byte value = this.value(literals[0]);
+            if (value == SatSolver.FALSE) {
+                this.inconsistent = true;
+            } else if (value == SatSolver.UNASSIGNED) {
+                this.assign(literals[0], -1);
+            }
+            break;
+        default:
+            this.addWatchedClause(literals, 0);
+        }
+    }
+
+    private int addWatchedClause(final int[] literals, final int literalBlockDistance) {
+        final int index = this.clauses.size();
+        this.clauses.add(literals);
+        this.literalBlockDistances.add(literalBlockDistance);
+        this.watch(literals[0], index);
+        this.watch(literals[1], index);
+        return index;
+    }
+
+    private void assign(final int literal, final int reason) {
+        final int variable = literal >> 1;
+        this.assignment[variable] = (literal & 1) == 0 ? SatSolver.TRUE : SatSolver.FALSE;
+        this.levels[variable] = this.decisionLevel;
+        this.reasons[variable] = reason;
+        this.trail[this.trailSize++] = literal;
+    }
+
+    private void backtrack(final int level) {
+        if (level >= this.decisionLevel) {
+            return;
+        }
+        final int start = this.levelStarts[level + 1];
+        for (int i = this.trailSize - 1; i >= start; i--) {
+            final int variable = this.trail[i] >> 1;
+            this.phases[variable] = this.assignment[variable] == SatSolver.TRUE;
+            this.assignment[variable] = SatSolver.UNASSIGNED;
+            this.reasons[variable] = -1;
+        }
+        this.trailSize = start;
+        this.propagationHead = start;
+        this.decisionLevel = level;
+    }
+
+    private void bump(final int variable) {
+        this.activities[variable] += this.activityIncrement;
+        if (this.activities[variable] > SatSolver.ACTIVITY_LIMIT) {
+            for (int i = 0; i < this.numberOfVariables; i++) {
+                this.activities[i] /= SatSolver.ACTIVITY_LIMIT;
+            }
+            this.activityIncrement /= SatSolver.ACTIVITY_LIMIT;
+        }
+    }
+
+    /**
+     * @return True if the specified (false) literal was implied by a clause whose other literals are all marked as
+     *         seen or assigned at level 0, i.e., the literal is redundant in the learned clause.
+     */
+    private boolean isImpliedBySeen(final int literal) {
+        final int reason = this.reasons[literal >> 1];
+        if (reason < 0) {
+            return false;
+        }
+        final int[] clause = this.clauses.get(reason);
+        for (int k = 1; k < clause.length; k++) {
+            final int variable = clause[k] >> 1;
+            if (!this.seen[variable] && this.levels[variable] > 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Learns the first unique implication point clause of the specified conflict, jumps back, and asserts the
+     * learned clause.
+     */
+    private void learn(final int conflict) {
+        final List<Integer> learned = new ArrayList<Integer>();
+        learned.add(-1);
+        int pathCount = 0;
+        int literal = -1;
+        int index = this.trailSize - 1;
+        int[] clause = this.clauses.get(conflict);
+        do {
+            for (int k = literal < 0 ? 0 : 1; k < clause.length; k++) {
+                final int other = clause[k];
+                final int variable = other >> 1;
+                if (!this.seen[variable] && this.levels[variable] > 0) {
+                    this.seen[variable] = true;
+                    this.bump(variable);
+                    if (this.levels[variable] == this.decisionLevel) {
+                        pathCount++;
+                    } else {
+                        learned.add(other);
+                    }
+                }
+            }
+            while (!this.seen[this.trail[index] >> 1]) {
+                index--;
+            }
+            literal = this.trail[index--];
+            this.seen[literal >> 1] = false;
+            pathCount--;
+            if (pathCount > 0) {
+                clause = this.clauses.get(this.reasons[literal >> 1]);
+            }
+        } while (pathCount > 0);
+        learned.set(0, literal ^ 1);
+        final List<Integer> minimized = new ArrayList<Integer>();
+        minimized.add(learned.get(0));
+        for (int i = 1; i < learned.size(); i++) {
+            if (!this.isImpliedBySeen(learned.get(i))) {
+                minimized.add(learned.get(i));
+            }
+        }
+        for (int i = 1; i < learned.size(); i++) {
+            this.seen[learned.get(i) >> 1] = false;
+        }
+        final Set<Integer> decisionLevels = new HashSet<Integer>();
+        decisionLevels.add(this.decisionLevel);
+        int backtrackLevel = 0;
+        for (int i = 1; i < minimized.size(); i++) {
+            final int level = this.levels[minimized.get(i) >> 1];
+            decisionLevels.add(level);
+            if (level > backtrackLevel) {
+                backtrackLevel = level;
+                Collections.swap(minimized, 1, i);
+            }
+        }
+        this.activityIncrement /= SatSolver.ACTIVITY_DECAY;
+        this.backtrack(backtrackLevel);
+        if (minimized.size() == 1) {
+            this.assign(minimized.get(0), -1);
+        } else {
+            this.assign(
+                minimized.get(0),
+                this.addWatchedClause(
+                    minimized.stream().mapToInt(Integer::intValue).toArray(),
+                    decisionLevels.size()
+                )
+            );
+        }
+    }
+
+    /**
+     * Propagates all assignments on the trail not propagated yet.
+     * @return The index of a conflicting clause or -1 if no conflict occurred.
+     */
+    private int propagate() {
+        while (this.propagationHead < this.trailSize) {
+            final int falseLiteral = this.trail[this.propagationHead++] ^ 1;
+            final int[] watching = this.watches[falseLiteral];
+            final int count = this.watchCounts[falseLiteral];
+            int kept = 0;
+            int i = 0;
+            clauses: while (i < count) {
+                final int index = watching[i++];
+                final int[] clause = this.clauses.get(index);
+                if (clause[0] == falseLiteral) {
+                    clause[0] = clause[1];
+                    clause[1] = falseLiteral;
+                }
+                if (this.value(clause[0]) == SatSolver.TRUE) {
+                    watching[kept++] = index;
+                    continue;
+                }
+                for (int k = 2; k < clause.length; k++) {
+                    if (this.value(clause[k]) != SatSolver.FALSE) {
+                        clause[1] = clause[k];
+                        clause[k] = falseLiteral;
+                        this.watch(clause[1], index);
+                        continue clauses;
+                    }
+                }
+                watching[kept++] = index;
+                if (this.value(clause[0]) == SatSolver.FALSE) {
+                    while (i < count) {
+                        watching[kept++] = watching[i++];
+                    }
+                    this.watchCounts[falseLiteral] = kept;
+                    this.propagationHead = this.trailSize;
+                    return index;
+                }
+                this.assign(clause[0], index);
+            }
+            this.watchCounts[falseLiteral] = kept;
+        }
+        return -1;
+    }
+
+    /**
+     * Deletes the half of the learned clauses with the highest literal block distances (keeping clauses with at most
+     * two decision levels) and rebuilds the watch lists. Must only be called at decision level 0 (so no learned
+     * clause is the reason of an assignment needed for conflict analysis).
+     */
+    private void reduceLearnedClauses() {
+        final List<Integer> learned = new ArrayList<Integer>();
+        for (int index = this.numberOfGivenClauses; index < this.clauses.size(); index++) {
+            learned.add(index);
+        }
+        learned.sort(
+            Comparator.comparingInt((Integer index) -> this.literalBlockDistances.get(index))
+                .thenComparingInt(index -> this.clauses.get(index).length)
+        );
+        final List<int[]> keptClauses = new ArrayList<int[]>(this.clauses.subList(0, this.numberOfGivenClauses));
+        final List<Integer> keptDistances =
+            new ArrayList<Integer>(this.literalBlockDistances.subList(0, this.numberOfGivenClauses));
+        for (int i = 0; i < learned.size(); i++) {
+            final int index = learned.get(i);
+            if (i < learned.size() / 2 || this.literalBlockDistances.get(index) <= 2) {
+                keptClauses.add(this.clauses.get(index));
+                keptDistances.add(this.literalBlockDistances.get(index));
+            }
+        }
+        this.clauses.clear();
+        this.literalBlockDistances.clear();
+        Arrays.fill(this.watchCounts, 0);
+        Arrays.fill(this.reasons, -1);
+        for (int index = 0; index < keptClauses.size(); index++) {
+            this.addWatchedClause(keptClauses.get(index), keptDistances.get(index));
+        }
+    }
+
+    /**
+     * @return The unassigned variable with the highest activity or -1 if all variables are assigned.
+     */
+    private int selectVariable() {
+        int result = -1;
+        for (int variable = 0; variable < this.numberOfVariables; variable++) {
+            if (
+                this.assignment[variable] == SatSolver.UNASSIGNED
+                && (result < 0 || this.activities[variable] > this.activities[result])
+            ) {
+                result = variable;
+            }
+        }
+        return result;
+    }
+
+    private byte value(final int literal) {
+        final byte value = this.assignment[literal >> 1];
+        return (literal & 1) == 0 ? value : (byte)-value;
+    }
+
+    private void watch(final int literal, final int index) {
+        if (this.watches[literal] == null) {
+            this.watches[literal] = new int[4];
+        } else if (this.watchCounts[literal] == this.watches[literal].length) {
+            this.watches[literal] = Arrays.copyOf(this.watches[literal], 2 * this.watchCounts[literal]);
+        }
+        this.watches[literal][this.watchCounts[literal]++] = index;
+    }
+
+}
@@ -1,6 +1,5 @@
 package exercisegenerator.structures.logic;
 
-import java.math.*;
 import java.util.*;
 
 import exercisegenerator.io.*;
@@ -8,12 +7,10 @@ import exercisegenerator.io.*;
 public class TruthTable {
 
     public static List<PropositionalInterpretation> computeAllInterpretations(final List<String> variables) {
-        final List<PropositionalInterpretation> result = new LinkedList<PropositionalInterpretation>();
-        final BigInteger size = BigInteger.TWO.pow(variables.size());
-        BigInteger current = BigInteger.ZERO;
-        while (current.compareTo(size) < 0) {
-            result.add(TruthTable.toInterpretation(current, variables));
-            current = current.add(BigInteger.ONE);
+        final int size = 1 << variables.size();
+        final List<PropositionalInterpretation> result = new ArrayList<PropositionalInterpretation>(size);
+        for (int row = 0; row < size; row++) {
+            result.add(TruthTable.toInterpretation(row, variables));
         }
         return result;
     }
@@ -41,18 +38,34 @@ public class TruthTable {
         return new TruthTable(variables, truthValues);
     }
 
-    public static PropositionalInterpretation toInterpretation(
-        final BigInteger current,
-        final List<String> variables
-    ) {
+    /**
+     * @param row The index of a row of the truth table.
+     * @param variables The variables of the truth table.
+     * @return The interpretation of the specified row (the first variable corresponds to the most significant bit of
+     *         the row index).
+     */
+    public static PropositionalInterpretation toInterpretation(final int row, final List<String> variables) {
         final PropositionalInterpretation result = new PropositionalInterpretation();
         int i = variables.size() - 1;
         for (final String variable : variables) {
-            result.put(variable, current.testBit(i--));
+            result.put(variable, ((row >>> i--) & 1) != 0);
         }
         return result;
     }
 
+    /**
+     * @param variables The variables of the truth table.
+     * @param words The truth values packed into words such that bit b of word w is the value of row 64w + b.
+     * @return The truth table with the specified packed truth values.
+     */
+    public static TruthTable valueOf(final List<String> variables, final long[] words) {
+        final boolean[] truthValues = new boolean[1 << variables.size()];
+        for (int row = 0; row < truthValues.length; row++) {
+            truthValues[row] = ((words[row >>> 6] >>> row) & 1L) != 0;
+        }
+        return new TruthTable(variables, truthValues);
+    }
+
     private static String toString(final PropositionalInterpretation interpretation) {
         final StringBuilder result = new StringBuilder();
         result.append("|");
@@ -93,12 +106,10 @@ public class TruthTable {
 
     public List<PropositionalInterpretation> getModels() {
         final List<PropositionalInterpretation> result = new LinkedList<PropositionalInterpretation>();
-        BigInteger index = BigInteger.ZERO;
-        while (index.intValue() < this.truthValues.length) {
-            if (this.truthValues[index.intValue()]) {
-                result.add(TruthTable.toInterpretation(index, this.variables));
+        for (int row = 0; row < this.truthValues.length; row++) {
+            if (this.truthValues[row]) {
+                result.add(TruthTable.toInterpretation(row, this.variables));
             }
-            index = index.add(BigInteger.ONE);
         }
         return result;
     }
@@ -108,6 +119,19 @@ public class TruthTable {
         return 111 + this.variables.hashCode() * 17 + this.truthValues.hashCode() * 23;
     }
 
+    /**
+     * @return The truth values packed into words such that bit b of word w is the value of row 64w + b.
+     */
+    public long[] toLongArray() {
+        final long[] result = new long[Math.max(1, (this.truthValues.length + 63) >>> 6)];
+        for (int row = 0; row < this.truthValues.length; row++) {
+            if (this.truthValues[row]) {
+                result[row >>> 6] |= 1L << row;
+            }
+        }
+        return result;
+    }
+
     @Override
     public String toString() {
         final StringBuilder result = new StringBuilder();
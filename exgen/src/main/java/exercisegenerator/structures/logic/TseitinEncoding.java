@@ -0,0 +1,162 @@
+package exercisegenerator.structures.logic;
+
+import java.util.*;
+
+/**
+ * Tseitin transformation of propositional formulas into clause sets. Each conjunction and disjunction gets an
+ * auxiliary variable y which is defined to be equivalent to the operation applied to the literals of its children
+ * (negations only flip the sign of a literal). The formulas are interned in a {@link FormulaFactory} first, so equal
+ * subformulas (also of different formulas encoded by the same instance) share their auxiliary variable and the
+ * number of clauses is linear in the size of the formula.
+ */
+public class TseitinEncoding {
+
+    /**
+     * The definition of an auxiliary variable as the conjunction or disjunction of some literals.
+     */
+    public static class Definition {
+
+        public final boolean conjunction;
+
+        public final int[] literals;
+
+        public final int variable;
+
+        private Definition(final int variable, final boolean conjunction, final int[] literals) {
+            this.variable = variable;
+            this.conjunction = conjunction;
+            this.literals = literals;
+        }
+
+        /**
+         * @return The clauses equivalent to this definition. For a conjunction y <-> l_1 && ... && l_n, these are the
+         *         clauses (!y || l_i) and (y || !l_1 || ... || !l_n) and dually for a disjunction (a conjunction
+         *         without literals is the constant true, so its variable is defined by the clause (y)).
+         */
+        public List<int[]> toClauses() {
+            final int sign = this.conjunction ? 1 : -1;
+            final List<int[]> result = new ArrayList<int[]>();
+            for (final int literal : this.literals) {
+                result.add(new int[] {-sign * this.variable, sign * literal});
+            }
+            final int[] clause = new int[this.literals.length + 1];
+            clause[0] = sign * this.variable;
+            for (int i = 0; i < this.literals.length; i++) {
+                clause[i + 1] = -sign * this.literals[i];
+            }
+            result.add(clause);
+            return result;
+        }
+
+    }
+
+    /**
+     * @param formula A formula.
+     * @return A clause set which is satisfiable if and only if the specified formula is satisfiable. The models of
+     *         the clause set restricted to the variables of the formula are exactly the models of the formula.
+     */
+    public static ClauseSet transform(final PropositionalFormula formula) {
+        final TseitinEncoding encoding = new TseitinEncoding(formula.getVariableNames());
+        encoding.addClause(encoding.encode(formula));
+        return encoding.toClauseSet();
+    }
+
+    private final List<int[]> clauses;
+
+    private final List<Definition> definitions;
+
+    private final FormulaFactory factory;
+
+    private final Map<String, Integer> indices;
+
+    private final Map<PropositionalFormula, Integer> literals;
+
+    private int numberOfVariables;
+
+    private final List<String> variables;
+
+    /**
+     * @param variables The variables which may occur in encoded formulas (numbered from 1 in the specified order).
+     */
+    public TseitinEncoding(final List<String> variables) {
+        this.variables = variables;
+        this.indices = new LinkedHashMap<String, Integer>();
+        for (final String name : variables) {
+            this.indices.put(name, this.indices.size() + 1);
+        }
+        this.numberOfVariables = variables.size();
+        this.clauses = new ArrayList<int[]>();
+        this.definitions = new ArrayList<Definition>();
+        this.factory = new FormulaFactory();
+        this.literals = new IdentityHashMap<PropositionalFormula, Integer>();
+    }
+
+    public void addClause(final int... literals) {
+        this.clauses.add(literals);
+    }
+
+    /**
+     * Adds the definitions of the auxiliary variables needed for the specified formula.
+     * @param formula A formula.
+     * @return The literal equivalent to the specified formula.
+     * @throws IllegalArgumentException If the formula contains a variable not known to this encoding.
+     */
+    public int encode(final PropositionalFormula formula) {
+        return this.encodeInterned(this.factory.intern(formula));
+    }
+
+    /**
+     * @return The definitions of the auxiliary variables in the order of their creation (children are defined before
+     *         their parents).
+     */
+    public List<Definition> getDefinitions() {
+        return Collections.unmodifiableList(this.definitions);
+    }
+
+    public ClauseSet toClauseSet() {
+        return new ClauseSet(this.variables, this.numberOfVariables, new ArrayList<int[]>(this.clauses));
+    }
+
+    private int define(final boolean conjunction, final int[] literals) {
+        final Definition definition = new Definition(++this.numberOfVariables, conjunction, literals);
+        this.definitions.add(definition);
+        this.clauses.addAll(definition.toClauses());
+        return definition.variable;
+    }
+
+    private int encodeInterned(final PropositionalFormula formula) {
+        final Integer known = this.literals.get(formula);
+        if (known != null) {
+            return known;
+        }
+        final int result;
+        if (formula.isVariable()) {
+            final String name = ((PropositionalVariable)formula).name;
+            if (!this.indices.containsKey(name)) {
+                throw new IllegalArgumentException(String.format("Unknown variable %s!", name));
+            }
+            result = this.indices.get(name);
+        } else if (formula.isNegation()) {
+            result = -this.encodeInterned(((Negation)formula).child);
+        } else if (formula.isConjunction()) {
+            result = this.define(true, this.encodeChildren(((Conjunction)formula).children));
+        } else if (formula.isDisjunction()) {
+            result = this.define(false, this.encodeChildren(((Disjunction)formula).children));
+        } else if (formula.evaluate(null)) {
+            result = this.define(true, new int[0]);
+        } else {
+            result = -this.encodeInterned(True.TRUE);
+        }
+        this.literals.put(formula, result);
+        return result;
+    }
+
+    private int[] encodeChildren(final List<? extends PropositionalFormula> children) {
+        final int[] result = new int[children.size()];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = this.encodeInterned(children.get(i));
+        }
+        return result;
+    }
+
+}
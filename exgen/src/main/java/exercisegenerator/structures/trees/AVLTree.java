@@ -23,4 +23,12 @@ public class AVLTree<T extends Comparable<T>> extends BinaryTree<T> {
         return super.hashCode() + 1;
     }
 
+    /**
+     * @return True if the heights of the subtrees of each node in this tree differ by at most one and all stored
+     *         heights are correct. False otherwise.
+     */
+    public boolean isBalanced() {
+        return this.root.isEmpty() || ((AVLTreeNode<T>)this.root.get()).isBalanced();
+    }
+
 }
@@ -38,6 +38,19 @@ public class AVLTreeNode<T extends Comparable<T>> extends BinaryTreeNode<T> {
         return this.height;
     }
 
+    /**
+     * @return True if the heights of the subtrees of each node in the tree rooted at this node differ by at most one
+     *         and all stored heights are correct. False otherwise.
+     */
+    public boolean isBalanced() {
+        final int leftHeight = this.leftHeight();
+        final int rightHeight = this.rightHeight();
+        return Math.abs(leftHeight - rightHeight) < 2
+            && this.height == Math.max(leftHeight, rightHeight) + 1
+            && (this.leftChild.isEmpty() || ((AVLTreeNode<T>)this.leftChild.get()).isBalanced())
+            && (this.rightChild.isEmpty() || ((AVLTreeNode<T>)this.rightChild.get()).isBalanced());
+    }
+
     int leftHeight() {
         return BinaryTreeNode.height(this.leftChild);
     }
@@ -96,6 +96,9 @@ public class BinaryTree<T extends Comparable<T>> implements Iterable<T> {
 
     public BinaryTree<T> remove(final T value) {
         final BinaryTreeSteps<T> steps = this.removeWithSteps(value);
+        if (steps.isEmpty()) {
+            return this;
+        }
         return steps.get(steps.size() - 1).x;
     }
 
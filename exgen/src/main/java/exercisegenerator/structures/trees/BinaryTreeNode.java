@@ -10,6 +10,9 @@ public class BinaryTreeNode<T extends Comparable<T>> {
     }
 
     private static <T extends Comparable<T>> void addBalanceSteps(final BinaryTreeNodeSteps<T> steps) {
+        if (steps.isEmpty()) {
+            return;
+        }
         final Optional<BinaryTreeNode<T>> lastNode = steps.getLast().x;
         steps.addAll(lastNode.isEmpty() ? Collections.emptyList() : lastNode.get().balanceWithSteps());
     }
@@ -186,9 +189,9 @@ public class BinaryTreeNode<T extends Comparable<T>> {
     }
 
     public Stream<T> stream() {
-        final Stream<T> left = this.leftChild.isPresent() ? this.leftChild.get().stream() : Stream.empty();
-        final Stream<T> right = this.rightChild.isPresent() ? this.rightChild.get().stream() : Stream.empty();
-        return Stream.concat(Stream.concat(left, Stream.of(this.value)), right);
+        final List<T> values = new ArrayList<T>();
+        this.collectValues(values);
+        return values.stream();
     }
 
     @Override
@@ -261,8 +264,22 @@ public class BinaryTreeNode<T extends Comparable<T>> {
         return result;
     }
 
+    void collectValues(final List<T> values) {
+        if (this.leftChild.isPresent()) {
+            this.leftChild.get().collectValues(values);
+        }
+        values.add(this.value);
+        if (this.rightChild.isPresent()) {
+            this.rightChild.get().collectValues(values);
+        }
+    }
+
     T getMin() {
-        return this.stream().findFirst().get();
+        BinaryTreeNode<T> node = this;
+        while (node.leftChild.isPresent()) {
+            node = node.leftChild.get();
+        }
+        return node.value;
     }
 
     private LinkedList<? extends T> getLeft(final Collection<? extends T> values) {
@@ -0,0 +1,195 @@
+package exercisegenerator.structures.trees;
+
+import java.util.*;
+
+/**
+ * Implicit d-ary min-heap of ints stored in an array. The children of index i are stored at the indices d * i + 1 to
+ * d * i + d. The heap records the indices changed since the last call of {@link #clearChanges()} such that a
+ * visualization only needs to update these positions.
+ */
+public class ImplicitHeap {
+
+    private final int arity;
+
+    private boolean[] changed;
+
+    private int[] changedIndices;
+
+    private int numberOfChanges;
+
+    private int size;
+
+    private int[] values;
+
+    /**
+     * @param arity The maximal number of children of each node (at least 2).
+     */
+    public ImplicitHeap(final int arity) {
+        if (arity < 2) {
+            throw new IllegalArgumentException("The degree of a heap must be at least 2!");
+        }
+        this.arity = arity;
+        this.size = 0;
+        this.numberOfChanges = 0;
+        this.values = new int[8];
+        this.changed = new boolean[8];
+        this.changedIndices = new int[8];
+    }
+
+    /**
+     * Forgets all recorded changes.
+     */
+    public void clearChanges() {
+        for (int i = 0; i < this.numberOfChanges; i++) {
+            this.changed[this.changedIndices[i]] = false;
+        }
+        this.numberOfChanges = 0;
+    }
+
+    /**
+     * Decreases the value at the specified index and restores the heap property.
+     * @param index The index of the value to decrease.
+     * @param value The new value.
+     * @return The index of the new value after restoring the heap property.
+     * @throws IllegalArgumentException If the new value is bigger than the old one.
+     */
+    public int decreaseKey(final int index, final int value) {
+        Objects.checkIndex(index, this.size);
+        if (value > this.values[index]) {
+            throw new IllegalArgumentException("The new value must not be bigger than the old one!");
+        }
+        this.set(index, value);
+        return this.siftUp(index);
+    }
+
+    /**
+     * Removes the minimum from the heap and restores the heap property.
+     * @return The minimum.
+     * @throws NoSuchElementException If the heap is empty.
+     */
+    public int extractMin() {
+        if (this.isEmpty()) {
+            throw new NoSuchElementException("The heap is empty!");
+        }
+        final int result = this.values[0];
+        this.size--;
+        if (this.size > 0) {
+            this.set(0, this.values[this.size]);
+            this.siftDown(0);
+        }
+        return result;
+    }
+
+    public int get(final int index) {
+        Objects.checkIndex(index, this.size);
+        return this.values[index];
+    }
+
+    public int getArity() {
+        return this.arity;
+    }
+
+    /**
+     * @return The indices changed since the last call of {@link #clearChanges()} in the order of their first change.
+     *         Indices not smaller than the current size belong to removed values.
+     */
+    public int[] getChangedIndices() {
+        return Arrays.copyOf(this.changedIndices, this.numberOfChanges);
+    }
+
+    /**
+     * @param value Some value.
+     * @return The smallest index containing the specified value or -1 if the value is not contained in the heap.
+     */
+    public int indexOf(final int value) {
+        for (int i = 0; i < this.size; i++) {
+            if (this.values[i] == value) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Inserts the specified value and restores the heap property.
+     * @param value The value to insert.
+     * @return The index of the inserted value after restoring the heap property.
+     */
+    public int insert(final int value) {
+        if (this.size == this.values.length) {
+            this.values = Arrays.copyOf(this.values, 2 * this.size);
+            this.changed = Arrays.copyOf(this.changed, 2 * this.size);
+            this.changedIndices = Arrays.copyOf(this.changedIndices, 2 * this.size);
+        }
+        this.size++;
+        this.set(this.size - 1, value);
+        return this.siftUp(this.size - 1);
+    }
+
+    public boolean isEmpty() {
+        return this.size == 0;
+    }
+
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * @return The values of the heap in array order.
+     */
+    public int[] toArray() {
+        return Arrays.copyOf(this.values, this.size);
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(this.toArray());
+    }
+
+    private void set(final int index, final int value) {
+        this.values[index] = value;
+        if (!this.changed[index]) {
+            this.changed[index] = true;
+            this.changedIndices[this.numberOfChanges++] = index;
+        }
+    }
+
+    private int siftDown(final int index) {
+        int i = index;
+        while (this.arity * i + 1 < this.size) {
+            final int firstChild = this.arity * i + 1;
+            int min = firstChild;
+            for (int child = firstChild + 1; child < Math.min(firstChild + this.arity, this.size); child++) {
+                if (this.values[child] < this.values[min]) {
+                    min = child;
+                }
+            }
+            if (this.values[i] <= this.values[min]) {
+                break;
+            }
+            this.swap(i, min);
+            i = min;
+        }
+        return i;
+    }
+
+    private int siftUp(final int index) {
+        int i = index;
+        while (i > 0) {
+            final int parent = (i - 1) / this.arity;
+            if (this.values[parent] <= this.values[i]) {
+                break;
+            }
+            this.swap(i, parent);
+            i = parent;
+        }
+        return i;
+    }
+
+    private void swap(final int i, final int j) {
+        final int value = this.values[i];
+        this.set(i, this.values[j]);
+        this.set(j, value);
+    }
+
+}
@@ -44,7 +44,7 @@ public class IntBTree {
         /**
          * The keys stored in this node. Entries from <code>filled</code> to the end of the array are garbage.
          */
-        private final Integer[] keys;
+        private final int[] keys;
 
         /**
          * Flag indicating whether this node is a leaf.
@@ -62,7 +62,7 @@ public class IntBTree {
          * successor nodes.
          */
         private IntBTreeNode() {
-            this.keys = new Integer[2 * IntBTree.this.fillingDegree - 1];
+            this.keys = new int[2 * IntBTree.this.fillingDegree - 1];
             this.nodes = new IntBTreeNode[2 * IntBTree.this.fillingDegree];
             this.filled = 0;
             this.leaf = false;
@@ -158,6 +158,69 @@ public class IntBTree {
             }
         }
 
+        /**
+         * Copies the keys of the B-tree rooted at this node in ascending order to the specified array.
+         * @param target The array to copy the keys to.
+         * @param offset The index in the target array where to store the first key.
+         * @return The index in the target array after the last copied key.
+         */
+        private int copyKeys(final int[] target, final int offset) {
+            int index = offset;
+            for (int i = 0; i < this.filled; i++) {
+                if (!this.leaf) {
+                    index = this.nodes[i].copyKeys(target, index);
+                }
+                target[index++] = this.keys[i];
+            }
+            if (!this.leaf) {
+                index = this.nodes[this.filled].copyKeys(target, index);
+            }
+            return index;
+        }
+
+        /**
+         * @param isRoot Flag indicating whether this node is the root node.
+         * @param lower Lower bound (inclusive) for the keys in the B-tree rooted at this node.
+         * @param upper Upper bound (inclusive) for the keys in the B-tree rooted at this node.
+         * @return The height of the B-tree rooted at this node if it satisfies all B-tree properties. -1 otherwise.
+         */
+        private int getCheckedHeight(final boolean isRoot, final long lower, final long upper) {
+            if (this.filled > 2 * IntBTree.this.fillingDegree - 1) {
+                return -1;
+            }
+            if (this.filled < (isRoot ? 1 : IntBTree.this.fillingDegree - 1)) {
+                return -1;
+            }
+            long previous = lower;
+            for (int i = 0; i < this.filled; i++) {
+                if (this.keys[i] < previous || this.keys[i] > upper) {
+                    return -1;
+                }
+                previous = this.keys[i];
+            }
+            if (this.leaf) {
+                return 1;
+            }
+            int height = -1;
+            for (int i = 0; i <= this.filled; i++) {
+                final IntBTreeNode node = this.nodes[i];
+                if (node == null) {
+                    return -1;
+                }
+                final int nodeHeight =
+                    node.getCheckedHeight(
+                        false,
+                        i == 0 ? lower : this.keys[i - 1],
+                        i == this.filled ? upper : this.keys[i]
+                    );
+                if (nodeHeight < 0 || (height >= 0 && nodeHeight != height)) {
+                    return -1;
+                }
+                height = nodeHeight;
+            }
+            return height + 1;
+        }
+
         /**
          * @return The maximum key in the B-tree rooted at this node.
          */
@@ -222,7 +285,7 @@ public class IntBTree {
         private boolean remove(final int key, final IntBTree tree) {
             final int index = ArrayUtils.binarySearch(this.keys, key, 0, this.filled - 1);
             if (this.leaf) {
-                if (this.keys[index] != key) {
+                if (index >= this.filled || this.keys[index] != key) {
                     return false;
                 }
                 if (tree != null && this.filled == 1) {
@@ -322,6 +385,19 @@ public class IntBTree {
             this.keys[index] = left.keys[--left.filled];
         }
 
+        /**
+         * @return The number of keys stored in the B-tree rooted at this node.
+         */
+        private int size() {
+            int result = this.filled;
+            if (!this.leaf) {
+                for (int i = 0; i <= this.filled; i++) {
+                    result += this.nodes[i].size();
+                }
+            }
+            return result;
+        }
+
     }
 
     /**
@@ -369,6 +445,18 @@ public class IntBTree {
         return this.fillingDegree;
     }
 
+    /**
+     * @return The keys stored in this B-tree in ascending order.
+     */
+    public int[] getKeys() {
+        if (this.root == null) {
+            return new int[0];
+        }
+        final int[] result = new int[this.root.size()];
+        this.root.copyKeys(result, 0);
+        return result;
+    }
+
     /**
      * @return True if this B-tree just consists of the root node.
      */
@@ -383,6 +471,15 @@ public class IntBTree {
         return this.root == null;
     }
 
+    /**
+     * @return True if each node except the root contains between t - 1 and 2t - 1 keys (where t is the filling
+     *         degree), the root contains between 1 and 2t - 1 keys, the keys are ordered, and all leaves have the same
+     *         depth. An empty B-tree is always well-formed.
+     */
+    public boolean isWellFormed() {
+        return this.root == null || this.root.getCheckedHeight(true, Long.MIN_VALUE, Long.MAX_VALUE) > 0;
+    }
+
     /**
      * Removes one occurrence of the specified key from this B-tree if at least one occurrence exists.
      * @param key The key to remove.
@@ -395,6 +492,13 @@ public class IntBTree {
         return this.root.remove(key, this);
     }
 
+    /**
+     * @return The number of keys stored in this B-tree.
+     */
+    public int size() {
+        return this.root == null ? 0 : this.root.size();
+    }
+
     /* (non-Javadoc)
      * @see java.lang.Object#toString()
      */
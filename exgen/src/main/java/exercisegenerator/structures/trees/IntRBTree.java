@@ -9,6 +9,69 @@ import exercisegenerator.*;
  */
 public class IntRBTree {
 
+    /**
+     * Copies the values of the subtree rooted at the specified node in ascending order to the specified array.
+     * @param node The root of the subtree (may be null).
+     * @param target The array to copy the values to.
+     * @param offset The index in the target array where to store the first value.
+     * @return The index in the target array after the last copied value.
+     */
+    private static int copyValues(final RBNode node, final int[] target, final int offset) {
+        if (node == null) {
+            return offset;
+        }
+        final int index = IntRBTree.copyValues(node.getLeft(), target, offset);
+        target[index] = node.getValue();
+        return IntRBTree.copyValues(node.getRight(), target, index + 1);
+    }
+
+    /**
+     * @param node The root of the subtree to check (may be null).
+     * @param father The node that should be the father of the specified node.
+     * @param lower Lower bound (inclusive) for the values in the subtree.
+     * @param upper Upper bound (inclusive) for the values in the subtree.
+     * @return The number of black nodes on each path from the specified node to a leaf if the subtree satisfies all
+     *         Red-Black-Tree properties. -1 otherwise.
+     */
+    private static int getCheckedBlackHeight(
+        final RBNode node,
+        final RBNode father,
+        final long lower,
+        final long upper
+    ) {
+        if (node == null) {
+            return 0;
+        }
+        if (node.getFather() != father || node.getValue() < lower || node.getValue() > upper) {
+            return -1;
+        }
+        if (
+            !node.isBlack()
+            && (
+                (node.getLeft() != null && !node.getLeft().isBlack())
+                || (node.getRight() != null && !node.getRight().isBlack())
+            )
+        ) {
+            return -1;
+        }
+        final int expectedHeight =
+            node.getLeft() == null && node.getRight() == null ?
+                0 :
+                    Math.max(
+                        node.getLeft() == null ? 0 : node.getLeft().getHeight(),
+                        node.getRight() == null ? 0 : node.getRight().getHeight()
+                    ) + 1;
+        if (node.getHeight() != expectedHeight) {
+            return -1;
+        }
+        final int left = IntRBTree.getCheckedBlackHeight(node.getLeft(), node, lower, node.getValue());
+        final int right = IntRBTree.getCheckedBlackHeight(node.getRight(), node, node.getValue(), upper);
+        if (left < 0 || left != right) {
+            return -1;
+        }
+        return node.isBlack() ? left + 1 : left;
+    }
+
     /**
      * Prints a protected whitespace and a line terminator to the specified writer.
      * @param writer The writer to send the output to.
@@ -29,6 +92,17 @@ public class IntRBTree {
         Main.newLine(writer);
     }
 
+    /**
+     * @param node The root of the subtree (may be null).
+     * @return The number of nodes in the subtree rooted at the specified node.
+     */
+    private static int size(final RBNode node) {
+        if (node == null) {
+            return 0;
+        }
+        return IntRBTree.size(node.getLeft()) + IntRBTree.size(node.getRight()) + 1;
+    }
+
     /**
      * The root of the Red-Black-Tree this exercise considers.
      */
@@ -66,6 +140,15 @@ public class IntRBTree {
         return null;
     }
 
+    /**
+     * @return The values stored in this Red-Black-Tree in ascending order.
+     */
+    public int[] getValues() {
+        final int[] result = new int[IntRBTree.size(this.root)];
+        IntRBTree.copyValues(this.root, result, 0);
+        return result;
+    }
+
     public RBNode insert(final int value) {
         RBNode current = this.root;
         RBNode parent = null;
@@ -101,6 +184,19 @@ public class IntRBTree {
         return this.root == null;
     }
 
+    /**
+     * @return True if the root is black, no red node has a red child, each path from the root to a leaf contains the
+     *         same number of black nodes, the values are ordered, and all father links and heights are correctly set.
+     *         False otherwise.
+     */
+    public boolean isWellFormed() {
+        if (this.root == null) {
+            return true;
+        }
+        return this.root.isBlack()
+            && IntRBTree.getCheckedBlackHeight(this.root, null, Long.MIN_VALUE, Long.MAX_VALUE) >= 0;
+    }
+
     /**
      * @param rootOfSubtree The root of the subtree to find the node in with the smallest key.
      * @return The node with the smallest key in the subtree starting in the given node. If the key
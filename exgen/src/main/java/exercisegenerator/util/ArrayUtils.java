@@ -18,22 +18,24 @@ public abstract class ArrayUtils {
      *         first element within the interval greater than the key to search for is returned. If no such element
      *         exists, the returned index is one bigger than the end index.
      */
-    public static Integer binarySearch(final Integer[] array, final Integer key, final Integer from, final Integer to) {
-        if (to - from <= 0) {
-            if (to - from == 0 && array[from] < key) {
-                return from + 1;
+    public static int binarySearch(final int[] array, final int key, final int from, final int to) {
+        int low = from;
+        int high = to;
+        while (high - low > 0) {
+            final int index = low + ((high - low) / 2);
+            final int there = array[index];
+            if (there == key) {
+                return index;
+            } else if (there < key) {
+                low = index + 1;
+            } else {
+                high = index;
             }
-            return from;
         }
-        final Integer index = from + ((to - from) / 2);
-        final Integer there = array[index];
-        if (there == key) {
-            return index;
-        } else if (there < key) {
-            return ArrayUtils.binarySearch(array, key, index + 1, to);
-        } else {
-            return ArrayUtils.binarySearch(array, key, from, index);
+        if (high - low == 0 && array[low] < key) {
+            return low + 1;
         }
+        return low;
     }
 
     public static double[] copy(final double[] array) {
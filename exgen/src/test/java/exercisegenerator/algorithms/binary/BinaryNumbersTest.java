@@ -1,5 +1,8 @@
 package exercisegenerator.algorithms.binary;
 
+import java.math.*;
+import java.util.*;
+
 import org.testng.*;
 import org.testng.annotations.*;
 
@@ -22,6 +25,51 @@ public class BinaryNumbersTest {
         };
     }
 
+    @Test
+    public void floatConverterBulk() {
+        for (int exponentLength = 2; exponentLength <= 5; exponentLength++) {
+            for (int mantissaLength = 0; mantissaLength <= 8; mantissaLength++) {
+                final FloatConverter converter = new FloatConverter(exponentLength, mantissaLength);
+                final int length = exponentLength + mantissaLength + 1;
+                final BitString[] bitStrings = new BitString[1 << length];
+                for (int i = 0; i < bitStrings.length; i++) {
+                    bitStrings[i] = BitString.valueOf(new long[] {i}, length);
+                }
+                final String[] numbers = converter.fromFloats(bitStrings);
+                final List<BitString> expected = new ArrayList<BitString>();
+                final List<String> withoutNaN = new ArrayList<String>();
+                for (int i = 0; i < bitStrings.length; i++) {
+                    if (!numbers[i].equals("NaN")) {
+                        expected.add(bitStrings[i]);
+                        withoutNaN.add(numbers[i]);
+                    }
+                }
+                Assert.assertEquals(converter.toFloats(withoutNaN.toArray(String[]::new)), expected.toArray());
+            }
+        }
+        final Random gen = new Random(50);
+        final FloatConverter binary64 = new FloatConverter(11, 52);
+        for (int i = 0; i < 1000; i++) {
+            final long bits = gen.nextLong();
+            final double value = Double.longBitsToDouble(bits);
+            if (Double.isNaN(value) || Double.isInfinite(value)) {
+                continue;
+            }
+            final BitString bitString =
+                BitString.parse(String.format("%64s", Long.toBinaryString(bits)).replace(' ', '0'));
+            final String number = binary64.fromFloat(bitString);
+            Assert.assertEquals(new BigDecimal(number.replace(',', '.')).compareTo(new BigDecimal(value)), 0, number);
+            Assert.assertEquals(binary64.toFloat(number), bitString);
+        }
+        final FloatConverter wide = new FloatConverter(9, 100);
+        final BitString[] bitStrings = new BitString[100];
+        for (int i = 0; i < bitStrings.length; i++) {
+            // the first exponent bit is cleared to avoid NaN
+            bitStrings[i] = BitString.valueOf(new long[] {gen.nextLong() & ~2L, gen.nextLong()}, 110);
+        }
+        Assert.assertEquals(wide.toFloats(wide.fromFloats(bitStrings)), bitStrings);
+    }
+
     @Test(dataProvider="ASCIIData")
     public void fromASCII(
         final char character,
@@ -125,7 +173,10 @@ public class BinaryNumbersTest {
             {"0,125", 3, 4, "00001000"},
             {"0,0625", 3, 4, "00000100"},
             {"0,015625", 3, 4, "00000001"},
-            {"0,01", 3, 4, "00000000"}
+            {"0,01", 3, 4, "00000000"},
+            {"252,9", 4, 5, "0111011111"},
+            {"-1,0000000000000000000000001", 3, 4, "10110000"},
+            {"0,1", 11, 52, "0011111110111001100110011001100110011001100110011001100110011001"}
         };
     }
 
@@ -12,6 +12,96 @@ import exercisegenerator.structures.coding.*;
 
 public class CodingAlgorithmsTest {
 
+    private static String encodeHammingByPositions(final String message) {
+        final StringBuilder code = new StringBuilder("_");
+        int index = 0;
+        while (index < message.length()) {
+            final int position = code.length();
+            code.append((position & (position - 1)) == 0 ? '0' : message.charAt(index++));
+        }
+        int syndrome = 0;
+        for (int position = 1; position < code.length(); position++) {
+            if (code.charAt(position) == '1') {
+                syndrome ^= position;
+            }
+        }
+        for (int power = 1; power < code.length(); power *= 2) {
+            if ((syndrome & power) != 0) {
+                code.setCharAt(power, '1');
+            }
+        }
+        return code.substring(1);
+    }
+
+    private static long weightedLength(final String sourceText, final Map<Character, String> codeBook) {
+        long result = 0;
+        for (final char symbol : sourceText.toCharArray()) {
+            result += codeBook.get(symbol).length();
+        }
+        return result;
+    }
+
+    @Test
+    public void canonicalHuffmanTest() {
+        final int[] frequencies = new int['g'];
+        frequencies['a'] = 45;
+        frequencies['b'] = 13;
+        frequencies['c'] = 12;
+        frequencies['d'] = 16;
+        frequencies['e'] = 9;
+        frequencies['f'] = 5;
+        final int[] lengths = CanonicalHuffmanCode.codeLengths(frequencies, 2);
+        Assert.assertEquals(Arrays.copyOfRange(lengths, 'a', 'g'), new int[] {1, 3, 3, 3, 4, 4});
+        Assert.assertEquals(
+            CanonicalHuffmanCode.codeBook(lengths, CodingAlgorithms.BINARY_ALPHABET).toString(),
+            "{a=0, b=100, c=101, d=110, e=1110, f=1111}"
+        );
+        Assert.assertEquals(
+            CanonicalHuffmanCode.codeBook(CanonicalHuffmanCode.codeLengths(frequencies, 3), List.of('0', '1', '2'))
+            .toString(),
+            "{a=0, d=1, b=20, c=21, e=220, f=221}"
+        );
+        Assert.assertEquals(CanonicalHuffmanCode.codeBook("aaa", List.of('x', 'y', 'z')).toString(), "{a=x}");
+        Assert.assertEquals(CanonicalHuffmanCode.codeBook("", CodingAlgorithms.BINARY_ALPHABET).toString(), "{}");
+        final Random gen = new Random(41);
+        for (final List<Character> targetAlphabet : List.of(CodingAlgorithms.BINARY_ALPHABET, List.of('0', '1', '2'))) {
+            for (int i = 0; i < 50; i++) {
+                final StringBuilder source = new StringBuilder();
+                final int alphabetSize = 1 + gen.nextInt(20);
+                final int length = 1 + gen.nextInt(200);
+                for (int j = 0; j < length; j++) {
+                    source.append((char)('A' + gen.nextInt(1 + gen.nextInt(alphabetSize))));
+                }
+                final String sourceText = source.toString();
+                final Map<Character, String> codeBook = CanonicalHuffmanCode.codeBook(sourceText, targetAlphabet);
+                final long canonicalLength = CodingAlgorithmsTest.weightedLength(sourceText, codeBook);
+                final long treeLength =
+                    CodingAlgorithmsTest.weightedLength(
+                        sourceText,
+                        new HuffmanTree(sourceText, targetAlphabet).toCodeBook()
+                    );
+                if (targetAlphabet.size() == 2 && codeBook.size() > 1) {
+                    Assert.assertEquals(canonicalLength, treeLength);
+                } else {
+                    Assert.assertTrue(canonicalLength <= Math.max(treeLength, sourceText.length()));
+                }
+                final Pair<HuffmanTree, String> encoded =
+                    HuffmanEncoding.encodeHuffmanCanonically(sourceText, targetAlphabet);
+                Assert.assertEquals(encoded.x.toCodeBook(), codeBook);
+                Assert.assertEquals(encoded.x.decode(encoded.y.replace(" ", "")), sourceText);
+            }
+        }
+        final StringBuilder large = new StringBuilder();
+        for (int i = 0; i < 200000; i++) {
+            large.append((char)(256 + gen.nextInt(1 + gen.nextInt(5000))));
+        }
+        final String largeText = large.toString();
+        final Map<Character, String> largeCodeBook =
+            CanonicalHuffmanCode.codeBook(largeText, List.of('0', '1', '2', '3'));
+        final String largeCode = new HuffmanEncoder(largeCodeBook).encode(largeText).replace(" ", "");
+        Assert.assertEquals(new HuffmanDecoder(largeCodeBook).decode(largeCode), largeText);
+    }
+
     @DataProvider
     public Object[][] decodeHammingData() {
         return new Object[][] {
@@ -94,6 +184,9 @@ public class CodingAlgorithmsTest {
                 tree
             );
         Assert.assertEquals(result, "Franz jagt im komplett verwahrlosten Taxi quer durch Bayern.");
+        final HuffmanTree singleLeaf = new HuffmanTree("aaaa", CodingAlgorithms.BINARY_ALPHABET);
+        Assert.assertEquals(singleLeaf.toCodeBook().toString(), "{a=}");
+        Assert.assertEquals(singleLeaf.decode(""), "a");
     }
 
     @DataProvider
@@ -169,4 +262,147 @@ public class CodingAlgorithmsTest {
         );
     }
 
+    @Test
+    public void extendedHammingTest() {
+        Assert.assertEquals(HammingEncoding.encodeHamming(BitString.parse("0001"), true).toString(), "01101001");
+        Assert.assertEquals(HammingEncoding.encodeHamming(BitString.parse("1000"), true).toString(), "11110000");
+        final HammingDecodingResult corrected = HammingDecoding.decodeHamming(BitString.parse("01101011"), true);
+        Assert.assertEquals(corrected.status, HammingErrorStatus.CORRECTED);
+        Assert.assertEquals(corrected.errorPosition, java.util.Optional.of(6));
+        Assert.assertEquals(corrected.message.toString(), "0001");
+        final HammingDecodingResult parity = HammingDecoding.decodeHamming(BitString.parse("11101001"), true);
+        Assert.assertEquals(parity.status, HammingErrorStatus.CORRECTED);
+        Assert.assertEquals(parity.errorPosition, java.util.Optional.of(0));
+        Assert.assertEquals(parity.message.toString(), "0001");
+        final HammingDecodingResult detected = HammingDecoding.decodeHamming(BitString.parse("01100011"), true);
+        Assert.assertEquals(detected.status, HammingErrorStatus.DETECTED);
+        Assert.assertEquals(detected.errorPosition, java.util.Optional.empty());
+        Assert.assertThrows(
+            IllegalArgumentException.class,
+            () -> HammingDecoding.decodeHamming(BitString.parse("0110100"), true)
+        );
+    }
+
+    @Test
+    public void huffmanDecoderTest() {
+        final Random gen = new Random(40);
+        final String sourceSymbols = "abcdefghijklmnopqrstuvwxyz .,";
+        final StringBuilder source = new StringBuilder();
+        for (int i = 0; i < 1 << 20; i++) {
+            final int bound = 1 + gen.nextInt(sourceSymbols.length());
+            source.append(sourceSymbols.charAt(gen.nextInt(bound)));
+        }
+        final String sourceText = source.toString();
+        for (final List<Character> targetAlphabet : List.of(CodingAlgorithms.BINARY_ALPHABET, List.of('x', 'y', 'z'))) {
+            final HuffmanTree tree = new HuffmanTree(sourceText, targetAlphabet);
+            final String targetText = tree.toEncoder().encode(sourceText).replace(" ", "");
+            Assert.assertEquals(tree.decode(targetText), sourceText);
+            final Map<Character, String> canonical =
+                HuffmanDecoder.canonicalCodeBook(tree.toCodeBook(), targetAlphabet);
+            Assert.assertEquals(
+                new HuffmanDecoder(canonical, targetAlphabet).decode(new HuffmanEncoder(canonical).encode(sourceText)
+                    .replace(" ", "")),
+                sourceText
+            );
+        }
+        final Map<Character, String> codeBook = new LinkedHashMap<Character, String>();
+        codeBook.put('A', "0");
+        codeBook.put('B', "100");
+        codeBook.put('C', "101");
+        codeBook.put('D', "110");
+        codeBook.put('E', "111");
+        final HuffmanDecoder decoder = new HuffmanDecoder(codeBook);
+        Assert.assertEquals(decoder.decode("0100101110111"), "ABCDE");
+        Assert.assertThrows(IllegalArgumentException.class, () -> decoder.decode("010"));
+        Assert.assertThrows(IllegalArgumentException.class, () -> decoder.decode("0120"));
+        codeBook.put('F', "10");
+        Assert.assertThrows(IllegalArgumentException.class, () -> new HuffmanDecoder(codeBook));
+        codeBook.remove('F');
+        codeBook.put('E', "1111111111111111");
+        codeBook.put('F', "1111111111111110");
+        Assert.assertEquals(
+            new HuffmanDecoder(codeBook).decode("111111111111111001111111111111111"),
+            "FAE"
+        );
+        Assert.assertEquals(
+            HuffmanDecoder.canonicalCodeBook(codeBook, CodingAlgorithms.BINARY_ALPHABET).toString(),
+            "{A=0, B=100, C=101, D=110, E=1110000000000000, F=1110000000000001}"
+        );
+    }
+
+    @Test
+    public void huffmanStreamCodecTest() throws IOException {
+        final Random gen = new Random(42);
+        final StringBuilder source = new StringBuilder();
+        for (int i = 0; i < 1 << 20; i++) {
+            source.append((char)('a' + gen.nextInt(1 + gen.nextInt(26))));
+        }
+        final String sourceText = source.toString();
+        for (final List<Character> targetAlphabet : List.of(CodingAlgorithms.BINARY_ALPHABET, List.of('0', '1', '2'))) {
+            final HuffmanTree tree = new HuffmanTree(sourceText, targetAlphabet);
+            final HuffmanStreamCodec codec = tree.toStreamCodec(targetAlphabet);
+            final ByteArrayOutputStream encoded = new ByteArrayOutputStream();
+            final long bits = codec.encode(new StringReader(sourceText), encoded);
+            final String code = tree.toEncoder().encode(sourceText).replace(" ", "");
+            Assert.assertEquals(bits, (long)code.length() * codec.getBitsPerTargetSymbol());
+            Assert.assertEquals(encoded.size(), (bits + 7) / 8 + 1);
+            final StringWriter decoded = new StringWriter();
+            codec.decode(new ByteArrayInputStream(encoded.toByteArray()), decoded);
+            Assert.assertEquals(decoded.toString(), sourceText);
+        }
+        final Map<Character, String> codeBook = new LinkedHashMap<Character, String>();
+        codeBook.put('A', "0");
+        codeBook.put('B', "10");
+        codeBook.put('C', "11");
+        final HuffmanStreamCodec codec = new HuffmanStreamCodec(codeBook);
+        final ByteArrayOutputStream encoded = new ByteArrayOutputStream();
+        Assert.assertEquals(codec.encode(new StringReader("BACA"), encoded), 6);
+        Assert.assertEquals(encoded.toByteArray(), new byte[] {(byte)0b10011000, 2});
+        final StringWriter decoded = new StringWriter();
+        codec.decode(new ByteArrayInputStream(new byte[] {0}), decoded);
+        Assert.assertEquals(decoded.toString(), "");
+        Assert.assertThrows(
+            IllegalArgumentException.class,
+            () -> codec.decode(new ByteArrayInputStream(new byte[] {(byte)0b10011000, 7}), new StringWriter())
+        );
+        Assert.assertThrows(
+            IllegalArgumentException.class,
+            () -> codec.encode(new StringReader("ABD"), new ByteArrayOutputStream())
+        );
+    }
+
+    @Test
+    public void longHammingCodeTest() {
+        final Random gen = new Random(39);
+        for (final int length : new int[] {0, 1, 2, 4, 5, 11, 26, 57, 58, 120, 247, 1000, 2036, 4000}) {
+            final BitString message = CodingAlgorithms.generateHammingMessage(length);
+            final BitString code = HammingCode.encode(message, false);
+            Assert.assertEquals(code.toString(), CodingAlgorithmsTest.encodeHammingByPositions(message.toString()));
+            Assert.assertEquals(code.size(), HammingCode.codeLength(length, false));
+            Assert.assertEquals(HammingCode.messageLength(code.size(), false), length);
+            final BitString extended = HammingCode.encode(message, true);
+            Assert.assertEquals(extended.subString(1), code);
+            Assert.assertEquals(extended.popCount() % 2, 0);
+            final HammingDecodingResult valid = HammingCode.decode(extended, true);
+            Assert.assertEquals(valid.status, HammingErrorStatus.NO_ERROR);
+            Assert.assertEquals(valid.message, message);
+            for (int i = 0; i < 20 && extended.size() > 1; i++) {
+                final int first = gen.nextInt(extended.size());
+                final BitString single = new BitString(extended);
+                single.invertBit(first);
+                final HammingDecodingResult corrected = HammingCode.decode(single, true);
+                Assert.assertEquals(corrected.status, HammingErrorStatus.CORRECTED);
+                Assert.assertEquals(corrected.errorPosition, java.util.Optional.of(first));
+                Assert.assertEquals(corrected.message, message);
+                if (first > 0) {
+                    final BitString withoutParity = single.subString(1);
+                    Assert.assertEquals(HammingCode.decode(withoutParity, false).message, message);
+                }
+                final int second = (first + 1 + gen.nextInt(extended.size() - 1)) % extended.size();
+                single.invertBit(second);
+                Assert.assertEquals(HammingCode.decode(single, true).status, HammingErrorStatus.DETECTED);
+            }
+        }
+    }
+
 }
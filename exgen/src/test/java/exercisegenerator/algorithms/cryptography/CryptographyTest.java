@@ -1,5 +1,6 @@
 package exercisegenerator.algorithms.cryptography;
 
+import java.io.*;
 import java.util.*;
 
 import org.testng.*;
@@ -9,6 +10,75 @@ import exercisegenerator.structures.*;
 
 public class CryptographyTest {
 
+    private static final String GERMAN_TEXT =
+        "DIEKRYPTOGRAPHIEISTDIEWISSENSCHAFTVONDERVERSCHLUESSELUNGVONINFORMATIONENSIEWIRDHEUTEINALLENBEREICHEN"
+        + "EINGESETZTINDENENDATENVERTRAULICHUEBERTRAGENWERDENSOLLENDIEVIGENEREVERSCHLUESSELUNGGALTLANGEZEITALS"
+        + "UNKNACKBARBISFRIEDRICHKASISKIEINVERFAHRENVEROEFFENTLICHTEMITDEMMANDIELAENGEDESSCHLUESSELWORTSAUSDEN"
+        + "ABSTAENDENWIEDERHOLTERBUCHSTABENFOLGENBESTIMMENKANNWENNDIELAENGEBEKANNTISTZERFAELLTDERGEHEIMTEXTIN"
+        + "EINZELNECAESARVERSCHLUESSELUNGENDIEMITEINERHAEUFIGKEITSANALYSEGEBROCHENWERDENKOENNEN";
+
+    @Test
+    public void friedman() {
+        Assert.assertEquals(FriedmanAnalysis.indexOfCoincidence(new int[] {2, 2}), 1.0 / 3, 1E-9);
+        Assert.assertEquals(FriedmanAnalysis.indexOfCoincidence(new int[] {1, 0, 0}), 0.0, 1E-9);
+        Assert.assertEquals(FriedmanAnalysis.estimateKeyLength(0.0762, 500, 26, 0.0762), 1.0, 1E-9);
+        final VigenereSquare square = new VigenereSquare(Cryptography.ALPHABET26);
+        final int[] counts = FriedmanAnalysis.letterCounts("AB, AB; ZZ!", square);
+        Assert.assertEquals(counts[0], 2);
+        Assert.assertEquals(counts[1], 2);
+        Assert.assertEquals(counts[25], 2);
+        Assert.assertEquals(Arrays.stream(counts).sum(), 6);
+        final double[] columns = FriedmanAnalysis.columnIndicesOfCoincidence("ABAB ABAB", square, 2);
+        Assert.assertEquals(columns[1], 24.0 / 56, 1E-9);
+        Assert.assertEquals(columns[2], 1.0, 1E-9);
+        final String cipherText = square.encode(CryptographyTest.GERMAN_TEXT, "KRYPTO");
+        final double[] indices = FriedmanAnalysis.columnIndicesOfCoincidence(cipherText, square, 12);
+        for (int keyLength = 1; keyLength <= 12; keyLength++) {
+            Assert.assertEquals(indices[keyLength] > 0.06, keyLength % 6 == 0, "key length " + keyLength);
+        }
+        final double plainIndex = FriedmanAnalysis.indexOfCoincidence(
+            FriedmanAnalysis.letterCounts(CryptographyTest.GERMAN_TEXT, square)
+        );
+        Assert.assertEquals(indices[6], plainIndex, 0.03);
+        Assert.assertTrue(
+            FriedmanAnalysis.indexOfCoincidence(FriedmanAnalysis.letterCounts(cipherText, square)) < 0.05
+        );
+    }
+
+    @Test
+    public void kasiski() {
+        final VigenereSquare square = new VigenereSquare(Cryptography.ALPHABET26);
+        final KasiskiExamination.KasiskiResult result =
+            KasiskiExamination.examine("ABCXY Zabc ABCQQQ-ABC", square, 3, 12);
+        Assert.assertEquals(result.repetitions.size(), 1);
+        Assert.assertEquals(result.repetitions.get(0).sequence, "ABC");
+        Assert.assertEquals(result.repetitions.get(0).positions, new int[] {0, 6, 12});
+        Assert.assertEquals(result.distances, new int[] {6, 6});
+        Assert.assertEquals(result.factorCounts, new int[] {0, 0, 2, 2, 0, 0, 2, 0, 0, 0, 0, 0, 0});
+        Assert.assertEquals(result.keyLength, java.util.Optional.of(6));
+        Assert.assertEquals(
+            KasiskiExamination.examine("ABCDEFGH", square, 3, 12).keyLength,
+            java.util.Optional.empty()
+        );
+        Assert.assertEquals(
+            KasiskiExamination.estimateKeyLength(new int[] {0, 0, 9, 3, 6, 0, 2}),
+            java.util.Optional.of(4)
+        );
+        Assert.assertThrows(
+            IllegalArgumentException.class,
+            () -> KasiskiExamination.examine("ABC", square, 14, 12)
+        );
+        final String cipherText = square.encode(CryptographyTest.GERMAN_TEXT, "KRYPTO");
+        Assert.assertEquals(KasiskiExamination.examine(cipherText, square, 3, 12).keyLength, java.util.Optional.of(6));
+        final StringBuilder longText = new StringBuilder();
+        for (int i = 0; i < 2000; i++) {
+            longText.append(CryptographyTest.GERMAN_TEXT, (7 * i) % 97, 97 + (11 * i) % 200);
+        }
+        final KasiskiExamination.KasiskiResult longResult =
+            KasiskiExamination.examine(square.encode(longText.toString(), "GEHEIM"), square, 4, 20);
+        Assert.assertEquals(longResult.keyLength, java.util.Optional.of(6));
+    }
+
     @Test( dataProvider = "vigenereTestData" )
     public void vigenere(final String source, final String key, final String cipher, final List<Character> alphabet) {
         Assert.assertEquals(VigenereEncryption.vigenereEncode(source, key, alphabet), cipher);
@@ -35,4 +105,29 @@ public class CryptographyTest {
         };
     }
 
+    @Test
+    public void vigenereSquareBulk() throws IOException {
+        final VigenereSquare square = new VigenereSquare(Cryptography.ALPHABET26);
+        Assert.assertEquals(square.caesar("VENI, VIDI, VICI", 3), "YHQL, YLGL, YLFL");
+        Assert.assertEquals(square.caesar("YHQL, YLGL, YLFL", -3), "VENI, VIDI, VICI");
+        Assert.assertEquals(square.encode("ATTACK AT DAWN!", "LEMON"), "LXFOPV EF RNHR!");
+        Assert.assertEquals(square.decode("LXFOPV EF RNHR!", "LEMON"), "ATTACK AT DAWN!");
+        Assert.assertEquals(square.indexOf('C'), 2);
+        Assert.assertEquals(square.indexOf('c'), -1);
+        Assert.assertThrows(IllegalArgumentException.class, () -> square.encode("ABC", "key"));
+        Assert.assertThrows(IllegalArgumentException.class, () -> square.encode("ABC", ""));
+        final Random gen = new Random(43);
+        final StringBuilder book = new StringBuilder();
+        for (int i = 0; i < 100000; i++) {
+            book.append(gen.nextInt(6) == 0 ? ' ' : (char)('A' + gen.nextInt(26)));
+        }
+        final String sourceText = book.toString();
+        final StringWriter cipherText = new StringWriter();
+        square.encode(new StringReader(sourceText), cipherText, "KRYPTOGRAPHIE");
+        Assert.assertEquals(cipherText.toString(), square.encode(sourceText, "KRYPTOGRAPHIE"));
+        final StringWriter decoded = new StringWriter();
+        square.decode(new StringReader(cipherText.toString()), decoded, "KRYPTOGRAPHIE");
+        Assert.assertEquals(decoded.toString(), sourceText);
+    }
+
 }
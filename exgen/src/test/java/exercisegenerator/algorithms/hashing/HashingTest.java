@@ -1,11 +1,13 @@
 package exercisegenerator.algorithms.hashing;
 
 import java.util.*;
+import java.util.stream.*;
 
 import org.testng.*;
 import org.testng.annotations.*;
 
 import exercisegenerator.structures.*;
+import exercisegenerator.structures.hashing.*;
 import exercisegenerator.util.*;
 
 public class HashingTest {
@@ -190,4 +192,135 @@ public class HashingTest {
         Assert.assertTrue(HashingTest.equalHashResult(data.hashingMethod.get(), data.expectedResult));
     }
 
+    @Test
+    public void largeTables() throws HashException {
+        final int capacity = 100003;
+        final OpenAddressingHashTable linear =
+            new OpenAddressingHashTable(capacity, HashFunction.division(), Hashing.linearProbing());
+        final OpenAddressingHashTable quadratic =
+            new OpenAddressingHashTable(capacity, HashFunction.multiplication(0.61), Hashing.quadraticProbing(1, 1));
+        final ChainedHashTable chained = new ChainedHashTable(capacity, HashFunction.division());
+        for (int value = 0; value < capacity; value++) {
+            linear.insert(value * 7);
+        }
+        for (int value = 0; value < capacity * 7; value++) {
+            chained.insert(value);
+        }
+        for (int value = 0; value < capacity / 2; value++) {
+            quadratic.insert(value);
+        }
+        Assert.assertEquals(linear.size(), capacity);
+        Assert.assertEquals(linear.getLoadFactor(), 1.0);
+        Assert.assertEquals(quadratic.size(), capacity / 2);
+        Assert.assertEquals(chained.size(), capacity * 7);
+        Assert.assertEquals(chained.chainLength(0), 7);
+        Assert.assertEquals(
+            chained.toHashLists()[0],
+            new HashList(0, capacity, capacity * 2, capacity * 3, capacity * 4, capacity * 5, capacity * 6)
+        );
+        Assert.assertThrows(HashException.class, () -> linear.insert(1));
+    }
+
+    @Test
+    public void instanceSearch() throws HashException {
+        final List<HashingInstanceSearch.HashingInstance> instances =
+            HashingInstanceSearch.search("hashMultiplicationQuadratic", 8, 3, 3, 3, 42, 2);
+        Assert.assertEquals(instances.size(), 3);
+        Assert.assertEquals(
+            instances.toString(),
+            HashingInstanceSearch.search("hashMultiplicationQuadratic", 8, 3, 3, 3, 42, 1).toString()
+        );
+        for (final HashingInstanceSearch.HashingInstance instance : instances) {
+            final HashingStatistics statistics = new HashingStatistics(instance.capacity);
+            Hashing.hashingWithMultiplicationMethod(
+                instance.values,
+                Hashing.createEmptyArray(instance.capacity),
+                instance.factor,
+                java.util.Optional.of(
+                    Hashing.quadraticProbing(instance.linearProbingFactor, instance.quadraticProbingFactor)
+                ),
+                java.util.Optional.of(statistics)
+            );
+            Assert.assertEquals(statistics.getCollisions(), instance.collisions);
+            Assert.assertTrue(statistics.getCollisions() >= 3);
+            Assert.assertTrue(statistics.getMaxProbes() >= 3);
+            Assert.assertTrue(
+                instance.toInput("hashMultiplicationQuadratic").startsWith(
+                    String.format(
+                        "%d,%s,%d,%d\n",
+                        instance.capacity,
+                        instance.factor,
+                        instance.linearProbingFactor,
+                        instance.quadraticProbingFactor
+                    )
+                )
+            );
+        }
+    }
+
+    @Test
+    public void quadraticProbingFactors() throws HashException {
+        final Random gen = new Random(42);
+        for (final int capacity : Hashing.PRIMES_5_101) {
+            final int numberOfValues = (capacity + 1) / 2;
+            final Pair<Integer, Integer> factors = QuadraticProbingFactors.draw(capacity, numberOfValues, gen).get();
+            Assert.assertTrue(Hashing.areCoprime(capacity, factors.x, factors.y));
+            Assert.assertEquals(QuadraticProbingFactors.coverage(capacity, factors.x, factors.y), numberOfValues);
+            Assert.assertTrue(QuadraticProbingFactors.draw(capacity, numberOfValues + 1, gen).isEmpty());
+            Hashing.hashingWithDivisionMethod(
+                Stream.generate(() -> gen.nextInt(1000)).limit(numberOfValues).toList(),
+                Hashing.createEmptyArray(capacity),
+                java.util.Optional.of(Hashing.quadraticProbing(factors.x, factors.y))
+            );
+        }
+        for (int capacity = 2; capacity < 64; capacity++) {
+            Assert.assertTrue(QuadraticProbingFactors.draw(capacity, 0, gen).isPresent());
+            Assert.assertTrue(QuadraticProbingFactors.draw(capacity, capacity, gen).isEmpty());
+        }
+        Assert.assertTrue(QuadraticProbingFactors.draw(1009, 505, gen).isPresent());
+    }
+
+    @Test
+    public void statistics() throws HashException {
+        final HashingStatistics statistics = new HashingStatistics(7);
+        Hashing.hashingWithDivisionMethod(
+            Arrays.asList(7,4,3,8,1),
+            Hashing.createEmptyArray(7),
+            java.util.Optional.of(Hashing.linearProbing()),
+            java.util.Optional.of(statistics)
+        );
+        Assert.assertEquals(statistics.getInsertions(), 5);
+        Assert.assertEquals(statistics.getPosition(4), 2);
+        Assert.assertEquals(statistics.getProbes(4), 2);
+        Assert.assertEquals(statistics.getTotalProbes(), 6);
+        Assert.assertEquals(statistics.getMaxProbes(), 2);
+        Assert.assertEquals(statistics.getLoadFactor(2), 3.0 / 7);
+        Assert.assertEquals(statistics.getLongestCluster(2), 2);
+        Assert.assertEquals(statistics.getLongestCluster(4), 5);
+        Assert.assertEquals(statistics.getClusterLengths(), new int[] {5});
+        final HashList[] initial = Hashing.createEmptyArray(7);
+        initial[6].add(6);
+        Hashing.hashingWithDivisionMethod(
+            Arrays.asList(7,5,3),
+            initial,
+            java.util.Optional.of(Hashing.linearProbing()),
+            java.util.Optional.of(statistics)
+        );
+        Assert.assertEquals(statistics.getInsertions(), 3);
+        Assert.assertEquals(statistics.getLoadFactor(0), 2.0 / 7);
+        Assert.assertEquals(statistics.getClusterLengths(), new int[] {1, 3});
+        Assert.assertEquals(statistics.getLongestCluster(), 3);
+        final List<String> division = HashingStatisticsSweep.sweep("hashDivisionLinear", 0.8, 4, new Random(42));
+        Assert.assertEquals(division.size(), Hashing.PRIMES_5_101.length);
+        Assert.assertTrue(division.get(0).startsWith("hashDivisionLinear,5,,4,true,"));
+        final List<String> multiplication =
+            HashingStatisticsSweep.sweep("hashMultiplication", 0.8, 4, new Random(42));
+        Assert.assertEquals(multiplication.size(), Hashing.PRIMES_5_101.length * 4);
+        Assert.assertTrue(multiplication.get(0).startsWith("hashMultiplication,5,0.2,4,true,"));
+        Assert.assertEquals(
+            multiplication.get(0).split(",").length,
+            HashingStatisticsSweep.HEADER.split(",").length
+        );
+    }
+
 }
@@ -10,6 +10,105 @@ import exercisegenerator.structures.logic.*;
 
 public class PropositionalLogicTest {
 
+    @Test
+    public void compiledFormulaTest() throws PropositionalFormulaParseException {
+        final String[] formulas = {
+            "(A && !B) || (C && D && !(E || F)) || (G && !H)",
+            "!(A || B) && (C || !D || FALSE) && (E || F || G || H || I || J) && !TRUE || K",
+            "A && !A",
+            "TRUE",
+            "!(A && B && C) || D"
+        };
+        for (final String line : formulas) {
+            final PropositionalFormula formula = PropositionalFormula.parse(line);
+            final List<String> variables = formula.getVariableNames();
+            final TruthTable table = new CompiledFormula(formula).toTruthTable();
+            Assert.assertEquals(table.variables, variables);
+            Assert.assertEquals(table.truthValues.length, 1 << variables.size());
+            int row = 0;
+            for (final PropositionalInterpretation interpretation : TruthTable.computeAllInterpretations(variables)) {
+                Assert.assertEquals(table.truthValues[row++], formula.evaluate(interpretation), line);
+            }
+            Assert.assertEquals(TruthTable.valueOf(variables, table.toLongArray()), table);
+            Assert.assertEquals(new CompiledFormula(formula).evaluate(), table.toLongArray());
+        }
+        Assert.assertEquals(
+            new CompiledFormula(PropositionalFormula.parse("A || B")).evaluate(),
+            new long[] {0b1110L}
+        );
+        Assert.assertThrows(
+            IllegalArgumentException.class,
+            () -> new CompiledFormula(PropositionalFormula.parse("A && B"), Arrays.asList("A"))
+        );
+    }
+
+    @Test
+    public void dpllTest() {
+        final List<DPLLAlgorithm.DPLLStep> steps = new ArrayList<DPLLAlgorithm.DPLLStep>();
+        Assert.assertEquals(
+            DPLLAlgorithm.dpll(Arrays.asList(new int[] {1, 2}, new int[] {-1}, new int[] {-2, 3}), steps),
+            java.util.Optional.of(Arrays.asList(-1, 2, 3))
+        );
+        Assert.assertEquals(steps.size(), 3);
+        Assert.assertEquals(steps.get(0).rule, DPLLAlgorithm.DPLLRule.UNIT_CLAUSE);
+        Assert.assertEquals(steps.get(0).clauses.size(), 2);
+        Assert.assertTrue(steps.get(2).clauses.isEmpty());
+        steps.clear();
+        Assert.assertEquals(
+            DPLLAlgorithm.dpll(Arrays.asList(new int[] {1, 2}, new int[] {1, -2}), steps),
+            java.util.Optional.of(Arrays.asList(1))
+        );
+        Assert.assertEquals(steps.get(0).rule, DPLLAlgorithm.DPLLRule.PURE_LITERAL);
+        steps.clear();
+        Assert.assertTrue(
+            DPLLAlgorithm.dpll(
+                Arrays.asList(new int[] {1, 2}, new int[] {1, -2}, new int[] {-1, 2}, new int[] {-1, -2}),
+                steps
+            ).isEmpty()
+        );
+        Assert.assertEquals(steps.size(), 4);
+        Assert.assertEquals(steps.get(0).rule, DPLLAlgorithm.DPLLRule.SPLIT);
+        Assert.assertEquals(steps.get(0).literal, 1);
+        Assert.assertEquals(steps.get(1).depth, 1);
+        Assert.assertEquals(steps.get(1).clauses.get(0).length, 0);
+        Assert.assertEquals(steps.get(2).rule, DPLLAlgorithm.DPLLRule.SPLIT);
+        Assert.assertEquals(steps.get(2).literal, -1);
+    }
+
+    @Test
+    public void formulaFactoryTest() throws PropositionalFormulaParseException {
+        final FormulaFactory factory = new FormulaFactory();
+        final PropositionalFormula a = factory.variable("A");
+        final PropositionalFormula b = factory.variable("B");
+        Assert.assertSame(factory.variable("A"), a);
+        Assert.assertSame(factory.conjunction(a, factory.negation(b)), factory.conjunction(a, factory.negation(b)));
+        Assert.assertNotSame(factory.conjunction(a, b), factory.disjunction(a, b));
+        Assert.assertSame(factory.conjunction(a), a);
+        Assert.assertSame(factory.disjunction(), False.FALSE);
+        Assert.assertSame(
+            factory.intern(PropositionalFormula.parse("A && !B")),
+            factory.conjunction(a, factory.negation(b))
+        );
+        Assert.assertEquals(
+            factory.intern(PropositionalFormula.parse("!A || B")),
+            PropositionalFormula.parse("!A || B")
+        );
+        final Conjunction shared = (Conjunction)PropositionalFormula.parse("(A || B) && !(A || B)");
+        Assert.assertSame(((Negation)shared.children.get(1)).child, shared.children.get(0));
+        PropositionalFormula formula = a;
+        for (int i = 0; i < 40; i++) {
+            formula = factory.conjunction(formula, factory.disjunction(formula, b));
+        }
+        Assert.assertEquals(factory.getNumberOfNodes(), 87);
+        Assert.assertEquals(formula.getVariableNames(), Arrays.asList("A", "B"));
+        final PropositionalInterpretation interpretation = new PropositionalInterpretation();
+        interpretation.put("A", true);
+        interpretation.put("B", false);
+        Assert.assertTrue(FormulaFactory.evaluate(formula, interpretation));
+        interpretation.put("A", false);
+        Assert.assertFalse(FormulaFactory.evaluate(formula, interpretation));
+    }
+
     @DataProvider
     public Object[][] fromTruthTableData() throws PropositionalFormulaParseException {
         return new Object[][] {
@@ -89,9 +188,304 @@ public class PropositionalLogicTest {
         };
     }
 
+    @Test
+    public void minimalCoverTest() {
+        for (int numberOfVariables = 1; numberOfVariables <= 4; numberOfVariables++) {
+            final int numberOfRows = 1 << numberOfVariables;
+            final List<Implicant> implicants = new ArrayList<Implicant>();
+            final List<Integer> masks = new ArrayList<Integer>();
+            for (int dontCares = 0; dontCares < numberOfRows; dontCares++) {
+                for (int values = 0; values < numberOfRows; values++) {
+                    if ((values & dontCares) == 0) {
+                        final Implicant implicant = new Implicant(values, dontCares);
+                        int mask = 0;
+                        for (int row = 0; row < numberOfRows; row++) {
+                            if (implicant.covers(row)) {
+                                mask |= 1 << row;
+                            }
+                        }
+                        implicants.add(implicant);
+                        masks.add(mask);
+                    }
+                }
+            }
+            // Dijkstra over all unions of implicants with the cost of a cover as in the minimization
+            final long[] minimalCosts = new long[1 << numberOfRows];
+            Arrays.fill(minimalCosts, Long.MAX_VALUE);
+            minimalCosts[0] = 0;
+            final PriorityQueue<long[]> queue =
+                new PriorityQueue<long[]>(Comparator.comparingLong((long[] entry) -> entry[0]));
+            queue.add(new long[] {0, 0});
+            while (!queue.isEmpty()) {
+                final long[] entry = queue.poll();
+                final int function = (int)entry[1];
+                if (entry[0] > minimalCosts[function]) {
+                    continue;
+                }
+                for (int i = 0; i < implicants.size(); i++) {
+                    final int union = function | masks.get(i);
+                    final long cost = entry[0] + 100 + implicants.get(i).getNumberOfLiterals(numberOfVariables);
+                    if (cost < minimalCosts[union]) {
+                        minimalCosts[union] = cost;
+                        queue.add(new long[] {cost, union});
+                    }
+                }
+            }
+            for (int function = 0; function < 1 << numberOfRows; function++) {
+                final BitSet onset = BitSet.valueOf(new long[] {function});
+                final List<Implicant> cover = LogicMinimization.minimize(onset, new BitSet(), numberOfVariables);
+                long cost = 0;
+                final BitSet covered = new BitSet();
+                for (final Implicant implicant : cover) {
+                    cost += 100 + implicant.getNumberOfLiterals(numberOfVariables);
+                    for (int row = 0; row < numberOfRows; row++) {
+                        if (implicant.covers(row)) {
+                            covered.set(row);
+                        }
+                    }
+                }
+                Assert.assertEquals(covered, onset);
+                Assert.assertEquals(cost, minimalCosts[function], "Cover for " + Integer.toHexString(function));
+            }
+        }
+    }
+
+    @Test
+    public void minimizationTest() throws PropositionalFormulaParseException {
+        final TruthTable or = new TruthTable(Arrays.asList("A", "B"), new boolean[] {false, true, true, true});
+        Assert.assertEquals(LogicMinimization.minimalDNF(or), PropositionalFormula.parse("B || A"));
+        Assert.assertEquals(LogicMinimization.minimalCNF(or), PropositionalFormula.parse("A || B"));
+        final TruthTable xor = new TruthTable(Arrays.asList("A", "B"), new boolean[] {false, true, true, false});
+        Assert.assertEquals(LogicMinimization.minimalDNF(xor), PropositionalFormula.parse("!A && B || A && !B"));
+        Assert.assertEquals(LogicMinimization.minimalCNF(xor), PropositionalFormula.parse("(A || B) && (!A || !B)"));
+        final List<String> abc = Arrays.asList("A", "B", "C");
+        Assert.assertEquals(
+            LogicMinimization.minimalDNF(new TruthTable(abc, new boolean[8])),
+            False.FALSE
+        );
+        final boolean[] all = new boolean[8];
+        Arrays.fill(all, true);
+        Assert.assertEquals(LogicMinimization.minimalDNF(new TruthTable(abc, all)), True.TRUE);
+        final TruthTable cyclic =
+            new TruthTable(abc, new boolean[] {true, true, true, false, false, true, true, true});
+        Assert.assertEquals(
+            LogicMinimization.primeImplicants(LogicMinimization.onset(cyclic), new BitSet(), 3)
+                .stream()
+                .map(implicant -> implicant.toString(3))
+                .toList(),
+            Arrays.asList("00-", "0-0", "-01", "-10", "1-1", "11-")
+        );
+        Assert.assertEquals(
+            LogicMinimization.minimize(LogicMinimization.onset(cyclic), new BitSet(), 3).size(),
+            3
+        );
+        final BitSet onset = new BitSet();
+        onset.set(5);
+        onset.set(7);
+        final BitSet dontCares = new BitSet();
+        dontCares.set(13);
+        dontCares.set(15);
+        Assert.assertEquals(
+            LogicMinimization.minimize(onset, dontCares, 4).stream().map(implicant -> implicant.toString(4)).toList(),
+            Arrays.asList("-1-1")
+        );
+        final Random gen = new Random(46);
+        for (int numberOfVariables = 1; numberOfVariables <= 14; numberOfVariables++) {
+            final List<String> variables = new ArrayList<String>();
+            for (int i = 0; i < numberOfVariables; i++) {
+                variables.add(String.valueOf((char)('A' + i)));
+            }
+            final boolean[] truthValues = new boolean[1 << numberOfVariables];
+            for (int i = 0; i < truthValues.length; i++) {
+                truthValues[i] = gen.nextInt(4) == 0;
+            }
+            final TruthTable table = new TruthTable(variables, truthValues);
+            final PropositionalFormula dnf = LogicMinimization.minimalDNF(table);
+            final PropositionalFormula cnf = LogicMinimization.minimalCNF(table);
+            Assert.assertEquals(new CompiledFormula(dnf, variables).toTruthTable(), table);
+            Assert.assertEquals(new CompiledFormula(cnf, variables).toTruthTable(), table);
+            final int models = table.getModels().size();
+            if (models > 1) {
+                Assert.assertTrue(
+                    !dnf.isDisjunction() || ((Disjunction)dnf).children.size() <= models,
+                    "DNF for " + numberOfVariables + " variables is larger than the canonical DNF"
+                );
+            }
+        }
+    }
+
+    @Test
+    public void parseTest() throws PropositionalFormulaParseException {
+        final PropositionalVariable a = new PropositionalVariable("A");
+        final PropositionalVariable b = new PropositionalVariable("B");
+        final PropositionalVariable c = new PropositionalVariable("c_1");
+        Assert.assertEquals(PropositionalFormula.parse("  A  "), a);
+        Assert.assertEquals(PropositionalFormula.parse("(((A)))"), a);
+        Assert.assertEquals(PropositionalFormula.parse("!!A"), new Negation(new Negation(a)));
+        Assert.assertEquals(PropositionalFormula.parse("true"), True.TRUE);
+        Assert.assertEquals(PropositionalFormula.parse("0"), False.FALSE);
+        Assert.assertEquals(PropositionalFormula.parse("A&&B&&c_1"), Conjunction.createConjunction(a, b, c));
+        Assert.assertEquals(PropositionalFormula.parse("(A && B) && c_1"), Conjunction.createConjunction(a, b, c));
+        Assert.assertEquals(PropositionalFormula.parse("A && (B && c_1)"), Conjunction.createConjunction(a, b, c));
+        Assert.assertEquals(PropositionalFormula.parse("A || (B || c_1)"), Disjunction.createDisjunction(a, b, c));
+        Assert.assertEquals(
+            PropositionalFormula.parse("!A && B || c_1"),
+            Disjunction.createDisjunction(Conjunction.createConjunction(a.negate(), b), c)
+        );
+        Assert.assertEquals(
+            PropositionalFormula.parse("A || B && !(c_1 || A)"),
+            Disjunction.createDisjunction(
+                a,
+                Conjunction.createConjunction(b, new Negation(Disjunction.createDisjunction(c, a)))
+            )
+        );
+        Assert.assertEquals(PropositionalFormula.parse("A -> B"), Disjunction.createDisjunction(a.negate(), b));
+        Assert.assertEquals(
+            PropositionalFormula.parse("A -> B => c_1"),
+            Disjunction.createDisjunction(a.negate(), b.negate(), c)
+        );
+        Assert.assertEquals(
+            PropositionalFormula.parse("A <-> B || c_1"),
+            Conjunction.createConjunction(
+                Disjunction.createDisjunction(a.negate(), b, c),
+                Disjunction.createDisjunction(Disjunction.createDisjunction(b, c).negate(), a)
+            )
+        );
+        Assert.assertEquals(
+            ConversionToTruthTable.toTruthTable(PropositionalFormula.parse("A <=> B")).truthValues,
+            new boolean[] {true, false, false, true}
+        );
+        for (final String invalid : new String[] {"", "A &", "A & B", "(A", "A)", "A B", "!", "A || || B", "A <- B"}) {
+            Assert.assertThrows(PropositionalFormulaParseException.class, () -> PropositionalFormula.parse(invalid));
+        }
+        final StringBuilder longFormula = new StringBuilder("X0");
+        for (int i = 1; i < 100000; i++) {
+            longFormula.append(i % 2 == 0 ? " && X" : " || !X").append(i);
+        }
+        final PropositionalFormula parsed = PropositionalFormula.parse(longFormula.toString());
+        Assert.assertTrue(parsed.isDisjunction());
+        Assert.assertEquals(((Disjunction)parsed).children.size(), 50001);
+    }
+
+    @Test
+    public void resolutionTest() {
+        final List<int[]> clauses =
+            Arrays.asList(new int[] {1, 2}, new int[] {1, -2}, new int[] {-1, 2}, new int[] {-1, -2});
+        final List<ResolutionAlgorithm.Resolvent> derivation = ResolutionAlgorithm.refute(clauses).get();
+        Assert.assertEquals(derivation.get(derivation.size() - 1).clause.length, 0);
+        final List<int[]> all = new ArrayList<int[]>(clauses);
+        for (final ResolutionAlgorithm.Resolvent resolvent : derivation) {
+            Assert.assertTrue(resolvent.parent1 < all.size() && resolvent.parent2 < all.size());
+            final Set<Integer> union = new TreeSet<Integer>();
+            Arrays.stream(all.get(resolvent.parent1)).forEach(union::add);
+            Arrays.stream(all.get(resolvent.parent2)).forEach(union::add);
+            final Set<Integer> literals = new TreeSet<Integer>();
+            Arrays.stream(resolvent.clause).forEach(literals::add);
+            Assert.assertTrue(union.containsAll(literals));
+            Assert.assertEquals(union.size(), literals.size() + 2);
+            all.add(resolvent.clause);
+        }
+        Assert.assertTrue(ResolutionAlgorithm.refute(Arrays.asList(new int[] {1, 2}, new int[] {-1})).isEmpty());
+        Assert.assertTrue(ResolutionAlgorithm.refute(Arrays.asList(new int[] {1}, new int[0])).get().isEmpty());
+    }
+
+    @Test
+    public void satSolverTest() throws PropositionalFormulaParseException {
+        final exercisegenerator.io.Parameters options = new exercisegenerator.io.Parameters();
+        options.put(Flag.LENGTH, "5");
+        for (int i = 0; i < 50; i++) {
+            final PropositionalFormula formula1 = PropositionalLogic.generateFormulas(options).get(0);
+            final PropositionalFormula formula2 = PropositionalLogic.generateFormulas(options).get(0);
+            final TruthTable table1 = ConversionToTruthTable.toTruthTable(formula1);
+            final java.util.Optional<PropositionalInterpretation> model = SatSolver.findModel(formula1);
+            Assert.assertEquals(model.isPresent(), !table1.getModels().isEmpty());
+            if (model.isPresent()) {
+                Assert.assertTrue(formula1.evaluate(model.get()));
+            }
+            final java.util.Optional<PropositionalInterpretation> counterexample =
+                SatSolver.findCounterexample(formula1, formula2);
+            final List<String> variables = new ArrayList<String>(new TreeSet<String>(formula1.getVariableNames()));
+            variables.addAll(formula2.getVariableNames());
+            final List<String> allVariables = new ArrayList<String>(new TreeSet<String>(variables));
+            final boolean equivalent =
+                new CompiledFormula(formula1, allVariables).toTruthTable().equals(
+                    new CompiledFormula(formula2, allVariables).toTruthTable()
+                );
+            Assert.assertEquals(counterexample.isEmpty(), equivalent);
+            if (counterexample.isPresent()) {
+                Assert.assertNotEquals(
+                    formula1.evaluate(counterexample.get()),
+                    formula2.evaluate(counterexample.get())
+                );
+            }
+            Assert.assertTrue(SatSolver.areEquivalent(formula1, PropositionalFormula.parse(formula1.toString())));
+        }
+        final List<int[]> pigeonhole = new ArrayList<int[]>();
+        final int holes = 5;
+        for (int pigeon = 0; pigeon <= holes; pigeon++) {
+            final int[] clause = new int[holes];
+            for (int hole = 0; hole < holes; hole++) {
+                clause[hole] = pigeon * holes + hole + 1;
+                for (int other = 0; other < pigeon; other++) {
+                    pigeonhole.add(new int[] {-(pigeon * holes + hole + 1), -(other * holes + hole + 1)});
+                }
+            }
+            pigeonhole.add(clause);
+        }
+        Assert.assertFalse(
+            SatSolver.isSatisfiable(new ClauseSet(Collections.emptyList(), (holes + 1) * holes, pigeonhole))
+        );
+        final StringBuilder disjunction = new StringBuilder("!(X0");
+        final StringBuilder conjunction = new StringBuilder("!X0");
+        for (int i = 1; i < 300; i++) {
+            disjunction.append(" || X" + i);
+            conjunction.append(" && !X" + i);
+        }
+        disjunction.append(")");
+        final PropositionalFormula deMorgan1 = PropositionalFormula.parse(disjunction.toString());
+        final PropositionalFormula deMorgan2 = PropositionalFormula.parse(conjunction.toString());
+        Assert.assertTrue(SatSolver.areEquivalent(deMorgan1, deMorgan2));
+        final PropositionalFormula weakened = PropositionalFormula.parse(conjunction + " || X150 && X299");
+        final PropositionalInterpretation counterexample = SatSolver.findCounterexample(deMorgan1, weakened).get();
+        Assert.assertNotEquals(deMorgan1.evaluate(counterexample), weakened.evaluate(counterexample));
+        Assert.assertFalse(SatSolver.isSatisfiable(PropositionalFormula.parse("(A || B) && !A && !B")));
+        Assert.assertTrue(SatSolver.isSatisfiable(True.TRUE));
+        Assert.assertFalse(SatSolver.isSatisfiable(False.FALSE));
+    }
+
     @Test(dataProvider="toTruthTableData")
     public void toTruthTableTest(final PropositionalFormula formula, final TruthTable truthTable) {
         Assert.assertEquals(ConversionToTruthTable.toTruthTable(formula), truthTable);
     }
 
+    @Test
+    public void tseitinTest() throws PropositionalFormulaParseException {
+        Assert.assertEquals(
+            ClauseSet.fromCNF(PropositionalFormula.parse("(A || !B) && C")).get().toString(),
+            "p cnf 3 2\n1 -2 0\n3 0"
+        );
+        Assert.assertTrue(ClauseSet.fromCNF(PropositionalFormula.parse("A && (B || A && C)")).isEmpty());
+        final PropositionalFormula formula = PropositionalFormula.parse("(A && B) || !(A && B || C) || !C && FALSE");
+        final ClauseSet clauses = TseitinEncoding.transform(formula);
+        Assert.assertEquals(clauses.variables, Arrays.asList("A", "B", "C"));
+        final List<String> variables = clauses.variables;
+        for (final PropositionalInterpretation interpretation : TruthTable.computeAllInterpretations(variables)) {
+            final List<int[]> restricted = new ArrayList<int[]>(clauses.clauses);
+            for (int i = 0; i < clauses.variables.size(); i++) {
+                restricted.add(new int[] {interpretation.get(clauses.variables.get(i)) ? i + 1 : -(i + 1)});
+            }
+            Assert.assertEquals(
+                SatSolver.isSatisfiable(new ClauseSet(clauses.variables, clauses.numberOfVariables, restricted)),
+                formula.evaluate(interpretation)
+            );
+        }
+        final TseitinEncoding encoding = new TseitinEncoding(Arrays.asList("A", "B"));
+        encoding.encode(PropositionalFormula.parse("(A && B) || !(A && B)"));
+        Assert.assertEquals(encoding.getDefinitions().size(), 2);
+        Assert.assertEquals(encoding.getDefinitions().get(0).literals, new int[] {1, 2});
+        Assert.assertTrue(encoding.getDefinitions().get(0).conjunction);
+        Assert.assertEquals(encoding.getDefinitions().get(1).literals, new int[] {3, -3});
+        Assert.assertThrows(IllegalArgumentException.class, () -> encoding.encode(PropositionalFormula.parse("C")));
+    }
+
 }
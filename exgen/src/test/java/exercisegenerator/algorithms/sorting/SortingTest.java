@@ -11,6 +11,14 @@ import exercisegenerator.io.*;
 
 public class SortingTest {
 
+    private static int[] lastValues(final SortingTrace trace) {
+        List<ItemWithTikZInformation<Integer>> last = null;
+        for (final List<ItemWithTikZInformation<Integer>> items : trace) {
+            last = items;
+        }
+        return last.stream().mapToInt(item -> item.optionalContent.get()).toArray();
+    }
+
     private static List<List<ItemWithTikZInformation<Integer>>> toItemsLists(final int[][] arrays) {
         return Arrays.stream(arrays)
             .map(array ->
@@ -29,6 +37,40 @@ public class SortingTest {
             ).toList();
     }
 
+    private static List<List<ItemWithTikZInformation<Integer>>> toItemsLists(
+        final int[][] arrays,
+        final boolean[][] markers,
+        final boolean[][] separators
+    ) {
+        return IntStream.range(0, arrays.length)
+            .mapToObj(
+                i -> IntStream.range(0, arrays[i].length)
+                    .mapToObj(
+                        j -> new ItemWithTikZInformation<Integer>(
+                            Optional.of(arrays[i][j]),
+                            markers[i][j],
+                            separators[i][j]
+                        )
+                    ).toList()
+            ).toList();
+    }
+
+    private static List<List<ItemWithTikZInformation<Integer>>> toItemsListsWithSeparators(
+        final int[][] arrays,
+        final boolean[][] separators
+    ) {
+        return IntStream.range(0, arrays.length)
+            .mapToObj(
+                i -> IntStream.range(0, arrays[i].length)
+                    .mapToObj(j -> new ItemWithTikZInformation<Integer>(Optional.of(arrays[i][j]), separators[i][j]))
+                    .toList()
+            ).toList();
+    }
+
+    private static List<Integer> values(final List<ItemWithTikZInformation<Integer>> items) {
+        return items.stream().map(item -> item.optionalContent.get()).toList();
+    }
+
     @Test
     public void bubblesort() {
         final int[] array = new int[] {5,7,4,8,1,3};
@@ -180,6 +222,26 @@ public class SortingTest {
         Assert.assertEquals(HeapSort.heapsort(array), expected);
     }
 
+    @Test
+    public void heapsortDAry() {
+        final Random gen = new Random(36);
+        for (int length = 0; length < 40; length++) {
+            final int[] array = gen.ints(length, 0, 20).toArray();
+            final int[] sorted = array.clone();
+            Arrays.sort(sorted);
+            Assert.assertEquals(HeapSort.trace(array, 2).toItemsLists(), HeapSort.trace(array).toItemsLists());
+            for (int arity = 2; arity < 6; arity++) {
+                Assert.assertEquals(SortingTest.lastValues(HeapSort.trace(array, arity)), sorted);
+            }
+        }
+        final SortingTrace.Replay replay = HeapSort.trace(new int[] {1,5,2,7,3}, 3).replay();
+        Assert.assertTrue(replay.next());
+        Assert.assertEquals(replay.getChangedIndices().length, 0);
+        Assert.assertTrue(replay.next());
+        Assert.assertEquals(IntStream.of(replay.getChangedIndices()).sorted().toArray(), new int[] {0,3});
+        Assert.assertEquals(replay.get(0), 7);
+    }
+
     @Test
     public void insertionsort() {
         final int[] array = new int[] {5,7,4,8,1,3};
@@ -197,6 +259,61 @@ public class SortingTest {
         Assert.assertEquals(InsertionSort.insertionsort(array), expected);
     }
 
+    @Test
+    public void linearTimeSorting() {
+        final int[] array = new int[] {170,45,75,90,802,24,2,66};
+        Assert.assertEquals(
+            RadixSort.trace(array, 10).toItemsLists().stream().map(SortingTest::values).toList(),
+            List.of(
+                List.of(170,45,75,90,802,24,2,66),
+                List.of(170,90,802,2,24,45,75,66),
+                List.of(802,2,24,45,66,170,75,90),
+                List.of(2,24,45,66,75,90,170,802)
+            )
+        );
+        Assert.assertEquals(CountingSort.countArray(new int[] {3,1,3,5}), new int[] {1,0,2,0,1});
+        Assert.assertEquals(
+            BucketSort.trace(array, 4).toItemsLists().stream().map(SortingTest::values).toList(),
+            List.of(
+                List.of(170,45,75,90,802,24,2,66),
+                List.of(170,45,75,90,24,2,66,802),
+                List.of(2,24,45,66,75,90,170,802)
+            )
+        );
+        final Random gen = new Random(37);
+        for (int length = 0; length < 60; length++) {
+            final int[] small = gen.ints(length, -50, 50).toArray();
+            final int[] large = gen.ints(length).toArray();
+            if (length > 1) {
+                large[0] = Integer.MIN_VALUE;
+                large[1] = Integer.MAX_VALUE;
+            }
+            final int[] sortedSmall = small.clone();
+            Arrays.sort(sortedSmall);
+            final int[] sortedLarge = large.clone();
+            Arrays.sort(sortedLarge);
+            Assert.assertEquals(SortingTest.lastValues(CountingSort.trace(small)), sortedSmall);
+            for (final int base : new int[] {2,7,10,256}) {
+                Assert.assertEquals(SortingTest.lastValues(RadixSort.trace(small, base)), sortedSmall);
+                Assert.assertEquals(SortingTest.lastValues(RadixSort.trace(large, base)), sortedLarge);
+            }
+            for (final int buckets : new int[] {1,3,Math.max(1, length)}) {
+                Assert.assertEquals(SortingTest.lastValues(BucketSort.trace(small, buckets)), sortedSmall);
+                Assert.assertEquals(SortingTest.lastValues(BucketSort.trace(large, buckets)), sortedLarge);
+            }
+        }
+        final SortingCounters counting = new SortingCounters();
+        CountingSort.trace(array, counting);
+        Assert.assertEquals(counting.getComparisons(), 14);
+        Assert.assertEquals(counting.getWrites(), 8);
+        final int[] million = gen.ints(1 << 20).toArray();
+        final int[] sorted = million.clone();
+        Arrays.sort(sorted);
+        final int[] radix = million.clone();
+        RadixSort.sort(SortingArray.of(radix, SortingTrace.discarding(million), Optional.empty()), 256);
+        Assert.assertEquals(radix, sorted);
+    }
+
     @Test
     public void mergesort() {
         final int[] array = new int[] {5,7,4,8,1,3};
@@ -222,6 +339,66 @@ public class SortingTest {
         Assert.assertEquals(MergeSort.mergesort(array, false), expected);
     }
 
+    @Test
+    public void mergesortBottomUp() {
+        final int[] array = new int[] {5,7,4,8,1,3};
+        Assert.assertEquals(
+            MergeSort.traceBottomUp(array, false).toItemsLists(),
+            SortingTest.toItemsListsWithSeparators(
+                new int[][] {
+                    {5,7,4,8,1,3},
+                    {5,7,4,8,1,3},
+                    {4,5,7,8,1,3},
+                    {1,3,4,5,7,8}
+                },
+                new boolean[][] {
+                    {false, false, false, false, false, false},
+                    {false, false, true, false, true, false},
+                    {false, false, false, false, true, false},
+                    {false, false, false, false, false, false}
+                }
+            )
+        );
+        Assert.assertEquals(
+            MergeSort.traceBottomUp(array, true).toItemsLists(),
+            SortingTest.toItemsListsWithSeparators(
+                new int[][] {
+                    {5,7,4,8,1,3},
+                    {4,5,7,8,1,3},
+                    {1,3,4,5,7,8}
+                },
+                new boolean[][] {
+                    {false, false, false, false, false, false},
+                    {false, false, false, false, true, false},
+                    {false, false, false, false, false, false}
+                }
+            )
+        );
+        final Random gen = new Random(11);
+        for (int length = 0; length < 40; length++) {
+            final int[] random = gen.ints(length, 0, 10).toArray();
+            final int[] sorted = random.clone();
+            Arrays.sort(sorted);
+            for (final boolean natural : new boolean[] {false, true}) {
+                final SortingCounters counters = new SortingCounters();
+                final SortingArray sorting = SortingArray.of(
+                    random.clone(),
+                    SortingTrace.discarding(random),
+                    Optional.of(counters)
+                );
+                MergeSort.sortBottomUp(sorting, natural);
+                Assert.assertEquals(sorting.array, sorted);
+                Assert.assertTrue(counters.getWrites() <= (long)length * 32);
+            }
+        }
+        final int[] nearlySorted = IntStream.range(0, 1000).map(i -> i % 500).toArray();
+        final SortingCounters natural = new SortingCounters();
+        MergeSort.traceBottomUp(nearlySorted, true, natural);
+        final SortingCounters plain = new SortingCounters();
+        MergeSort.traceBottomUp(nearlySorted, false, plain);
+        Assert.assertTrue(natural.getComparisons() * 2 < plain.getComparisons());
+    }
+
     @Test
     public void mergesortWithSplit() {
         final int[] array = new int[] {5,7,4,8,1,3};
@@ -319,6 +496,97 @@ public class SortingTest {
         Assert.assertEquals(MergeSort.mergesort(array, true), expected);
     }
 
+    @Test
+    public void operationCounters() {
+        final int[] array = new int[] {5,7,4,8,1,3};
+        final SortingCounters bubble = new SortingCounters();
+        Assert.assertEquals(
+            BubbleSort.trace(array, bubble).toItemsLists(),
+            BubbleSort.trace(array).toItemsLists()
+        );
+        Assert.assertEquals(bubble.getSwaps(), 10);
+        Assert.assertEquals(bubble.getWrites(), 0);
+        Assert.assertEquals(bubble.getMaxRecursionDepth(), 0);
+        final SortingCounters insertion = new SortingCounters();
+        InsertionSort.trace(array, insertion);
+        Assert.assertEquals(insertion.getWrites(), 15);
+        Assert.assertEquals(insertion.getSwaps(), 0);
+        final SortingCounters merge = new SortingCounters();
+        MergeSort.trace(array, false, merge);
+        Assert.assertEquals(merge.getMaxRecursionDepth(), 3);
+        Assert.assertEquals(merge.getWrites(), 16);
+        final int[] reversed = new int[] {4,3,2,1};
+        final SortingCounters topDown = new SortingCounters();
+        MergeSort.trace(reversed, false, topDown);
+        final SortingCounters bottomUp = new SortingCounters();
+        MergeSort.traceBottomUp(reversed, false, bottomUp);
+        Assert.assertEquals(bottomUp.getWrites(), topDown.getWrites());
+        final List<String> lines = Sorting.sweep("heapsort", HeapSort::sort, 4, 32, 1, new Random(42));
+        Assert.assertEquals(lines.size(), 4);
+        Assert.assertTrue(lines.get(0).startsWith("heapsort,4,"));
+        Assert.assertTrue(lines.get(3).startsWith("heapsort,32,"));
+        Assert.assertEquals(lines.get(0).split(",").length, Sorting.SWEEP_HEADER.split(",").length);
+    }
+
+    @Test
+    public void parallelSorting() {
+        Assert.assertEquals(
+            ParallelMergeSort.trace(new int[] {5,7,4,8,1,3}).toItemsLists(),
+            SortingTest.toItemsLists(
+                new int[][] {
+                    {5,7,4,8,1,3},
+                    {5,7,4,1,8,3},
+                    {4,5,7,1,3,8},
+                    {1,3,4,5,7,8}
+                },
+                new boolean[][] {
+                    {false, false, false, false, false, false},
+                    {true, true, false, true, true, false},
+                    {true, true, true, true, true, true},
+                    {true, true, true, true, true, true}
+                },
+                new boolean[][] {
+                    {false, false, false, false, false, false},
+                    {false, false, true, true, false, true},
+                    {false, false, false, true, false, false},
+                    {false, false, false, false, false, false}
+                }
+            )
+        );
+        final Random gen = new Random(5);
+        for (int length = 0; length < 40; length++) {
+            final int[] array = gen.ints(length, 0, 10).toArray();
+            final int[] sorted = array.clone();
+            Arrays.sort(sorted);
+            Assert.assertEquals(SortingTest.lastValues(BitonicSort.trace(array)), sorted);
+            Assert.assertEquals(SortingTest.lastValues(ParallelMergeSort.trace(array)), sorted);
+        }
+        final int[] array = gen.ints(20000, 0, 1000).toArray();
+        final int[] sorted = array.clone();
+        Arrays.sort(sorted);
+        final SortingCounters sequentialBitonic = new SortingCounters();
+        BitonicSort.sort(SortingArray.of(array.clone(), new SortingTrace(array), Optional.of(sequentialBitonic)), 1000);
+        final SortingCounters parallelBitonic = new SortingCounters();
+        final SortingArray bitonic =
+            SortingArray.of(array.clone(), SortingTrace.discarding(array), Optional.of(parallelBitonic));
+        BitonicSort.sort(bitonic, 1000);
+        Assert.assertEquals(bitonic.array, sorted);
+        Assert.assertFalse(bitonic.trace.iterator().hasNext());
+        Assert.assertTrue(bitonic.trace.toItemsLists().isEmpty());
+        Assert.assertEquals(parallelBitonic.toString(), sequentialBitonic.toString());
+        final SortingCounters sequentialMerge = new SortingCounters();
+        ParallelMergeSort.sort(
+            SortingArray.of(array.clone(), new SortingTrace(array), Optional.of(sequentialMerge)),
+            1000
+        );
+        final SortingCounters parallelMerge = new SortingCounters();
+        final SortingArray merge =
+            SortingArray.of(array.clone(), SortingTrace.discarding(array), Optional.of(parallelMerge));
+        ParallelMergeSort.sort(merge, 1000);
+        Assert.assertEquals(merge.array, sorted);
+        Assert.assertEquals(parallelMerge.toString(), sequentialMerge.toString());
+    }
+
     @Test
     public void quicksort() {
         final int[] array = new int[] {5,7,4,8,1,3};
@@ -360,6 +628,59 @@ public class SortingTest {
         Assert.assertEquals(QuickSort.quicksort(array), expected);
     }
 
+    @Test
+    public void quicksortVariants() {
+        final int[] array = new Random(7).ints(300, 0, 5).toArray();
+        final int[] sorted = array.clone();
+        Arrays.sort(sorted);
+        final Map<QuickSort.Variant, SortingCounters> counters = new EnumMap<QuickSort.Variant, SortingCounters>(
+            QuickSort.Variant.class
+        );
+        for (final QuickSort.Variant variant : QuickSort.Variant.values()) {
+            final SortingCounters variantCounters = new SortingCounters();
+            final SortingTrace trace = QuickSort.trace(array, variant, new Random(7), variantCounters);
+            List<ItemWithTikZInformation<Integer>> last = null;
+            for (final List<ItemWithTikZInformation<Integer>> items : trace) {
+                last = items;
+            }
+            Assert.assertEquals(
+                last.stream().mapToInt(item -> item.optionalContent.get()).toArray(),
+                sorted,
+                variant.name()
+            );
+            Assert.assertTrue(variantCounters.getComparisons() > 0, variant.name());
+            Assert.assertTrue(variantCounters.getSwaps() > 0, variant.name());
+            Assert.assertTrue(variantCounters.getMaxRecursionDepth() > 0, variant.name());
+            counters.put(variant, variantCounters);
+        }
+        Assert.assertTrue(
+            counters.get(QuickSort.Variant.THREE_WAY).getComparisons()
+            < counters.get(QuickSort.Variant.LAST_EQUAL_RIGHT).getComparisons()
+        );
+        Assert.assertTrue(
+            counters.get(QuickSort.Variant.THREE_WAY).getMaxRecursionDepth()
+            < counters.get(QuickSort.Variant.LAST_EQUAL_RIGHT).getMaxRecursionDepth()
+        );
+        final SortingCounters alreadySorted = new SortingCounters();
+        QuickSort.trace(new int[] {1,2,3,4,5}, QuickSort.Variant.LAST_EQUAL_RIGHT, new Random(7), alreadySorted);
+        Assert.assertEquals(alreadySorted.getSwaps(), 0);
+    }
+
+    @Test
+    public void traceOfLongArray() {
+        final int[] array = new Random(42).ints(2000, 0, 100).toArray();
+        final int[] sorted = array.clone();
+        Arrays.sort(sorted);
+        final SortingTrace trace = BubbleSort.trace(array);
+        Assert.assertTrue(trace.size() > 100000);
+        Assert.assertEquals(trace.getInitialArray(), array);
+        List<ItemWithTikZInformation<Integer>> last = null;
+        for (final List<ItemWithTikZInformation<Integer>> items : trace) {
+            last = items;
+        }
+        Assert.assertEquals(last.stream().mapToInt(item -> item.optionalContent.get()).toArray(), sorted);
+    }
+
     @Test
     public void selectionsort() {
         final int[] array = new int[] {5,7,4,8,1,3};
@@ -223,4 +223,58 @@ public class TreeAlgorithmsTest {
         Assert.assertEquals(steps.stream().map(Pair::toString).toList(), expectedStructures);
     }
 
+    @DataProvider
+    public Object[][] stressData() {
+        return new Object[][] {
+            {42L, 300, 60, 100, 2},
+            {43L, 300, 60, 20, 2},
+            {44L, 100, 200, 1000, 3},
+            {45L, 100, 200, 50, 4}
+        };
+    }
+
+    @Test
+    public void priorityQueue() {
+        final ImplicitHeap binary = new ImplicitHeap(2);
+        for (final PriorityQueueAlgorithm.Operation operation : PriorityQueueAlgorithm.parseOperations("5,3,8,1,9")) {
+            PriorityQueueAlgorithm.perform(binary, operation);
+        }
+        Assert.assertEquals(binary.toArray(), new int[] {1,3,8,5,9});
+        binary.clearChanges();
+        Assert.assertEquals(PriorityQueueAlgorithm.perform(binary, PriorityQueueAlgorithm.Operation.parse("-")), 1);
+        Assert.assertEquals(binary.toArray(), new int[] {3,5,8,9});
+        Assert.assertEquals(binary.getChangedIndices(), new int[] {0,1,3});
+        binary.clearChanges();
+        Assert.assertEquals(PriorityQueueAlgorithm.perform(binary, PriorityQueueAlgorithm.Operation.parse("9>2")), 0);
+        Assert.assertEquals(binary.toArray(), new int[] {2,3,8,5});
+        Assert.assertEquals(binary.getChangedIndices(), new int[] {3,1,0});
+        final ImplicitHeap ternary = new ImplicitHeap(3);
+        for (final int value : new int[] {7,6,5,4,3,2,1}) {
+            ternary.insert(value);
+        }
+        Assert.assertEquals(ternary.toArray(), new int[] {1,2,6,5,7,4,3});
+        final int[] sorted = new int[7];
+        for (int i = 0; i < sorted.length; i++) {
+            sorted[i] = ternary.extractMin();
+        }
+        Assert.assertEquals(sorted, new int[] {1,2,3,4,5,6,7});
+        Assert.assertThrows(NoSuchElementException.class, ternary::extractMin);
+        Assert.assertEquals(
+            PriorityQueueAlgorithm.parseOperations(" 4, - ,3>1"),
+            Arrays.asList(
+                PriorityQueueAlgorithm.Operation.insert(4),
+                PriorityQueueAlgorithm.Operation.extractMin(),
+                PriorityQueueAlgorithm.Operation.decreaseKey(3, 1)
+            )
+        );
+    }
+
+    @Test(dataProvider = "stressData")
+    public void stressTest(final long seed, final int runs, final int operations, final int bound, final int degree) {
+        Assert.assertEquals(
+            TreeStressTesting.run(seed, runs, operations, bound, degree, 2),
+            Collections.emptyList()
+        );
+    }
+
 }
@@ -0,0 +1,107 @@
+package exercisegenerator.structures;
+
+import java.math.*;
+import java.util.*;
+
+import org.testng.*;
+import org.testng.annotations.*;
+
+import exercisegenerator.structures.binary.*;
+
+public class BitStringTest {
+
+    private static String increment(final String bits) {
+        final BigInteger value = bits.isEmpty() ? BigInteger.ZERO : new BigInteger(bits, 2);
+        final String result = value.add(BigInteger.ONE).toString(2);
+        return "0".repeat(Math.max(0, bits.length() - result.length())) + result;
+    }
+
+    @Test
+    public void bulkOperations() {
+        final Random gen = new Random(38);
+        for (final int length : new int[] {0,1,5,63,64,65,127,128,129,300}) {
+            final StringBuilder builder = new StringBuilder();
+            for (int i = 0; i < length; i++) {
+                builder.append(gen.nextBoolean() ? '1' : '0');
+            }
+            final String bits = builder.toString();
+            final BitString bitString = BitString.parse(bits);
+            Assert.assertEquals(bitString.toString(), bits);
+            Assert.assertEquals(bitString.size(), length);
+            Assert.assertEquals(bitString.increment().toString(), BitStringTest.increment(bits));
+            Assert.assertEquals(BitString.parse("1".repeat(length)).increment().toString(), "1" + "0".repeat(length));
+            Assert.assertEquals(bitString.invert().invert(), bitString);
+            Assert.assertEquals(bitString.invert().popCount(), length - bitString.popCount());
+            Assert.assertEquals(bitString.popCount(), bits.replace("0", "").length());
+            Assert.assertEquals(bitString.reverse().toString(), new StringBuilder(bits).reverse().toString());
+            Assert.assertEquals(bitString.isZero(), !bits.contains("1"));
+            for (int from = 0; from <= length; from += 13) {
+                Assert.assertEquals(bitString.subString(from).toString(), bits.substring(from));
+                Assert.assertEquals(
+                    bitString.subString(from / 2, from).toString(),
+                    bits.substring(from / 2, from)
+                );
+            }
+            final BitString appended = new BitString(bitString);
+            appended.append(BitString.parse("1011"));
+            appended.append(bitString);
+            Assert.assertEquals(appended.toString(), bits + "1011" + bits);
+            Assert.assertEquals(new BitString(new ArrayList<Bit>(bitString)), bitString);
+            Assert.assertEquals(new ArrayList<Bit>(bitString), bitString);
+            Assert.assertEquals(bitString.hashCode(), new ArrayList<Bit>(bitString).hashCode());
+            Assert.assertEquals(BitString.valueOf(bitString.toLongArray(), length), bitString);
+        }
+        Assert.assertEquals(BitString.parse("1000000000000000000000000000000001").toUnsignedInt(), 1);
+        Assert.assertEquals(BitString.parse("101").toUnsignedInt(), 5);
+        Assert.assertEquals(BitString.create(BigInteger.valueOf(6), 5).toString(), "00110");
+    }
+
+    @Test
+    public void listOperations() {
+        final Random gen = new Random(38);
+        final LinkedList<Bit> expected = new LinkedList<Bit>();
+        final BitString bitString = new BitString();
+        for (int step = 0; step < 2000; step++) {
+            final Bit bit = gen.nextBoolean() ? Bit.ONE : Bit.ZERO;
+            switch (expected.isEmpty() ? gen.nextInt(3) : gen.nextInt(8)) {
+            case 0:
+                expected.addFirst(bit);
+                bitString.addFirst(bit);
+                break;
+            case 1:
+            case 2:
+                expected.addLast(bit);
+                bitString.addLast(bit);
+                break;
+            case 3:
+                final int index = gen.nextInt(expected.size() + 1);
+                expected.add(index, bit);
+                bitString.add(index, bit);
+                break;
+            case 4:
+                Assert.assertEquals(bitString.pollFirst(), expected.pollFirst());
+                break;
+            case 5:
+                Assert.assertEquals(bitString.pollLast(), expected.pollLast());
+                break;
+            case 6:
+                final int removed = gen.nextInt(expected.size());
+                Assert.assertEquals(bitString.remove(removed), expected.remove(removed));
+                break;
+            default:
+                final int inverted = gen.nextInt(expected.size());
+                expected.set(inverted, expected.get(inverted).invert());
+                bitString.invertBit(inverted);
+            }
+            Assert.assertEquals(bitString, expected);
+        }
+        Assert.assertFalse(bitString.isEmpty());
+        Assert.assertEquals(bitString.getFirst(), expected.getFirst());
+        Assert.assertEquals(bitString.getLast(), expected.getLast());
+        bitString.clear();
+        Assert.assertTrue(bitString.isEmpty());
+        Assert.assertNull(bitString.pollFirst());
+        Assert.assertThrows(NoSuchElementException.class, bitString::getFirst);
+    }
+
+}